@@ -0,0 +1,59 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintprofile;
+
+import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
+
+public class ConstraintProfileStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final String constraintPackage;
+    private final String constraintName;
+    private final long tupleCount;
+    private final long propagationCount;
+    private final long nanos;
+
+    public ConstraintProfileStatisticPoint(long timeMillisSpent,
+            String constraintPackage, String constraintName,
+            long tupleCount, long propagationCount, long nanos) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.tupleCount = tupleCount;
+        this.propagationCount = propagationCount;
+        this.nanos = nanos;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    public long getTupleCount() {
+        return tupleCount;
+    }
+
+    public long getPropagationCount() {
+        return propagationCount;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public String getConstraintId() {
+        return constraintPackage + "/" + constraintName;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, constraintPackage, constraintName,
+                Long.toString(tupleCount), Long.toString(propagationCount), Long.toString(nanos));
+    }
+
+}
@@ -0,0 +1,138 @@
+package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintprofile;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.xml.bind.annotation.XmlTransient;
+
+import ai.timefold.solver.benchmark.config.statistic.SingleStatisticType;
+import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
+import ai.timefold.solver.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+
+public class ConstraintProfileSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ConstraintProfileStatisticPoint> {
+
+    @XmlTransient
+    protected File graphFile = null;
+
+    ConstraintProfileSubSingleStatistic() {
+        // For JAXB.
+    }
+
+    public ConstraintProfileSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.CONSTRAINT_PROFILE);
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return Collections.singletonList(graphFile);
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        defaultSolver.getSolverScope().getScoreDirector().overwriteConstraintProfilingEnabledPreference(true);
+        String meterId = SolverMetric.CONSTRAINT_PROFILE.getMeterId();
+        registry.addListener(SolverMetric.CONSTRAINT_PROFILE,
+                timeMillisSpent -> registry.getMeterIds(SolverMetric.CONSTRAINT_PROFILE, runTag).stream()
+                        .filter(id -> id.getName().equals(meterId + ".nanos"))
+                        .forEach(id -> extractPoint(registry, runTag, id, timeMillisSpent)));
+    }
+
+    private void extractPoint(StatisticRegistry<Solution_> registry, Tags runTag, Meter.Id nanosMeterId,
+            long timeMillisSpent) {
+        String meterId = SolverMetric.CONSTRAINT_PROFILE.getMeterId();
+        String constraintPackage = nanosMeterId.getTag("constraint.package");
+        String constraintName = nanosMeterId.getTag("constraint.name");
+        Tags constraintRunTag = runTag.and("constraint.package", constraintPackage)
+                .and("constraint.name", constraintName);
+        registry.getGaugeValue(meterId + ".tuple.count", constraintRunTag,
+                tupleCount -> registry.getGaugeValue(meterId + ".propagation.count", constraintRunTag,
+                        propagationCount -> registry.getGaugeValue(meterId + ".nanos", constraintRunTag,
+                                nanos -> pointList.add(new ConstraintProfileStatisticPoint(timeMillisSpent,
+                                        constraintPackage, constraintName,
+                                        tupleCount.longValue(), propagationCount.longValue(), nanos.longValue())))));
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return ConstraintProfileStatisticPoint.buildCsvLine(
+                "timeMillisSpent", "constraintPackage", "constraintName",
+                "tupleCount", "propagationCount", "nanos");
+    }
+
+    @Override
+    protected ConstraintProfileStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new ConstraintProfileStatisticPoint(Long.parseLong(csvLine.get(0)),
+                csvLine.get(1), csvLine.get(2),
+                Long.parseLong(csvLine.get(3)), Long.parseLong(csvLine.get(4)), Long.parseLong(csvLine.get(5)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Map<String, XYSeries> constraintIdToSeriesMap = new LinkedHashMap<>();
+        for (ConstraintProfileStatisticPoint point : getPointList()) {
+            XYSeries series = constraintIdToSeriesMap.computeIfAbsent(point.getConstraintId(),
+                    k -> new XYSeries(point.getConstraintName()));
+            series.add(point.getTimeMillisSpent(), point.getNanos() / 1_000_000.0);
+        }
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis("Score calculation time per constraint (ms)");
+        yAxis.setNumberFormatOverride(NumberFormat.getInstance(locale));
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        XYItemRenderer renderer = new XYLineAndShapeRenderer(true, false);
+        plot.setRenderer(renderer);
+        XYSeriesCollection seriesCollection = new XYSeriesCollection();
+        for (XYSeries series : constraintIdToSeriesMap.values()) {
+            seriesCollection.addSeries(series);
+        }
+        plot.setDataset(seriesCollection);
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName() + " constraint profile statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFile = writeChartToImageFile(chart, "ConstraintProfileStatistic");
+    }
+
+}
@@ -1,14 +1,23 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
+import java.util.Arrays;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Phaser;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
+import ai.timefold.solver.constraint.streams.bavet.common.TupleRecycler;
 import ai.timefold.solver.constraint.streams.bavet.uni.ForEachUniNode;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfile;
 
 final class BavetConstraintSession<Score_ extends Score<Score_>> {
 
@@ -16,14 +25,90 @@ final class BavetConstraintSession<Score_ extends Score<Score_>> {
     private final Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap;
     private final AbstractNode[] nodes; // Indexed by nodeIndex
     private final Map<Class<?>, ForEachUniNode<Object>[]> effectiveClassToNodeArrayMap;
+    // Only used if the node network is evaluated in parallel, null otherwise.
+    private final List<BavetNodeNetworkComponent<Score_>> componentList;
+    private final Executor componentExecutor;
+    private final Phaser componentPhaser;
+    // Only used if profiling is enabled, null otherwise.
+    private final BavetNodeNetworkProfiler profiler;
+    // Only used if early rejection is enabled, null otherwise.
+    private final BavetScoreBounder<Score_> scoreBounder;
 
     public BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
             Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
             AbstractNode[] nodes) {
+        this(scoreInliner, declaredClassToNodeMap, nodes, null, null);
+    }
+
+    /**
+     * Evaluates the node network sequentially.
+     *
+     * @param scoreInliner never null
+     * @param declaredClassToNodeMap never null
+     * @param nodes never null
+     * @param profiler null if profiling is disabled
+     */
+    public BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
+            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
+            AbstractNode[] nodes, BavetNodeNetworkProfiler profiler) {
+        this(scoreInliner, declaredClassToNodeMap, nodes, profiler, null);
+    }
+
+    /**
+     * Evaluates the node network sequentially and supports early rejection,
+     * see {@link #calculateScoreUnlessWorseThan(int, Score)}.
+     *
+     * @param scoreInliner never null, of the constraints that don't impact the hardest score level
+     * @param declaredClassToNodeMap never null
+     * @param nodes never null
+     * @param scoreBounder never null, with a score inliner per constraint that impacts the hardest score level
+     */
+    public BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
+            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
+            AbstractNode[] nodes, BavetScoreBounder<Score_> scoreBounder) {
+        this(scoreInliner, declaredClassToNodeMap, nodes, null, scoreBounder);
+    }
+
+    private BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
+            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
+            AbstractNode[] nodes, BavetNodeNetworkProfiler profiler, BavetScoreBounder<Score_> scoreBounder) {
         this.scoreInliner = scoreInliner;
         this.declaredClassToNodeMap = declaredClassToNodeMap;
         this.nodes = nodes;
         this.effectiveClassToNodeArrayMap = new IdentityHashMap<>(declaredClassToNodeMap.size());
+        this.componentList = null;
+        this.componentExecutor = null;
+        this.componentPhaser = null;
+        this.profiler = profiler;
+        this.scoreBounder = scoreBounder;
+    }
+
+    /**
+     * Evaluates the node network in parallel.
+     *
+     * @param declaredClassToNodeMap never null
+     * @param sourceNodes never null, the {@link ForEachUniNode}s, which are shared by the components
+     *        and therefore always evaluated on the calling thread, before any of the components
+     * @param componentList never null, at least 2 components;
+     *        the first one is evaluated on the calling thread, concurrently with the others on the componentExecutor
+     * @param componentExecutor never null, shared with the other sessions of the same session factory
+     */
+    public BavetConstraintSession(Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
+            AbstractNode[] sourceNodes, List<BavetNodeNetworkComponent<Score_>> componentList,
+            Executor componentExecutor) {
+        this.scoreInliner = null;
+        this.declaredClassToNodeMap = declaredClassToNodeMap;
+        this.nodes = sourceNodes;
+        this.effectiveClassToNodeArrayMap = new IdentityHashMap<>(declaredClassToNodeMap.size());
+        this.componentList = componentList;
+        this.componentExecutor = componentExecutor;
+        // Every component and the calling thread arrive once per score calculation.
+        this.componentPhaser = new Phaser(componentList.size());
+        for (BavetNodeNetworkComponent<Score_> component : componentList) {
+            component.setPhaser(componentPhaser);
+        }
+        this.profiler = null;
+        this.scoreBounder = null;
     }
 
     public void insert(Object fact) {
@@ -62,21 +147,154 @@ final class BavetConstraintSession<Score_ extends Score<Score_>> {
     }
 
     public Score_ calculateScore(int initScore) {
+        if (scoreBounder != null) {
+            return scoreBounder.calculateScore(nodes, scoreInliner, initScore, null);
+        }
+        if (profiler != null) {
+            profiler.calculateScore();
+            return scoreInliner.extractScore(initScore);
+        }
         for (AbstractNode node : nodes) {
             node.calculateScore();
         }
-        return scoreInliner.extractScore(initScore);
+        if (componentList == null) {
+            return scoreInliner.extractScore(initScore);
+        }
+        calculateComponentScores();
+        Score_ score = componentList.get(0).getScoreInliner().extractScore(initScore);
+        for (int i = 1; i < componentList.size(); i++) {
+            score = score.add(componentList.get(i).getScoreInliner().extractScore(0));
+        }
+        return score;
+    }
+
+    /**
+     * Like {@link #calculateScore(int)},
+     * but stops evaluating the node network as soon as the score is certainly worse than the rejectionBound.
+     * The nodes that haven't been evaluated yet are evaluated by the next call.
+     *
+     * @param initScore at most 0
+     * @param rejectionBound never null
+     * @return null if the score is certainly worse than the rejectionBound
+     * @throws IllegalStateException if {@link #isEarlyRejectionEnabled()} returns false
+     */
+    public Score_ calculateScoreUnlessWorseThan(int initScore, Score_ rejectionBound) {
+        if (scoreBounder == null) {
+            throw new IllegalStateException("Impossible state: the session was built without early rejection.");
+        }
+        return scoreBounder.calculateScore(nodes, scoreInliner, initScore, rejectionBound);
+    }
+
+    public boolean isEarlyRejectionEnabled() {
+        return scoreBounder != null;
+    }
+
+    private void calculateComponentScores() {
+        int componentCount = componentList.size();
+        for (int i = 1; i < componentCount; i++) {
+            componentExecutor.execute(componentList.get(i));
+        }
+        Throwable failure = null;
+        try {
+            componentList.get(0).calculateScore();
+        } catch (Throwable throwable) {
+            failure = throwable;
+        }
+        // Waits for the other components, even if the first one failed, so none of them is still running afterwards.
+        componentPhaser.arriveAndAwaitAdvance();
+        for (int i = 1; i < componentCount; i++) {
+            Throwable componentFailure = componentList.get(i).pollFailure();
+            if (failure == null) {
+                failure = componentFailure;
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new IllegalStateException("The node network evaluation failed.", failure);
+        }
     }
 
     public AbstractScoreInliner<Score_> getScoreInliner() {
+        if (componentList != null) {
+            throw new IllegalStateException("Impossible state: the session evaluates its node network in parallel"
+                    + " and therefore has no single score inliner.");
+        } else if (scoreBounder != null) {
+            throw new IllegalStateException("Impossible state: the session supports early rejection"
+                    + " and therefore has no single score inliner.");
+        }
         return scoreInliner;
     }
 
+    /**
+     * Together with {@link #getReusedTupleCount()}, this tells how much garbage the node network produces.
+     *
+     * @return the number of tuples that the join, group and map nodes have allocated so far
+     */
+    public long getCreatedTupleCount() {
+        return sumTupleRecyclers(TupleRecycler::getCreatedTupleCount);
+    }
+
+    /**
+     * @return the number of dead tuples that the join, group and map nodes have reused so far,
+     *         always 0 unless tuple recycling is enabled
+     */
+    public long getReusedTupleCount() {
+        return sumTupleRecyclers(TupleRecycler::getReusedTupleCount);
+    }
+
+    private long sumTupleRecyclers(ToLongFunction<TupleRecycler<?>> countFunction) {
+        Stream<AbstractNode> nodeStream = Arrays.stream(nodes);
+        if (componentList != null) {
+            nodeStream = Stream.concat(nodeStream,
+                    componentList.stream().flatMap(component -> Arrays.stream(component.getNodes())));
+        }
+        return nodeStream.map(AbstractNode::getTupleRecycler)
+                .filter(Objects::nonNull)
+                .mapToLong(countFunction)
+                .sum();
+    }
+
+    public boolean isProfilingEnabled() {
+        return profiler != null;
+    }
+
+    /**
+     * @return never null, the key is the constraintId
+     * @throws IllegalStateException if {@link #isProfilingEnabled()} returns false
+     */
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        return getProfiler().getConstraintProfileMap();
+    }
+
+    /**
+     * @return never null, one line per node
+     * @throws IllegalStateException if {@link #isProfilingEnabled()} returns false
+     */
+    public String buildNodeProfileSummary() {
+        return getProfiler().buildNodeProfileSummary();
+    }
+
+    private BavetNodeNetworkProfiler getProfiler() {
+        if (profiler == null) {
+            throw new IllegalStateException("Impossible state: the session was built without profiling.");
+        }
+        return profiler;
+    }
+
     public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
+        if (componentList != null) { // Constraint matching is never enabled when evaluating in parallel.
+            return null;
+        }
         return scoreInliner.getConstraintMatchTotalMap();
     }
 
     public Map<Object, Indictment<Score_>> getIndictmentMap() {
+        if (componentList != null) { // Constraint matching is never enabled when evaluating in parallel.
+            return null;
+        }
         return scoreInliner.getIndictmentMap();
     }
 
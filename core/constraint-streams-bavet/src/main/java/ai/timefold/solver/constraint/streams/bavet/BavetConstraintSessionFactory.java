@@ -3,31 +3,96 @@ package ai.timefold.solver.constraint.streams.bavet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import ai.timefold.solver.constraint.streams.bavet.common.BavetScoringConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.NodeBuildHelper;
+import ai.timefold.solver.constraint.streams.bavet.common.ProfilingTupleLifecycle;
+import ai.timefold.solver.constraint.streams.bavet.common.TupleRecycler;
+import ai.timefold.solver.constraint.streams.bavet.uni.BavetFilterUniConstraintStream;
+import ai.timefold.solver.constraint.streams.bavet.uni.BavetForEachUniConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.uni.ForEachUniNode;
+import ai.timefold.solver.constraint.streams.common.ScoreImpactType;
 import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.solver.thread.DefaultSolverThreadFactory;
 
 public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score<Score_>> {
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final List<BavetConstraint<Solution_>> constraintList;
+    private final int threadCount;
+    private final boolean tupleRecyclingEnabled;
+    private final boolean earlyRejectionEnabled;
+    // Only used if the node network is evaluated in parallel, null otherwise.
+    private final ThreadPoolExecutor componentExecutor;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             List<BavetConstraint<Solution_>> constraintList) {
+        this(solutionDescriptor, constraintList, 1, false);
+    }
+
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            List<BavetConstraint<Solution_>> constraintList, int threadCount, boolean tupleRecyclingEnabled) {
+        this(solutionDescriptor, constraintList, threadCount, tupleRecyclingEnabled, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintList never null
+     * @param threadCount at least 1; if higher, independent parts of the node network are evaluated in parallel
+     * @param tupleRecyclingEnabled true if nodes reuse their dead tuples instead of allocating new ones
+     * @param earlyRejectionEnabled true if a sequentially evaluated session can stop evaluating a move
+     *        as soon as its hardest score level is certainly worse than a rejection bound,
+     *        see {@link BavetConstraintSession#calculateScoreUnlessWorseThan(int, Score)}
+     */
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            List<BavetConstraint<Solution_>> constraintList, int threadCount, boolean tupleRecyclingEnabled,
+            boolean earlyRejectionEnabled) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("The threadCount (" + threadCount + ") must be at least 1.");
+        }
+        if (earlyRejectionEnabled) {
+            ScoreDefinition<?> scoreDefinition = solutionDescriptor.getScoreDefinition();
+            if (!BavetScoreBounder.isSupported(scoreDefinition)) {
+                throw new IllegalArgumentException("The scoreDefinition (" + scoreDefinition.getClass().getSimpleName()
+                        + ") does not support an optimistic bound, so it does not support early rejection.\n"
+                        + "Maybe disable constraintStreamEarlyRejectionEnabled.");
+            }
+        }
         this.solutionDescriptor = solutionDescriptor;
         this.constraintList = constraintList;
+        this.threadCount = threadCount;
+        this.tupleRecyclingEnabled = tupleRecyclingEnabled;
+        this.earlyRejectionEnabled = earlyRejectionEnabled;
+        this.componentExecutor = threadCount > 1 ? buildComponentExecutor(threadCount - 1) : null;
+    }
+
+    /**
+     * Every session of this factory shares the same threads,
+     * so move threads and consecutive solves don't multiply them.
+     * The calling thread evaluates a component too, hence 1 thread less than the threadCount.
+     * Idle threads time out, so the factory needs no explicit shutdown.
+     */
+    private static ThreadPoolExecutor buildComponentExecutor(int poolSize) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), buildDaemonThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     // ************************************************************************
@@ -36,13 +101,23 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     public BavetConstraintSession<Score_> buildSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
-        ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
-        AbstractScoreInliner<Score_> scoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition,
-                constraintMatchEnabled);
+        return buildSession(constraintMatchEnabled, false, workingSolution);
+    }
 
+    /**
+     * @param constraintMatchEnabled true if the session tracks constraint matches
+     * @param profilingEnabled true if the session measures the work done per node and per constraint,
+     *        see {@link BavetConstraintSession#getConstraintProfileMap()}
+     * @param workingSolution sometimes null
+     * @return never null
+     */
+    public BavetConstraintSession<Score_> buildSession(boolean constraintMatchEnabled, boolean profilingEnabled,
+            Solution_ workingSolution) {
+        ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         Score_ zeroScore = scoreDefinition.getZeroScore();
         Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
         Map<Constraint, Score_> constraintWeightMap = new HashMap<>(constraintList.size());
+        List<BavetConstraint<Solution_>> activeConstraintList = new ArrayList<>(constraintList.size());
         for (BavetConstraint<Solution_> constraint : constraintList) {
             Score_ constraintWeight = constraint.extractConstraintWeight(workingSolution);
             // Filter out nodes that only lead to constraints with zero weight.
@@ -52,21 +127,287 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 // to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
                 constraint.collectActiveConstraintStreams(constraintStreamSet);
                 constraintWeightMap.put(constraint, constraintWeight);
+                activeConstraintList.add(constraint);
+            }
+        }
+        // Constraint matching needs a single score inliner, which is why it is always evaluated sequentially.
+        // Profiling is not thread-safe and times every node individually, so it is evaluated sequentially too.
+        if (threadCount > 1 && !constraintMatchEnabled && !profilingEnabled) {
+            Map<Constraint, Integer> constraintToComponentIndexMap = new HashMap<>(activeConstraintList.size());
+            Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToComponentIndexMap =
+                    splitIntoComponents(activeConstraintList, constraintToComponentIndexMap);
+            int componentCount = (int) constraintToComponentIndexMap.values().stream().distinct().count();
+            if (componentCount > 1) {
+                return buildParallelSession(scoreDefinition, constraintStreamSet, constraintWeightMap,
+                        constraintToComponentIndexMap, streamToComponentIndexMap, componentCount);
+            }
+        }
+        AbstractScoreInliner<Score_> scoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition,
+                constraintMatchEnabled);
+        // Constraint matching needs a single score inliner and profiling evaluates the nodes itself,
+        // so neither supports early rejection.
+        Map<BavetConstraint<Solution_>, AbstractScoreInliner<Score_>> hardestLevelConstraintToScoreInlinerMap =
+                earlyRejectionEnabled && !constraintMatchEnabled && !profilingEnabled
+                        ? buildHardestLevelConstraintToScoreInlinerMap(scoreDefinition, activeConstraintList,
+                                constraintWeightMap)
+                        : Collections.emptyMap();
+        boolean earlyRejection = !hardestLevelConstraintToScoreInlinerMap.isEmpty();
+        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, constraintWeightMap,
+                constraint -> hardestLevelConstraintToScoreInlinerMap.getOrDefault(constraint, scoreInliner),
+                profilingEnabled);
+        // Build constraintStreamSet in reverse order to create downstream nodes first
+        // so every node only has final variables (some of which have downstream node method references).
+        List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList = new ArrayList<>(constraintStreamSet);
+        Collections.reverse(reversedConstraintStreamList);
+        Map<BavetAbstractConstraintStream<Solution_>, AbstractNode> streamToNodeMap =
+                profilingEnabled || earlyRejection ? new HashMap<>(constraintStreamSet.size()) : null;
+        for (BavetAbstractConstraintStream<Solution_> constraintStream : reversedConstraintStreamList) {
+            int nodeCount = buildHelper.getNodeCount();
+            constraintStream.buildNode(buildHelper);
+            if (streamToNodeMap != null && buildHelper.getNodeCount() > nodeCount) { // A stream builds at most 1 node.
+                streamToNodeMap.put(constraintStream, buildHelper.getLastNode());
+            }
+        }
+        List<AbstractNode> nodeList = buildHelper.destroyAndGetNodeList();
+        Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap = buildDeclaredClassToNodeMap(nodeList);
+        AbstractNode[] nodes = nodeList.toArray(new AbstractNode[0]);
+        if (earlyRejection) {
+            BavetScoreBounder<Score_> scoreBounder = buildScoreBounder(scoreDefinition,
+                    hardestLevelConstraintToScoreInlinerMap, nodes, streamToNodeMap);
+            return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodes, scoreBounder);
+        }
+        if (!profilingEnabled) {
+            return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodes);
+        }
+        BavetNodeNetworkProfiler profiler = buildProfiler(activeConstraintList, buildHelper, nodes, streamToNodeMap);
+        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodes, profiler);
+    }
+
+    /**
+     * @return never null, every active constraint that impacts the hardest score level, with its own score inliner,
+     *         in the order of activeConstraintList
+     */
+    private Map<BavetConstraint<Solution_>, AbstractScoreInliner<Score_>> buildHardestLevelConstraintToScoreInlinerMap(
+            ScoreDefinition<Score_> scoreDefinition, List<BavetConstraint<Solution_>> activeConstraintList,
+            Map<Constraint, Score_> constraintWeightMap) {
+        Map<BavetConstraint<Solution_>, AbstractScoreInliner<Score_>> constraintToScoreInlinerMap = new LinkedHashMap<>();
+        for (BavetConstraint<Solution_> constraint : activeConstraintList) {
+            Number hardestLevel = constraintWeightMap.get(constraint).toLevelNumbers()[0];
+            if (hardestLevel.doubleValue() != 0.0) {
+                constraintToScoreInlinerMap.put(constraint, AbstractScoreInliner.buildScoreInliner(scoreDefinition, false));
+            }
+        }
+        return constraintToScoreInlinerMap;
+    }
+
+    private BavetScoreBounder<Score_> buildScoreBounder(ScoreDefinition<Score_> scoreDefinition,
+            Map<BavetConstraint<Solution_>, AbstractScoreInliner<Score_>> hardestLevelConstraintToScoreInlinerMap,
+            AbstractNode[] nodes, Map<BavetAbstractConstraintStream<Solution_>, AbstractNode> streamToNodeMap) {
+        Map<AbstractNode, Integer> nodeToIndexMap = new IdentityHashMap<>(nodes.length);
+        for (int i = 0; i < nodes.length; i++) {
+            nodeToIndexMap.put(nodes[i], i);
+        }
+        List<BavetScoreBounder.ConstraintBound<Score_>> constraintBoundList =
+                new ArrayList<>(hardestLevelConstraintToScoreInlinerMap.size());
+        hardestLevelConstraintToScoreInlinerMap.forEach((constraint, constraintScoreInliner) -> {
+            Set<BavetAbstractConstraintStream<Solution_>> streamSet = new LinkedHashSet<>();
+            constraint.collectActiveConstraintStreams(streamSet);
+            // The score of a constraint is final once its last node has been evaluated.
+            int lastNodeIndex = -1;
+            for (BavetAbstractConstraintStream<Solution_> stream : streamSet) {
+                AbstractNode node = streamToNodeMap.get(stream);
+                if (node != null) {
+                    lastNodeIndex = Math.max(lastNodeIndex, nodeToIndexMap.get(node));
+                }
+            }
+            if (lastNodeIndex < 0) {
+                throw new IllegalStateException("Impossible state: the constraint (" + constraint
+                        + ") has no node among its streams (" + streamSet + ").");
+            }
+            // A penalty has a positive match weight and a positive constraint weight, so it never increases a level.
+            boolean penaltyOnly = constraint.getScoreImpactType() == ScoreImpactType.PENALTY;
+            constraintBoundList.add(new BavetScoreBounder.ConstraintBound<>(constraintScoreInliner, lastNodeIndex,
+                    penaltyOnly));
+        });
+        return new BavetScoreBounder<>(scoreDefinition, constraintBoundList, nodes);
+    }
+
+    private BavetNodeNetworkProfiler buildProfiler(List<BavetConstraint<Solution_>> activeConstraintList,
+            NodeBuildHelper<Score_> buildHelper, AbstractNode[] nodes,
+            Map<BavetAbstractConstraintStream<Solution_>, AbstractNode> streamToNodeMap) {
+        Map<AbstractNode, Integer> nodeToIndexMap = new IdentityHashMap<>(nodes.length);
+        ProfilingTupleLifecycle<?>[][] nodeInputTupleLifecycles = new ProfilingTupleLifecycle<?>[nodes.length][];
+        for (int i = 0; i < nodes.length; i++) {
+            nodeToIndexMap.put(nodes[i], i);
+            nodeInputTupleLifecycles[i] = buildHelper.getProfilingTupleLifecycleList(nodes[i])
+                    .toArray(new ProfilingTupleLifecycle<?>[0]);
+        }
+        List<BavetNodeNetworkProfiler.ConstraintNodes> constraintNodesList = new ArrayList<>(activeConstraintList.size());
+        for (BavetConstraint<Solution_> constraint : activeConstraintList) {
+            Set<BavetAbstractConstraintStream<Solution_>> streamSet = new LinkedHashSet<>();
+            constraint.collectActiveConstraintStreams(streamSet);
+            List<Integer> nodeIndexList = new ArrayList<>(streamSet.size());
+            List<ProfilingTupleLifecycle<?>> tupleLifecycleList = new ArrayList<>(streamSet.size());
+            ProfilingTupleLifecycle<?> scorerTupleLifecycle = null;
+            for (BavetAbstractConstraintStream<Solution_> stream : streamSet) {
+                AbstractNode node = streamToNodeMap.get(stream);
+                if (node != null) {
+                    nodeIndexList.add(nodeToIndexMap.get(node));
+                }
+                ProfilingTupleLifecycle<?> tupleLifecycle = buildHelper.getProfilingTupleLifecycle(stream);
+                if (tupleLifecycle != null) {
+                    tupleLifecycleList.add(tupleLifecycle);
+                    if (stream instanceof BavetScoringConstraintStream) {
+                        scorerTupleLifecycle = tupleLifecycle;
+                    }
+                }
+            }
+            if (scorerTupleLifecycle == null) {
+                throw new IllegalStateException("Impossible state: the constraint (" + constraint
+                        + ") has no scoring stream among its streams (" + streamSet + ").");
             }
+            constraintNodesList.add(new BavetNodeNetworkProfiler.ConstraintNodes(constraint,
+                    nodeIndexList.stream().mapToInt(Integer::intValue).toArray(),
+                    tupleLifecycleList.toArray(new ProfilingTupleLifecycle<?>[0]), scorerTupleLifecycle));
+        }
+        return new BavetNodeNetworkProfiler(nodes, nodeInputTupleLifecycles, constraintNodesList);
+    }
+
+    /**
+     * Two constraints are in the same component if they share any stream,
+     * except for the source streams, which only feed components and never depend on them,
+     * see {@link #isSourceStream(BavetAbstractConstraintStream)}.
+     *
+     * @param activeConstraintList never null
+     * @param constraintToComponentIndexMap never null, filled with every active constraint
+     * @return never null, every active stream except the for-each streams, mapped to its component index
+     */
+    private Map<BavetAbstractConstraintStream<Solution_>, Integer> splitIntoComponents(
+            List<BavetConstraint<Solution_>> activeConstraintList, Map<Constraint, Integer> constraintToComponentIndexMap) {
+        int constraintCount = activeConstraintList.size();
+        int[] parentIndexes = new int[constraintCount]; // Union-find over the constraint indexes.
+        for (int i = 0; i < constraintCount; i++) {
+            parentIndexes[i] = i;
+        }
+        Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToConstraintIndexMap = new HashMap<>();
+        for (int i = 0; i < constraintCount; i++) {
+            Set<BavetAbstractConstraintStream<Solution_>> streamSet = new LinkedHashSet<>();
+            activeConstraintList.get(i).collectActiveConstraintStreams(streamSet);
+            for (BavetAbstractConstraintStream<Solution_> stream : streamSet) {
+                if (isSourceStream(stream)) {
+                    continue;
+                }
+                Integer otherConstraintIndex = streamToConstraintIndexMap.putIfAbsent(stream, i);
+                if (otherConstraintIndex != null) {
+                    parentIndexes[findRootIndex(parentIndexes, i)] = findRootIndex(parentIndexes, otherConstraintIndex);
+                }
+            }
+        }
+        int[] rootToComponentIndexes = new int[constraintCount];
+        int componentCount = 0;
+        for (int i = 0; i < constraintCount; i++) {
+            if (findRootIndex(parentIndexes, i) == i) {
+                rootToComponentIndexes[i] = componentCount++;
+            }
+        }
+        for (int i = 0; i < constraintCount; i++) {
+            constraintToComponentIndexMap.put(activeConstraintList.get(i),
+                    rootToComponentIndexes[findRootIndex(parentIndexes, i)]);
         }
-        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, constraintWeightMap, scoreInliner);
+        Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToComponentIndexMap =
+                new HashMap<>(streamToConstraintIndexMap.size());
+        streamToConstraintIndexMap.forEach((stream, constraintIndex) -> streamToComponentIndexMap.put(stream,
+                rootToComponentIndexes[findRootIndex(parentIndexes, constraintIndex)]));
+        return streamToComponentIndexMap;
+    }
+
+    /**
+     * A {@link BavetForEachUniConstraintStream} and the filters directly on top of it,
+     * such as the one that {@code forEach()} adds for uninitialized entities.
+     * Filters build no node, so they are evaluated while the {@link ForEachUniNode} propagates, on the calling thread.
+     */
+    private static boolean isSourceStream(BavetAbstractConstraintStream<?> stream) {
+        if (stream instanceof BavetForEachUniConstraintStream) {
+            return true;
+        }
+        return stream instanceof BavetFilterUniConstraintStream
+                && isSourceStream(((BavetFilterUniConstraintStream<?, ?>) stream).getParent());
+    }
+
+    private static int findRootIndex(int[] parentIndexes, int index) {
+        while (parentIndexes[index] != index) {
+            parentIndexes[index] = parentIndexes[parentIndexes[index]]; // Path halving.
+            index = parentIndexes[index];
+        }
+        return index;
+    }
+
+    private BavetConstraintSession<Score_> buildParallelSession(ScoreDefinition<Score_> scoreDefinition,
+            Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet, Map<Constraint, Score_> constraintWeightMap,
+            Map<Constraint, Integer> constraintToComponentIndexMap,
+            Map<BavetAbstractConstraintStream<Solution_>, Integer> streamToComponentIndexMap, int componentCount) {
+        List<AbstractScoreInliner<Score_>> scoreInlinerList = new ArrayList<>(componentCount);
+        for (int i = 0; i < componentCount; i++) {
+            scoreInlinerList.add(AbstractScoreInliner.buildScoreInliner(scoreDefinition, false));
+        }
+        NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, constraintWeightMap,
+                constraint -> scoreInlinerList.get(constraintToComponentIndexMap.get(constraint)), false);
         // Build constraintStreamSet in reverse order to create downstream nodes first
         // so every node only has final variables (some of which have downstream node method references).
         List<BavetAbstractConstraintStream<Solution_>> reversedConstraintStreamList = new ArrayList<>(constraintStreamSet);
         Collections.reverse(reversedConstraintStreamList);
+        Map<AbstractNode, Integer> nodeToComponentIndexMap = new IdentityHashMap<>(constraintStreamSet.size());
         for (BavetAbstractConstraintStream<Solution_> constraintStream : reversedConstraintStreamList) {
+            int nodeCount = buildHelper.getNodeCount();
             constraintStream.buildNode(buildHelper);
+            if (buildHelper.getNodeCount() > nodeCount) { // A stream builds at most 1 node.
+                AbstractNode node = buildHelper.getLastNode();
+                if (!(node instanceof ForEachUniNode)) {
+                    nodeToComponentIndexMap.put(node, streamToComponentIndexMap.get(constraintStream));
+                }
+            }
         }
         List<AbstractNode> nodeList = buildHelper.destroyAndGetNodeList();
+        Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap = buildDeclaredClassToNodeMap(nodeList);
+        List<AbstractNode> sourceNodeList = new ArrayList<>(declaredClassToNodeMap.values());
+        List<List<AbstractNode>> componentNodeListList = new ArrayList<>(componentCount);
+        for (int i = 0; i < componentCount; i++) {
+            componentNodeListList.add(new ArrayList<>());
+        }
+        for (AbstractNode node : nodeList) { // Preserves the node order within every component.
+            Integer componentIndex = nodeToComponentIndexMap.get(node);
+            if (componentIndex != null) {
+                componentNodeListList.get(componentIndex).add(node);
+            }
+        }
+        List<BavetNodeNetworkComponent<Score_>> componentList = new ArrayList<>(componentCount);
+        for (int i = 0; i < componentCount; i++) {
+            componentList.add(new BavetNodeNetworkComponent<>(scoreInlinerList.get(i),
+                    componentNodeListList.get(i).toArray(new AbstractNode[0])));
+        }
+        return new BavetConstraintSession<>(declaredClassToNodeMap, sourceNodeList.toArray(new AbstractNode[0]),
+                componentList, componentExecutor);
+    }
+
+    private static ThreadFactory buildDaemonThreadFactory() {
+        // Daemon threads, so that idle threads which haven't timed out yet can not keep the JVM alive.
+        ThreadFactory threadFactory = new DefaultSolverThreadFactory("NodeNetwork");
+        return runnable -> {
+            Thread thread = threadFactory.newThread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private Map<Class<?>, ForEachUniNode<Object>> buildDeclaredClassToNodeMap(List<AbstractNode> nodeList) {
         Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap = new LinkedHashMap<>();
         long nextNodeId = 0;
         for (AbstractNode node : nodeList) {
             node.setId(nextNodeId++);
+            TupleRecycler<?> tupleRecycler = node.getTupleRecycler();
+            if (tupleRecycler != null) {
+                tupleRecycler.setEnabled(tupleRecyclingEnabled);
+            }
             if (node instanceof ForEachUniNode) {
                 ForEachUniNode<Object> forEachUniNode = (ForEachUniNode<Object>) node;
                 ForEachUniNode<Object> old = declaredClassToNodeMap.put(forEachUniNode.getForEachClass(), forEachUniNode);
@@ -76,7 +417,7 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 }
             }
         }
-        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodeList.toArray(new AbstractNode[0]));
+        return declaredClassToNodeMap;
     }
 
 }
@@ -1,6 +1,11 @@
 package ai.timefold.solver.constraint.streams.bavet;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
@@ -11,6 +16,7 @@ import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfile;
 import ai.timefold.solver.core.impl.score.director.AbstractScoreDirector;
 
 /**
@@ -25,6 +31,13 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         extends AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     protected BavetConstraintSession<Score_> session;
+    /**
+     * The entities and facts that changed since the session was last updated, in the order in which they first changed.
+     * Moves such as pillar, sublist and k-opt moves change the same entity many times,
+     * but each entity only needs to be updated in the session once, right before the score is calculated.
+     */
+    private final List<Object> pendingUpdateList = new ArrayList<>();
+    private final Set<Object> pendingUpdateSet = Collections.newSetFromMap(new IdentityHashMap<>());
 
     public BavetConstraintStreamScoreDirector(
             BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
@@ -43,18 +56,66 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     }
 
     private void resetConstraintStreamingSession() {
-        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution);
+        clearPendingUpdates();
+        closeSession();
+        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, constraintProfilingEnabledPreference,
+                workingSolution);
         getSolutionDescriptor().visitAll(workingSolution, session::insert);
     }
 
     @Override
     public Score_ calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
+        flushPendingUpdates();
         Score_ score = session.calculateScore(workingInitScore);
         setCalculatedScore(score);
         return score;
     }
 
+    @Override
+    protected Score_ calculateScoreUnlessWorseThan(Score_ rejectionBound) {
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        flushPendingUpdates();
+        Score_ score = session.calculateScoreUnlessWorseThan(workingInitScore, rejectionBound);
+        if (score == null) {
+            // The working solution keeps its previous score, because this one is incomplete.
+            calculationCount++;
+        } else {
+            setCalculatedScore(score);
+        }
+        return score;
+    }
+
+    @Override
+    public boolean isEarlyRejectionSupported() {
+        return session != null && session.isEarlyRejectionEnabled();
+    }
+
+    private void addPendingUpdate(Object entityOrFact) {
+        if (pendingUpdateSet.add(entityOrFact)) {
+            pendingUpdateList.add(entityOrFact);
+        }
+    }
+
+    /**
+     * Must be called before any insert or retract,
+     * so the session sees the same sequence of changes as if every update had been propagated immediately.
+     */
+    private void flushPendingUpdates() {
+        if (pendingUpdateList.isEmpty()) {
+            return;
+        }
+        for (Object entityOrFact : pendingUpdateList) {
+            session.update(entityOrFact);
+        }
+        clearPendingUpdates();
+    }
+
+    private void clearPendingUpdates() {
+        pendingUpdateList.clear();
+        pendingUpdateSet.clear();
+    }
+
     @Override
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabledPreference;
@@ -78,6 +139,34 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return session.getIndictmentMap();
     }
 
+    @Override
+    public boolean isConstraintProfilingEnabled() {
+        return constraintProfilingEnabledPreference;
+    }
+
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method getConstraintProfileMap().");
+        }
+        if (!session.isProfilingEnabled()) {
+            throw new IllegalStateException("When constraint profiling is disabled, this method should not be called.\n"
+                    + "Maybe call overwriteConstraintProfilingEnabledPreference(true) before setWorkingSolution().");
+        }
+        return session.getConstraintProfileMap();
+    }
+
+    @Override
+    public long getCreatedTupleCount() {
+        return session == null ? 0L : session.getCreatedTupleCount();
+    }
+
+    @Override
+    public long getReusedTupleCount() {
+        return session == null ? 0L : session.getReusedTupleCount();
+    }
+
     @Override
     public boolean requiresFlushing() {
         return true; // Tuple refresh happens during score calculation.
@@ -86,9 +175,21 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     @Override
     public void close() {
         super.close();
+        clearPendingUpdates();
+        closeSession();
         session = null;
     }
 
+    private void closeSession() {
+        if (session == null) {
+            return;
+        }
+        if (session.isProfilingEnabled() && logger.isDebugEnabled()) {
+            logger.debug("Profile of the node network ({}):\n{}", session.getConstraintProfileMap().values(),
+                    session.buildNodeProfileSummary());
+        }
+    }
+
     // ************************************************************************
     // Entity/variable add/change/remove methods
     // ************************************************************************
@@ -104,6 +205,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
             throw new IllegalArgumentException("The entity (" + entity + ") of class (" + entity.getClass()
                     + ") is not a configured @" + PlanningEntity.class.getSimpleName() + ".");
         }
+        flushPendingUpdates();
         session.insert(entity);
         super.afterEntityAdded(entityDescriptor, entity);
     }
@@ -112,14 +214,14 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
-        session.update(entity);
+        addPendingUpdate(entity);
         super.afterVariableChanged(variableDescriptor, entity);
     }
 
     @Override
     public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity, int fromIndex,
             int toIndex) {
-        session.update(entity);
+        addPendingUpdate(entity);
         super.afterListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
 
@@ -127,6 +229,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        flushPendingUpdates();
         session.retract(entity);
         super.afterEntityRemoved(entityDescriptor, entity);
     }
@@ -142,6 +245,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         if (problemFact == null) {
             throw new IllegalArgumentException("The problemFact (" + problemFact + ") cannot be added to the ScoreDirector.");
         }
+        flushPendingUpdates();
         session.insert(problemFact);
         super.afterProblemFactAdded(problemFact);
     }
@@ -150,7 +254,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
-        session.update(problemFactOrEntity);
+        addPendingUpdate(problemFactOrEntity);
         super.afterProblemPropertyChanged(problemFactOrEntity);
     }
 
@@ -158,6 +262,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterProblemFactRemoved(Object problemFact) {
+        flushPendingUpdates();
         session.retract(problemFact);
         super.afterProblemFactRemoved(problemFact);
     }
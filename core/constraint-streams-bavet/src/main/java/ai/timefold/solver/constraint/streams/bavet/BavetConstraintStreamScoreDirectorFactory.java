@@ -19,10 +19,38 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, EnvironmentMode environmentMode) {
+        this(solutionDescriptor, constraintProvider, environmentMode, 1);
+    }
+
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, int threadCount) {
+        this(solutionDescriptor, constraintProvider, environmentMode, threadCount, false);
+    }
+
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, int threadCount,
+            boolean tupleRecyclingEnabled) {
+        this(solutionDescriptor, constraintProvider, environmentMode, threadCount, tupleRecyclingEnabled, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintProvider never null
+     * @param environmentMode never null
+     * @param threadCount at least 1; if higher, the independent parts of the node network are evaluated in parallel,
+     *        unless constraint matching is enabled
+     * @param tupleRecyclingEnabled true if the nodes reuse their dead tuples instead of allocating new ones
+     * @param earlyRejectionEnabled true if the score calculation of a move can stop as soon as it is certainly rejected,
+     *        unless constraint matching is enabled or the node network is evaluated in parallel
+     */
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, int threadCount,
+            boolean tupleRecyclingEnabled, boolean earlyRejectionEnabled) {
         super(solutionDescriptor);
         BavetConstraintFactory<Solution_> constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, environmentMode);
         constraintList = constraintFactory.buildConstraints(constraintProvider);
-        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList);
+        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList, threadCount,
+                tupleRecyclingEnabled, earlyRejectionEnabled);
     }
 
     @Override
@@ -32,7 +60,12 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
     }
 
     public BavetConstraintSession<Score_> newSession(boolean constraintMatchEnabled, Solution_ workingSolution) {
-        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
+        return newSession(constraintMatchEnabled, false, workingSolution);
+    }
+
+    public BavetConstraintSession<Score_> newSession(boolean constraintMatchEnabled, boolean profilingEnabled,
+            Solution_ workingSolution) {
+        return constraintSessionFactory.buildSession(constraintMatchEnabled, profilingEnabled, workingSolution);
     }
 
     @Override
@@ -46,12 +46,22 @@ public final class BavetConstraintStreamScoreDirectorFactoryService<Solution_, S
                         "The constraintProviderClass (" + config.getConstraintProviderClass()
                                 + ") does not implement " + ConstraintProvider.class.getSimpleName() + ".");
             }
+            int threadCount = Objects.requireNonNullElse(config.getConstraintStreamThreadCount(), 1);
+            if (threadCount < 1) {
+                throw new IllegalArgumentException("The constraintStreamThreadCount (" + threadCount
+                        + ") must be at least 1.");
+            }
+            boolean tupleRecyclingEnabled =
+                    Objects.requireNonNullElse(config.getConstraintStreamTupleRecyclingEnabled(), false);
+            boolean earlyRejectionEnabled =
+                    Objects.requireNonNullElse(config.getConstraintStreamEarlyRejectionEnabled(), false);
             return () -> {
                 ConstraintProvider constraintProvider = ConfigUtils.newInstance(config,
                         "constraintProviderClass", config.getConstraintProviderClass());
                 ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                         config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
-                return buildScoreDirectorFactory(solutionDescriptor, constraintProvider, environmentMode);
+                return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+                        environmentMode, threadCount, tupleRecyclingEnabled, earlyRejectionEnabled);
             };
         } else {
             if (config.getConstraintProviderCustomProperties() != null) {
@@ -0,0 +1,82 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import java.util.Arrays;
+import java.util.concurrent.Phaser;
+
+import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
+import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
+import ai.timefold.solver.core.api.score.Score;
+
+/**
+ * A connected part of the node network, which shares no nodes with any other component
+ * except for the {@link ai.timefold.solver.constraint.streams.bavet.uni.ForEachUniNode}s that feed it.
+ * Every constraint belongs to exactly one component, and each component has its own score inliner,
+ * so components can be evaluated concurrently once the {@code ForEachUniNode}s have propagated.
+ * <p>
+ * The same instance is run for every score calculation of its session,
+ * so running it doesn't allocate anything.
+ *
+ * @param <Score_> the score type
+ */
+final class BavetNodeNetworkComponent<Score_ extends Score<Score_>> implements Runnable {
+
+    private final AbstractScoreInliner<Score_> scoreInliner;
+    private final AbstractNode[] nodes; // In the same order as in the full node network.
+    private Phaser phaser = null;
+    private Throwable failure = null;
+
+    public BavetNodeNetworkComponent(AbstractScoreInliner<Score_> scoreInliner, AbstractNode[] nodes) {
+        this.scoreInliner = scoreInliner;
+        this.nodes = nodes;
+    }
+
+    /**
+     * @param phaser never null, shared by all components of the session,
+     *        {@link Phaser#arrive() arrived at} every time this component has run
+     */
+    public void setPhaser(Phaser phaser) {
+        this.phaser = phaser;
+    }
+
+    @Override
+    public void run() {
+        try {
+            calculateScore();
+        } catch (Throwable throwable) {
+            failure = throwable;
+        } finally {
+            phaser.arrive();
+        }
+    }
+
+    public void calculateScore() {
+        for (AbstractNode node : nodes) {
+            node.calculateScore();
+        }
+    }
+
+    /**
+     * Must only be called after the {@link #setPhaser(Phaser) phaser} advanced.
+     *
+     * @return null if the last run succeeded
+     */
+    public Throwable pollFailure() {
+        Throwable lastFailure = failure;
+        failure = null;
+        return lastFailure;
+    }
+
+    public AbstractScoreInliner<Score_> getScoreInliner() {
+        return scoreInliner;
+    }
+
+    public AbstractNode[] getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public String toString() {
+        return "Component" + Arrays.toString(nodes);
+    }
+
+}
@@ -0,0 +1,113 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
+import ai.timefold.solver.constraint.streams.bavet.common.ProfilingTupleLifecycle;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfile;
+
+/**
+ * Measures the time spent in every node of a sequentially evaluated node network,
+ * and combines it with the tuple counts of the {@link ProfilingTupleLifecycle}s into a profile per constraint.
+ * <p>
+ * The time of a node includes propagating its tuples into its children's filters and scorers,
+ * because those do not have nodes of their own.
+ */
+final class BavetNodeNetworkProfiler {
+
+    private final AbstractNode[] nodes; // Indexed by nodeIndex
+    private final long[] nodeNanos; // Indexed by nodeIndex
+    private final ProfilingTupleLifecycle<?>[][] nodeInputTupleLifecycles; // Indexed by nodeIndex
+    private final List<ConstraintNodes> constraintNodesList;
+
+    /**
+     * @param nodes never null
+     * @param nodeInputTupleLifecycles never null, for every node, the lifecycles through which its parents reach it
+     * @param constraintNodesList never null, every active constraint
+     */
+    public BavetNodeNetworkProfiler(AbstractNode[] nodes, ProfilingTupleLifecycle<?>[][] nodeInputTupleLifecycles,
+            List<ConstraintNodes> constraintNodesList) {
+        this.nodes = nodes;
+        this.nodeNanos = new long[nodes.length];
+        this.nodeInputTupleLifecycles = nodeInputTupleLifecycles;
+        this.constraintNodesList = constraintNodesList;
+    }
+
+    public void calculateScore() {
+        for (int i = 0; i < nodes.length; i++) {
+            long startNanos = System.nanoTime();
+            nodes[i].calculateScore();
+            nodeNanos[i] += System.nanoTime() - startNanos;
+        }
+    }
+
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        Map<String, ConstraintProfile> constraintProfileMap = new LinkedHashMap<>(constraintNodesList.size());
+        for (ConstraintNodes constraintNodes : constraintNodesList) {
+            long propagationCount = 0L;
+            for (ProfilingTupleLifecycle<?> tupleLifecycle : constraintNodes.tupleLifecycles) {
+                propagationCount += tupleLifecycle.getPropagationCount();
+            }
+            long nanos = 0L;
+            for (int nodeIndex : constraintNodes.nodeIndexes) {
+                nanos += nodeNanos[nodeIndex];
+            }
+            Constraint constraint = constraintNodes.constraint;
+            ConstraintProfile constraintProfile = new ConstraintProfile(constraint.getConstraintPackage(),
+                    constraint.getConstraintName(), constraintNodes.scorerTupleLifecycle.getTupleCount(),
+                    propagationCount, nanos);
+            constraintProfileMap.put(constraintProfile.getConstraintId(), constraintProfile);
+        }
+        return constraintProfileMap;
+    }
+
+    /**
+     * @return never null, one line per node, in the order in which the nodes are evaluated
+     */
+    public String buildNodeProfileSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < nodes.length; i++) {
+            long propagationCount = 0L;
+            long tupleCount = 0L;
+            for (ProfilingTupleLifecycle<?> tupleLifecycle : nodeInputTupleLifecycles[i]) {
+                propagationCount += tupleLifecycle.getPropagationCount();
+                tupleCount += tupleLifecycle.getTupleCount();
+            }
+            summary.append("    ").append(nodes[i])
+                    .append(" (tuples: ").append(tupleCount)
+                    .append(", propagations: ").append(propagationCount)
+                    .append(", time: ").append(nodeNanos[i] / 1_000_000L).append(" ms)\n");
+        }
+        return summary.toString();
+    }
+
+    /**
+     * The nodes and streams that lead to a single constraint.
+     */
+    static final class ConstraintNodes {
+
+        private final Constraint constraint;
+        private final int[] nodeIndexes;
+        private final ProfilingTupleLifecycle<?>[] tupleLifecycles;
+        private final ProfilingTupleLifecycle<?> scorerTupleLifecycle;
+
+        /**
+         * @param constraint never null
+         * @param nodeIndexes never null, the indexes of the nodes built by the constraint's streams
+         * @param tupleLifecycles never null, the lifecycles of the constraint's streams, including its scorer
+         * @param scorerTupleLifecycle never null, the lifecycle of the constraint's scorer
+         */
+        ConstraintNodes(Constraint constraint, int[] nodeIndexes, ProfilingTupleLifecycle<?>[] tupleLifecycles,
+                ProfilingTupleLifecycle<?> scorerTupleLifecycle) {
+            this.constraint = constraint;
+            this.nodeIndexes = nodeIndexes;
+            this.tupleLifecycles = tupleLifecycles;
+            this.scorerTupleLifecycle = scorerTupleLifecycle;
+        }
+
+    }
+
+}
@@ -0,0 +1,174 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import ai.timefold.solver.constraint.streams.bavet.common.AbstractNode;
+import ai.timefold.solver.constraint.streams.bavet.common.TupleRecycler;
+import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.config.score.trend.InitializingScoreTrendLevel;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
+
+/**
+ * Evaluates the node network of a session node by node
+ * and stops as soon as the score is certainly worse than a rejection bound.
+ * <p>
+ * Every constraint that impacts the hardest score level has its own score inliner,
+ * so its score is known as soon as the last node of that constraint has been evaluated.
+ * A constraint that only penalizes can't increase the hardest score level,
+ * so if every constraint that hasn't been evaluated yet only penalizes,
+ * the hardest score level of the constraints that have been evaluated is an optimistic bound.
+ * <p>
+ * The nodes after the node where the evaluation stopped keep their dirty tuples,
+ * so the next evaluation catches up on them, together with the changes made in the meantime.
+ * Those dirty tuples might reference tuples that already died in an earlier node,
+ * so the {@link TupleRecycler tuple recyclers} defer reusing dead tuples
+ * until an evaluation evaluates every node.
+ *
+ * @param <Score_> the score type
+ */
+final class BavetScoreBounder<Score_ extends Score<Score_>> {
+
+    /**
+     * @param scoreDefinition never null
+     * @return true if the scoreDefinition supports {@link ScoreDefinition#buildOptimisticBound(InitializingScoreTrend, Score)}
+     */
+    public static boolean isSupported(ScoreDefinition<?> scoreDefinition) {
+        return isSupportedInternal(scoreDefinition);
+    }
+
+    private static <Score_ extends Score<Score_>> boolean isSupportedInternal(ScoreDefinition<Score_> scoreDefinition) {
+        try {
+            scoreDefinition.buildOptimisticBound(buildHardestLevelOnlyDownTrend(scoreDefinition.getLevelsSize()),
+                    scoreDefinition.getZeroScore());
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private static InitializingScoreTrend buildHardestLevelOnlyDownTrend(int levelsSize) {
+        InitializingScoreTrendLevel[] trendLevels = new InitializingScoreTrendLevel[levelsSize];
+        trendLevels[0] = InitializingScoreTrendLevel.ONLY_DOWN;
+        for (int i = 1; i < levelsSize; i++) {
+            trendLevels[i] = InitializingScoreTrendLevel.ANY;
+        }
+        return new InitializingScoreTrend(trendLevels);
+    }
+
+    private final ScoreDefinition<Score_> scoreDefinition;
+    private final InitializingScoreTrend hardestLevelOnlyDownTrend;
+    /**
+     * Ordered by {@link #lastNodeIndexes}.
+     */
+    private final AbstractScoreInliner<Score_>[] constraintScoreInliners;
+    /**
+     * The index of the last node of each constraint, ascending.
+     */
+    private final int[] lastNodeIndexes;
+    /**
+     * Indexed by the number of evaluated constraints: true if every remaining constraint only penalizes.
+     * One longer than {@link #lastNodeIndexes}.
+     */
+    private final boolean[] onlyPenaltiesRemaining;
+    /**
+     * Every enabled tuple recycler of the nodes, in {@link TupleRecycler#setDeferred(boolean) deferred} mode.
+     */
+    private final TupleRecycler<?>[] deferredTupleRecyclers;
+
+    /**
+     * @param scoreDefinition never null, must be {@link #isSupported(ScoreDefinition) supported}
+     * @param constraintBoundList never null, one per constraint that impacts the hardest score level
+     * @param nodes never null, the nodes that {@link #calculateScore(AbstractNode[], AbstractScoreInliner, int, Score)}
+     *        evaluates
+     */
+    public BavetScoreBounder(ScoreDefinition<Score_> scoreDefinition, List<ConstraintBound<Score_>> constraintBoundList,
+            AbstractNode[] nodes) {
+        this.scoreDefinition = scoreDefinition;
+        this.hardestLevelOnlyDownTrend = buildHardestLevelOnlyDownTrend(scoreDefinition.getLevelsSize());
+        List<ConstraintBound<Score_>> sortedConstraintBoundList = new ArrayList<>(constraintBoundList);
+        sortedConstraintBoundList.sort(Comparator.comparingInt(constraintBound -> constraintBound.lastNodeIndex));
+        int constraintCount = sortedConstraintBoundList.size();
+        this.constraintScoreInliners = new AbstractScoreInliner[constraintCount];
+        this.lastNodeIndexes = new int[constraintCount];
+        this.onlyPenaltiesRemaining = new boolean[constraintCount + 1];
+        onlyPenaltiesRemaining[constraintCount] = true;
+        for (int i = constraintCount - 1; i >= 0; i--) {
+            ConstraintBound<Score_> constraintBound = sortedConstraintBoundList.get(i);
+            constraintScoreInliners[i] = constraintBound.scoreInliner;
+            lastNodeIndexes[i] = constraintBound.lastNodeIndex;
+            onlyPenaltiesRemaining[i] = constraintBound.penaltyOnly && onlyPenaltiesRemaining[i + 1];
+        }
+        List<TupleRecycler<?>> deferredTupleRecyclerList = new ArrayList<>();
+        for (AbstractNode node : nodes) {
+            TupleRecycler<?> tupleRecycler = node.getTupleRecycler();
+            if (tupleRecycler != null && tupleRecycler.isEnabled()) {
+                tupleRecycler.setDeferred(true);
+                deferredTupleRecyclerList.add(tupleRecycler);
+            }
+        }
+        this.deferredTupleRecyclers = deferredTupleRecyclerList.toArray(new TupleRecycler[0]);
+    }
+
+    /**
+     * @param nodes never null
+     * @param scoreInliner never null, of the constraints that don't impact the hardest score level
+     * @param initScore at most 0
+     * @param rejectionBound null if the node network must be evaluated completely
+     * @return null if the score is certainly worse than the rejectionBound
+     */
+    public Score_ calculateScore(AbstractNode[] nodes, AbstractScoreInliner<Score_> scoreInliner, int initScore,
+            Score_ rejectionBound) {
+        Score_ evaluatedScore = scoreDefinition.getZeroScore();
+        int constraintIndex = 0;
+        for (int nodeIndex = 0; nodeIndex < nodes.length; nodeIndex++) {
+            nodes[nodeIndex].calculateScore();
+            if (constraintIndex == lastNodeIndexes.length || lastNodeIndexes[constraintIndex] != nodeIndex) {
+                continue;
+            }
+            do {
+                evaluatedScore = evaluatedScore.add(constraintScoreInliners[constraintIndex].extractScore(0));
+                constraintIndex++;
+            } while (constraintIndex < lastNodeIndexes.length && lastNodeIndexes[constraintIndex] == nodeIndex);
+            if (rejectionBound != null && onlyPenaltiesRemaining[constraintIndex]
+                    && nodeIndex < nodes.length - 1
+                    && isWorse(evaluatedScore, initScore, rejectionBound)) {
+                return null;
+            }
+        }
+        // Every node has been evaluated, so no node still references a dead tuple.
+        for (TupleRecycler<?> tupleRecycler : deferredTupleRecyclers) {
+            tupleRecycler.releaseDeferred();
+        }
+        return scoreInliner.extractScore(initScore).add(evaluatedScore);
+    }
+
+    private boolean isWorse(Score_ evaluatedScore, int initScore, Score_ rejectionBound) {
+        Score_ optimisticBound = scoreDefinition.buildOptimisticBound(hardestLevelOnlyDownTrend, evaluatedScore)
+                .withInitScore(initScore);
+        return optimisticBound.compareTo(rejectionBound) < 0;
+    }
+
+    static final class ConstraintBound<Score_ extends Score<Score_>> {
+
+        private final AbstractScoreInliner<Score_> scoreInliner;
+        private final int lastNodeIndex;
+        private final boolean penaltyOnly;
+
+        /**
+         * @param scoreInliner never null, only used by that constraint
+         * @param lastNodeIndex at least 0, the index of the last node that feeds that constraint
+         * @param penaltyOnly true if that constraint never increases a score level
+         */
+        ConstraintBound(AbstractScoreInliner<Score_> scoreInliner, int lastNodeIndex, boolean penaltyOnly) {
+            this.scoreInliner = scoreInliner;
+            this.lastNodeIndex = lastNodeIndex;
+            this.penaltyOnly = penaltyOnly;
+        }
+
+    }
+
+}
@@ -8,11 +8,13 @@ import ai.timefold.solver.constraint.streams.bavet.common.TupleLifecycle;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.stream.collector.PrimitiveBiCollector;
 
 abstract class AbstractGroupBiNode<OldA, OldB, OutTuple_ extends Tuple, MutableOutTuple_ extends OutTuple_, GroupKey_, ResultContainer_, Result_>
         extends AbstractGroupNode<BiTuple<OldA, OldB>, OutTuple_, MutableOutTuple_, GroupKey_, ResultContainer_, Result_> {
 
     private final TriFunction<ResultContainer_, OldA, OldB, Runnable> accumulator;
+    private final PrimitiveBiCollector<OldA, OldB, ?> primitiveCollector;
 
     protected AbstractGroupBiNode(int groupStoreIndex, int undoStoreIndex,
             Function<BiTuple<OldA, OldB>, GroupKey_> groupKeyFunction,
@@ -21,14 +23,18 @@ abstract class AbstractGroupBiNode<OldA, OldB, OutTuple_ extends Tuple, MutableO
         super(groupStoreIndex, undoStoreIndex, groupKeyFunction,
                 collector == null ? null : collector.supplier(),
                 collector == null ? null : collector.finisher(),
-                nextNodesTupleLifecycle, environmentMode);
+                collector instanceof PrimitiveBiCollector, nextNodesTupleLifecycle, environmentMode);
         accumulator = collector == null ? null : collector.accumulator();
+        primitiveCollector = collector instanceof PrimitiveBiCollector
+                ? (PrimitiveBiCollector<OldA, OldB, ?>) collector
+                : null;
     }
 
     protected AbstractGroupBiNode(int groupStoreIndex, Function<BiTuple<OldA, OldB>, GroupKey_> groupKeyFunction,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, groupKeyFunction, nextNodesTupleLifecycle, environmentMode);
         accumulator = null;
+        primitiveCollector = null;
     }
 
     @Override
@@ -36,4 +42,9 @@ abstract class AbstractGroupBiNode<OldA, OldB, OutTuple_ extends Tuple, MutableO
         return accumulator.apply(resultContainer, tuple.getFactA(), tuple.getFactB());
     }
 
+    @Override
+    protected final long mapPrimitive(BiTuple<OldA, OldB> tuple) {
+        return primitiveCollector.applyAsLong(tuple.getFactA(), tuple.getFactB());
+    }
+
 }
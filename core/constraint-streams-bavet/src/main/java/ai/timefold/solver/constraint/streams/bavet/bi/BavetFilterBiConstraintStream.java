@@ -7,6 +7,7 @@ import java.util.function.BiPredicate;
 import ai.timefold.solver.constraint.streams.bavet.BavetConstraintFactory;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.NodeBuildHelper;
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.core.api.score.Score;
 
 public final class BavetFilterBiConstraintStream<Solution_, A, B> extends BavetAbstractBiConstraintStream<Solution_, A, B> {
@@ -57,7 +58,7 @@ public final class BavetFilterBiConstraintStream<Solution_, A, B> extends BavetA
 
     @Override
     public int hashCode() {
-        return Objects.hash(parent, predicate);
+        return Objects.hash(parent, LambdaEquivalence.hashCode(predicate));
     }
 
     @Override
@@ -67,7 +68,7 @@ public final class BavetFilterBiConstraintStream<Solution_, A, B> extends BavetA
         } else if (o instanceof BavetFilterBiConstraintStream) {
             BavetFilterBiConstraintStream<?, ?, ?> other = (BavetFilterBiConstraintStream<?, ?, ?>) o;
             return parent == other.parent
-                    && predicate == other.predicate;
+                    && LambdaEquivalence.areEquivalent(predicate, other.predicate);
         } else {
             return false;
         }
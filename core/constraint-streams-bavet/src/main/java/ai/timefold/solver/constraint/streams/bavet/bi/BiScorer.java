@@ -1,24 +1,38 @@
 package ai.timefold.solver.constraint.streams.bavet.bi;
 
 import java.util.function.BiFunction;
+import java.util.function.ToLongBiFunction;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractScorer;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
+import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
 import ai.timefold.solver.core.api.score.Score;
 
 final class BiScorer<A, B> extends AbstractScorer<BiTuple<A, B>> {
 
     private final BiFunction<A, B, UndoScoreImpacter> scoreImpacter;
+    private final ToLongBiFunction<A, B> matchWeigher;
 
     public BiScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
             BiFunction<A, B, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
-        super(constraintPackage, constraintName, constraintWeight, inputStoreIndex);
+        super(constraintPackage, constraintName, constraintWeight, null, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
+        this.matchWeigher = null;
+    }
+
+    public BiScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            WeightedScoreImpacter<?, ?> weightedScoreImpacter, ToLongBiFunction<A, B> matchWeigher, int inputStoreIndex) {
+        super(constraintPackage, constraintName, constraintWeight, weightedScoreImpacter, inputStoreIndex);
+        this.scoreImpacter = null;
+        this.matchWeigher = matchWeigher;
     }
 
     @Override
     protected UndoScoreImpacter impact(BiTuple<A, B> tuple) {
         try {
+            if (matchWeigher != null) {
+                return impactWithoutUndo(tuple, matchWeigher.applyAsLong(tuple.getFactA(), tuple.getFactB()));
+            }
             return scoreImpacter.apply(tuple.getFactA(), tuple.getFactB());
         } catch (Exception e) {
             throw createExceptionOnImpact(tuple, e);
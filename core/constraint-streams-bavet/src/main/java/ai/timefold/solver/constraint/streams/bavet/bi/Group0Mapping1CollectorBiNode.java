@@ -23,6 +23,11 @@ final class Group0Mapping1CollectorBiNode<OldA, OldB, A, ResultContainer_>
         return new UniTupleImpl<>(null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(UniTupleImpl<A> outTuple, Void groupKey) {
+        outTuple.factA = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(UniTupleImpl<A> outTuple, A a) {
         outTuple.factA = a;
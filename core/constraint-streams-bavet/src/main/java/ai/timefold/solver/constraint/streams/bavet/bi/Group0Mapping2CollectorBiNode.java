@@ -33,6 +33,12 @@ final class Group0Mapping2CollectorBiNode<OldA, OldB, A, B, ResultContainerA_, R
         return new BiTupleImpl<>(null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(BiTupleImpl<A, B> outTuple, Void groupKey) {
+        outTuple.factA = null;
+        outTuple.factB = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(BiTupleImpl<A, B> outTuple, Pair<A, B> result) {
         outTuple.factA = result.getKey();
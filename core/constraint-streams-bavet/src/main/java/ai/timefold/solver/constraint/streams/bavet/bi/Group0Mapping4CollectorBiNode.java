@@ -41,6 +41,14 @@ final class Group0Mapping4CollectorBiNode<OldA, OldB, A, B, C, D, ResultContaine
         return new QuadTupleImpl<>(null, null, null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(QuadTupleImpl<A, B, C, D> outTuple, Void groupKey) {
+        outTuple.factA = null;
+        outTuple.factB = null;
+        outTuple.factC = null;
+        outTuple.factD = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(QuadTupleImpl<A, B, C, D> outTuple, Quadruple<A, B, C, D> result) {
         outTuple.factA = result.getA();
@@ -31,6 +31,13 @@ final class Group1Mapping2CollectorBiNode<OldA, OldB, A, B, C, ResultContainerB_
         return new TriTupleImpl<>(a, null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(TriTupleImpl<A, B, C> outTuple, A a) {
+        outTuple.factA = a;
+        outTuple.factB = null;
+        outTuple.factC = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(TriTupleImpl<A, B, C> outTuple, Pair<B, C> result) {
         outTuple.factB = result.getKey();
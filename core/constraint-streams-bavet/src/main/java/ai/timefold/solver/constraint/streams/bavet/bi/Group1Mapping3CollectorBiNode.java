@@ -33,6 +33,14 @@ final class Group1Mapping3CollectorBiNode<OldA, OldB, A, B, C, D, ResultContaine
         return new QuadTupleImpl<>(a, null, null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(QuadTupleImpl<A, B, C, D> outTuple, A a) {
+        outTuple.factA = a;
+        outTuple.factB = null;
+        outTuple.factC = null;
+        outTuple.factD = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(QuadTupleImpl<A, B, C, D> outTuple, Triple<B, C, D> result) {
         outTuple.factB = result.getA();
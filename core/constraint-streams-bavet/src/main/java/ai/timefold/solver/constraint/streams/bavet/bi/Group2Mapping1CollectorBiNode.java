@@ -29,6 +29,13 @@ final class Group2Mapping1CollectorBiNode<OldA, OldB, A, B, C, ResultContainer_>
         return new TriTupleImpl<>(groupKey.getKey(), groupKey.getValue(), null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(TriTupleImpl<A, B, C> outTuple, Pair<A, B> groupKey) {
+        outTuple.factA = groupKey.getKey();
+        outTuple.factB = groupKey.getValue();
+        outTuple.factC = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(TriTupleImpl<A, B, C> outTuple, C c) {
         outTuple.factC = c;
@@ -34,6 +34,14 @@ final class Group2Mapping2CollectorBiNode<OldA, OldB, A, B, C, D, ResultContaine
         return new QuadTupleImpl<>(groupKey.getKey(), groupKey.getValue(), null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(QuadTupleImpl<A, B, C, D> outTuple, Pair<A, B> groupKey) {
+        outTuple.factA = groupKey.getKey();
+        outTuple.factB = groupKey.getValue();
+        outTuple.factC = null;
+        outTuple.factD = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(QuadTupleImpl<A, B, C, D> outTuple, Pair<C, D> result) {
         outTuple.factC = result.getKey();
@@ -37,6 +37,13 @@ final class Group3Mapping0CollectorBiNode<OldA, OldB, A, B, C>
         return new TriTupleImpl<>(groupKey.getA(), groupKey.getB(), groupKey.getC(), outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(TriTupleImpl<A, B, C> outTuple, Triple<A, B, C> groupKey) {
+        outTuple.factA = groupKey.getA();
+        outTuple.factB = groupKey.getB();
+        outTuple.factC = groupKey.getC();
+    }
+
     @Override
     protected void updateOutTupleToResult(TriTupleImpl<A, B, C> outTuple, Void unused) {
         throw new IllegalStateException("Impossible state: collector is null.");
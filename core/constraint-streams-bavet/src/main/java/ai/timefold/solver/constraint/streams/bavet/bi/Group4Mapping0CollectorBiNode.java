@@ -42,6 +42,14 @@ final class Group4Mapping0CollectorBiNode<OldA, OldB, A, B, C, D>
         return new QuadTupleImpl<>(groupKey.getA(), groupKey.getB(), groupKey.getC(), groupKey.getD(), outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(QuadTupleImpl<A, B, C, D> outTuple, Quadruple<A, B, C, D> groupKey) {
+        outTuple.factA = groupKey.getA();
+        outTuple.factB = groupKey.getB();
+        outTuple.factC = groupKey.getC();
+        outTuple.factD = groupKey.getD();
+    }
+
     @Override
     protected void updateOutTupleToResult(QuadTupleImpl<A, B, C, D> outTuple, Void unused) {
         throw new IllegalStateException("Impossible state: collector is null.");
@@ -9,6 +9,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.stream.collector.PrimitiveAccumulator;
 
 public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extends Tuple, MutableOutTuple_ extends OutTuple_, GroupKey_, ResultContainer_, Result_>
         extends AbstractNode
@@ -41,6 +42,18 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
      * In that case, we skip the code path that would attempt to use it.
      */
     private final boolean hasCollector;
+    /**
+     * Count, sum and average collectors accumulate into a {@link PrimitiveAccumulator}.
+     * In that case, the node accumulates the value of {@link #mapPrimitive(Tuple)} directly,
+     * through an undo which is stored with the tuple and reused,
+     * instead of boxing the value in a new undo for every accumulation.
+     */
+    private final boolean hasPrimitiveCollector;
+    /**
+     * Unused when {@link #hasPrimitiveCollector} is false.
+     * Holds the undos of retracted tuples, for reuse by inserted tuples.
+     */
+    private final Queue<PrimitiveAccumulator.Undo> primitiveUndoPool;
     /**
      * Calls for example {@link AbstractScorer#insert(Tuple)}, and/or ...
      */
@@ -58,10 +71,12 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
     private AbstractGroup<MutableOutTuple_, ResultContainer_> singletonGroup;
     private final Queue<AbstractGroup<MutableOutTuple_, ResultContainer_>> dirtyGroupQueue;
     private final boolean useAssertingGroupKey;
+    private final TupleRecycler<MutableOutTuple_> tupleRecycler = new TupleRecycler<>();
 
     protected AbstractGroupNode(int groupStoreIndex, int undoStoreIndex, Function<InTuple_, GroupKey_> groupKeyFunction,
             Supplier<ResultContainer_> supplier, Function<ResultContainer_, Result_> finisher,
-            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+            boolean hasPrimitiveCollector, TupleLifecycle<OutTuple_> nextNodesTupleLifecycle,
+            EnvironmentMode environmentMode) {
         this.groupStoreIndex = groupStoreIndex;
         this.undoStoreIndex = undoStoreIndex;
         this.groupKeyFunction = groupKeyFunction;
@@ -69,6 +84,8 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
         this.finisher = finisher;
         this.hasMultipleGroups = groupKeyFunction != null;
         this.hasCollector = supplier != null;
+        this.hasPrimitiveCollector = hasCollector && hasPrimitiveCollector;
+        this.primitiveUndoPool = this.hasPrimitiveCollector ? new ArrayDeque<>() : null;
         this.nextNodesTupleLifecycle = nextNodesTupleLifecycle;
         /*
          * Not using the default sizing to 1000.
@@ -82,7 +99,7 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
 
     protected AbstractGroupNode(int groupStoreIndex, Function<InTuple_, GroupKey_> groupKeyFunction,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
-        this(groupStoreIndex, -1, groupKeyFunction, null, null, nextNodesTupleLifecycle, environmentMode);
+        this(groupStoreIndex, -1, groupKeyFunction, null, null, false, nextNodesTupleLifecycle, environmentMode);
     }
 
     @Override
@@ -120,7 +137,9 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
     }
 
     private OutTuple_ accumulate(InTuple_ tuple, AbstractGroup<MutableOutTuple_, ResultContainer_> group) {
-        if (hasCollector) {
+        if (hasPrimitiveCollector) {
+            accumulatePrimitive(tuple, (PrimitiveAccumulator) group.getResultContainer());
+        } else if (hasCollector) {
             Runnable undoAccumulator = accumulate(group.getResultContainer(), tuple);
             tuple.setStore(undoStoreIndex, undoAccumulator);
         }
@@ -128,6 +147,19 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
         return group.outTuple;
     }
 
+    private void accumulatePrimitive(InTuple_ tuple, PrimitiveAccumulator resultContainer) {
+        // On update, the undo of the previous accumulation has already run and is still in the store.
+        PrimitiveAccumulator.Undo undoAccumulator = tuple.getStore(undoStoreIndex);
+        if (undoAccumulator == null) {
+            undoAccumulator = primitiveUndoPool.poll();
+            if (undoAccumulator == null) {
+                undoAccumulator = new PrimitiveAccumulator.Undo();
+            }
+            tuple.setStore(undoStoreIndex, undoAccumulator);
+        }
+        undoAccumulator.insert(resultContainer, mapPrimitive(tuple));
+    }
+
     private AbstractGroup<MutableOutTuple_, ResultContainer_> getOrCreateGroup(GroupKey_ userSuppliedKey) {
         Object groupMapKey = useAssertingGroupKey ? new AssertingGroupKey(userSuppliedKey) : userSuppliedKey;
         if (hasMultipleGroups) {
@@ -152,7 +184,12 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
 
     private AbstractGroup<MutableOutTuple_, ResultContainer_> createGroup(Object groupMapKey) {
         GroupKey_ userSuppliedKey = extractUserSuppliedKey(groupMapKey);
-        MutableOutTuple_ outTuple = createOutTuple(userSuppliedKey);
+        MutableOutTuple_ outTuple = tupleRecycler.reuseOrNull();
+        if (outTuple == null) {
+            outTuple = createOutTuple(userSuppliedKey);
+        } else {
+            reinitializeOutTuple(outTuple, userSuppliedKey);
+        }
         AbstractGroup<MutableOutTuple_, ResultContainer_> group =
                 hasCollector ? new GroupWithAccumulate<>(groupMapKey, supplier.get(), outTuple)
                         : new GroupWithoutAccumulate<>(groupMapKey, outTuple);
@@ -261,12 +298,28 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
         if (hasCollector) {
             Runnable undoAccumulator = tuple.removeStore(undoStoreIndex);
             undoAccumulator.run();
+            if (hasPrimitiveCollector) {
+                primitiveUndoPool.add((PrimitiveAccumulator.Undo) undoAccumulator);
+            }
         }
         killTuple(group);
     }
 
     protected abstract Runnable accumulate(ResultContainer_ resultContainer, InTuple_ tuple);
 
+    /**
+     * Only called when the collector is a primitive collector.
+     *
+     * @param tuple never null
+     * @return the value which the primitive collector maps the facts of the tuple to
+     */
+    protected abstract long mapPrimitive(InTuple_ tuple);
+
+    @Override
+    public final TupleRecycler<MutableOutTuple_> getTupleRecycler() {
+        return tupleRecycler;
+    }
+
     @Override
     public void calculateScore() {
         for (AbstractGroup<MutableOutTuple_, ResultContainer_> group : dirtyGroupQueue) {
@@ -290,9 +343,11 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
                 case DYING:
                     nextNodesTupleLifecycle.retract(outTuple);
                     outTuple.setState(BavetTupleState.DEAD);
+                    tupleRecycler.recycle(outTuple);
                     break;
                 case ABORTING:
                     outTuple.setState(BavetTupleState.DEAD);
+                    tupleRecycler.recycle(outTuple);
                     break;
                 case OK:
                 case DEAD:
@@ -311,6 +366,14 @@ public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extend
      */
     protected abstract MutableOutTuple_ createOutTuple(GroupKey_ groupKey);
 
+    /**
+     * Overwrites all facts of a recycled tuple, so that they are equal to those of {@link #createOutTuple(Object)}.
+     *
+     * @param outTuple never null, a dead tuple which was previously created by this node
+     * @param groupKey null if the node only has one group
+     */
+    protected abstract void reinitializeOutTuple(MutableOutTuple_ outTuple, GroupKey_ groupKey);
+
     private void updateOutTupleToFinisher(MutableOutTuple_ outTuple, ResultContainer_ resultContainer) {
         Result_ result = finisher.apply(resultContainer);
         updateOutTupleToResult(outTuple, result);
@@ -33,6 +33,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
     private final int outputStoreIndexLeftOutEntry;
     private final int outputStoreIndexRightOutEntry;
     protected final Queue<OutTuple_> dirtyTupleQueue;
+    private final TupleRecycler<MutableOutTuple_> tupleRecycler = new TupleRecycler<>();
 
     protected AbstractJoinNode(int inputStoreIndexLeftOutTupleList, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, boolean isFiltering,
@@ -55,7 +56,13 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
     protected abstract boolean testFiltering(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
 
     protected final void insertOutTuple(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple) {
-        MutableOutTuple_ outTuple = createOutTuple(leftTuple, rightTuple);
+        MutableOutTuple_ outTuple = tupleRecycler.reuseOrNull();
+        if (outTuple == null) {
+            outTuple = createOutTuple(leftTuple, rightTuple);
+        } else {
+            setOutTupleLeftFacts(outTuple, leftTuple);
+            setOutTupleRightFact(outTuple, rightTuple);
+        }
         TupleList<MutableOutTuple_> outTupleListLeft = leftTuple.getStore(inputStoreIndexLeftOutTupleList);
         TupleListEntry<MutableOutTuple_> outEntryLeft = outTupleListLeft.add(outTuple);
         outTuple.setStore(outputStoreIndexLeftOutEntry, outEntryLeft);
@@ -186,6 +193,11 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
         }
     }
 
+    @Override
+    public final TupleRecycler<MutableOutTuple_> getTupleRecycler() {
+        return tupleRecycler;
+    }
+
     @Override
     public final void calculateScore() {
         for (OutTuple_ tuple : dirtyTupleQueue) {
@@ -201,9 +213,11 @@ public abstract class AbstractJoinNode<LeftTuple_ extends Tuple, Right_, OutTupl
                 case DYING:
                     nextNodesTupleLifecycle.retract(tuple);
                     tuple.setState(BavetTupleState.DEAD);
+                    tupleRecycler.recycle((MutableOutTuple_) tuple);
                     break;
                 case ABORTING:
                     tuple.setState(BavetTupleState.DEAD);
+                    tupleRecycler.recycle((MutableOutTuple_) tuple);
                     break;
                 case OK:
                 case DEAD:
@@ -17,6 +17,7 @@ public abstract class AbstractMapNode<InTuple_ extends Tuple, Right_>
     private final TupleLifecycle<UniTuple<Right_>> nextNodesTupleLifecycle;
     private final int outputStoreSize;
     private final Queue<UniTuple<Right_>> dirtyTupleQueue;
+    private final TupleRecycler<UniTupleImpl<Right_>> tupleRecycler = new TupleRecycler<>();
 
     protected AbstractMapNode(int inputStoreIndex, TupleLifecycle<UniTuple<Right_>> nextNodesTupleLifecycle,
             int outputStoreSize) {
@@ -33,7 +34,12 @@ public abstract class AbstractMapNode<InTuple_ extends Tuple, Right_>
                     + ") was already added in the tupleStore.");
         }
         Right_ mapped = map(tuple);
-        UniTuple<Right_> outTuple = new UniTupleImpl<>(mapped, outputStoreSize);
+        UniTupleImpl<Right_> outTuple = tupleRecycler.reuseOrNull();
+        if (outTuple == null) {
+            outTuple = new UniTupleImpl<>(mapped, outputStoreSize);
+        } else {
+            outTuple.factA = mapped;
+        }
         tuple.setStore(inputStoreIndex, outTuple);
         dirtyTupleQueue.add(outTuple);
     }
@@ -69,6 +75,11 @@ public abstract class AbstractMapNode<InTuple_ extends Tuple, Right_>
         dirtyTupleQueue.add(outTuple);
     }
 
+    @Override
+    public final TupleRecycler<UniTupleImpl<Right_>> getTupleRecycler() {
+        return tupleRecycler;
+    }
+
     @Override
     public void calculateScore() {
         for (UniTuple<Right_> tuple : dirtyTupleQueue) {
@@ -84,9 +95,11 @@ public abstract class AbstractMapNode<InTuple_ extends Tuple, Right_>
                 case DYING:
                     nextNodesTupleLifecycle.retract(tuple);
                     tuple.setState(BavetTupleState.DEAD);
+                    tupleRecycler.recycle((UniTupleImpl<Right_>) tuple);
                     break;
                 case ABORTING:
                     tuple.setState(BavetTupleState.DEAD);
+                    tupleRecycler.recycle((UniTupleImpl<Right_>) tuple);
                     break;
                 case OK:
                 case DEAD:
@@ -6,6 +6,13 @@ public abstract class AbstractNode {
 
     public abstract void calculateScore();
 
+    /**
+     * @return null if this node does not create tuples of its own
+     */
+    public TupleRecycler<?> getTupleRecycler() {
+        return null;
+    }
+
     public void setId(long id) {
         this.id = id;
     }
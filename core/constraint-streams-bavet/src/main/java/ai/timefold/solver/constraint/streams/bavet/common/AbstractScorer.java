@@ -1,6 +1,11 @@
 package ai.timefold.solver.constraint.streams.bavet.common;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import ai.timefold.solver.constraint.streams.common.inliner.ReusableUndoScoreImpacter;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
+import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 
@@ -9,12 +14,26 @@ public abstract class AbstractScorer<Tuple_ extends Tuple> implements TupleLifec
     private final String constraintId;
     private final Score<?> constraintWeight;
     private final int inputStoreIndex;
+    /**
+     * Null unless the subclass calls {@link #impactWithoutUndo(Tuple, long)}.
+     */
+    private final WeightedScoreImpacter<?, ?> weightedScoreImpacter;
+    /**
+     * Holds the undos of retracted tuples, for reuse by inserted tuples.
+     * Null if {@link #weightedScoreImpacter} is null.
+     */
+    private final Queue<ReusableUndoScoreImpacter> undoScoreImpacterPool;
 
+    /**
+     * @param weightedScoreImpacter null if the subclass doesn't call {@link #impactWithoutUndo(Tuple, long)}
+     */
     protected AbstractScorer(String constraintPackage, String constraintName,
-            Score<?> constraintWeight, int inputStoreIndex) {
+            Score<?> constraintWeight, WeightedScoreImpacter<?, ?> weightedScoreImpacter, int inputStoreIndex) {
         this.constraintId = ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
         this.constraintWeight = constraintWeight;
         this.inputStoreIndex = inputStoreIndex;
+        this.weightedScoreImpacter = weightedScoreImpacter;
+        this.undoScoreImpacterPool = weightedScoreImpacter == null ? null : new ArrayDeque<>();
     }
 
     @Override
@@ -38,6 +57,28 @@ public abstract class AbstractScorer<Tuple_ extends Tuple> implements TupleLifec
 
     protected abstract UndoScoreImpacter impact(Tuple_ tuple);
 
+    /**
+     * Impacts the score without allocating an undo,
+     * by reusing the {@link ReusableUndoScoreImpacter} of the tuple or of a previously retracted tuple.
+     * Requires {@link WeightedScoreImpacter#isImpactWithoutUndoSupported()}.
+     *
+     * @param tuple never null
+     * @param matchWeight the match weight of the tuple
+     * @return never null, the undo to store in the tuple
+     */
+    protected final UndoScoreImpacter impactWithoutUndo(Tuple_ tuple, long matchWeight) {
+        // On update, the previous impact has already been undone, but its undo is still in the store.
+        ReusableUndoScoreImpacter undoScoreImpacter = tuple.getStore(inputStoreIndex);
+        if (undoScoreImpacter == null) {
+            undoScoreImpacter = undoScoreImpacterPool.poll();
+            if (undoScoreImpacter == null) {
+                undoScoreImpacter = new ReusableUndoScoreImpacter(weightedScoreImpacter);
+            }
+        }
+        undoScoreImpacter.impactScore(matchWeight);
+        return undoScoreImpacter;
+    }
+
     /**
      * Helps with debugging exceptions thrown by user code during impact calls.
      *
@@ -58,6 +99,9 @@ public abstract class AbstractScorer<Tuple_ extends Tuple> implements TupleLifec
         if (undoScoreImpacter != null) {
             undoScoreImpacter.run();
             tuple.setStore(inputStoreIndex, null);
+            if (undoScoreImpacterPool != null) {
+                undoScoreImpacterPool.add((ReusableUndoScoreImpacter) undoScoreImpacter);
+            }
         }
     }
 
@@ -1,5 +1,7 @@
 package ai.timefold.solver.constraint.streams.bavet.common;
 
+import java.util.Arrays;
+
 public abstract class AbstractTuple implements Tuple {
 
     /*
@@ -17,6 +19,20 @@ public abstract class AbstractTuple implements Tuple {
         this.storeIsArray = store != null;
     }
 
+    /**
+     * Prepares a {@link BavetTupleState#DEAD} tuple for reuse by its origin node.
+     *
+     * @see TupleRecycler
+     */
+    final void reset() {
+        if (storeIsArray) {
+            Arrays.fill((Object[]) store, null);
+        } else {
+            store = null;
+        }
+        state = BavetTupleState.CREATING;
+    }
+
     @Override
     public final BavetTupleState getState() {
         return state;
@@ -3,6 +3,7 @@ package ai.timefold.solver.constraint.streams.bavet.common;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -18,35 +19,67 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
 
     private final Set<? extends ConstraintStream> activeStreamSet;
     private final Map<Constraint, Score_> constraintWeightMap;
-    private final AbstractScoreInliner<Score_> scoreInliner;
+    private final Function<Constraint, AbstractScoreInliner<Score_>> scoreInlinerFunction;
     private final Map<ConstraintStream, TupleLifecycle<? extends Tuple>> tupleLifecycleMap;
     private final Map<ConstraintStream, Integer> storeIndexMap;
+    // Only used if profiling is enabled, null otherwise.
+    private final Map<ConstraintStream, ProfilingTupleLifecycle<?>> profilingTupleLifecycleMap;
+    private final Map<AbstractNode, List<ProfilingTupleLifecycle<?>>> nodeToProfilingTupleLifecycleListMap;
 
     private List<AbstractNode> reversedNodeList;
 
     public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, Map<Constraint, Score_> constraintWeightMap,
             AbstractScoreInliner<Score_> scoreInliner) {
+        this(activeStreamSet, constraintWeightMap, constraint -> scoreInliner, false);
+    }
+
+    /**
+     * @param activeStreamSet never null
+     * @param constraintWeightMap never null
+     * @param scoreInlinerFunction never null, returns the score inliner for each constraint;
+     *        differs per constraint if the node network is split into components that are evaluated in parallel,
+     *        or if the constraints that impact the hardest score level are tracked separately for early rejection
+     * @param profilingEnabled true if every stream counts the tuples it receives,
+     *        see {@link #getProfilingTupleLifecycle(ConstraintStream)}
+     */
+    public NodeBuildHelper(Set<? extends ConstraintStream> activeStreamSet, Map<Constraint, Score_> constraintWeightMap,
+            Function<Constraint, AbstractScoreInliner<Score_>> scoreInlinerFunction, boolean profilingEnabled) {
         this.activeStreamSet = activeStreamSet;
         this.constraintWeightMap = constraintWeightMap;
-        this.scoreInliner = scoreInliner;
+        this.scoreInlinerFunction = scoreInlinerFunction;
         int activeStreamSetSize = activeStreamSet.size();
         this.tupleLifecycleMap = new HashMap<>(Math.max(16, activeStreamSetSize));
         this.storeIndexMap = new HashMap<>(Math.max(16, activeStreamSetSize / 2));
         this.reversedNodeList = new ArrayList<>(activeStreamSetSize);
+        if (profilingEnabled) {
+            this.profilingTupleLifecycleMap = new HashMap<>(Math.max(16, activeStreamSetSize));
+            this.nodeToProfilingTupleLifecycleListMap = new IdentityHashMap<>(Math.max(16, activeStreamSetSize / 2));
+        } else {
+            this.profilingTupleLifecycleMap = null;
+            this.nodeToProfilingTupleLifecycleListMap = null;
+        }
     }
 
     public boolean isStreamActive(ConstraintStream stream) {
         return activeStreamSet.contains(stream);
     }
 
-    public AbstractScoreInliner<Score_> getScoreInliner() {
-        return scoreInliner;
+    public AbstractScoreInliner<Score_> getScoreInliner(Constraint constraint) {
+        return scoreInlinerFunction.apply(constraint);
     }
 
     public Score_ getConstraintWeight(Constraint constraint) {
         return constraintWeightMap.get(constraint);
     }
 
+    public int getNodeCount() {
+        return reversedNodeList.size();
+    }
+
+    public AbstractNode getLastNode() {
+        return reversedNodeList.get(reversedNodeList.size() - 1);
+    }
+
     public void addNode(AbstractNode node) {
         reversedNodeList.add(node);
     }
@@ -54,18 +87,53 @@ public final class NodeBuildHelper<Score_ extends Score<Score_>> {
     public void addNode(AbstractNode node, ConstraintStream parent) {
         addNode(node);
         putInsertUpdateRetract(parent, (TupleLifecycle<? extends Tuple>) node);
+        registerNodeInput(node, parent);
     }
 
     public void addNode(AbstractNode node, ConstraintStream leftParent, ConstraintStream rightParent) {
         addNode(node);
         putInsertUpdateRetract(leftParent, TupleLifecycle.ofLeft((LeftTupleLifecycle<? extends Tuple>) node));
         putInsertUpdateRetract(rightParent, TupleLifecycle.ofRight((RightTupleLifecycle<? extends Tuple>) node));
+        registerNodeInput(node, leftParent);
+        registerNodeInput(node, rightParent);
+    }
+
+    private void registerNodeInput(AbstractNode node, ConstraintStream parent) {
+        if (profilingTupleLifecycleMap != null) {
+            nodeToProfilingTupleLifecycleListMap.computeIfAbsent(node, k -> new ArrayList<>(2))
+                    .add(profilingTupleLifecycleMap.get(parent));
+        }
     }
 
     public <Tuple_ extends Tuple> void putInsertUpdateRetract(ConstraintStream stream, TupleLifecycle<Tuple_> tupleLifecycle) {
+        if (profilingTupleLifecycleMap != null) {
+            ProfilingTupleLifecycle<Tuple_> profilingTupleLifecycle = new ProfilingTupleLifecycle<>(tupleLifecycle);
+            profilingTupleLifecycleMap.put(stream, profilingTupleLifecycle);
+            tupleLifecycle = profilingTupleLifecycle;
+        }
         tupleLifecycleMap.put(stream, tupleLifecycle);
     }
 
+    /**
+     * @param stream never null
+     * @return null if profiling is disabled or if nothing propagates into that stream,
+     *         such as a {@code ForEachUniNode}'s stream, which receives its facts from the session directly
+     */
+    public ProfilingTupleLifecycle<?> getProfilingTupleLifecycle(ConstraintStream stream) {
+        return profilingTupleLifecycleMap == null ? null : profilingTupleLifecycleMap.get(stream);
+    }
+
+    /**
+     * @param node never null
+     * @return empty if profiling is disabled or if the node has no parent node
+     */
+    public List<ProfilingTupleLifecycle<?>> getProfilingTupleLifecycleList(AbstractNode node) {
+        if (nodeToProfilingTupleLifecycleListMap == null) {
+            return Collections.emptyList();
+        }
+        return nodeToProfilingTupleLifecycleListMap.getOrDefault(node, Collections.emptyList());
+    }
+
     public <Tuple_ extends Tuple> void putInsertUpdateRetract(ConstraintStream stream,
             List<? extends AbstractConstraintStream> childStreamList,
             Function<TupleLifecycle<Tuple_>, AbstractConditionalTupleLifecycle<Tuple_>> tupleLifecycleFunction) {
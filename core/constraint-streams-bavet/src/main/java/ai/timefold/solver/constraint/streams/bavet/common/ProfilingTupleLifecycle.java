@@ -0,0 +1,57 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+/**
+ * Counts the tuples that a stream receives, before passing them on unchanged.
+ * Only used if profiling is enabled, see {@link NodeBuildHelper}.
+ *
+ * @param <Tuple_> the type of the tuples
+ */
+public final class ProfilingTupleLifecycle<Tuple_ extends Tuple> implements TupleLifecycle<Tuple_> {
+
+    private final TupleLifecycle<Tuple_> delegate;
+    private long insertCount = 0L;
+    private long updateCount = 0L;
+    private long retractCount = 0L;
+
+    public ProfilingTupleLifecycle(TupleLifecycle<Tuple_> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void insert(Tuple_ tuple) {
+        insertCount++;
+        delegate.insert(tuple);
+    }
+
+    @Override
+    public void update(Tuple_ tuple) {
+        updateCount++;
+        delegate.update(tuple);
+    }
+
+    @Override
+    public void retract(Tuple_ tuple) {
+        retractCount++;
+        delegate.retract(tuple);
+    }
+
+    /**
+     * @return the number of inserts, updates and retracts so far
+     */
+    public long getPropagationCount() {
+        return insertCount + updateCount + retractCount;
+    }
+
+    /**
+     * @return the number of tuples that were inserted and not yet retracted
+     */
+    public long getTupleCount() {
+        return insertCount - retractCount;
+    }
+
+    @Override
+    public String toString() {
+        return "Profiling(" + delegate + ")";
+    }
+
+}
@@ -0,0 +1,110 @@
+package ai.timefold.solver.constraint.streams.bavet.common;
+
+import java.util.ArrayDeque;
+
+/**
+ * Keeps the {@link BavetTupleState#DEAD dead} tuples of a single node, so that node can reuse them
+ * instead of allocating new tuples.
+ * <p>
+ * A tuple only dies in the {@link AbstractNode#calculateScore()} of its origin node,
+ * after all downstream nodes have already forgotten it.
+ * Tuples are only created when the parent nodes propagate, which happens before that node's next
+ * {@link AbstractNode#calculateScore()}.
+ * Therefore a recycled tuple is never reused while any other node still references it.
+ * <p>
+ * That only holds if every evaluation of the node network evaluates every node.
+ * If an evaluation can stop early, a downstream node that wasn't evaluated yet might still reference a dead tuple,
+ * so in {@link #setDeferred(boolean) deferred} mode, a dead tuple only becomes reusable
+ * after the next evaluation that did evaluate every node, see {@link #releaseDeferred()}.
+ * <p>
+ * Also counts the tuples that were created and reused, regardless of whether recycling is enabled.
+ *
+ * @param <Tuple_> the type of the recycled tuples
+ */
+public final class TupleRecycler<Tuple_ extends Tuple> {
+
+    /**
+     * Bounds the memory held by a node after a large retraction, such as when a problem fact is removed.
+     */
+    private static final int MAX_SIZE = 1000;
+
+    private final ArrayDeque<Tuple_> deadTupleDeque = new ArrayDeque<>();
+    private final ArrayDeque<Tuple_> deferredTupleDeque = new ArrayDeque<>();
+    private boolean enabled = false;
+    private boolean deferred = false;
+    private long createdTupleCount = 0L;
+    private long reusedTupleCount = 0L;
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            deadTupleDeque.clear();
+            deferredTupleDeque.clear();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param deferred true if a dead tuple only becomes reusable after {@link #releaseDeferred()}
+     */
+    public void setDeferred(boolean deferred) {
+        this.deferred = deferred;
+        if (!deferred) {
+            releaseDeferred();
+        }
+    }
+
+    /**
+     * @param tuple never null, in state {@link BavetTupleState#DEAD}
+     */
+    public void recycle(Tuple_ tuple) {
+        if (enabled && deadTupleDeque.size() + deferredTupleDeque.size() < MAX_SIZE) {
+            if (deferred) {
+                deferredTupleDeque.push(tuple);
+            } else {
+                deadTupleDeque.push(tuple);
+            }
+        }
+    }
+
+    /**
+     * Makes the tuples that were recycled in {@link #setDeferred(boolean) deferred} mode reusable.
+     * Only call this after an evaluation of the node network that evaluated every node,
+     * because then no node still references those tuples.
+     */
+    public void releaseDeferred() {
+        Tuple_ tuple;
+        while ((tuple = deferredTupleDeque.poll()) != null) {
+            deadTupleDeque.push(tuple);
+        }
+    }
+
+    /**
+     * If this returns null, the caller must create a new tuple.
+     *
+     * @return null if no dead tuple is available, otherwise a tuple in state {@link BavetTupleState#CREATING}
+     *         with an empty store; its facts must be overwritten by the caller
+     */
+    public Tuple_ reuseOrNull() {
+        Tuple_ tuple = deadTupleDeque.poll();
+        if (tuple == null) {
+            createdTupleCount++;
+            return null;
+        }
+        ((AbstractTuple) tuple).reset();
+        reusedTupleCount++;
+        return tuple;
+    }
+
+    public long getCreatedTupleCount() {
+        return createdTupleCount;
+    }
+
+    public long getReusedTupleCount() {
+        return reusedTupleCount;
+    }
+
+}
@@ -154,18 +154,4 @@ final class ComparisonIndexer<T, Key_ extends Comparable<Key_>> implements Index
         return "size = " + comparisonMap.size();
     }
 
-    private static final class KeyComparator<Key_ extends Comparable<Key_>> implements Comparator<Key_> {
-
-        private static final Comparator INSTANCE = new KeyComparator<>();
-
-        @Override
-        public int compare(Key_ o1, Key_ o2) {
-            if (o1 == o2) {
-                return 0;
-            }
-            return o1.compareTo(o2);
-        }
-
-    }
-
 }
@@ -1,5 +1,7 @@
 package ai.timefold.solver.constraint.streams.bavet.common.index;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
@@ -41,6 +43,8 @@ public class IndexerFactory {
          * NoneIndexer is always at the bottom of the hierarchy, never a parent unless it is the only indexer.
          * Parent indexers delegate to their children, until they reach the ultimate NoneIndexer.
          * Example 1: EQUAL+LESS_THAN joiner will become EqualsIndexer -> ComparisonIndexer -> NoneIndexer.
+         * An EqualsIndexer over a single property is always a PrimitiveEqualsIndexer,
+         * which keeps int and long keys unboxed.
          *
          * Note that if creating indexer for a right bridge node, the joiner type has to be flipped.
          * (<A, B> becomes <B, A>.)
@@ -50,7 +54,7 @@ public class IndexerFactory {
         } else if (joinerTypes.length == 1) { // Single joiner maps directly to EqualsIndexer or ComparisonIndexer.
             JoinerType joinerType = joinerTypes[0];
             if (joinerType == JoinerType.EQUAL) {
-                return new EqualsIndexer<>(NoneIndexer::new);
+                return new PrimitiveEqualsIndexer<>(NoneIndexer::new);
             } else {
                 return new ComparisonIndexer<>(isLeftBridge ? joinerType : joinerType.flip(), NoneIndexer::new);
             }
@@ -65,6 +69,11 @@ public class IndexerFactory {
          * the joiner on the right results in an indexer that is a child to the indexer of the joiner on the left.
          * Example: EQUAL+LESS_THAN+EQUAL results in EqualsIndexer -> ComparisonIndexer -> EqualsIndexer.
          *
+         * Rule 3: Two consecutive comparison joiners in opposite directions become a single IntervalIndexer,
+         * instead of two ComparisonIndexers.
+         * Example: EQUAL+LESS_THAN+GREATER_THAN (such as equal() and overlapping()) results in
+         * EqualsIndexer -> IntervalIndexer.
+         *
          * The following code builds the children first, so it needs to iterate over the joiners in reverse order.
          */
         NavigableMap<Integer, JoinerType> joinerTypeMap = new TreeMap<>();
@@ -75,13 +84,15 @@ public class IndexerFactory {
                 joinerTypeMap.put(i, previousJoinerType);
             }
         }
-        NavigableMap<Integer, JoinerType> descendingJoinerTypeMap = joinerTypeMap.descendingMap();
+        List<Map.Entry<Integer, JoinerType>> descendingJoinerTypeList =
+                new ArrayList<>(joinerTypeMap.descendingMap().entrySet());
         Supplier<Indexer<T>> downstreamIndexerSupplier = NoneIndexer::new;
-        for (Map.Entry<Integer, JoinerType> entry : descendingJoinerTypeMap.entrySet()) {
+        for (int i = 0; i < descendingJoinerTypeList.size(); i++) {
+            Map.Entry<Integer, JoinerType> entry = descendingJoinerTypeList.get(i);
             Integer endingPropertyExclusive = entry.getKey();
-            Integer previousEndingPropertyExclusiveOrNull = descendingJoinerTypeMap.higherKey(endingPropertyExclusive);
-            int previousEndingPropertyExclusive =
-                    previousEndingPropertyExclusiveOrNull == null ? 0 : previousEndingPropertyExclusiveOrNull;
+            Map.Entry<Integer, JoinerType> previousEntry =
+                    i + 1 < descendingJoinerTypeList.size() ? descendingJoinerTypeList.get(i + 1) : null;
+            int previousEndingPropertyExclusive = previousEntry == null ? 0 : previousEntry.getKey();
             JoinerType joinerType = entry.getValue();
             Supplier<Indexer<T>> actualDownstreamIndexerSupplier = downstreamIndexerSupplier;
             if (joinerType == JoinerType.EQUAL) {
@@ -95,8 +106,27 @@ public class IndexerFactory {
                     throw new IllegalStateException("Impossible state: index key ending position <= starting position ("
                             + endingPropertyExclusive + " <= " + previousEndingPropertyExclusive + ")");
                 }
-                downstreamIndexerSupplier = () -> new EqualsIndexer<>(previousEndingPropertyExclusive, endingPropertyExclusive,
-                        actualDownstreamIndexerSupplier);
+                if (endingPropertyExclusive - previousEndingPropertyExclusive == 1) {
+                    downstreamIndexerSupplier = () -> new PrimitiveEqualsIndexer<>(previousEndingPropertyExclusive,
+                            actualDownstreamIndexerSupplier);
+                } else {
+                    downstreamIndexerSupplier = () -> new EqualsIndexer<>(previousEndingPropertyExclusive,
+                            endingPropertyExclusive, actualDownstreamIndexerSupplier);
+                }
+            } else if (previousEntry != null && IntervalIndexer.isInterval(previousEntry.getValue(), joinerType)) {
+                JoinerType actualPreviousJoinerType =
+                        isLeftBridge ? previousEntry.getValue() : previousEntry.getValue().flip();
+                JoinerType actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
+                /*
+                 * Both comparison keys are consumed by the same indexer, so the previous entry is skipped.
+                 * Its key is on the position immediately preceding the key of this joiner.
+                 *
+                 * Example: For an EQUAL+LESS_THAN+GREATER_THAN joiner, interval keys are on position 1 and 2.
+                 */
+                int intervalKeyPosition = previousEndingPropertyExclusive - 1;
+                downstreamIndexerSupplier = () -> new IntervalIndexer<>(actualPreviousJoinerType, intervalKeyPosition,
+                        actualJoinerType, actualDownstreamIndexerSupplier);
+                i++;
             } else {
                 JoinerType actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
                 /*
@@ -0,0 +1,324 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.constraint.streams.bavet.common.collection.TupleListEntry;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.score.stream.JoinerType;
+
+/**
+ * Indexes two consecutive comparison properties in opposite directions,
+ * such as those of {@link Joiners#overlapping(java.util.function.Function, java.util.function.Function)},
+ * as a single interval.
+ * The property compared by {@link JoinerType#LESS_THAN} (or {@link JoinerType#LESS_THAN_OR_EQUAL}) is the start
+ * of the interval,
+ * the property compared by {@link JoinerType#GREATER_THAN} (or {@link JoinerType#GREATER_THAN_OR_EQUAL}) is its end.
+ * <p>
+ * Two {@link ComparisonIndexer}s would visit every tuple that satisfies the first comparison,
+ * only to filter on the second comparison one level lower.
+ * Instead, this indexer keeps the intervals in an AVL tree ordered by start,
+ * where every node also knows the highest end in its subtree.
+ * That allows {@link #forEach(IndexProperties, Consumer)} to skip every subtree that holds no overlapping interval,
+ * so it only visits the matching tuples, in O(log(n) + k) for typical intervals.
+ * <p>
+ * The interval is not required to be proper (start before end); the matching is the same as with the comparison indexers.
+ * A null start or end comes before any other key, as in {@link KeyComparator}.
+ */
+final class IntervalIndexer<T, Start_ extends Comparable<Start_>, End_ extends Comparable<End_>> implements Indexer<T> {
+
+    private final int startKeyPosition;
+    private final int endKeyPosition;
+    private final boolean startHasOrEquals;
+    private final boolean endHasOrEquals;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private IntervalNode<T, Start_, End_> root = null;
+    private int nodeCount = 0;
+
+    public IntervalIndexer(JoinerType firstJoinerType, int firstKeyPosition, JoinerType secondJoinerType,
+            Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        if (!isInterval(firstJoinerType, secondJoinerType)) {
+            throw new IllegalArgumentException("The joiner types (" + firstJoinerType + ", " + secondJoinerType
+                    + ") do not compare in opposite directions.");
+        }
+        boolean firstIsStart = isStart(firstJoinerType);
+        JoinerType startJoinerType = firstIsStart ? firstJoinerType : secondJoinerType;
+        JoinerType endJoinerType = firstIsStart ? secondJoinerType : firstJoinerType;
+        this.startKeyPosition = firstIsStart ? firstKeyPosition : firstKeyPosition + 1;
+        this.endKeyPosition = firstIsStart ? firstKeyPosition + 1 : firstKeyPosition;
+        this.startHasOrEquals = startJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+        this.endHasOrEquals = endJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    /**
+     * @param firstJoinerType never null
+     * @param secondJoinerType never null
+     * @return true if both joiner types are comparisons in opposite directions
+     */
+    static boolean isInterval(JoinerType firstJoinerType, JoinerType secondJoinerType) {
+        return isComparison(firstJoinerType) && isComparison(secondJoinerType)
+                && isStart(firstJoinerType) != isStart(secondJoinerType);
+    }
+
+    private static boolean isComparison(JoinerType joinerType) {
+        switch (joinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isStart(JoinerType joinerType) {
+        return joinerType == JoinerType.LESS_THAN || joinerType == JoinerType.LESS_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public TupleListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        Start_ start = indexProperties.toKey(startKeyPosition);
+        End_ end = indexProperties.toKey(endKeyPosition);
+        IntervalNode<T, Start_, End_> node = find(start, end);
+        if (node == null) {
+            node = new IntervalNode<>(start, end, downstreamIndexerSupplier.get());
+            root = insert(root, node);
+            nodeCount++;
+        }
+        return node.downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, TupleListEntry<T> entry) {
+        Start_ start = indexProperties.toKey(startKeyPosition);
+        End_ end = indexProperties.toKey(endKeyPosition);
+        IntervalNode<T, Start_, End_> node = find(start, end);
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        node.downstreamIndexer.remove(indexProperties, entry);
+        if (node.downstreamIndexer.isEmpty()) {
+            root = delete(root, start, end);
+            nodeCount--;
+        }
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        if (root == null) {
+            return 0;
+        }
+        Start_ startBound = indexProperties.toKey(startKeyPosition);
+        End_ endBound = indexProperties.toKey(endKeyPosition);
+        return size(root, startBound, endBound, indexProperties);
+    }
+
+    private int size(IntervalNode<T, Start_, End_> node, Start_ startBound, End_ endBound,
+            IndexProperties indexProperties) {
+        if (node == null || !isEndAfter(node.maxEnd, endBound)) {
+            return 0;
+        }
+        int size = size(node.left, startBound, endBound, indexProperties);
+        if (!isStartBefore(node.start, startBound)) { // The right subtree only has later starts.
+            return size;
+        }
+        if (isEndAfter(node.end, endBound)) {
+            size += node.downstreamIndexer.size(indexProperties);
+        }
+        return size + size(node.right, startBound, endBound, indexProperties);
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        if (root == null) {
+            return;
+        }
+        Start_ startBound = indexProperties.toKey(startKeyPosition);
+        End_ endBound = indexProperties.toKey(endKeyPosition);
+        forEach(root, startBound, endBound, indexProperties, tupleConsumer);
+    }
+
+    private void forEach(IntervalNode<T, Start_, End_> node, Start_ startBound, End_ endBound,
+            IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        if (node == null || !isEndAfter(node.maxEnd, endBound)) { // No interval in this subtree ends late enough.
+            return;
+        }
+        forEach(node.left, startBound, endBound, indexProperties, tupleConsumer);
+        if (!isStartBefore(node.start, startBound)) { // The right subtree only has later starts.
+            return;
+        }
+        if (isEndAfter(node.end, endBound)) {
+            node.downstreamIndexer.forEach(indexProperties, tupleConsumer);
+        }
+        forEach(node.right, startBound, endBound, indexProperties, tupleConsumer);
+    }
+
+    private boolean isStartBefore(Start_ start, Start_ startBound) {
+        int comparison = compare(start, startBound);
+        return comparison < 0 || (comparison == 0 && startHasOrEquals);
+    }
+
+    private boolean isEndAfter(End_ end, End_ endBound) {
+        int comparison = compare(end, endBound);
+        return comparison > 0 || (comparison == 0 && endHasOrEquals);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + nodeCount;
+    }
+
+    // ************************************************************************
+    // AVL tree
+    // ************************************************************************
+
+    private static <Key_ extends Comparable<Key_>> int compare(Key_ a, Key_ b) {
+        return ((Comparator<Key_>) KeyComparator.INSTANCE).compare(a, b);
+    }
+
+    private static <Key_ extends Comparable<Key_>> Key_ max(Key_ a, Key_ b) {
+        return compare(a, b) >= 0 ? a : b;
+    }
+
+    private int compareInterval(IntervalNode<T, Start_, End_> node, Start_ start, End_ end) {
+        int comparison = compare(start, node.start);
+        return comparison != 0 ? comparison : compare(end, node.end);
+    }
+
+    private IntervalNode<T, Start_, End_> find(Start_ start, End_ end) {
+        IntervalNode<T, Start_, End_> node = root;
+        while (node != null) {
+            int comparison = compareInterval(node, start, end);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private IntervalNode<T, Start_, End_> insert(IntervalNode<T, Start_, End_> node,
+            IntervalNode<T, Start_, End_> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compareInterval(node, newNode.start, newNode.end) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return rebalance(node);
+    }
+
+    private IntervalNode<T, Start_, End_> delete(IntervalNode<T, Start_, End_> node, Start_ start, End_ end) {
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the interval (" + start + ", " + end
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        int comparison = compareInterval(node, start, end);
+        if (comparison < 0) {
+            node.left = delete(node.left, start, end);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, start, end);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            IntervalNode<T, Start_, End_> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = delete(node.right, successor.start, successor.end);
+            successor.left = node.left;
+            successor.right = node.right;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private IntervalNode<T, Start_, End_> rebalance(IntervalNode<T, Start_, End_> node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private IntervalNode<T, Start_, End_> rotateRight(IntervalNode<T, Start_, End_> node) {
+        IntervalNode<T, Start_, End_> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private IntervalNode<T, Start_, End_> rotateLeft(IntervalNode<T, Start_, End_> node) {
+        IntervalNode<T, Start_, End_> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(IntervalNode<?, ?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class IntervalNode<T, Start_ extends Comparable<Start_>, End_ extends Comparable<End_>> {
+
+        private final Start_ start;
+        private final End_ end;
+        private final Indexer<T> downstreamIndexer;
+        private IntervalNode<T, Start_, End_> left = null;
+        private IntervalNode<T, Start_, End_> right = null;
+        private int height = 1;
+        /**
+         * The highest end of this node and all of its descendants.
+         */
+        private End_ maxEnd;
+
+        private IntervalNode(Start_ start, End_ end, Indexer<T> downstreamIndexer) {
+            this.start = start;
+            this.end = end;
+            this.downstreamIndexer = downstreamIndexer;
+            this.maxEnd = end;
+        }
+
+        private void update() {
+            height = 1 + Math.max(height(left), height(right));
+            End_ newMaxEnd = end;
+            if (left != null) {
+                newMaxEnd = max(newMaxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                newMaxEnd = max(newMaxEnd, right.maxEnd);
+            }
+            maxEnd = newMaxEnd;
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.Comparator;
+
+/**
+ * Compares index keys in their natural order, with null before any other key.
+ */
+final class KeyComparator<Key_ extends Comparable<Key_>> implements Comparator<Key_> {
+
+    static final Comparator INSTANCE = new KeyComparator<>();
+
+    @Override
+    public int compare(Key_ o1, Key_ o2) {
+        if (o1 == o2) {
+            return 0;
+        } else if (o1 == null) {
+            return -1;
+        } else if (o2 == null) {
+            return 1;
+        }
+        return o1.compareTo(o2);
+    }
+
+}
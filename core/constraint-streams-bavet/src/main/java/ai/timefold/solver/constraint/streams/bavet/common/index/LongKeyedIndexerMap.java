@@ -0,0 +1,130 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+/**
+ * Open-addressing hash map from a primitive {@code long} key to a downstream {@link Indexer}.
+ * Uses linear probing and backward-shift deletion, therefore it needs no tombstones
+ * and it does not allocate anything on {@link #get(long)}, {@link #put(long, Indexer)} or {@link #remove(long)},
+ * except when the table needs to grow.
+ * <p>
+ * A slot is occupied if and only if its value is not null.
+ *
+ * @param <T> The element type of the downstream indexers. Often a tuple.
+ */
+final class LongKeyedIndexerMap<T> {
+
+    private static final int INITIAL_CAPACITY = 16; // Must be a power of 2.
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private Indexer<T>[] values;
+    private int mask;
+    private int size = 0;
+
+    LongKeyedIndexerMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Indexer[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        long hash = key * GOLDEN_RATIO;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    public Indexer<T> get(long key) {
+        int slot = slot(key);
+        Indexer<T> value;
+        while ((value = values[slot]) != null) {
+            if (keys[slot] == key) {
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * @param key the key to map
+     * @param value never null
+     */
+    public void put(long key, Indexer<T> value) {
+        int slot = slot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size * 2 > values.length) { // Keep the load factor at or below 0.5 so that probe sequences stay short.
+            rehash(values.length * 2);
+        }
+    }
+
+    public void remove(long key) {
+        int slot = slot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                values[slot] = null;
+                size--;
+                shiftBackFrom(slot);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Moves the entries following a freed slot back into it where their probe sequence allows,
+     * so that lookups never stop early on a hole.
+     */
+    private void shiftBackFrom(int freedSlot) {
+        int hole = freedSlot;
+        int slot = (hole + 1) & mask;
+        Indexer<T> value;
+        while ((value = values[slot]) != null) {
+            int idealSlot = slot(keys[slot]);
+            // Move the entry if the hole lies cyclically within [idealSlot, slot).
+            if (((slot - idealSlot) & mask) >= ((slot - hole) & mask)) {
+                keys[hole] = keys[slot];
+                values[hole] = value;
+                values[slot] = null;
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        Indexer<T>[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            Indexer<T> value = oldValues[i];
+            if (value != null) {
+                int slot = slot(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = value;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+}
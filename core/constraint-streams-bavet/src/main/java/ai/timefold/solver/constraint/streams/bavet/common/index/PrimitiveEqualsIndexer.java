@@ -0,0 +1,117 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.constraint.streams.bavet.common.collection.TupleListEntry;
+
+/**
+ * Specialization of {@link EqualsIndexer} for an index key consisting of a single property.
+ * Keys of type {@link Integer} and {@link Long}, typical for ids, day indexes and ordinals,
+ * are kept unboxed in open-addressing maps,
+ * which avoids {@link HashMap} entry allocation and megamorphic {@link Object#hashCode()}/{@link Object#equals(Object)}
+ * calls on the hot path.
+ * All other keys (including null) fall back to a regular {@link HashMap}.
+ * <p>
+ * {@link Integer} and {@link Long} keys are kept in separate maps,
+ * so that {@code 1} and {@code 1L} remain different keys, as they would be in {@link EqualsIndexer}.
+ */
+final class PrimitiveEqualsIndexer<T> implements Indexer<T> {
+
+    private final int indexKeyPosition;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private final LongKeyedIndexerMap<T> intKeyedIndexerMap = new LongKeyedIndexerMap<>();
+    private final LongKeyedIndexerMap<T> longKeyedIndexerMap = new LongKeyedIndexerMap<>();
+    private final Map<Object, Indexer<T>> objectKeyedIndexerMap = new HashMap<>();
+
+    public PrimitiveEqualsIndexer(Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this(0, downstreamIndexerSupplier);
+    }
+
+    public PrimitiveEqualsIndexer(int indexKeyPosition, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this.indexKeyPosition = indexKeyPosition;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    @Override
+    public TupleListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        Object indexKey = indexProperties.toKey(indexKeyPosition);
+        Indexer<T> downstreamIndexer = getDownstreamIndexerOrNull(indexKey);
+        if (downstreamIndexer == null) {
+            downstreamIndexer = downstreamIndexerSupplier.get();
+            if (indexKey instanceof Integer) {
+                intKeyedIndexerMap.put((Integer) indexKey, downstreamIndexer);
+            } else if (indexKey instanceof Long) {
+                longKeyedIndexerMap.put((Long) indexKey, downstreamIndexer);
+            } else {
+                objectKeyedIndexerMap.put(indexKey, downstreamIndexer);
+            }
+        }
+        return downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, TupleListEntry<T> entry) {
+        Object indexKey = indexProperties.toKey(indexKeyPosition);
+        Indexer<T> downstreamIndexer = getDownstreamIndexerOrNull(indexKey);
+        if (downstreamIndexer == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        downstreamIndexer.remove(indexProperties, entry);
+        if (downstreamIndexer.isEmpty()) {
+            if (indexKey instanceof Integer) {
+                intKeyedIndexerMap.remove((Integer) indexKey);
+            } else if (indexKey instanceof Long) {
+                longKeyedIndexerMap.remove((Long) indexKey);
+            } else {
+                objectKeyedIndexerMap.remove(indexKey);
+            }
+        }
+    }
+
+    private Indexer<T> getDownstreamIndexerOrNull(Object indexKey) {
+        if (indexKey instanceof Integer) {
+            return intKeyedIndexerMap.get((Integer) indexKey);
+        } else if (indexKey instanceof Long) {
+            return longKeyedIndexerMap.get((Long) indexKey);
+        } else {
+            return objectKeyedIndexerMap.get(indexKey);
+        }
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        Object indexKey = indexProperties.toKey(indexKeyPosition);
+        Indexer<T> downstreamIndexer = getDownstreamIndexerOrNull(indexKey);
+        if (downstreamIndexer == null) {
+            return 0;
+        }
+        return downstreamIndexer.size(indexProperties);
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        Object indexKey = indexProperties.toKey(indexKeyPosition);
+        Indexer<T> downstreamIndexer = getDownstreamIndexerOrNull(indexKey);
+        if (downstreamIndexer == null || downstreamIndexer.isEmpty()) {
+            return;
+        }
+        downstreamIndexer.forEach(indexProperties, tupleConsumer);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return intKeyedIndexerMap.isEmpty() && longKeyedIndexerMap.isEmpty() && objectKeyedIndexerMap.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + (intKeyedIndexerMap.size() + longKeyedIndexerMap.size() + objectKeyedIndexerMap.size());
+    }
+
+}
@@ -8,12 +8,14 @@ import ai.timefold.solver.constraint.streams.bavet.common.TupleLifecycle;
 import ai.timefold.solver.core.api.function.PentaFunction;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.stream.collector.PrimitiveQuadCollector;
 
 abstract class AbstractGroupQuadNode<OldA, OldB, OldC, OldD, OutTuple_ extends Tuple, MutableOutTuple_ extends OutTuple_, GroupKey_, ResultContainer_, Result_>
         extends
         AbstractGroupNode<QuadTuple<OldA, OldB, OldC, OldD>, OutTuple_, MutableOutTuple_, GroupKey_, ResultContainer_, Result_> {
 
     private final PentaFunction<ResultContainer_, OldA, OldB, OldC, OldD, Runnable> accumulator;
+    private final PrimitiveQuadCollector<OldA, OldB, OldC, OldD, ?> primitiveCollector;
 
     protected AbstractGroupQuadNode(int groupStoreIndex, int undoStoreIndex,
             Function<QuadTuple<OldA, OldB, OldC, OldD>, GroupKey_> groupKeyFunction,
@@ -22,8 +24,11 @@ abstract class AbstractGroupQuadNode<OldA, OldB, OldC, OldD, OutTuple_ extends T
         super(groupStoreIndex, undoStoreIndex, groupKeyFunction,
                 collector == null ? null : collector.supplier(),
                 collector == null ? null : collector.finisher(),
-                nextNodesTupleLifecycle, environmentMode);
+                collector instanceof PrimitiveQuadCollector, nextNodesTupleLifecycle, environmentMode);
         accumulator = collector == null ? null : collector.accumulator();
+        primitiveCollector = collector instanceof PrimitiveQuadCollector
+                ? (PrimitiveQuadCollector<OldA, OldB, OldC, OldD, ?>) collector
+                : null;
     }
 
     protected AbstractGroupQuadNode(int groupStoreIndex,
@@ -31,6 +36,7 @@ abstract class AbstractGroupQuadNode<OldA, OldB, OldC, OldD, OutTuple_ extends T
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, groupKeyFunction, nextNodesTupleLifecycle, environmentMode);
         accumulator = null;
+        primitiveCollector = null;
     }
 
     @Override
@@ -38,4 +44,9 @@ abstract class AbstractGroupQuadNode<OldA, OldB, OldC, OldD, OutTuple_ extends T
         return accumulator.apply(resultContainer, tuple.getFactA(), tuple.getFactB(), tuple.getFactC(), tuple.getFactD());
     }
 
+    @Override
+    protected final long mapPrimitive(QuadTuple<OldA, OldB, OldC, OldD> tuple) {
+        return primitiveCollector.applyAsLong(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(), tuple.getFactD());
+    }
+
 }
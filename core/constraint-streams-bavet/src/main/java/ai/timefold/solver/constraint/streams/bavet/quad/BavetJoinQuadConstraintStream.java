@@ -14,6 +14,7 @@ import ai.timefold.solver.constraint.streams.bavet.common.index.JoinerUtils;
 import ai.timefold.solver.constraint.streams.bavet.tri.BavetJoinBridgeTriConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.tri.TriTuple;
 import ai.timefold.solver.constraint.streams.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.constraint.streams.common.quad.DefaultQuadJoiner;
 import ai.timefold.solver.core.api.function.QuadPredicate;
 import ai.timefold.solver.core.api.score.Score;
@@ -104,12 +105,13 @@ public final class BavetJoinQuadConstraintStream<Solution_, A, B, C, D>
         return Objects.equals(leftParent.getParent(), other.leftParent.getParent())
                 && Objects.equals(rightParent.getParent(), other.rightParent.getParent())
                 && Objects.equals(joiner, other.joiner)
-                && Objects.equals(filtering, other.filtering);
+                && LambdaEquivalence.areEquivalent(filtering, other.filtering);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(leftParent.getParent(), rightParent.getParent(), joiner, filtering);
+        return Objects.hash(leftParent.getParent(), rightParent.getParent(), joiner,
+                LambdaEquivalence.hashCode(filtering));
     }
 
     @Override
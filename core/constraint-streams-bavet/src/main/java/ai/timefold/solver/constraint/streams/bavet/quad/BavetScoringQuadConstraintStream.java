@@ -10,6 +10,7 @@ import ai.timefold.solver.constraint.streams.bavet.BavetConstraintFactory;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetScoringConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.NodeBuildHelper;
+import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.constraint.streams.common.inliner.JustificationsSupplier;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
 import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
@@ -101,9 +102,18 @@ public final class BavetScoringQuadConstraintStream<Solution_, A, B, C, D>
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's an endpoint.");
         }
         Score_ constraintWeight = buildHelper.getConstraintWeight(constraint);
+        AbstractScoreInliner<Score_> scoreInliner = buildHelper.getScoreInliner(constraint);
         WeightedScoreImpacter<Score_, ?> weightedScoreImpacter =
-                buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint, constraintWeight);
-        boolean constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
+                scoreInliner.buildWeightedScoreImpacter(constraint, constraintWeight);
+        boolean constraintMatchEnabled = scoreInliner.isConstraintMatchEnabled();
+        if (weightedScoreImpacter.isImpactWithoutUndoSupported() && bigDecimalMatchWeigher == null) {
+            // The scorer only remembers the match weight of each tuple and reuses its undo, so impacting doesn't allocate.
+            QuadScorer<A, B, C, D> scorer = new QuadScorer<>(constraint.getConstraintPackage(), constraint.getConstraintName(),
+                    constraintWeight, weightedScoreImpacter, buildMatchWeigher(),
+                    buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
+            buildHelper.putInsertUpdateRetract(this, scorer);
+            return;
+        }
         QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
             if (constraintMatchEnabled) {
@@ -175,6 +185,26 @@ public final class BavetScoringQuadConstraintStream<Solution_, A, B, C, D>
         buildHelper.putInsertUpdateRetract(this, scorer);
     }
 
+    private ToLongQuadFunction<A, B, C, D> buildMatchWeigher() {
+        if (intMatchWeigher != null) {
+            return (a, b, c, d) -> {
+                int matchWeight = intMatchWeigher.applyAsInt(a, b, c, d);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else if (longMatchWeigher != null) {
+            return (a, b, c, d) -> {
+                long matchWeight = longMatchWeigher.applyAsLong(a, b, c, d);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else if (noMatchWeigher) {
+            return (a, b, c, d) -> 1L;
+        } else {
+            throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
+        }
+    }
+
     // ************************************************************************
     // Equality for node sharing
     // ************************************************************************
@@ -35,6 +35,12 @@ final class Group0Mapping2CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, Result
         return new BiTupleImpl<>(null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(BiTupleImpl<A, B> outTuple, Void groupKey) {
+        outTuple.factA = null;
+        outTuple.factB = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(BiTupleImpl<A, B> outTuple, Pair<A, B> result) {
         outTuple.factA = result.getKey();
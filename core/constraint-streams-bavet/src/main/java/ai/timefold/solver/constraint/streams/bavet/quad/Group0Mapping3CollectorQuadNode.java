@@ -39,6 +39,13 @@ final class Group0Mapping3CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, C, Res
         return new TriTupleImpl<>(null, null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(TriTupleImpl<A, B, C> outTuple, Void groupKey) {
+        outTuple.factA = null;
+        outTuple.factB = null;
+        outTuple.factC = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(TriTupleImpl<A, B, C> outTuple, Triple<A, B, C> result) {
         outTuple.factA = result.getA();
@@ -39,6 +39,14 @@ final class Group0Mapping4CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, C, D,
         return new QuadTupleImpl<>(null, null, null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(QuadTupleImpl<A, B, C, D> outTuple, Void groupKey) {
+        outTuple.factA = null;
+        outTuple.factB = null;
+        outTuple.factC = null;
+        outTuple.factD = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(QuadTupleImpl<A, B, C, D> outTuple, Quadruple<A, B, C, D> result) {
         outTuple.factA = result.getA();
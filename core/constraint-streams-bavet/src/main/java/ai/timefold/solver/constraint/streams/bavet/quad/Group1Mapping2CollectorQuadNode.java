@@ -30,6 +30,13 @@ final class Group1Mapping2CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, C, Res
         return new TriTupleImpl<>(a, null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(TriTupleImpl<A, B, C> outTuple, A a) {
+        outTuple.factA = a;
+        outTuple.factB = null;
+        outTuple.factC = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(TriTupleImpl<A, B, C> outTuple, Pair<B, C> result) {
         outTuple.factB = result.getKey();
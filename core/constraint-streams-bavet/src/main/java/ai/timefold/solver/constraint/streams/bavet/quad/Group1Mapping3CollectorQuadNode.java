@@ -31,6 +31,14 @@ final class Group1Mapping3CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, C, D,
         return new QuadTupleImpl<>(a, null, null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(QuadTupleImpl<A, B, C, D> outTuple, A a) {
+        outTuple.factA = a;
+        outTuple.factB = null;
+        outTuple.factC = null;
+        outTuple.factD = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(QuadTupleImpl<A, B, C, D> outTuple, Triple<B, C, D> result) {
         outTuple.factB = result.getA();
@@ -31,6 +31,14 @@ final class Group3Mapping1CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, C, D,
         return new QuadTupleImpl<>(groupKey.getA(), groupKey.getB(), groupKey.getC(), null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(QuadTupleImpl<A, B, C, D> outTuple, Triple<A, B, C> groupKey) {
+        outTuple.factA = groupKey.getA();
+        outTuple.factB = groupKey.getB();
+        outTuple.factC = groupKey.getC();
+        outTuple.factD = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(QuadTupleImpl<A, B, C, D> outTuple, D d) {
         outTuple.factD = d;
@@ -2,22 +2,36 @@ package ai.timefold.solver.constraint.streams.bavet.quad;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractScorer;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
+import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
 import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.function.ToLongQuadFunction;
 import ai.timefold.solver.core.api.score.Score;
 
 final class QuadScorer<A, B, C, D> extends AbstractScorer<QuadTuple<A, B, C, D>> {
 
     private final QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter;
+    private final ToLongQuadFunction<A, B, C, D> matchWeigher;
 
     public QuadScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
             QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
-        super(constraintPackage, constraintName, constraintWeight, inputStoreIndex);
+        super(constraintPackage, constraintName, constraintWeight, null, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
+        this.matchWeigher = null;
+    }
+
+    public QuadScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            WeightedScoreImpacter<?, ?> weightedScoreImpacter, ToLongQuadFunction<A, B, C, D> matchWeigher, int inputStoreIndex) {
+        super(constraintPackage, constraintName, constraintWeight, weightedScoreImpacter, inputStoreIndex);
+        this.scoreImpacter = null;
+        this.matchWeigher = matchWeigher;
     }
 
     @Override
     protected UndoScoreImpacter impact(QuadTuple<A, B, C, D> tuple) {
         try {
+            if (matchWeigher != null) {
+                return impactWithoutUndo(tuple, matchWeigher.applyAsLong(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(), tuple.getFactD()));
+            }
             return scoreImpacter.apply(tuple.getFactA(), tuple.getFactB(), tuple.getFactC(), tuple.getFactD());
         } catch (Exception e) {
             throw createExceptionOnImpact(tuple, e);
@@ -8,12 +8,14 @@ import ai.timefold.solver.constraint.streams.bavet.common.TupleLifecycle;
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.stream.collector.PrimitiveTriCollector;
 
 abstract class AbstractGroupTriNode<OldA, OldB, OldC, OutTuple_ extends Tuple, MutableOutTuple_ extends OutTuple_, GroupKey_, ResultContainer_, Result_>
         extends
         AbstractGroupNode<TriTuple<OldA, OldB, OldC>, OutTuple_, MutableOutTuple_, GroupKey_, ResultContainer_, Result_> {
 
     private final QuadFunction<ResultContainer_, OldA, OldB, OldC, Runnable> accumulator;
+    private final PrimitiveTriCollector<OldA, OldB, OldC, ?> primitiveCollector;
 
     protected AbstractGroupTriNode(int groupStoreIndex, int undoStoreIndex,
             Function<TriTuple<OldA, OldB, OldC>, GroupKey_> groupKeyFunction,
@@ -22,14 +24,18 @@ abstract class AbstractGroupTriNode<OldA, OldB, OldC, OutTuple_ extends Tuple, M
         super(groupStoreIndex, undoStoreIndex, groupKeyFunction,
                 collector == null ? null : collector.supplier(),
                 collector == null ? null : collector.finisher(),
-                nextNodesTupleLifecycle, environmentMode);
+                collector instanceof PrimitiveTriCollector, nextNodesTupleLifecycle, environmentMode);
         accumulator = collector == null ? null : collector.accumulator();
+        primitiveCollector = collector instanceof PrimitiveTriCollector
+                ? (PrimitiveTriCollector<OldA, OldB, OldC, ?>) collector
+                : null;
     }
 
     protected AbstractGroupTriNode(int groupStoreIndex, Function<TriTuple<OldA, OldB, OldC>, GroupKey_> groupKeyFunction,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, groupKeyFunction, nextNodesTupleLifecycle, environmentMode);
         accumulator = null;
+        primitiveCollector = null;
     }
 
     @Override
@@ -37,4 +43,9 @@ abstract class AbstractGroupTriNode<OldA, OldB, OldC, OutTuple_ extends Tuple, M
         return accumulator.apply(resultContainer, tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
     }
 
+    @Override
+    protected final long mapPrimitive(TriTuple<OldA, OldB, OldC> tuple) {
+        return primitiveCollector.applyAsLong(tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
+    }
+
 }
@@ -6,6 +6,7 @@ import java.util.Set;
 import ai.timefold.solver.constraint.streams.bavet.BavetConstraintFactory;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.NodeBuildHelper;
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.core.api.function.TriPredicate;
 import ai.timefold.solver.core.api.score.Score;
 
@@ -58,7 +59,7 @@ public final class BavetFilterTriConstraintStream<Solution_, A, B, C>
 
     @Override
     public int hashCode() {
-        return Objects.hash(parent, predicate);
+        return Objects.hash(parent, LambdaEquivalence.hashCode(predicate));
     }
 
     @Override
@@ -68,7 +69,7 @@ public final class BavetFilterTriConstraintStream<Solution_, A, B, C>
         } else if (o instanceof BavetFilterTriConstraintStream) {
             BavetFilterTriConstraintStream<?, ?, ?, ?> other = (BavetFilterTriConstraintStream<?, ?, ?, ?>) o;
             return parent == other.parent
-                    && predicate == other.predicate;
+                    && LambdaEquivalence.areEquivalent(predicate, other.predicate);
         } else {
             return false;
         }
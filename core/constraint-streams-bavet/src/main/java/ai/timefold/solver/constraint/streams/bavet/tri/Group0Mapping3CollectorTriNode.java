@@ -36,6 +36,13 @@ final class Group0Mapping3CollectorTriNode<OldA, OldB, OldC, A, B, C, ResultCont
         return new TriTupleImpl<>(null, null, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(TriTupleImpl<A, B, C> outTuple, Void groupKey) {
+        outTuple.factA = null;
+        outTuple.factB = null;
+        outTuple.factC = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(TriTupleImpl<A, B, C> outTuple, Triple<A, B, C> result) {
         outTuple.factA = result.getA();
@@ -2,22 +2,36 @@ package ai.timefold.solver.constraint.streams.bavet.tri;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractScorer;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
+import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
+import ai.timefold.solver.core.api.function.ToLongTriFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.score.Score;
 
 final class TriScorer<A, B, C> extends AbstractScorer<TriTuple<A, B, C>> {
 
     private final TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter;
+    private final ToLongTriFunction<A, B, C> matchWeigher;
 
     public TriScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
             TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
-        super(constraintPackage, constraintName, constraintWeight, inputStoreIndex);
+        super(constraintPackage, constraintName, constraintWeight, null, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
+        this.matchWeigher = null;
+    }
+
+    public TriScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            WeightedScoreImpacter<?, ?> weightedScoreImpacter, ToLongTriFunction<A, B, C> matchWeigher, int inputStoreIndex) {
+        super(constraintPackage, constraintName, constraintWeight, weightedScoreImpacter, inputStoreIndex);
+        this.scoreImpacter = null;
+        this.matchWeigher = matchWeigher;
     }
 
     @Override
     protected UndoScoreImpacter impact(TriTuple<A, B, C> tuple) {
         try {
+            if (matchWeigher != null) {
+                return impactWithoutUndo(tuple, matchWeigher.applyAsLong(tuple.getFactA(), tuple.getFactB(), tuple.getFactC()));
+            }
             return scoreImpacter.apply(tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
         } catch (Exception e) {
             throw createExceptionOnImpact(tuple, e);
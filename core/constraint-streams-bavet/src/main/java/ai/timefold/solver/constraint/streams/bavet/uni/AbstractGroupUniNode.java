@@ -8,11 +8,13 @@ import ai.timefold.solver.constraint.streams.bavet.common.Tuple;
 import ai.timefold.solver.constraint.streams.bavet.common.TupleLifecycle;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.stream.collector.PrimitiveUniCollector;
 
 abstract class AbstractGroupUniNode<OldA, OutTuple_ extends Tuple, MutableOutTuple_ extends OutTuple_, GroupKey_, ResultContainer_, Result_>
         extends AbstractGroupNode<UniTuple<OldA>, OutTuple_, MutableOutTuple_, GroupKey_, ResultContainer_, Result_> {
 
     private final BiFunction<ResultContainer_, OldA, Runnable> accumulator;
+    private final PrimitiveUniCollector<OldA, ?> primitiveCollector;
 
     protected AbstractGroupUniNode(int groupStoreIndex, int undoStoreIndex,
             Function<UniTuple<OldA>, GroupKey_> groupKeyFunction,
@@ -21,18 +23,27 @@ abstract class AbstractGroupUniNode<OldA, OutTuple_ extends Tuple, MutableOutTup
         super(groupStoreIndex, undoStoreIndex, groupKeyFunction,
                 collector == null ? null : collector.supplier(),
                 collector == null ? null : collector.finisher(),
-                nextNodesTupleLifecycle, environmentMode);
+                collector instanceof PrimitiveUniCollector, nextNodesTupleLifecycle, environmentMode);
         accumulator = collector == null ? null : collector.accumulator();
+        primitiveCollector = collector instanceof PrimitiveUniCollector
+                ? (PrimitiveUniCollector<OldA, ?>) collector
+                : null;
     }
 
     protected AbstractGroupUniNode(int groupStoreIndex, Function<UniTuple<OldA>, GroupKey_> groupKeyFunction,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         super(groupStoreIndex, groupKeyFunction, nextNodesTupleLifecycle, environmentMode);
         accumulator = null;
+        primitiveCollector = null;
     }
 
     @Override
     protected final Runnable accumulate(ResultContainer_ resultContainer, UniTuple<OldA> tuple) {
         return accumulator.apply(resultContainer, tuple.getFactA());
     }
+
+    @Override
+    protected final long mapPrimitive(UniTuple<OldA> tuple) {
+        return primitiveCollector.applyAsLong(tuple.getFactA());
+    }
 }
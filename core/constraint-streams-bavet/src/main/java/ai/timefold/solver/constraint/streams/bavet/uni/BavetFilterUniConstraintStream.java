@@ -7,6 +7,7 @@ import java.util.function.Predicate;
 import ai.timefold.solver.constraint.streams.bavet.BavetConstraintFactory;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.NodeBuildHelper;
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.core.api.score.Score;
 
 public final class BavetFilterUniConstraintStream<Solution_, A> extends BavetAbstractUniConstraintStream<Solution_, A> {
@@ -44,6 +45,10 @@ public final class BavetFilterUniConstraintStream<Solution_, A> extends BavetAbs
         return parent.getTupleSource();
     }
 
+    public BavetAbstractUniConstraintStream<Solution_, A> getParent() {
+        return parent;
+    }
+
     @Override
     public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
         buildHelper.<UniTuple<A>> putInsertUpdateRetract(this, childStreamList,
@@ -56,7 +61,7 @@ public final class BavetFilterUniConstraintStream<Solution_, A> extends BavetAbs
 
     @Override
     public int hashCode() {
-        return Objects.hash(parent, predicate);
+        return Objects.hash(parent, LambdaEquivalence.hashCode(predicate));
     }
 
     @Override
@@ -66,7 +71,7 @@ public final class BavetFilterUniConstraintStream<Solution_, A> extends BavetAbs
         } else if (o instanceof BavetFilterUniConstraintStream) {
             BavetFilterUniConstraintStream<?, ?> other = (BavetFilterUniConstraintStream<?, ?>) o;
             return parent == other.parent
-                    && predicate == other.predicate;
+                    && LambdaEquivalence.areEquivalent(predicate, other.predicate);
         } else {
             return false;
         }
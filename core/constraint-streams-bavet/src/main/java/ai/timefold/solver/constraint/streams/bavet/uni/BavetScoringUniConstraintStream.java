@@ -13,6 +13,7 @@ import ai.timefold.solver.constraint.streams.bavet.BavetConstraintFactory;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.BavetScoringConstraintStream;
 import ai.timefold.solver.constraint.streams.bavet.common.NodeBuildHelper;
+import ai.timefold.solver.constraint.streams.common.inliner.AbstractScoreInliner;
 import ai.timefold.solver.constraint.streams.common.inliner.JustificationsSupplier;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
 import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
@@ -100,9 +101,18 @@ public final class BavetScoringUniConstraintStream<Solution_, A>
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's an endpoint.");
         }
         Score_ constraintWeight = buildHelper.getConstraintWeight(constraint);
+        AbstractScoreInliner<Score_> scoreInliner = buildHelper.getScoreInliner(constraint);
         WeightedScoreImpacter<Score_, ?> weightedScoreImpacter =
-                buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint, constraintWeight);
-        boolean constraintMatchEnabled = buildHelper.getScoreInliner().isConstraintMatchEnabled();
+                scoreInliner.buildWeightedScoreImpacter(constraint, constraintWeight);
+        boolean constraintMatchEnabled = scoreInliner.isConstraintMatchEnabled();
+        if (weightedScoreImpacter.isImpactWithoutUndoSupported() && bigDecimalMatchWeigher == null) {
+            // The scorer only remembers the match weight of each tuple and reuses its undo, so impacting doesn't allocate.
+            UniScorer<A> scorer = new UniScorer<>(constraint.getConstraintPackage(), constraint.getConstraintName(),
+                    constraintWeight, weightedScoreImpacter, buildMatchWeigher(),
+                    buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
+            buildHelper.putInsertUpdateRetract(this, scorer);
+            return;
+        }
         Function<A, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
             if (constraintMatchEnabled) {
@@ -170,6 +180,26 @@ public final class BavetScoringUniConstraintStream<Solution_, A>
         buildHelper.putInsertUpdateRetract(this, scorer);
     }
 
+    private ToLongFunction<A> buildMatchWeigher() {
+        if (intMatchWeigher != null) {
+            return a -> {
+                int matchWeight = intMatchWeigher.applyAsInt(a);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else if (longMatchWeigher != null) {
+            return a -> {
+                long matchWeight = longMatchWeigher.applyAsLong(a);
+                constraint.assertCorrectImpact(matchWeight);
+                return matchWeight;
+            };
+        } else if (noMatchWeigher) {
+            return a -> 1L;
+        } else {
+            throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
+        }
+    }
+
     // ************************************************************************
     // Equality for node sharing
     // ************************************************************************
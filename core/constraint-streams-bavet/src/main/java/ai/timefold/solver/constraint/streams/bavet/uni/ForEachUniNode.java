@@ -61,7 +61,13 @@ public final class ForEachUniNode<A> extends AbstractNode {
             if (tuple.state == BavetTupleState.DYING || tuple.state == BavetTupleState.ABORTING) {
                 throw new IllegalStateException("The fact (" + a + ") was already retracted, so it cannot retract.");
             }
-            tuple.state = BavetTupleState.ABORTING;
+            if (tuple.state == BavetTupleState.UPDATING) {
+                // Kill the original propagation, it's already in the dirtyTupleQueue
+                tuple.state = BavetTupleState.DYING;
+            } else {
+                // Kill it before it propagates
+                tuple.state = BavetTupleState.ABORTING;
+            }
         } else {
             tuple.state = BavetTupleState.DYING;
             dirtyTupleQueue.add(tuple);
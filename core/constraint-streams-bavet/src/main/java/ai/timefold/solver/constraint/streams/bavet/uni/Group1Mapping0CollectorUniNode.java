@@ -25,6 +25,11 @@ final class Group1Mapping0CollectorUniNode<OldA, A>
         return new UniTupleImpl<>(a, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(UniTupleImpl<A> outTuple, A a) {
+        outTuple.factA = a;
+    }
+
     @Override
     protected void updateOutTupleToResult(UniTupleImpl<A> aUniTuple, Void unused) {
         throw new IllegalStateException("Impossible state: collector is null.");
@@ -28,6 +28,12 @@ final class Group1Mapping1CollectorUniNode<OldA, A, B, ResultContainer_>
         return new BiTupleImpl<>(a, null, outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(BiTupleImpl<A, B> outTuple, A a) {
+        outTuple.factA = a;
+        outTuple.factB = null;
+    }
+
     @Override
     protected void updateOutTupleToResult(BiTupleImpl<A, B> outTuple, B b) {
         outTuple.factB = b;
@@ -34,6 +34,12 @@ final class Group2Mapping0CollectorUniNode<OldA, A, B>
         return new BiTupleImpl<>(groupKey.getKey(), groupKey.getValue(), outputStoreSize);
     }
 
+    @Override
+    protected void reinitializeOutTuple(BiTupleImpl<A, B> outTuple, Pair<A, B> groupKey) {
+        outTuple.factA = groupKey.getKey();
+        outTuple.factB = groupKey.getValue();
+    }
+
     @Override
     protected void updateOutTupleToResult(BiTupleImpl<A, B> outTuple, Void unused) {
         throw new IllegalStateException("Impossible state: collector is null.");
@@ -1,24 +1,38 @@
 package ai.timefold.solver.constraint.streams.bavet.uni;
 
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import ai.timefold.solver.constraint.streams.bavet.common.AbstractScorer;
 import ai.timefold.solver.constraint.streams.common.inliner.UndoScoreImpacter;
+import ai.timefold.solver.constraint.streams.common.inliner.WeightedScoreImpacter;
 import ai.timefold.solver.core.api.score.Score;
 
 final class UniScorer<A> extends AbstractScorer<UniTuple<A>> {
 
     private final Function<A, UndoScoreImpacter> scoreImpacter;
+    private final ToLongFunction<A> matchWeigher;
 
     public UniScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
             Function<A, UndoScoreImpacter> scoreImpacter, int inputStoreIndex) {
-        super(constraintPackage, constraintName, constraintWeight, inputStoreIndex);
+        super(constraintPackage, constraintName, constraintWeight, null, inputStoreIndex);
         this.scoreImpacter = scoreImpacter;
+        this.matchWeigher = null;
+    }
+
+    public UniScorer(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            WeightedScoreImpacter<?, ?> weightedScoreImpacter, ToLongFunction<A> matchWeigher, int inputStoreIndex) {
+        super(constraintPackage, constraintName, constraintWeight, weightedScoreImpacter, inputStoreIndex);
+        this.scoreImpacter = null;
+        this.matchWeigher = matchWeigher;
     }
 
     @Override
     protected UndoScoreImpacter impact(UniTuple<A> tuple) {
         try {
+            if (matchWeigher != null) {
+                return impactWithoutUndo(tuple, matchWeigher.applyAsLong(tuple.getFactA()));
+            }
             return scoreImpacter.apply(tuple.getFactA());
         } catch (Exception e) {
             throw createExceptionOnImpact(tuple, e);
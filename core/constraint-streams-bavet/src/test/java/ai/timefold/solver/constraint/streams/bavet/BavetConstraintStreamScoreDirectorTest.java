@@ -0,0 +1,195 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfile;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetConstraintStreamScoreDirectorTest {
+
+    @Test
+    void repeatedVariableChangesWithinMove() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 20);
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(solution);
+            scoreDirector.calculateScore();
+
+            List<TestdataEntity> entityList = solution.getEntityList();
+            List<TestdataValue> valueList = solution.getValueList();
+            for (int i = 0; i < 10; i++) { // Like a pillar move, every entity changes more than once.
+                for (TestdataEntity entity : entityList.subList(0, 5)) {
+                    scoreDirector.beforeVariableChanged(entity, "value");
+                    entity.setValue(valueList.get(i % valueList.size()));
+                    scoreDirector.afterVariableChanged(entity, "value");
+                }
+            }
+            assertThat(scoreDirector.calculateScore()).isEqualTo(calculateScoreFromScratch(solution));
+        }
+    }
+
+    @Test
+    void variableChangeBeforeEntityRemoval() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 20);
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(solution);
+            scoreDirector.calculateScore();
+
+            TestdataEntity entity = solution.getEntityList().get(0);
+            scoreDirector.beforeVariableChanged(entity, "value");
+            entity.setValue(solution.getValueList().get(1));
+            scoreDirector.afterVariableChanged(entity, "value");
+            scoreDirector.beforeEntityRemoved(entity);
+            solution.getEntityList().remove(entity);
+            scoreDirector.afterEntityRemoved(entity);
+            assertThat(scoreDirector.calculateScore()).isEqualTo(calculateScoreFromScratch(solution));
+        }
+    }
+
+    @Test
+    void restoreWorkingSolutionBeforeEntityRemoval() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 20);
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(solution);
+            scoreDirector.calculateScore();
+            TestdataSolution bestSolution = scoreDirector.cloneWorkingSolution();
+
+            List<TestdataEntity> entityList = solution.getEntityList();
+            List<TestdataValue> valueList = solution.getValueList();
+            for (int i = 0; i < 5; i++) {
+                TestdataEntity entity = entityList.get(i);
+                scoreDirector.beforeVariableChanged(entity, "value");
+                entity.setValue(valueList.get((i + 1) % valueList.size()));
+                scoreDirector.afterVariableChanged(entity, "value");
+            }
+            scoreDirector.calculateScore();
+
+            // Like a problem change, which removes an entity before the restored solution's score is calculated.
+            assertThat(scoreDirector.restoreWorkingSolution(bestSolution)).isTrue();
+            TestdataEntity entity = entityList.get(0);
+            scoreDirector.beforeEntityRemoved(entity);
+            entityList.remove(entity);
+            scoreDirector.afterEntityRemoved(entity);
+            assertThat(scoreDirector.calculateScore()).isEqualTo(calculateScoreFromScratch(solution));
+        }
+    }
+
+    @Test
+    void moveJournalRollsBackChangeMoves() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 20);
+        BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        new TestdataConstraintProvider(), EnvironmentMode.REPRODUCIBLE);
+        scoreDirectorFactory.setMoveJournalEnabled(true);
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false)) {
+            scoreDirector.setWorkingSolution(solution);
+            SimpleScore score = scoreDirector.calculateScore();
+
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor = scoreDirectorFactory.getSolutionDescriptor()
+                    .findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+            List<TestdataEntity> entityList = solution.getEntityList();
+            List<TestdataValue> valueList = solution.getValueList();
+            for (TestdataEntity entity : entityList.subList(0, 5)) {
+                TestdataValue oldValue = entity.getValue();
+                for (TestdataValue value : valueList) {
+                    entity.setValue(value);
+                    SimpleScore expectedMoveScore = calculateScoreFromScratch(solution);
+                    entity.setValue(oldValue);
+
+                    ChangeMove<TestdataSolution> move = new ChangeMove<>(variableDescriptor, entity, value);
+                    assertThat(scoreDirector.doAndProcessMove(move, false)).isEqualTo(expectedMoveScore);
+                    assertThat(entity.getValue()).isSameAs(oldValue);
+                    assertThat(scoreDirector.calculateScore()).isEqualTo(score);
+                }
+            }
+        }
+    }
+
+    @Test
+    void constraintProfile() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 20);
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector()) {
+            scoreDirector.overwriteConstraintProfilingEnabledPreference(true);
+            scoreDirector.setWorkingSolution(solution);
+            scoreDirector.calculateScore();
+
+            TestdataEntity entity = solution.getEntityList().get(0);
+            scoreDirector.beforeVariableChanged(entity, "value");
+            entity.setValue(solution.getValueList().get(1));
+            scoreDirector.afterVariableChanged(entity, "value");
+            SimpleScore score = scoreDirector.calculateScore();
+            assertThat(score).isEqualTo(calculateScoreFromScratch(solution));
+
+            Map<String, ConstraintProfile> constraintProfileMap = scoreDirector.getConstraintProfileMap();
+            assertThat(constraintProfileMap).hasSize(2);
+            // Every match of either constraint has a weight of 1.
+            assertThat(constraintProfileMap.values().stream().mapToLong(ConstraintProfile::getTupleCount).sum())
+                    .isEqualTo(-score.score());
+            assertThat(constraintProfileMap.values())
+                    .allSatisfy(constraintProfile -> {
+                        assertThat(constraintProfile.getPropagationCount())
+                                .isGreaterThanOrEqualTo(constraintProfile.getTupleCount());
+                        assertThat(constraintProfile.getNanos()).isPositive();
+                    });
+        }
+    }
+
+    @Test
+    void constraintProfileDisabled() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 20);
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(solution);
+            assertThat(scoreDirector.isConstraintProfilingEnabled()).isFalse();
+            assertThatThrownBy(scoreDirector::getConstraintProfileMap)
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static SimpleScore calculateScoreFromScratch(TestdataSolution solution) {
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(solution);
+            return scoreDirector.calculateScore();
+        }
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector() {
+        return new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), new TestdataConstraintProvider(), EnvironmentMode.REPRODUCIBLE)
+                .buildScoreDirector(false, false);
+    }
+
+    public static final class TestdataConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class,
+                            Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Shared value"),
+                    constraintFactory.forEach(TestdataValue.class)
+                            .ifNotExists(TestdataEntity.class, Joiners.equal(value -> value, TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Unused value")
+            };
+        }
+
+    }
+
+}
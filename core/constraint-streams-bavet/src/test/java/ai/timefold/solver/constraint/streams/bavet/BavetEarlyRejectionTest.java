@@ -0,0 +1,276 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.count;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.ConstraintStreamImplType;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.decider.acceptor.AcceptorType;
+import ai.timefold.solver.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
+import ai.timefold.solver.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
+
+import org.junit.jupiter.api.Test;
+
+class BavetEarlyRejectionTest {
+
+    @Test
+    void earlyRejectedScoreIsWorseAndCaughtUpLater() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 20);
+        TestdataSolution earlyRejectionSolution = TestdataSolution.generateSolution(5, 20);
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(new PenaltyConstraintProvider(), false, false, false);
+                BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> earlyRejectionScoreDirector =
+                        buildScoreDirector(new PenaltyConstraintProvider(), false, true, false)) {
+            scoreDirector.setWorkingSolution(solution);
+            earlyRejectionScoreDirector.setWorkingSolution(earlyRejectionSolution);
+            assertThat(scoreDirector.isEarlyRejectionSupported()).isFalse();
+            assertThat(earlyRejectionScoreDirector.isEarlyRejectionSupported()).isTrue();
+            assertThatThrownBy(() -> earlyRejectionScoreDirector.getSession().getScoreInliner())
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(earlyRejectionScoreDirector.calculateScore()).isEqualTo(scoreDirector.calculateScore());
+
+            // Every penalty is worse than zero, so the score calculation stops after the first constraint
+            SimpleScore rejectionBound = SimpleScore.ZERO;
+            SimpleScore unreachableRejectionBound = SimpleScore.of(-1_000_000);
+            int rejectedCount = 0;
+            for (int i = 0; i < 20; i++) {
+                changeValue(scoreDirector, solution, i);
+                changeValue(earlyRejectionScoreDirector, earlyRejectionSolution, i);
+                SimpleScore score = scoreDirector.calculateScore();
+                SimpleScore earlyRejectionScore = earlyRejectionScoreDirector.calculateScoreUnlessWorseThan(
+                        i % 2 == 0 ? rejectionBound : unreachableRejectionBound);
+                if (earlyRejectionScore == null) {
+                    assertThat(score).isLessThan(rejectionBound);
+                    rejectedCount++;
+                } else {
+                    assertThat(earlyRejectionScore).isEqualTo(score);
+                }
+            }
+            assertThat(rejectedCount).isPositive();
+            assertThat(earlyRejectionScoreDirector.calculateScore()).isEqualTo(scoreDirector.calculateScore());
+        }
+    }
+
+    @Test
+    void earlyRejectionWithTupleRecycling() {
+        // Every value has only a few entities, so the ifNotExists often propagates the join's tuples
+        TestdataSolution solution = TestdataSolution.generateSolution(7, 20);
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(new IfNotExistsConstraintProvider(), true, true, false)) {
+            scoreDirector.setWorkingSolution(solution);
+            SimpleScore score = scoreDirector.calculateScore();
+            List<TestdataEntity> entityList = solution.getEntityList();
+            List<TestdataValue> valueList = solution.getValueList();
+            int rejectedCount = 0;
+            for (int i = 0; i < 100; i++) {
+                TestdataEntity entity = entityList.get((i * 7) % entityList.size());
+                TestdataValue oldValue = entity.getValue();
+                changeValue(scoreDirector, entity, valueList.get((i * 3) % valueList.size()));
+                // Stops after the join node, before the ifNotExists node has forgotten the join's dead tuples
+                SimpleScore moveScore = scoreDirector.calculateScoreUnlessWorseThan(score);
+                if (moveScore == null) {
+                    rejectedCount++;
+                    changeValue(scoreDirector, entity, oldValue);
+                } else if (i % 3 != 0) {
+                    changeValue(scoreDirector, entity, oldValue);
+                }
+                score = scoreDirector.calculateScore();
+                assertThat(score).isEqualTo(calculateScoreFromScratch(solution));
+            }
+            assertThat(rejectedCount).isPositive();
+        }
+    }
+
+    @Test
+    void constraintMatchEnabledDisablesEarlyRejection() {
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(new PenaltyConstraintProvider(), false, true, true)) {
+            scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(5, 20));
+            assertThat(scoreDirector.isEarlyRejectionSupported()).isFalse();
+            assertThat(scoreDirector.getSession().getScoreInliner()).isNotNull();
+        }
+    }
+
+    @Test
+    void solveWithEarlyRejectionEqualsSolveWithout() {
+        List<StepResult> stepResultList = solve(false);
+        long valueLoadWeighingCount = HardSoftConstraintProvider.VALUE_LOAD_WEIGHING_COUNT.get();
+        List<StepResult> earlyRejectionStepResultList = solve(true);
+        long earlyRejectionValueLoadWeighingCount = HardSoftConstraintProvider.VALUE_LOAD_WEIGHING_COUNT.get();
+
+        // Every step picks the same move, after selecting the same number of moves, including the early rejected ones
+        assertThat(earlyRejectionStepResultList).isEqualTo(stepResultList);
+        // Once every entity has a value of its own, hill climbing only has worse moves,
+        // so the finalist podium falls back to the best rejected move
+        assertThat(stepResultList).anyMatch(stepResult -> stepResult.acceptedMoveCount() == 0L);
+        // Moves that break the hard constraint skip the soft constraint
+        assertThat(earlyRejectionValueLoadWeighingCount).isLessThan(valueLoadWeighingCount);
+    }
+
+    private static List<StepResult> solve(boolean earlyRejectionEnabled) {
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataHardSoftScoreSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withConstraintProviderClass(HardSoftConstraintProvider.class)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withMoveSelectorConfig(new ChangeMoveSelectorConfig().withSelectionOrder(SelectionOrder.ORIGINAL))
+                        .withAcceptorConfig(new LocalSearchAcceptorConfig()
+                                .withAcceptorTypeList(List.of(AcceptorType.HILL_CLIMBING)))
+                        .withForagerConfig(new LocalSearchForagerConfig().withAcceptedCountLimit(Integer.MAX_VALUE))
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(50)));
+        solverConfig.getScoreDirectorFactoryConfig()
+                .withConstraintStreamImplType(ConstraintStreamImplType.BAVET)
+                .withConstraintStreamEarlyRejectionEnabled(earlyRejectionEnabled);
+        Solver<TestdataHardSoftScoreSolution> solver =
+                SolverFactory.<TestdataHardSoftScoreSolution> create(solverConfig).buildSolver();
+        List<StepResult> stepResultList = new ArrayList<>();
+        ((DefaultSolver<TestdataHardSoftScoreSolution>) solver).addPhaseLifecycleListener(
+                new PhaseLifecycleListenerAdapter<>() {
+                    @Override
+                    public void stepEnded(AbstractStepScope<TestdataHardSoftScoreSolution> stepScope) {
+                        stepResultList.add(new StepResult((LocalSearchStepScope<TestdataHardSoftScoreSolution>) stepScope));
+                    }
+                });
+
+        // Every entity starts on the same value, so it takes many steps to spread them
+        TestdataHardSoftScoreSolution solution = TestdataHardSoftScoreSolution.generateSolution(5, 20);
+        solution.getEntityList().forEach(entity -> entity.setValue(solution.getValueList().get(0)));
+        HardSoftConstraintProvider.VALUE_LOAD_WEIGHING_COUNT.set(0L);
+        solver.solve(solution);
+        return stepResultList;
+    }
+
+    private static SimpleScore calculateScoreFromScratch(TestdataSolution solution) {
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(new IfNotExistsConstraintProvider(), false, false, false)) {
+            scoreDirector.setWorkingSolution(solution);
+            return scoreDirector.calculateScore();
+        }
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(
+            ConstraintProvider constraintProvider, boolean tupleRecyclingEnabled, boolean earlyRejectionEnabled,
+            boolean constraintMatchEnabled) {
+        return new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), constraintProvider, EnvironmentMode.REPRODUCIBLE, 1,
+                tupleRecyclingEnabled, earlyRejectionEnabled).buildScoreDirector(false, constraintMatchEnabled);
+    }
+
+    private static void changeValue(BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataSolution solution, int step) {
+        List<TestdataEntity> entityList = solution.getEntityList();
+        List<TestdataValue> valueList = solution.getValueList();
+        changeValue(scoreDirector, entityList.get((step * 7) % entityList.size()),
+                valueList.get((step * 3) % valueList.size()));
+    }
+
+    private static void changeValue(BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataEntity entity, TestdataValue value) {
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+    }
+
+    private record StepResult(Score<?> score, long acceptedMoveCount, long selectedMoveCount, String valueCodes) {
+
+        private StepResult(LocalSearchStepScope<TestdataHardSoftScoreSolution> stepScope) {
+            this(stepScope.getScore(), stepScope.getAcceptedMoveCount(), stepScope.getSelectedMoveCount(),
+                    stepScope.getWorkingSolution().getEntityList().stream()
+                            .map(entity -> entity.getValue().getCode())
+                            .collect(Collectors.joining(",")));
+        }
+
+    }
+
+    public static final class HardSoftConstraintProvider implements ConstraintProvider {
+
+        private static final AtomicLong VALUE_LOAD_WEIGHING_COUNT = new AtomicLong();
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class,
+                            Joiners.equal(TestdataEntity::getValue))
+                            .penalize(HardSoftScore.ONE_HARD)
+                            .asConstraint("Shared value"),
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .groupBy(TestdataEntity::getValue, count())
+                            .penalize(HardSoftScore.ONE_SOFT, (value, count) -> {
+                                VALUE_LOAD_WEIGHING_COUNT.incrementAndGet();
+                                return count * count;
+                            })
+                            .asConstraint("Value load")
+            };
+        }
+
+    }
+
+    public static final class IfNotExistsConstraintProvider implements ConstraintProvider {
+
+        // The same function instance, so both constraints share the join node
+        private static final Function<TestdataEntity, TestdataValue> VALUE_FUNCTION = TestdataEntity::getValue;
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class, Joiners.equal(VALUE_FUNCTION))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Shared value"),
+                    constraintFactory.forEachUniquePair(TestdataEntity.class, Joiners.equal(VALUE_FUNCTION))
+                            .ifNotExists(TestdataEntity.class, Joiners.filtering((a, b, other) -> other != a && other != b
+                                    && other.getValue() == a.getValue()))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Exclusively shared value")
+            };
+        }
+
+    }
+
+    public static final class PenaltyConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class,
+                            Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Shared value"),
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .groupBy(TestdataEntity::getValue, count())
+                            .penalize(SimpleScore.ONE, (value, count) -> count * count)
+                            .asConstraint("Value load")
+            };
+        }
+
+    }
+
+}
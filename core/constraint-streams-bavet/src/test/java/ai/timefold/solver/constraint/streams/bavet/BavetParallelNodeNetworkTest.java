@@ -0,0 +1,129 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.count;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetParallelNodeNetworkTest {
+
+    @Test
+    void parallelScoreEqualsSequentialScore() {
+        TestdataSolution sequentialSolution = TestdataSolution.generateSolution(5, 20);
+        TestdataSolution parallelSolution = TestdataSolution.generateSolution(5, 20);
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> sequentialScoreDirector =
+                buildScoreDirector(1);
+                BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> parallelScoreDirector =
+                        buildScoreDirector(4)) {
+            sequentialScoreDirector.setWorkingSolution(sequentialSolution);
+            parallelScoreDirector.setWorkingSolution(parallelSolution);
+            assertThatThrownBy(() -> parallelScoreDirector.getSession().getScoreInliner())
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(parallelScoreDirector.calculateScore()).isEqualTo(sequentialScoreDirector.calculateScore());
+
+            for (int i = 0; i < 20; i++) {
+                changeValue(sequentialScoreDirector, sequentialSolution, i);
+                changeValue(parallelScoreDirector, parallelSolution, i);
+                assertThat(parallelScoreDirector.calculateScore()).isEqualTo(sequentialScoreDirector.calculateScore());
+            }
+        }
+    }
+
+    @Test
+    void constraintMatchEnabledIsSequential() {
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                        TestdataSolution.buildSolutionDescriptor(), new IndependentConstraintProvider(),
+                        EnvironmentMode.REPRODUCIBLE, 4).buildScoreDirector(false, true)) {
+            scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(5, 20));
+            assertThat(scoreDirector.getSession().getScoreInliner()).isNotNull();
+            assertThat(scoreDirector.calculateScore()).isNotNull();
+            assertThat(scoreDirector.getConstraintMatchTotalMap()).isNotEmpty();
+        }
+    }
+
+    @Test
+    void scoreDirectorsShareTheirThreads() {
+        Set<Thread> previousThreadSet = Thread.getAllStackTraces().keySet();
+        BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        new IndependentConstraintProvider(), EnvironmentMode.REPRODUCIBLE, 3);
+        for (int i = 0; i < 4; i++) { // Like the score directors of move threads.
+            TestdataSolution sequentialSolution = TestdataSolution.generateSolution(5, 20);
+            TestdataSolution parallelSolution = TestdataSolution.generateSolution(5, 20);
+            try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> sequentialScoreDirector =
+                    buildScoreDirector(1);
+                    BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> parallelScoreDirector =
+                            scoreDirectorFactory.buildScoreDirector(false, false)) {
+                sequentialScoreDirector.setWorkingSolution(sequentialSolution);
+                parallelScoreDirector.setWorkingSolution(parallelSolution);
+                for (int j = 0; j < 20; j++) {
+                    changeValue(sequentialScoreDirector, sequentialSolution, i + j);
+                    changeValue(parallelScoreDirector, parallelSolution, i + j);
+                    assertThat(parallelScoreDirector.calculateScore()).isEqualTo(sequentialScoreDirector.calculateScore());
+                }
+            }
+        }
+        // The calling thread evaluates a component too, so the factory needs only 2 extra threads.
+        assertThat(Thread.getAllStackTraces().keySet())
+                .filteredOn(thread -> !previousThreadSet.contains(thread) && thread.getName().contains("-NodeNetwork-"))
+                .hasSizeBetween(1, 2);
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(int threadCount) {
+        return new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), new IndependentConstraintProvider(),
+                EnvironmentMode.REPRODUCIBLE, threadCount).buildScoreDirector(false, false);
+    }
+
+    private static void changeValue(BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataSolution solution, int step) {
+        List<TestdataEntity> entityList = solution.getEntityList();
+        List<TestdataValue> valueList = solution.getValueList();
+        TestdataEntity entity = entityList.get((step * 7) % entityList.size());
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(valueList.get((step * 3) % valueList.size()));
+        scoreDirector.afterVariableChanged(entity, "value");
+    }
+
+    public static final class IndependentConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class,
+                            Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Shared value"),
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .groupBy(TestdataEntity::getValue, count())
+                            .penalize(SimpleScore.ONE, (value, count) -> count * count)
+                            .asConstraint("Value load"),
+                    constraintFactory.forEach(TestdataValue.class)
+                            .ifNotExists(TestdataEntity.class, Joiners.equal(value -> value, TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Unused value"),
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .filter(entity -> entity.getCode().endsWith("0"))
+                            .reward(SimpleScore.ONE)
+                            .asConstraint("Lucky entity")
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.ConstraintStreamImplType;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class BavetProblemChangeTest {
+
+    @Test
+    @Timeout(60)
+    void problemChangesRemoveEntitiesAfterRestoringTheBestSolution() throws Exception {
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withConstraintProviderClass(BavetConstraintStreamScoreDirectorTest.TestdataConstraintProvider.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setDaemon(true); // Keeps solving until terminated, so every problem change restores the best solution.
+        solverConfig.getScoreDirectorFactoryConfig().setConstraintStreamImplType(ConstraintStreamImplType.BAVET);
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        int entityCount = 20;
+        int removedEntityCount = 5;
+        TestdataSolution solution = TestdataSolution.generateSolution(5, entityCount);
+
+        AtomicReference<TestdataSolution> bestSolution = new AtomicReference<>();
+        CountDownLatch everyEntityRemoved = new CountDownLatch(1);
+        solver.addEventListener(event -> {
+            if (event.isEveryProblemChangeProcessed()
+                    && event.getNewBestSolution().getEntityList().size() == entityCount - removedEntityCount) {
+                bestSolution.set(event.getNewBestSolution());
+                everyEntityRemoved.countDown();
+            }
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<TestdataSolution> solveFuture = executorService.submit(() -> solver.solve(solution));
+            for (int i = 0; i < removedEntityCount; i++) {
+                // The best solution is restored into the working solution right before this removal.
+                // FULL_ASSERT fails the solver if the removed entity is still matched by the node network.
+                solver.addProblemChange((workingSolution, problemChangeDirector) -> {
+                    TestdataEntity entity = workingSolution.getEntityList().get(0);
+                    TestdataValue value = workingSolution.getValueList()
+                            .get((workingSolution.getValueList().indexOf(entity.getValue()) + 1)
+                                    % workingSolution.getValueList().size());
+                    problemChangeDirector.changeVariable(entity, "value", e -> e.setValue(value));
+                    problemChangeDirector.removeEntity(entity, workingSolution.getEntityList()::remove);
+                });
+                Thread.sleep(10L);
+            }
+            everyEntityRemoved.await();
+            solver.terminateEarly();
+            assertThat(solveFuture.get().getEntityList()).hasSize(entityCount - removedEntityCount);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        TestdataSolution newBestSolution = bestSolution.get();
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                        TestdataSolution.buildSolutionDescriptor(),
+                        new BavetConstraintStreamScoreDirectorTest.TestdataConstraintProvider(), EnvironmentMode.REPRODUCIBLE)
+                        .buildScoreDirector(false, false)) {
+            scoreDirector.setWorkingSolution(newBestSolution);
+            assertThat(scoreDirector.calculateScore()).isEqualTo(newBestSolution.getScore());
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package ai.timefold.solver.constraint.streams.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.count;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.ConstraintStreamImplType;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.monitoring.MonitoringConfig;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testutil.TestMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Metrics;
+
+class BavetTupleRecyclingTest {
+
+    @Test
+    void recyclingScoreEqualsNonRecyclingScore() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 20);
+        TestdataSolution recyclingSolution = TestdataSolution.generateSolution(5, 20);
+        try (BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(false);
+                BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> recyclingScoreDirector =
+                        buildScoreDirector(true)) {
+            scoreDirector.setWorkingSolution(solution);
+            recyclingScoreDirector.setWorkingSolution(recyclingSolution);
+            assertThat(recyclingScoreDirector.calculateScore()).isEqualTo(scoreDirector.calculateScore());
+
+            for (int i = 0; i < 50; i++) {
+                changeValue(scoreDirector, solution, i);
+                changeValue(recyclingScoreDirector, recyclingSolution, i);
+                assertThat(recyclingScoreDirector.calculateScore()).isEqualTo(scoreDirector.calculateScore());
+            }
+
+            BavetConstraintSession<SimpleScore> session = scoreDirector.getSession();
+            assertThat(session.getReusedTupleCount()).isZero();
+            BavetConstraintSession<SimpleScore> recyclingSession = recyclingScoreDirector.getSession();
+            assertThat(recyclingSession.getReusedTupleCount()).isPositive();
+            assertThat(recyclingSession.getCreatedTupleCount()).isLessThan(session.getCreatedTupleCount());
+            assertThat(recyclingSession.getCreatedTupleCount() + recyclingSession.getReusedTupleCount())
+                    .isEqualTo(session.getCreatedTupleCount());
+        }
+    }
+
+    @Test
+    void solveTupleCountMetric() {
+        TestMeterRegistry meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withConstraintProviderClass(TupleCreatingConstraintProvider.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig().withTerminationConfig(new TerminationConfig().withStepCountLimit(20)));
+        solverConfig.getScoreDirectorFactoryConfig()
+                .withConstraintStreamImplType(ConstraintStreamImplType.BAVET)
+                .withConstraintStreamTupleRecyclingEnabled(true);
+        solverConfig.setMonitoringConfig(new MonitoringConfig()
+                .withSolverMetricList(List.of(SolverMetric.CONSTRAINT_STREAM_TUPLE_COUNT)));
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        ((DefaultSolver<TestdataSolution>) solver).setMonitorTagMap(Map.of("solver.id", "solveTupleCountMetric"));
+        try {
+            solver.solve(TestdataSolution.generateSolution(5, 20));
+            meterRegistry.publish(solver);
+
+            String meterId = SolverMetric.CONSTRAINT_STREAM_TUPLE_COUNT.getMeterId();
+            assertThat(meterRegistry.getMeasurement(meterId + ".created", "VALUE").longValue()).isPositive();
+            assertThat(meterRegistry.getMeasurement(meterId + ".reused", "VALUE").longValue()).isPositive();
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+
+    private static BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore>
+            buildScoreDirector(boolean tupleRecyclingEnabled) {
+        return new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                TestdataSolution.buildSolutionDescriptor(), new TupleCreatingConstraintProvider(),
+                EnvironmentMode.REPRODUCIBLE, 1, tupleRecyclingEnabled).buildScoreDirector(false, false);
+    }
+
+    private static void changeValue(BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataSolution solution, int step) {
+        List<TestdataEntity> entityList = solution.getEntityList();
+        List<TestdataValue> valueList = solution.getValueList();
+        TestdataEntity entity = entityList.get((step * 7) % entityList.size());
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(valueList.get((step * 3) % valueList.size()));
+        scoreDirector.afterVariableChanged(entity, "value");
+    }
+
+    public static final class TupleCreatingConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class,
+                            Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Shared value"),
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .join(TestdataValue.class, Joiners.filtering((entity, value) -> entity.getValue() == value))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Assigned value"),
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .groupBy(TestdataEntity::getValue, count())
+                            .penalize(SimpleScore.ONE, (value, count) -> count * count)
+                            .asConstraint("Value load"),
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .map(TestdataEntity::getValue)
+                            .filter(value -> value.getCode().endsWith("0"))
+                            .reward(SimpleScore.ONE)
+                            .asConstraint("Lucky value")
+            };
+        }
+
+    }
+
+}
@@ -2,21 +2,33 @@ package ai.timefold.solver.constraint.streams.bavet;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.Serializable;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import ai.timefold.solver.core.api.function.TriPredicate;
+import ai.timefold.solver.core.api.score.stream.Joiners;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintStream;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintStream;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
 
 import org.junit.jupiter.api.Test;
 
 class NodeSharingTest {
 
+    private static Predicate<TestdataEntity> hasCode(String code) {
+        return entity -> entity.getCode().equals(code);
+    }
+
+    private static BiPredicate<TestdataEntity, TestdataEntity> haveCodePrefix(String prefix) {
+        return (a, b) -> a.getCode().startsWith(prefix) && b.getCode().startsWith(prefix);
+    }
+
     @Test
     void nodeSharingForEach() {
         BavetConstraintFactory<TestdataSolution> constraintFactory =
@@ -65,4 +77,67 @@ class NodeSharingTest {
         assertThat(filteredStream1).isSameAs(filteredStream2);
     }
 
+    @Test
+    void nodeSharingEquivalentCapturingLambdas() {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor(), EnvironmentMode.REPRODUCIBLE);
+        UniConstraintStream<TestdataEntity> stream1 = constraintFactory.forEach(TestdataEntity.class)
+                .filter(hasCode("A"));
+        UniConstraintStream<TestdataEntity> stream2 = constraintFactory.forEach(TestdataEntity.class)
+                .filter(hasCode(new String("A")));
+        assertThat(stream1).isSameAs(stream2);
+
+        UniConstraintStream<TestdataEntity> stream3 = constraintFactory.forEach(TestdataEntity.class)
+                .filter(hasCode("B"));
+        assertThat(stream1).isNotSameAs(stream3);
+
+        BiConstraintStream<TestdataEntity, TestdataEntity> joinedStream1 = stream1.join(TestdataEntity.class,
+                Joiners.filtering(haveCodePrefix("A")));
+        BiConstraintStream<TestdataEntity, TestdataEntity> joinedStream2 = stream2.join(TestdataEntity.class,
+                Joiners.filtering(haveCodePrefix("A")));
+        assertThat(joinedStream1).isSameAs(joinedStream2);
+
+        BiConstraintStream<TestdataEntity, TestdataEntity> joinedStream3 = stream2.join(TestdataEntity.class,
+                Joiners.filtering(haveCodePrefix("B")));
+        assertThat(joinedStream1).isNotSameAs(joinedStream3);
+    }
+
+    @Test
+    void nodeSharingSerializableMethodReferencesFromDifferentCallSites() {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor(), EnvironmentMode.REPRODUCIBLE);
+        BiConstraintStream<TestdataEntity, TestdataEntity> joinedStream1 = constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataEntity.class,
+                        Joiners.equal((Function<TestdataEntity, TestdataValue> & Serializable) TestdataEntity::getValue));
+        BiConstraintStream<TestdataEntity, TestdataEntity> joinedStream2 = constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataEntity.class,
+                        Joiners.equal((Function<TestdataEntity, TestdataValue> & Serializable) TestdataEntity::getValue));
+        assertThat(joinedStream1).isSameAs(joinedStream2);
+
+        BiConstraintStream<TestdataEntity, TestdataEntity> joinedStream3 = constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataEntity.class,
+                        Joiners.equal((Function<TestdataEntity, String> & Serializable) TestdataEntity::getCode));
+        assertThat(joinedStream1).isNotSameAs(joinedStream3);
+    }
+
+    @Test
+    void nodeSharingPlainMethodReferences() {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor(), EnvironmentMode.REPRODUCIBLE);
+        // Plain method references from different call sites do not expose the method they refer to.
+        BiConstraintStream<TestdataEntity, TestdataEntity> joinedStream1 = constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue));
+        BiConstraintStream<TestdataEntity, TestdataEntity> joinedStream2 = constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue));
+        assertThat(joinedStream1).isNotSameAs(joinedStream2);
+
+        // Reusing the same instance shares the nodes.
+        Function<TestdataEntity, TestdataValue> valueMapping = TestdataEntity::getValue;
+        BiConstraintStream<TestdataEntity, TestdataEntity> joinedStream3 = constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataEntity.class, Joiners.equal(valueMapping));
+        BiConstraintStream<TestdataEntity, TestdataEntity> joinedStream4 = constraintFactory.forEach(TestdataEntity.class)
+                .join(TestdataEntity.class, Joiners.equal(valueMapping));
+        assertThat(joinedStream3).isSameAs(joinedStream4);
+    }
+
 }
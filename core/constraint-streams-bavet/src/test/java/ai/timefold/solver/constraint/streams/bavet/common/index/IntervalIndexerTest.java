@@ -0,0 +1,171 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.constraint.streams.bavet.common.collection.TupleListEntry;
+import ai.timefold.solver.constraint.streams.bavet.uni.UniTuple;
+import ai.timefold.solver.constraint.streams.bavet.uni.UniTupleImpl;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+
+import org.junit.jupiter.api.Test;
+
+class IntervalIndexerTest extends AbstractIndexerTest {
+
+    private final DefaultBiJoiner<Shift, Shift> joiner =
+            (DefaultBiJoiner<Shift, Shift>) Joiners.overlapping((Shift s) -> s.start, s -> s.end);
+    private final DefaultBiJoiner<Shift, Shift> equalAndOverlappingJoiner =
+            (DefaultBiJoiner<Shift, Shift>) Joiners.equal((Shift s) -> s.employee)
+                    .and(Joiners.overlapping(s -> s.start, s -> s.end));
+
+    @Test
+    void isEmpty() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        assertThat(indexer).isInstanceOf(IntervalIndexer.class);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, 10, 0)).isEmpty();
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-0-8");
+        TupleListEntry<UniTuple<String>> annEntry = indexer.put(new ManyIndexProperties(0, 8), annTuple);
+
+        indexer.remove(new ManyIndexProperties(0, 8), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new ManyIndexProperties(0, 8), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visitLeft() {
+        // The left bridge indexes (start, end) and is queried with (otherEnd, otherStart).
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-0-8");
+        indexer.put(new ManyIndexProperties(0, 8), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-6-14");
+        indexer.put(new ManyIndexProperties(6, 14), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-8-16");
+        indexer.put(new ManyIndexProperties(8, 16), carlTuple);
+        UniTuple<String> danTuple = newTuple("Dan-20-24");
+        indexer.put(new ManyIndexProperties(20, 24), danTuple);
+
+        assertThat(getTuples(indexer, 8, 0)).containsOnly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, 9, 8)).containsOnly(bethTuple, carlTuple);
+        assertThat(getTuples(indexer, 20, 16)).isEmpty();
+        assertThat(getTuples(indexer, 30, 0)).containsOnly(annTuple, bethTuple, carlTuple, danTuple);
+        assertThat(indexer.size(new ManyIndexProperties(9, 8))).isEqualTo(2);
+    }
+
+    @Test
+    void visitRight() {
+        // The right bridge indexes (end, start) and is queried with (otherStart, otherEnd).
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(false);
+
+        UniTuple<String> annTuple = newTuple("Ann-0-8");
+        indexer.put(new ManyIndexProperties(8, 0), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-6-14");
+        indexer.put(new ManyIndexProperties(14, 6), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-8-16");
+        indexer.put(new ManyIndexProperties(16, 8), carlTuple);
+
+        assertThat(getTuples(indexer, 0, 8)).containsOnly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, 8, 9)).containsOnly(bethTuple, carlTuple);
+        assertThat(getTuples(indexer, 16, 20)).isEmpty();
+    }
+
+    @Test
+    void visitWithNullKeys() {
+        // A null key comes before any other key, so a null start is early and a null end is never late enough.
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-0-8");
+        indexer.put(new ManyIndexProperties(0, 8), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-null-14");
+        TupleListEntry<UniTuple<String>> bethEntry = indexer.put(new ManyIndexProperties(null, 14), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-8-null");
+        TupleListEntry<UniTuple<String>> carlEntry = indexer.put(new ManyIndexProperties(8, null), carlTuple);
+
+        assertThat(getTuples(indexer, 8, 0)).containsOnly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, null, 0)).isEmpty();
+        assertThat(getTuples(indexer, 30, null)).containsOnly(annTuple, bethTuple);
+        assertThat(indexer.size(new ManyIndexProperties(8, 0))).isEqualTo(2);
+
+        indexer.remove(new ManyIndexProperties(null, 14), bethEntry);
+        indexer.remove(new ManyIndexProperties(8, null), carlEntry);
+        assertThat(getTuples(indexer, 30, null)).containsOnly(annTuple);
+    }
+
+    @Test
+    void visitWithEqual() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(equalAndOverlappingJoiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-0-8");
+        indexer.put(new ManyIndexProperties("Ann", 0, 8), annTuple);
+        UniTuple<String> annTuple2 = newTuple("Ann-6-14");
+        indexer.put(new ManyIndexProperties("Ann", 6, 14), annTuple2);
+        indexer.put(new ManyIndexProperties("Beth", 6, 14), newTuple("Beth-6-14"));
+
+        assertThat(getTuples(indexer, "Ann", 7, 6)).containsOnly(annTuple, annTuple2);
+        assertThat(getTuples(indexer, "Ann", 20, 10)).containsOnly(annTuple2);
+        assertThat(getTuples(indexer, "Carl", 20, 0)).isEmpty();
+    }
+
+    @Test
+    void visitMatchesBruteForce() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        Random random = new Random(37);
+        List<Shift> shiftList = new ArrayList<>();
+        List<TupleListEntry<UniTuple<String>>> entryList = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(1000);
+            Shift shift = new Shift("Shift-" + i, start, start + 1 + random.nextInt(50));
+            shiftList.add(shift);
+            entryList.add(indexer.put(new ManyIndexProperties(shift.start, shift.end), newTuple(shift.employee)));
+        }
+        for (int i = 0; i < shiftList.size(); i += 3) { // Remove a third, to exercise rebalancing.
+            Shift shift = shiftList.get(i);
+            indexer.remove(new ManyIndexProperties(shift.start, shift.end), entryList.get(i));
+        }
+        for (int queryStart = 0; queryStart < 1050; queryStart += 7) {
+            int queryEnd = queryStart + 1 + (queryStart % 40);
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < shiftList.size(); i++) {
+                Shift shift = shiftList.get(i);
+                if (i % 3 != 0 && shift.start < queryEnd && shift.end > queryStart) {
+                    expected.add(shift.employee);
+                }
+            }
+            List<String> actual = new ArrayList<>();
+            getTuples(indexer, queryEnd, queryStart).forEach(tuple -> actual.add(tuple.getFactA()));
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(indexer.size(new ManyIndexProperties(queryEnd, queryStart))).isEqualTo(expected.size());
+        }
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTupleImpl<>(factA, 0);
+    }
+
+    private static final class Shift {
+
+        private final String employee;
+        private final int start;
+        private final int end;
+
+        private Shift(String employee, int start, int end) {
+            this.employee = employee;
+            this.start = start;
+            this.end = end;
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package ai.timefold.solver.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.constraint.streams.bavet.common.collection.TupleListEntry;
+import ai.timefold.solver.constraint.streams.bavet.uni.UniTuple;
+import ai.timefold.solver.constraint.streams.bavet.uni.UniTupleImpl;
+import ai.timefold.solver.constraint.streams.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveEqualsIndexerTest extends AbstractIndexerTest {
+
+    private final DefaultBiJoiner<Person, Person> joiner =
+            (DefaultBiJoiner<Person, Person>) Joiners.equal((Person p) -> p.age);
+
+    @Test
+    void isEmpty() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        assertThat(indexer).isInstanceOf(PrimitiveEqualsIndexer.class);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, 40)).isEmpty();
+    }
+
+    @Test
+    void put() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        assertThat(indexer.size(new SingleIndexProperties(40))).isEqualTo(0);
+        indexer.put(new SingleIndexProperties(40), annTuple);
+        assertThat(indexer.size(new SingleIndexProperties(40))).isEqualTo(1);
+        assertThat(indexer.isEmpty()).isFalse();
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        TupleListEntry<UniTuple<String>> annEntry = indexer.put(new SingleIndexProperties(40), annTuple);
+
+        indexer.remove(new SingleIndexProperties(40), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new SingleIndexProperties(40), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+
+        UniTuple<String> annTuple = newTuple("Ann-F-40");
+        indexer.put(new SingleIndexProperties(40), annTuple);
+        UniTuple<String> bethTuple = newTuple("Beth-F-30");
+        indexer.put(new SingleIndexProperties(30), bethTuple);
+        UniTuple<String> carlTuple = newTuple("Carl-M-40L");
+        indexer.put(new SingleIndexProperties(40L), carlTuple);
+        UniTuple<String> danTuple = newTuple("Dan-M-null");
+        indexer.put(new SingleIndexProperties(null), danTuple);
+        UniTuple<String> ednaTuple = newTuple("Edna-F-40");
+        indexer.put(new SingleIndexProperties(40), ednaTuple);
+
+        assertThat(getTuples(indexer, 40)).containsOnly(annTuple, ednaTuple);
+        assertThat(getTuples(indexer, 40L)).containsOnly(carlTuple);
+        assertThat(getTuples(indexer, 30)).containsOnly(bethTuple);
+        assertThat(getTuples(indexer, (Object) null)).containsOnly(danTuple);
+        assertThat(getTuples(indexer, 20)).isEmpty();
+    }
+
+    @Test
+    void putAndRemoveManyKeys() {
+        Indexer<UniTuple<String>> indexer = new IndexerFactory(joiner).buildIndexer(true);
+        int keyCount = 1_000;
+        List<TupleListEntry<UniTuple<String>>> entryList = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            // Multiples of 1024 collide in the low bits, which exercises probing.
+            entryList.add(indexer.put(new SingleIndexProperties(i * 1024), newTuple("Tuple-" + i)));
+        }
+        for (int i = 0; i < keyCount; i += 2) {
+            indexer.remove(new SingleIndexProperties(i * 1024), entryList.get(i));
+        }
+        for (int i = 0; i < keyCount; i++) {
+            List<UniTuple<String>> tuples = getTuples(indexer, i * 1024);
+            if (i % 2 == 0) {
+                assertThat(tuples).isEmpty();
+            } else {
+                assertThat(tuples).containsOnly(entryList.get(i).getElement());
+            }
+        }
+        for (int i = 1; i < keyCount; i += 2) {
+            indexer.remove(new SingleIndexProperties(i * 1024), entryList.get(i));
+        }
+        assertThat(indexer.isEmpty()).isTrue();
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTupleImpl<>(factA, 0);
+    }
+
+}
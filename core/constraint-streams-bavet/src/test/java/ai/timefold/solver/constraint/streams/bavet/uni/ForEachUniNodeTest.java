@@ -0,0 +1,55 @@
+package ai.timefold.solver.constraint.streams.bavet.uni;
+
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.Objects;
+
+import ai.timefold.solver.constraint.streams.bavet.common.TupleLifecycle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ForEachUniNodeTest {
+
+    @Mock
+    private TupleLifecycle<UniTuple<String>> downstream;
+
+    @Test
+    void insertAndRetractBeforeCalculateScore() {
+        ForEachUniNode<String> node = new ForEachUniNode<>(String.class, downstream, 1);
+
+        // The tuple never made it downstream, so nothing is retracted either.
+        node.insert("A");
+        node.retract("A");
+        node.calculateScore();
+        verifyNoInteractions(downstream);
+    }
+
+    @Test
+    void updateAndRetractBeforeCalculateScore() {
+        ForEachUniNode<String> node = new ForEachUniNode<>(String.class, downstream, 1);
+
+        node.insert("A");
+        node.calculateScore();
+        verify(downstream).insert(argThat(t -> Objects.equals(t.getFactA(), "A")));
+        verifyNoMoreInteractions(downstream);
+        reset(downstream);
+
+        // The tuple is already downstream, so it needs to be retracted, not just dropped.
+        node.update("A");
+        node.retract("A");
+        verifyNoInteractions(downstream);
+
+        node.calculateScore();
+        verify(downstream).retract(argThat(t -> Objects.equals(t.getFactA(), "A")));
+        verifyNoMoreInteractions(downstream);
+    }
+
+}
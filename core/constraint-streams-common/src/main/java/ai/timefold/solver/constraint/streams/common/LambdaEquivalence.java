@@ -0,0 +1,195 @@
+package ai.timefold.solver.constraint.streams.common;
+
+import java.io.Serializable;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * Decides whether two functions (such as joiner mappings or filter predicates) are interchangeable for node sharing.
+ * <p>
+ * Lambdas and method references are equivalent if they are the same instance,
+ * or if they were created by the same call site and captured equivalent values.
+ * For example, a helper method {@code hasColor(String color)} that returns {@code entity -> entity.hasColor(color)}
+ * creates a new instance on every call, but two of those instances with the same color behave identically.
+ * Captured values are only compared by {@link Object#equals(Object)} if they are immutable value types;
+ * anything else must be the same instance.
+ * <p>
+ * Method references written at different places in the source code are compiled into different classes.
+ * If they are {@link Serializable}, their {@link SerializedLambda} tells which method they refer to,
+ * so two method references to the same method (such as {@code Shift::getEmployee}) are equivalent,
+ * even if they were created by different call sites.
+ * Otherwise the JVM does not expose the method they refer to, so they are never equivalent:
+ * reuse the same instance to share those.
+ */
+public final class LambdaEquivalence {
+
+    /**
+     * @param a sometimes null
+     * @param b sometimes null
+     * @return true if a node built with a can be used instead of a node built with b
+     */
+    public static boolean areEquivalent(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        Class<?> clazz = a.getClass();
+        if (isLambda(clazz) && isLambda(b.getClass())) {
+            SerializedLambda serializedA = getSerializedLambda(a);
+            SerializedLambda serializedB = getSerializedLambda(b);
+            if (serializedA != null && serializedB != null) {
+                return areEquivalent(serializedA, serializedB);
+            }
+        }
+        if (clazz != b.getClass()) {
+            return false;
+        }
+        if (!isLambda(clazz)) {
+            return a.equals(b);
+        }
+        try {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                if (!areCapturedValuesEquivalent(field.get(a), field.get(b))) {
+                    return false;
+                }
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The lambda's module does not allow inspecting its captured values, so only identity counts.
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean areEquivalent(SerializedLambda a, SerializedLambda b) {
+        if (!a.getImplClass().equals(b.getImplClass())
+                || !a.getImplMethodName().equals(b.getImplMethodName())
+                || !a.getImplMethodSignature().equals(b.getImplMethodSignature())
+                || a.getImplMethodKind() != b.getImplMethodKind()
+                || !a.getFunctionalInterfaceClass().equals(b.getFunctionalInterfaceClass())
+                || !a.getInstantiatedMethodType().equals(b.getInstantiatedMethodType())
+                || a.getCapturedArgCount() != b.getCapturedArgCount()) {
+            return false;
+        }
+        for (int i = 0; i < a.getCapturedArgCount(); i++) {
+            if (!areCapturedValuesEquivalent(a.getCapturedArg(i), b.getCapturedArg(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean areCapturedValuesEquivalent(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        if (isLambda(a.getClass()) && isLambda(b.getClass())) {
+            return areEquivalent(a, b);
+        }
+        if (a.getClass() != b.getClass()) {
+            return false;
+        }
+        return isImmutableValue(a) && a.equals(b);
+    }
+
+    /**
+     * @param a sometimes null
+     * @return consistent with {@link #areEquivalent(Object, Object)}
+     */
+    public static int hashCode(Object a) {
+        if (a == null) {
+            return 0;
+        }
+        Class<?> clazz = a.getClass();
+        if (!isLambda(clazz)) {
+            return a.hashCode();
+        }
+        SerializedLambda serializedLambda = getSerializedLambda(a);
+        if (serializedLambda != null) {
+            return Objects.hash(serializedLambda.getImplClass(), serializedLambda.getImplMethodName(),
+                    serializedLambda.getImplMethodSignature());
+        }
+        return clazz.hashCode();
+    }
+
+    /**
+     * @param a sometimes null
+     * @param b sometimes null
+     * @return true if both arrays have the same length and their elements are {@link #areEquivalent(Object, Object)}
+     */
+    public static boolean areEquivalent(Object[] a, Object[] b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null || a.length != b.length) {
+            return false;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (!areEquivalent(a[i], b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param a sometimes null
+     * @return consistent with {@link #areEquivalent(Object[], Object[])}
+     */
+    public static int hashCode(Object[] a) {
+        if (a == null) {
+            return 0;
+        }
+        int result = 1;
+        for (Object element : a) {
+            result = 31 * result + hashCode(element);
+        }
+        return result;
+    }
+
+    private static boolean isLambda(Class<?> clazz) {
+        return clazz.isSynthetic() && clazz.getName().contains("$$Lambda");
+    }
+
+    /**
+     * @param lambda never null
+     * @return null if the lambda is not {@link Serializable} or its module does not allow inspecting it
+     */
+    private static SerializedLambda getSerializedLambda(Object lambda) {
+        if (!(lambda instanceof Serializable)) {
+            return null;
+        }
+        try {
+            Method writeReplace = lambda.getClass().getDeclaredMethod("writeReplace");
+            writeReplace.setAccessible(true);
+            Object replacement = writeReplace.invoke(lambda);
+            return replacement instanceof SerializedLambda ? (SerializedLambda) replacement : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isImmutableValue(Object value) {
+        return value instanceof String
+                || value instanceof Number && value.getClass().getName().startsWith("java.lang.")
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum
+                || value instanceof Class;
+    }
+
+    private LambdaEquivalence() {
+    }
+
+}
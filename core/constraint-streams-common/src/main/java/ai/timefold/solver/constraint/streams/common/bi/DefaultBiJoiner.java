@@ -6,6 +6,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import ai.timefold.solver.constraint.streams.common.AbstractJoiner;
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.core.api.score.stream.bi.BiJoiner;
 import ai.timefold.solver.core.impl.score.stream.JoinerType;
 
@@ -79,13 +80,14 @@ public final class DefaultBiJoiner<A, B> extends AbstractJoiner<B> implements Bi
         }
         DefaultBiJoiner<?, ?> other = (DefaultBiJoiner<?, ?>) o;
         return Arrays.equals(joinerTypes, other.joinerTypes)
-                && Arrays.equals(leftMappings, other.leftMappings)
-                && Arrays.equals(rightMappings, other.rightMappings);
+                && LambdaEquivalence.areEquivalent(leftMappings, other.leftMappings)
+                && LambdaEquivalence.areEquivalent(rightMappings, other.rightMappings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(Arrays.hashCode(joinerTypes), Arrays.hashCode(leftMappings), Arrays.hashCode(rightMappings));
+        return Objects.hash(Arrays.hashCode(joinerTypes), LambdaEquivalence.hashCode(leftMappings),
+                LambdaEquivalence.hashCode(rightMappings));
     }
 
 }
@@ -1,8 +1,8 @@
 package ai.timefold.solver.constraint.streams.common.bi;
 
-import java.util.Objects;
 import java.util.function.BiPredicate;
 
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.core.api.score.stream.bi.BiJoiner;
 
 public final class FilteringBiJoiner<A, B> implements BiJoiner<A, B> {
@@ -32,11 +32,11 @@ public final class FilteringBiJoiner<A, B> implements BiJoiner<A, B> {
             return false;
         }
         FilteringBiJoiner<?, ?> other = (FilteringBiJoiner<?, ?>) o;
-        return Objects.equals(filter, other.filter);
+        return LambdaEquivalence.areEquivalent(filter, other.filter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(filter);
+        return LambdaEquivalence.hashCode(filter);
     }
 }
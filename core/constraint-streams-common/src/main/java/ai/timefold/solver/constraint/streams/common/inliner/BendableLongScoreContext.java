@@ -43,6 +43,11 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
                 justificationsSupplier);
     }
 
+    public void changeSoftScoreWithoutUndo(long matchWeight) {
+        long softImpact = scoreLevelWeight * matchWeight;
+        softScoreLevelUpdater.accept(scoreLevel, softImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = scoreLevelWeight * matchWeight;
         hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
@@ -55,6 +60,11 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
                 justificationsSupplier);
     }
 
+    public void changeHardScoreWithoutUndo(long matchWeight) {
+        long hardImpact = scoreLevelWeight * matchWeight;
+        hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long[] hardImpacts = new long[hardScoreLevelCount];
         long[] softImpacts = new long[softScoreLevelCount];
@@ -83,6 +93,15 @@ final class BendableLongScoreContext extends ScoreContext<BendableLongScore> {
                 justificationsSupplier);
     }
 
+    public void changeScoreWithoutUndo(long matchWeight) {
+        for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+            hardScoreLevelUpdater.accept(hardScoreLevel, constraintWeight.hardScore(hardScoreLevel) * matchWeight);
+        }
+        for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+            softScoreLevelUpdater.accept(softScoreLevel, constraintWeight.softScore(softScoreLevel) * matchWeight);
+        }
+    }
+
     public interface IntLongConsumer {
 
         void accept(int value1, long value2);
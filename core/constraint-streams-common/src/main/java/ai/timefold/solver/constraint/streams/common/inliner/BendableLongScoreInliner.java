@@ -41,16 +41,19 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
                     hardScoreUpdater, softScoreUpdater);
             if (isHardScore) {
                 return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
-                        JustificationsSupplier justificationSupplier) -> ctx.changeHardScoreBy(impact, justificationSupplier));
+                        JustificationsSupplier justificationSupplier) -> ctx.changeHardScoreBy(impact, justificationSupplier),
+                        BendableLongScoreContext::changeHardScoreWithoutUndo);
             } else {
                 return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
-                        JustificationsSupplier justificationSupplier) -> ctx.changeSoftScoreBy(impact, justificationSupplier));
+                        JustificationsSupplier justificationSupplier) -> ctx.changeSoftScoreBy(impact, justificationSupplier),
+                        BendableLongScoreContext::changeSoftScoreWithoutUndo);
             }
         } else {
             BendableLongScoreContext context = new BendableLongScoreContext(this, constraint, constraintWeight,
                     hardScores.length, softScores.length, hardScoreUpdater, softScoreUpdater);
             return WeightedScoreImpacter.of(context, (BendableLongScoreContext ctx, long impact,
-                    JustificationsSupplier justificationSupplier) -> ctx.changeScoreBy(impact, justificationSupplier));
+                    JustificationsSupplier justificationSupplier) -> ctx.changeScoreBy(impact, justificationSupplier),
+                    BendableLongScoreContext::changeScoreWithoutUndo);
         }
     }
 
@@ -42,6 +42,11 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
                 BendableScore.ofSoft(hardScoreLevelCount, softScoreLevelCount, scoreLevel, softImpact), justificationsSupplier);
     }
 
+    public void changeSoftScoreWithoutUndo(int matchWeight) {
+        int softImpact = scoreLevelWeight * matchWeight;
+        softScoreLevelUpdater.accept(scoreLevel, softImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = scoreLevelWeight * matchWeight;
         hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
@@ -53,6 +58,11 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
                 BendableScore.ofHard(hardScoreLevelCount, softScoreLevelCount, scoreLevel, hardImpact), justificationsSupplier);
     }
 
+    public void changeHardScoreWithoutUndo(int matchWeight) {
+        int hardImpact = scoreLevelWeight * matchWeight;
+        hardScoreLevelUpdater.accept(scoreLevel, hardImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int[] hardImpacts = new int[hardScoreLevelCount];
         int[] softImpacts = new int[softScoreLevelCount];
@@ -80,6 +90,15 @@ final class BendableScoreContext extends ScoreContext<BendableScore> {
         return impactWithConstraintMatch(undoScoreImpact, BendableScore.of(hardImpacts, softImpacts), justificationsSupplier);
     }
 
+    public void changeScoreWithoutUndo(int matchWeight) {
+        for (int hardScoreLevel = 0; hardScoreLevel < hardScoreLevelCount; hardScoreLevel++) {
+            hardScoreLevelUpdater.accept(hardScoreLevel, constraintWeight.hardScore(hardScoreLevel) * matchWeight);
+        }
+        for (int softScoreLevel = 0; softScoreLevel < softScoreLevelCount; softScoreLevel++) {
+            softScoreLevelUpdater.accept(softScoreLevel, constraintWeight.softScore(softScoreLevel) * matchWeight);
+        }
+    }
+
     public interface IntBiConsumer {
 
         void accept(int value1, int value2);
@@ -32,6 +32,16 @@ final class BigDecimalWeightedScoreImpacter<Score_ extends Score<Score_>, Contex
         return impactFunction.impact(context, matchWeight, justificationsSupplier);
     }
 
+    @Override
+    public boolean isImpactWithoutUndoSupported() {
+        return false;
+    }
+
+    @Override
+    public void impactScoreWithoutUndo(long matchWeight) {
+        throw new UnsupportedOperationException("Impossible state: impacting without undo into a BigDecimal impacter.");
+    }
+
     @Override
     public Context_ getContext() {
         return context;
@@ -30,6 +30,11 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftLongScore.ofSoft(softImpact), justificationsSupplier);
     }
 
+    public void changeSoftScoreWithoutUndo(long matchWeight) {
+        long softImpact = constraintWeight.softScore() * matchWeight;
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeMediumScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long mediumImpact = constraintWeight.mediumScore() * matchWeight;
         mediumScoreUpdater.accept(mediumImpact);
@@ -41,6 +46,11 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
                 justificationsSupplier);
     }
 
+    public void changeMediumScoreWithoutUndo(long matchWeight) {
+        long mediumImpact = constraintWeight.mediumScore() * matchWeight;
+        mediumScoreUpdater.accept(mediumImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
@@ -51,6 +61,11 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftLongScore.ofHard(hardImpact), justificationsSupplier);
     }
 
+    public void changeHardScoreWithoutUndo(long matchWeight) {
+        long hardImpact = constraintWeight.hardScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         long mediumImpact = constraintWeight.mediumScore() * matchWeight;
@@ -70,4 +85,13 @@ final class HardMediumSoftLongScoreContext extends ScoreContext<HardMediumSoftLo
                 justificationsSupplier);
     }
 
+    public void changeScoreWithoutUndo(long matchWeight) {
+        long hardImpact = constraintWeight.hardScore() * matchWeight;
+        long mediumImpact = constraintWeight.mediumScore() * matchWeight;
+        long softImpact = constraintWeight.softScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+        mediumScoreUpdater.accept(mediumImpact);
+        softScoreUpdater.accept(softImpact);
+    }
+
 }
@@ -26,19 +26,23 @@ final class HardMediumSoftLongScoreInliner extends AbstractScoreInliner<HardMedi
         if (mediumConstraintWeight == 0L && softConstraintWeight == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeHardScoreBy(matchWeight, justificationsSupplier));
+                            .changeHardScoreBy(matchWeight, justificationsSupplier),
+                    HardMediumSoftLongScoreContext::changeHardScoreWithoutUndo);
         } else if (hardConstraintWeight == 0L && softConstraintWeight == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeMediumScoreBy(matchWeight, justificationsSupplier));
+                            .changeMediumScoreBy(matchWeight, justificationsSupplier),
+                    HardMediumSoftLongScoreContext::changeMediumScoreWithoutUndo);
         } else if (hardConstraintWeight == 0L && mediumConstraintWeight == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeSoftScoreBy(matchWeight, justificationsSupplier));
+                            .changeSoftScoreBy(matchWeight, justificationsSupplier),
+                    HardMediumSoftLongScoreContext::changeSoftScoreWithoutUndo);
         } else {
             return WeightedScoreImpacter.of(context,
                     (HardMediumSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeScoreBy(matchWeight, justificationsSupplier));
+                            .changeScoreBy(matchWeight, justificationsSupplier),
+                    HardMediumSoftLongScoreContext::changeScoreWithoutUndo);
         }
     }
 
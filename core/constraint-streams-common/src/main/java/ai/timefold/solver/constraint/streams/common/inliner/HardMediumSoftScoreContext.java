@@ -30,6 +30,11 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftScore.ofSoft(softImpact), justificationsSupplier);
     }
 
+    public void changeSoftScoreWithoutUndo(int matchWeight) {
+        int softImpact = constraintWeight.softScore() * matchWeight;
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeMediumScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int mediumImpact = constraintWeight.mediumScore() * matchWeight;
         mediumScoreUpdater.accept(mediumImpact);
@@ -40,6 +45,11 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftScore.ofMedium(mediumImpact), justificationsSupplier);
     }
 
+    public void changeMediumScoreWithoutUndo(int matchWeight) {
+        int mediumImpact = constraintWeight.mediumScore() * matchWeight;
+        mediumScoreUpdater.accept(mediumImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
@@ -50,6 +60,11 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
         return impactWithConstraintMatch(undoScoreImpact, HardMediumSoftScore.ofHard(hardImpact), justificationsSupplier);
     }
 
+    public void changeHardScoreWithoutUndo(int matchWeight) {
+        int hardImpact = constraintWeight.hardScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         int mediumImpact = constraintWeight.mediumScore() * matchWeight;
@@ -69,4 +84,13 @@ final class HardMediumSoftScoreContext extends ScoreContext<HardMediumSoftScore>
                 justificationsSupplier);
     }
 
+    public void changeScoreWithoutUndo(int matchWeight) {
+        int hardImpact = constraintWeight.hardScore() * matchWeight;
+        int mediumImpact = constraintWeight.mediumScore() * matchWeight;
+        int softImpact = constraintWeight.softScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+        mediumScoreUpdater.accept(mediumImpact);
+        softScoreUpdater.accept(softImpact);
+    }
+
 }
@@ -25,13 +25,17 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
                         impact -> this.hardScore += impact, impact -> this.mediumScore += impact,
                         impact -> this.softScore += impact);
         if (mediumConstraintWeight == 0 && softConstraintWeight == 0) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeHardScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeHardScoreBy,
+                    HardMediumSoftScoreContext::changeHardScoreWithoutUndo);
         } else if (hardConstraintWeight == 0 && softConstraintWeight == 0) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeMediumScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeMediumScoreBy,
+                    HardMediumSoftScoreContext::changeMediumScoreWithoutUndo);
         } else if (hardConstraintWeight == 0 && mediumConstraintWeight == 0) {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeSoftScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeSoftScoreBy,
+                    HardMediumSoftScoreContext::changeSoftScoreWithoutUndo);
         } else {
-            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, HardMediumSoftScoreContext::changeScoreBy,
+                    HardMediumSoftScoreContext::changeScoreWithoutUndo);
         }
     }
 
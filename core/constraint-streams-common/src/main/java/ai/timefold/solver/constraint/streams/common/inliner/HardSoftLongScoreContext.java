@@ -27,6 +27,11 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore> {
         return impactWithConstraintMatch(undoScoreImpact, HardSoftLongScore.ofSoft(softImpact), justificationsSupplier);
     }
 
+    public void changeSoftScoreWithoutUndo(long matchWeight) {
+        long softImpact = constraintWeight.softScore() * matchWeight;
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
@@ -37,6 +42,11 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore> {
         return impactWithConstraintMatch(undoScoreImpact, HardSoftLongScore.ofHard(hardImpact), justificationsSupplier);
     }
 
+    public void changeHardScoreWithoutUndo(long matchWeight) {
+        long hardImpact = constraintWeight.hardScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(long matchWeight, JustificationsSupplier justificationsSupplier) {
         long hardImpact = constraintWeight.hardScore() * matchWeight;
         long softImpact = constraintWeight.softScore() * matchWeight;
@@ -52,4 +62,11 @@ final class HardSoftLongScoreContext extends ScoreContext<HardSoftLongScore> {
         return impactWithConstraintMatch(undoScoreImpact, HardSoftLongScore.of(hardImpact, softImpact), justificationsSupplier);
     }
 
+    public void changeScoreWithoutUndo(long matchWeight) {
+        long hardImpact = constraintWeight.hardScore() * matchWeight;
+        long softImpact = constraintWeight.softScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+        softScoreUpdater.accept(softImpact);
+    }
+
 }
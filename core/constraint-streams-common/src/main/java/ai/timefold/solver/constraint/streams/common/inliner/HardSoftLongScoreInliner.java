@@ -22,15 +22,18 @@ final class HardSoftLongScoreInliner extends AbstractScoreInliner<HardSoftLongSc
         if (constraintWeight.softScore() == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeHardScoreBy(matchWeight, justificationsSupplier));
+                            .changeHardScoreBy(matchWeight, justificationsSupplier),
+                    HardSoftLongScoreContext::changeHardScoreWithoutUndo);
         } else if (constraintWeight.hardScore() == 0L) {
             return WeightedScoreImpacter.of(context,
                     (HardSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeSoftScoreBy(matchWeight, justificationsSupplier));
+                            .changeSoftScoreBy(matchWeight, justificationsSupplier),
+                    HardSoftLongScoreContext::changeSoftScoreWithoutUndo);
         } else {
             return WeightedScoreImpacter.of(context,
                     (HardSoftLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                            .changeScoreBy(matchWeight, justificationsSupplier));
+                            .changeScoreBy(matchWeight, justificationsSupplier),
+                    HardSoftLongScoreContext::changeScoreWithoutUndo);
         }
     }
 
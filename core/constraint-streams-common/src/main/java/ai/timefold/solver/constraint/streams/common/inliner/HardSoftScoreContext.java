@@ -27,6 +27,11 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore> {
         return impactWithConstraintMatch(undoScoreImpact, HardSoftScore.ofSoft(softImpact), justificationsSupplier);
     }
 
+    public void changeSoftScoreWithoutUndo(int matchWeight) {
+        int softImpact = constraintWeight.softScore() * matchWeight;
+        softScoreUpdater.accept(softImpact);
+    }
+
     public UndoScoreImpacter changeHardScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         hardScoreUpdater.accept(hardImpact);
@@ -37,6 +42,11 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore> {
         return impactWithConstraintMatch(undoScoreImpact, HardSoftScore.ofHard(hardImpact), justificationsSupplier);
     }
 
+    public void changeHardScoreWithoutUndo(int matchWeight) {
+        int hardImpact = constraintWeight.hardScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+    }
+
     public UndoScoreImpacter changeScoreBy(int matchWeight, JustificationsSupplier justificationsSupplier) {
         int hardImpact = constraintWeight.hardScore() * matchWeight;
         int softImpact = constraintWeight.softScore() * matchWeight;
@@ -52,4 +62,11 @@ final class HardSoftScoreContext extends ScoreContext<HardSoftScore> {
         return impactWithConstraintMatch(undoScoreImpact, HardSoftScore.of(hardImpact, softImpact), justificationsSupplier);
     }
 
+    public void changeScoreWithoutUndo(int matchWeight) {
+        int hardImpact = constraintWeight.hardScore() * matchWeight;
+        int softImpact = constraintWeight.softScore() * matchWeight;
+        hardScoreUpdater.accept(hardImpact);
+        softScoreUpdater.accept(softImpact);
+    }
+
 }
@@ -19,11 +19,14 @@ final class HardSoftScoreInliner extends AbstractScoreInliner<HardSoftScore> {
         HardSoftScoreContext context = new HardSoftScoreContext(this, constraint, constraintWeight,
                 impact -> this.hardScore += impact, impact -> this.softScore += impact);
         if (constraintWeight.softScore() == 0) {
-            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeHardScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeHardScoreBy,
+                    HardSoftScoreContext::changeHardScoreWithoutUndo);
         } else if (constraintWeight.hardScore() == 0) {
-            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeSoftScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeSoftScoreBy,
+                    HardSoftScoreContext::changeSoftScoreWithoutUndo);
         } else {
-            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeScoreBy);
+            return WeightedScoreImpacter.of(context, HardSoftScoreContext::changeScoreBy,
+                    HardSoftScoreContext::changeScoreWithoutUndo);
         }
     }
 
@@ -9,10 +9,17 @@ final class IntWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ exte
         implements WeightedScoreImpacter<Score_, Context_> {
 
     private final IntImpactFunction<Score_, Context_> impactFunction;
+    /**
+     * Null if the score type doesn't support impacting without an undo,
+     * or if constraint match is enabled, because a constraint match needs to be undone too.
+     */
+    private final IntImpactWithoutUndoFunction<Score_, Context_> impactWithoutUndoFunction;
     private final Context_ context;
 
-    public IntWeightedScoreImpacter(IntImpactFunction<Score_, Context_> impactFunction, Context_ context) {
+    public IntWeightedScoreImpacter(IntImpactFunction<Score_, Context_> impactFunction,
+            IntImpactWithoutUndoFunction<Score_, Context_> impactWithoutUndoFunction, Context_ context) {
         this.impactFunction = Objects.requireNonNull(impactFunction);
+        this.impactWithoutUndoFunction = context.isConstraintMatchEnabled() ? null : impactWithoutUndoFunction;
         this.context = context;
     }
 
@@ -31,6 +38,19 @@ final class IntWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ exte
         throw new UnsupportedOperationException("Impossible state: passing BigDecimal into an int impacter.");
     }
 
+    @Override
+    public boolean isImpactWithoutUndoSupported() {
+        return impactWithoutUndoFunction != null;
+    }
+
+    @Override
+    public void impactScoreWithoutUndo(long matchWeight) {
+        if (impactWithoutUndoFunction == null) {
+            throw new UnsupportedOperationException("Impossible state: impacting without undo is not supported.");
+        }
+        impactWithoutUndoFunction.impact(context, (int) matchWeight);
+    }
+
     @Override
     public Context_ getContext() {
         return context;
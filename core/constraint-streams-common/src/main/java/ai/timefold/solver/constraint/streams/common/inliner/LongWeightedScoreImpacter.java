@@ -9,10 +9,17 @@ final class LongWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ext
         implements WeightedScoreImpacter<Score_, Context_> {
 
     private final LongImpactFunction<Score_, Context_> impactFunction;
+    /**
+     * Null if the score type doesn't support impacting without an undo,
+     * or if constraint match is enabled, because a constraint match needs to be undone too.
+     */
+    private final LongImpactWithoutUndoFunction<Score_, Context_> impactWithoutUndoFunction;
     private final Context_ context;
 
-    public LongWeightedScoreImpacter(LongImpactFunction<Score_, Context_> impactFunction, Context_ context) {
+    public LongWeightedScoreImpacter(LongImpactFunction<Score_, Context_> impactFunction,
+            LongImpactWithoutUndoFunction<Score_, Context_> impactWithoutUndoFunction, Context_ context) {
         this.impactFunction = Objects.requireNonNull(impactFunction);
+        this.impactWithoutUndoFunction = context.isConstraintMatchEnabled() ? null : impactWithoutUndoFunction;
         this.context = context;
     }
 
@@ -31,6 +38,19 @@ final class LongWeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ext
         throw new UnsupportedOperationException("Impossible state: passing BigDecimal into a long impacter.");
     }
 
+    @Override
+    public boolean isImpactWithoutUndoSupported() {
+        return impactWithoutUndoFunction != null;
+    }
+
+    @Override
+    public void impactScoreWithoutUndo(long matchWeight) {
+        if (impactWithoutUndoFunction == null) {
+            throw new UnsupportedOperationException("Impossible state: impacting without undo is not supported.");
+        }
+        impactWithoutUndoFunction.impact(context, matchWeight);
+    }
+
     @Override
     public Context_ getContext() {
         return context;
@@ -0,0 +1,28 @@
+package ai.timefold.solver.constraint.streams.common.inliner;
+
+/**
+ * Remembers the match weight of the last impact, and undoes it by impacting the negated match weight.
+ * A scorer keeps one per tuple and reuses it for every impact of that tuple,
+ * so that impacting the score doesn't allocate.
+ * Only for a {@link WeightedScoreImpacter} which {@link WeightedScoreImpacter#isImpactWithoutUndoSupported()}.
+ */
+public final class ReusableUndoScoreImpacter implements UndoScoreImpacter {
+
+    private final WeightedScoreImpacter<?, ?> weightedScoreImpacter;
+    private long matchWeight;
+
+    public ReusableUndoScoreImpacter(WeightedScoreImpacter<?, ?> weightedScoreImpacter) {
+        this.weightedScoreImpacter = weightedScoreImpacter;
+    }
+
+    public void impactScore(long matchWeight) {
+        weightedScoreImpacter.impactScoreWithoutUndo(matchWeight);
+        this.matchWeight = matchWeight;
+    }
+
+    @Override
+    public void run() {
+        weightedScoreImpacter.impactScoreWithoutUndo(-matchWeight);
+    }
+
+}
@@ -25,4 +25,9 @@ final class SimpleLongScoreContext extends ScoreContext<SimpleLongScore> {
         return impactWithConstraintMatch(undoScoreImpact, SimpleLongScore.of(impact), justificationsSupplier);
     }
 
+    public void changeScoreWithoutUndo(long matchWeight) {
+        long impact = constraintWeight.score() * matchWeight;
+        scoreUpdater.accept(impact);
+    }
+
 }
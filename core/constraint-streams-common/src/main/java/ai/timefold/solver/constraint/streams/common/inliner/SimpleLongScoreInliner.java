@@ -19,7 +19,8 @@ final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore>
                 impact -> this.score += impact);
         return WeightedScoreImpacter.of(context,
                 (SimpleLongScoreContext ctx, long matchWeight, JustificationsSupplier justificationsSupplier) -> ctx
-                        .changeScoreBy(matchWeight, justificationsSupplier));
+                        .changeScoreBy(matchWeight, justificationsSupplier),
+                SimpleLongScoreContext::changeScoreWithoutUndo);
     }
 
     @Override
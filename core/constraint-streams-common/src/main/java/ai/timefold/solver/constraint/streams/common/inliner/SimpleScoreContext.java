@@ -25,4 +25,9 @@ final class SimpleScoreContext extends ScoreContext<SimpleScore> {
         return impactWithConstraintMatch(undoScoreImpact, SimpleScore.of(impact), justificationsSupplier);
     }
 
+    public void changeScoreWithoutUndo(int matchWeight) {
+        int impact = constraintWeight.score() * matchWeight;
+        scoreUpdater.accept(impact);
+    }
+
 }
@@ -25,12 +25,24 @@ public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ex
 
     static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> WeightedScoreImpacter<Score_, Context_>
             of(Context_ context, IntImpactFunction<Score_, Context_> impactFunction) {
-        return new IntWeightedScoreImpacter<>(impactFunction, context);
+        return new IntWeightedScoreImpacter<>(impactFunction, null, context);
+    }
+
+    static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> WeightedScoreImpacter<Score_, Context_>
+            of(Context_ context, IntImpactFunction<Score_, Context_> impactFunction,
+                    IntImpactWithoutUndoFunction<Score_, Context_> impactWithoutUndoFunction) {
+        return new IntWeightedScoreImpacter<>(impactFunction, impactWithoutUndoFunction, context);
     }
 
     static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> WeightedScoreImpacter<Score_, Context_>
             of(Context_ context, LongImpactFunction<Score_, Context_> impactFunction) {
-        return new LongWeightedScoreImpacter<>(impactFunction, context);
+        return new LongWeightedScoreImpacter<>(impactFunction, null, context);
+    }
+
+    static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> WeightedScoreImpacter<Score_, Context_>
+            of(Context_ context, LongImpactFunction<Score_, Context_> impactFunction,
+                    LongImpactWithoutUndoFunction<Score_, Context_> impactWithoutUndoFunction) {
+        return new LongWeightedScoreImpacter<>(impactFunction, impactWithoutUndoFunction, context);
     }
 
     static <Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> WeightedScoreImpacter<Score_, Context_>
@@ -59,6 +71,23 @@ public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ex
      */
     UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier);
 
+    /**
+     * @return true if {@link #impactScoreWithoutUndo(long)} is supported,
+     *         which requires an int or long score and constraint match to be disabled
+     */
+    boolean isImpactWithoutUndoSupported();
+
+    /**
+     * Impacts the score like {@link #impactScore(long, JustificationsSupplier)},
+     * but without allocating an {@link UndoScoreImpacter}.
+     * The caller undoes the impact by calling this method again with the negated match weight.
+     * That is exact for int and long scores, even if the impact overflows.
+     *
+     * @param matchWeight within the int range for an int score
+     * @throws UnsupportedOperationException unless {@link #isImpactWithoutUndoSupported()}
+     */
+    void impactScoreWithoutUndo(long matchWeight);
+
     Context_ getContext();
 
     @FunctionalInterface
@@ -75,6 +104,20 @@ public interface WeightedScoreImpacter<Score_ extends Score<Score_>, Context_ ex
 
     }
 
+    @FunctionalInterface
+    interface IntImpactWithoutUndoFunction<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> {
+
+        void impact(Context_ context, int matchWeight);
+
+    }
+
+    @FunctionalInterface
+    interface LongImpactWithoutUndoFunction<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> {
+
+        void impact(Context_ context, long matchWeight);
+
+    }
+
     @FunctionalInterface
     interface BigDecimalImpactFunction<Score_ extends Score<Score_>, Context_ extends ScoreContext<Score_>> {
 
@@ -6,6 +6,7 @@ import java.util.Objects;
 import java.util.function.Function;
 
 import ai.timefold.solver.constraint.streams.common.AbstractJoiner;
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.score.stream.penta.PentaJoiner;
 import ai.timefold.solver.core.impl.score.stream.JoinerType;
@@ -80,12 +81,13 @@ public final class DefaultPentaJoiner<A, B, C, D, E> extends AbstractJoiner<E> i
         }
         DefaultPentaJoiner<?, ?, ?, ?, ?> other = (DefaultPentaJoiner<?, ?, ?, ?, ?>) o;
         return Arrays.equals(joinerTypes, other.joinerTypes)
-                && Arrays.equals(leftMappings, other.leftMappings)
-                && Arrays.equals(rightMappings, other.rightMappings);
+                && LambdaEquivalence.areEquivalent(leftMappings, other.leftMappings)
+                && LambdaEquivalence.areEquivalent(rightMappings, other.rightMappings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(Arrays.hashCode(joinerTypes), Arrays.hashCode(leftMappings), Arrays.hashCode(rightMappings));
+        return Objects.hash(Arrays.hashCode(joinerTypes), LambdaEquivalence.hashCode(leftMappings),
+                LambdaEquivalence.hashCode(rightMappings));
     }
 }
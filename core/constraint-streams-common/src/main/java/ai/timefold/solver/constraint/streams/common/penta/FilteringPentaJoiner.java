@@ -1,7 +1,6 @@
 package ai.timefold.solver.constraint.streams.common.penta;
 
-import java.util.Objects;
-
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.core.api.function.PentaPredicate;
 import ai.timefold.solver.core.api.score.stream.penta.PentaJoiner;
 
@@ -32,11 +31,11 @@ public final class FilteringPentaJoiner<A, B, C, D, E> implements PentaJoiner<A,
             return false;
         }
         FilteringPentaJoiner<?, ?, ?, ?, ?> other = (FilteringPentaJoiner<?, ?, ?, ?, ?>) o;
-        return Objects.equals(filter, other.filter);
+        return LambdaEquivalence.areEquivalent(filter, other.filter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(filter);
+        return LambdaEquivalence.hashCode(filter);
     }
 }
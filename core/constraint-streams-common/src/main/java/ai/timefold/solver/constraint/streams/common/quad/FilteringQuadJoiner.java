@@ -1,7 +1,6 @@
 package ai.timefold.solver.constraint.streams.common.quad;
 
-import java.util.Objects;
-
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.core.api.function.QuadPredicate;
 import ai.timefold.solver.core.api.score.stream.quad.QuadJoiner;
 
@@ -32,11 +31,11 @@ public final class FilteringQuadJoiner<A, B, C, D> implements QuadJoiner<A, B, C
             return false;
         }
         FilteringQuadJoiner<?, ?, ?, ?> other = (FilteringQuadJoiner<?, ?, ?, ?>) o;
-        return Objects.equals(filter, other.filter);
+        return LambdaEquivalence.areEquivalent(filter, other.filter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getFilter());
+        return LambdaEquivalence.hashCode(filter);
     }
 }
@@ -7,6 +7,7 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import ai.timefold.solver.constraint.streams.common.AbstractJoiner;
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.core.api.score.stream.tri.TriJoiner;
 import ai.timefold.solver.core.impl.score.stream.JoinerType;
 
@@ -81,13 +82,14 @@ public final class DefaultTriJoiner<A, B, C> extends AbstractJoiner<C> implement
         }
         DefaultTriJoiner<?, ?, ?> other = (DefaultTriJoiner<?, ?, ?>) o;
         return Arrays.equals(joinerTypes, other.joinerTypes)
-                && Arrays.equals(leftMappings, other.leftMappings)
-                && Arrays.equals(rightMappings, other.rightMappings);
+                && LambdaEquivalence.areEquivalent(leftMappings, other.leftMappings)
+                && LambdaEquivalence.areEquivalent(rightMappings, other.rightMappings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(Arrays.hashCode(joinerTypes), Arrays.hashCode(leftMappings), Arrays.hashCode(rightMappings));
+        return Objects.hash(Arrays.hashCode(joinerTypes), LambdaEquivalence.hashCode(leftMappings),
+                LambdaEquivalence.hashCode(rightMappings));
     }
 
 }
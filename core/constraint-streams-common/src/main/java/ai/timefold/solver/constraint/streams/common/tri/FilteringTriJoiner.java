@@ -1,7 +1,6 @@
 package ai.timefold.solver.constraint.streams.common.tri;
 
-import java.util.Objects;
-
+import ai.timefold.solver.constraint.streams.common.LambdaEquivalence;
 import ai.timefold.solver.core.api.function.TriPredicate;
 import ai.timefold.solver.core.api.score.stream.tri.TriJoiner;
 
@@ -32,11 +31,11 @@ public final class FilteringTriJoiner<A, B, C> implements TriJoiner<A, B, C> {
             return false;
         }
         FilteringTriJoiner<?, ?, ?> other = (FilteringTriJoiner<?, ?, ?>) o;
-        return Objects.equals(filter, other.filter);
+        return LambdaEquivalence.areEquivalent(filter, other.filter);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(filter);
+        return LambdaEquivalence.hashCode(filter);
     }
 }
@@ -0,0 +1,72 @@
+package ai.timefold.solver.constraint.streams.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+class LambdaEquivalenceTest {
+
+    private static Predicate<String> startsWith(Object prefix) {
+        return s -> s.startsWith(prefix.toString());
+    }
+
+    @Test
+    void sameInstance() {
+        Function<String, Integer> function = String::length;
+        assertThat(LambdaEquivalence.areEquivalent(function, function)).isTrue();
+        assertThat(LambdaEquivalence.areEquivalent(null, null)).isTrue();
+        assertThat(LambdaEquivalence.areEquivalent(function, null)).isFalse();
+    }
+
+    @Test
+    void sameCallSiteWithEqualCapturedValues() {
+        Predicate<String> predicate1 = startsWith("a");
+        Predicate<String> predicate2 = startsWith(new String("a"));
+        assertThat(predicate1).isNotSameAs(predicate2);
+        assertThat(LambdaEquivalence.areEquivalent(predicate1, predicate2)).isTrue();
+        assertThat(LambdaEquivalence.hashCode(predicate1)).isEqualTo(LambdaEquivalence.hashCode(predicate2));
+        assertThat(LambdaEquivalence.areEquivalent(predicate1, startsWith("b"))).isFalse();
+    }
+
+    @Test
+    void sameCallSiteWithMutableCapturedValues() {
+        assertThat(LambdaEquivalence.areEquivalent(startsWith(new StringBuilder("a")),
+                startsWith(new StringBuilder("a")))).isFalse();
+    }
+
+    @Test
+    void differentCallSites() {
+        Function<String, Integer> function1 = String::length;
+        Function<String, Integer> function2 = String::length;
+        assertThat(LambdaEquivalence.areEquivalent(function1, function2)).isFalse();
+    }
+
+    @Test
+    void differentCallSitesOfSerializableMethodReferences() {
+        Function<String, Integer> function1 = (Function<String, Integer> & Serializable) String::length;
+        Function<String, Integer> function2 = (Function<String, Integer> & Serializable) String::length;
+        assertThat(function1.getClass()).isNotSameAs(function2.getClass());
+        assertThat(LambdaEquivalence.areEquivalent(function1, function2)).isTrue();
+        assertThat(LambdaEquivalence.hashCode(function1)).isEqualTo(LambdaEquivalence.hashCode(function2));
+
+        Function<String, Integer> function3 = (Function<String, Integer> & Serializable) String::hashCode;
+        assertThat(LambdaEquivalence.areEquivalent(function1, function3)).isFalse();
+        // A serializable lambda is compiled into its own method, so only its own call site can be equivalent.
+        Function<String, Integer> function4 = (Function<String, Integer> & Serializable) s -> s.length();
+        assertThat(LambdaEquivalence.areEquivalent(function1, function4)).isFalse();
+    }
+
+    @Test
+    void arrays() {
+        Object[] array1 = { startsWith("a"), startsWith(1) };
+        Object[] array2 = { startsWith("a"), startsWith(1) };
+        assertThat(LambdaEquivalence.areEquivalent(array1, array2)).isTrue();
+        assertThat(LambdaEquivalence.hashCode(array1)).isEqualTo(LambdaEquivalence.hashCode(array2));
+        assertThat(LambdaEquivalence.areEquivalent(array1, new Object[] { startsWith("a") })).isFalse();
+    }
+
+}
@@ -92,6 +92,29 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    void impactAllWithoutUndo() {
+        HardSoftScoreInliner scoreInliner = new HardSoftScoreInliner(false);
+
+        HardSoftScore constraintWeight = HardSoftScore.of(10, 100);
+        WeightedScoreImpacter<HardSoftScore, HardSoftScoreContext> hardImpacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        assertThat(hardImpacter.isImpactWithoutUndoSupported()).isTrue();
+        ReusableUndoScoreImpacter undo = new ReusableUndoScoreImpacter(hardImpacter);
+        undo.impactScore(10);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(100, 1_000));
+
+        undo.run();
+        undo.impactScore(20);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(200, 2_000));
+
+        undo.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(0, 0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftScoreSolution.buildSolutionDescriptor();
@@ -5,6 +5,7 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Period;
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -42,10 +43,20 @@ import ai.timefold.solver.core.api.function.ToLongTriFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.function.TriPredicate;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRangeChain;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
+import ai.timefold.solver.core.impl.score.stream.collector.PrimitiveAccumulator;
+import ai.timefold.solver.core.impl.score.stream.collector.PrimitiveBiCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.PrimitiveQuadCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.PrimitiveTriCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.PrimitiveUniCollector;
+import ai.timefold.solver.core.impl.score.stream.collector.connected.Interval;
+import ai.timefold.solver.core.impl.score.stream.collector.connected.IntervalTree;
+import ai.timefold.solver.core.impl.score.stream.collector.consecutive.ConsecutiveSetTree;
 import ai.timefold.solver.core.impl.util.MutableInt;
 import ai.timefold.solver.core.impl.util.MutableLong;
 import ai.timefold.solver.core.impl.util.MutableReference;
@@ -79,90 +90,56 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A> UniConstraintCollector<A, ?, Integer> count() {
-        return new DefaultUniConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a) -> innerCount(resultContainer),
-                MutableInt::intValue);
-    }
-
-    private static Runnable innerCount(MutableInt resultContainer) {
-        resultContainer.increment();
-        return resultContainer::decrement;
+        return new PrimitiveUniCollector<>(a -> 0L, PrimitiveAccumulator::getIntCount);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A> UniConstraintCollector<A, ?, Long> countLong() {
-        return new DefaultUniConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a) -> innerCount(resultContainer),
-                MutableLong::longValue);
-    }
-
-    private static Runnable innerCount(MutableLong resultContainer) {
-        resultContainer.increment();
-        return resultContainer::decrement;
+        return new PrimitiveUniCollector<>(a -> 0L, PrimitiveAccumulator::getLongCount);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Integer> countBi() {
-        return new DefaultBiConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b) -> innerCount(resultContainer),
-                MutableInt::intValue);
+        return new PrimitiveBiCollector<>((a, b) -> 0L, PrimitiveAccumulator::getIntCount);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Long> countLongBi() {
-        return new DefaultBiConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b) -> innerCount(resultContainer),
-                MutableLong::longValue);
+        return new PrimitiveBiCollector<>((a, b) -> 0L, PrimitiveAccumulator::getLongCount);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> countTri() {
-        return new DefaultTriConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b, c) -> innerCount(resultContainer),
-                MutableInt::intValue);
+        return new PrimitiveTriCollector<>((a, b, c) -> 0L, PrimitiveAccumulator::getIntCount);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> countLongTri() {
-        return new DefaultTriConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b, c) -> innerCount(resultContainer),
-                MutableLong::longValue);
+        return new PrimitiveTriCollector<>((a, b, c) -> 0L, PrimitiveAccumulator::getLongCount);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> countQuad() {
-        return new DefaultQuadConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b, c, d) -> innerCount(resultContainer),
-                MutableInt::intValue);
+        return new PrimitiveQuadCollector<>((a, b, c, d) -> 0L, PrimitiveAccumulator::getIntCount);
     }
 
     /**
      * As defined by {@link #count()}.
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> countLongQuad() {
-        return new DefaultQuadConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b, c, d) -> innerCount(resultContainer),
-                MutableLong::longValue);
+        return new PrimitiveQuadCollector<>((a, b, c, d) -> 0L, PrimitiveAccumulator::getLongCount);
     }
 
     // ************************************************************************
@@ -361,36 +338,14 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A> UniConstraintCollector<A, ?, Integer> sum(ToIntFunction<? super A> groupValueMapping) {
-        return new DefaultUniConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a) -> {
-                    int value = groupValueMapping.applyAsInt(a);
-                    return innerSum(resultContainer, value);
-                },
-                MutableInt::intValue);
-    }
-
-    private static Runnable innerSum(MutableInt resultContainer, int value) {
-        resultContainer.add(value);
-        return () -> resultContainer.subtract(value);
+        return new PrimitiveUniCollector<>(groupValueMapping::applyAsInt, PrimitiveAccumulator::getIntSum);
     }
 
     /**
      * As defined by {@link #sum(ToIntFunction)}.
      */
     public static <A> UniConstraintCollector<A, ?, Long> sumLong(ToLongFunction<? super A> groupValueMapping) {
-        return new DefaultUniConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a) -> {
-                    long value = groupValueMapping.applyAsLong(a);
-                    return innerSum(resultContainer, value);
-                },
-                MutableLong::longValue);
-    }
-
-    private static Runnable innerSum(MutableLong resultContainer, long value) {
-        resultContainer.add(value);
-        return () -> resultContainer.subtract(value);
+        return new PrimitiveUniCollector<>(groupValueMapping, PrimitiveAccumulator::getLongSum);
     }
 
     /**
@@ -449,13 +404,7 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Integer> sum(
             ToIntBiFunction<? super A, ? super B> groupValueMapping) {
-        return new DefaultBiConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b) -> {
-                    int value = groupValueMapping.applyAsInt(a, b);
-                    return innerSum(resultContainer, value);
-                },
-                MutableInt::intValue);
+        return new PrimitiveBiCollector<>(groupValueMapping::applyAsInt, PrimitiveAccumulator::getIntSum);
     }
 
     /**
@@ -463,13 +412,7 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Long> sumLong(
             ToLongBiFunction<? super A, ? super B> groupValueMapping) {
-        return new DefaultBiConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b) -> {
-                    long value = groupValueMapping.applyAsLong(a, b);
-                    return innerSum(resultContainer, value);
-                },
-                MutableLong::longValue);
+        return new PrimitiveBiCollector<>(groupValueMapping, PrimitiveAccumulator::getLongSum);
     }
 
     /**
@@ -524,13 +467,7 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> sum(
             ToIntTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
-        return new DefaultTriConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b, c) -> {
-                    int value = groupValueMapping.applyAsInt(a, b, c);
-                    return innerSum(resultContainer, value);
-                },
-                MutableInt::intValue);
+        return new PrimitiveTriCollector<>(groupValueMapping::applyAsInt, PrimitiveAccumulator::getIntSum);
     }
 
     /**
@@ -538,13 +475,7 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> sumLong(
             ToLongTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
-        return new DefaultTriConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b, c) -> {
-                    long value = groupValueMapping.applyAsLong(a, b, c);
-                    return innerSum(resultContainer, value);
-                },
-                MutableLong::longValue);
+        return new PrimitiveTriCollector<>(groupValueMapping, PrimitiveAccumulator::getLongSum);
     }
 
     /**
@@ -599,13 +530,7 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> sum(
             ToIntQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
-        return new DefaultQuadConstraintCollector<>(
-                MutableInt::new,
-                (resultContainer, a, b, c, d) -> {
-                    int value = groupValueMapping.applyAsInt(a, b, c, d);
-                    return innerSum(resultContainer, value);
-                },
-                MutableInt::intValue);
+        return new PrimitiveQuadCollector<>(groupValueMapping::applyAsInt, PrimitiveAccumulator::getIntSum);
     }
 
     /**
@@ -613,13 +538,7 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> sumLong(
             ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
-        return new DefaultQuadConstraintCollector<>(
-                MutableLong::new,
-                (resultContainer, a, b, c, d) -> {
-                    long value = groupValueMapping.applyAsLong(a, b, c, d);
-                    return innerSum(resultContainer, value);
-                },
-                MutableLong::longValue);
+        return new PrimitiveQuadCollector<>(groupValueMapping, PrimitiveAccumulator::getLongSum);
     }
 
     /**
@@ -976,26 +895,14 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A> UniConstraintCollector<A, ?, Double> average(ToIntFunction<A> groupValueMapping) {
-        return compose(count(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new PrimitiveUniCollector<>(groupValueMapping::applyAsInt, PrimitiveAccumulator::getIntAverage);
     }
 
     /**
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A> UniConstraintCollector<A, ?, Double> averageLong(ToLongFunction<A> groupValueMapping) {
-        return compose(count(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new PrimitiveUniCollector<>(groupValueMapping, PrimitiveAccumulator::getLongAverage);
     }
 
     /**
@@ -1048,26 +955,14 @@ public final class ConstraintCollectors {
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Double> average(ToIntBiFunction<A, B> groupValueMapping) {
-        return compose(countBi(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new PrimitiveBiCollector<>(groupValueMapping::applyAsInt, PrimitiveAccumulator::getIntAverage);
     }
 
     /**
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Double> averageLong(ToLongBiFunction<A, B> groupValueMapping) {
-        return compose(countBi(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new PrimitiveBiCollector<>(groupValueMapping, PrimitiveAccumulator::getLongAverage);
     }
 
     /**
@@ -1118,13 +1013,7 @@ public final class ConstraintCollectors {
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double> average(ToIntTriFunction<A, B, C> groupValueMapping) {
-        return compose(countTri(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new PrimitiveTriCollector<>(groupValueMapping::applyAsInt, PrimitiveAccumulator::getIntAverage);
     }
 
     /**
@@ -1132,13 +1021,7 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double>
             averageLong(ToLongTriFunction<A, B, C> groupValueMapping) {
-        return compose(countTri(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new PrimitiveTriCollector<>(groupValueMapping, PrimitiveAccumulator::getLongAverage);
     }
 
     /**
@@ -1190,13 +1073,7 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double>
             average(ToIntQuadFunction<A, B, C, D> groupValueMapping) {
-        return compose(countQuad(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new PrimitiveQuadCollector<>(groupValueMapping::applyAsInt, PrimitiveAccumulator::getIntAverage);
     }
 
     /**
@@ -1204,13 +1081,7 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double>
             averageLong(ToLongQuadFunction<A, B, C, D> groupValueMapping) {
-        return compose(countQuad(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new PrimitiveQuadCollector<>(groupValueMapping, PrimitiveAccumulator::getLongAverage);
     }
 
     /**
@@ -2730,6 +2601,376 @@ public final class ConstraintCollectors {
                         subCollector4.finisher(), composeFunction));
     }
 
+    // ************************************************************************
+    // consecutive collectors
+    // ************************************************************************
+
+    /**
+     * Creates a constraint collector that returns {@link SequenceChain} about the first fact.
+     *
+     * For instance, {@code [Shift slot=1] [Shift slot=2] [Shift slot=4] [Shift slot=6]}
+     * returns the following information:
+     *
+     * <pre>
+     * {@code
+     * Consecutive Lengths: 2, 1, 1
+     * Break Lengths: 1, 2
+     * Consecutive Items: [[Shift slot=1] [Shift slot=2]], [[Shift slot=4]], [[Shift slot=6]]
+     * }
+     * </pre>
+     * <p>
+     * Adding or retracting a fact takes {@code O(log n)} time.
+     *
+     * @param indexMap Maps the fact to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, SequenceChain<A, Integer>>
+            toConsecutiveSequences(ToIntFunction<A> indexMap) {
+        return new DefaultUniConstraintCollector<>(
+                ConstraintCollectors::<A> newConsecutiveSetTree,
+                (resultContainer, a) -> innerConsecutive(resultContainer, a, indexMap),
+                resultContainer -> resultContainer);
+    }
+
+    private static <Value_> ConsecutiveSetTree<Value_, Integer, Integer> newConsecutiveSetTree() {
+        return new ConsecutiveSetTree<>((Integer a, Integer b) -> b - a, Integer::sum, 1, 0);
+    }
+
+    private static <Value_> Runnable innerConsecutive(ConsecutiveSetTree<Value_, Integer, Integer> resultContainer,
+            Value_ value, ToIntFunction<Value_> indexMap) {
+        resultContainer.add(value, indexMap.applyAsInt(value));
+        return () -> resultContainer.remove(value);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMap Maps both facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <Result_> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, Result_> BiConstraintCollector<A, B, ?, SequenceChain<Result_, Integer>>
+            toConsecutiveSequences(BiFunction<A, B, Result_> resultMap, ToIntFunction<Result_> indexMap) {
+        return new DefaultBiConstraintCollector<>(
+                ConstraintCollectors::<Result_> newConsecutiveSetTree,
+                (resultContainer, a, b) -> innerConsecutive(resultContainer, resultMap.apply(a, b), indexMap),
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMap Maps the three facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <Result_> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, C, Result_> TriConstraintCollector<A, B, C, ?, SequenceChain<Result_, Integer>>
+            toConsecutiveSequences(TriFunction<A, B, C, Result_> resultMap, ToIntFunction<Result_> indexMap) {
+        return new DefaultTriConstraintCollector<>(
+                ConstraintCollectors::<Result_> newConsecutiveSetTree,
+                (resultContainer, a, b, c) -> innerConsecutive(resultContainer, resultMap.apply(a, b, c), indexMap),
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMap Maps the four facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <Result_> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, C, D, Result_> QuadConstraintCollector<A, B, C, D, ?, SequenceChain<Result_, Integer>>
+            toConsecutiveSequences(QuadFunction<A, B, C, D, Result_> resultMap, ToIntFunction<Result_> indexMap) {
+        return new DefaultQuadConstraintCollector<>(
+                ConstraintCollectors::<Result_> newConsecutiveSetTree,
+                (resultContainer, a, b, c, d) -> innerConsecutive(resultContainer, resultMap.apply(a, b, c, d), indexMap),
+                resultContainer -> resultContainer);
+    }
+
+    /**
+     * Creates a constraint collector that returns {@link ConnectedRangeChain} about the first fact.
+     *
+     * For instance, {@code [Shift from=2, to=4] [Shift from=3, to=5] [Shift from=6, to=7] [Shift from=7, to=8]}
+     * returns the following information:
+     *
+     * <pre>
+     * {@code
+     * ConnectedRanges: [[Shift from=2, to=4] [Shift from=3, to=5]], [[Shift from=6, to=7] [Shift from=7, to=8]]
+     * RangeGaps: [[RangeGap from=5, to=6, length=1]]
+     * }
+     * </pre>
+     * <p>
+     * Adding or retracting a fact takes {@code O(log n)} time.
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <PointType_> type of the fact endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            UniConstraintCollector<A, ?, ConnectedRangeChain<A, PointType_, DifferenceType_>>
+            toConnectedRanges(Function<A, PointType_> startMap, Function<A, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                ConstraintCollectors::innerConnectedRanges,
+                IntervalTree::getConnectedRangeChain);
+    }
+
+    private static <Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>> Runnable
+            innerConnectedRanges(IntervalTree<Interval_, Point_, Difference_> resultContainer, Interval_ value) {
+        Interval<Interval_, Point_> interval = resultContainer.getInterval(value);
+        resultContainer.add(interval);
+        return () -> resultContainer.remove(interval);
+    }
+
+    /**
+     * Specialized version of {@link #toConnectedRanges(Function,Function,BiFunction)} for
+     * {@link Temporal} types.
+     *
+     * @param <A> type of the first mapped fact
+     * @param <PointType_> temporal type of the endpoints
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @return never null
+     */
+    public static <A, PointType_ extends Temporal & Comparable<PointType_>>
+            UniConstraintCollector<A, ?, ConnectedRangeChain<A, PointType_, Duration>>
+            toConnectedTemporalRanges(Function<A, PointType_> startMap, Function<A, PointType_> endMap) {
+        return toConnectedRanges(startMap, endMap, Duration::between);
+    }
+
+    /**
+     * Specialized version of {@link #toConnectedRanges(Function,Function,BiFunction)} for Long.
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, ConnectedRangeChain<A, Long, Long>>
+            toConnectedRanges(ToLongFunction<A> startMap, ToLongFunction<A> endMap) {
+        return toConnectedRanges(startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps both facts to a range
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the range
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            BiConstraintCollector<A, B, ?, ConnectedRangeChain<IntervalType_, PointType_, DifferenceType_>>
+            toConnectedRanges(BiFunction<A, B, IntervalType_> intervalMap, Function<IntervalType_, PointType_> startMap,
+                    Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                (resultContainer, a, b) -> innerConnectedRanges(resultContainer, intervalMap.apply(a, b)),
+                IntervalTree::getConnectedRangeChain);
+    }
+
+    /**
+     * As defined by {@link #toConnectedTemporalRanges(Function,Function)}.
+     *
+     * @param intervalMap Maps both facts to a range
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the range
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            BiConstraintCollector<A, B, ?, ConnectedRangeChain<IntervalType_, PointType_, Duration>>
+            toConnectedTemporalRanges(BiFunction<A, B, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap Maps both facts to a range
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the range
+     * @return never null
+     */
+    public static <A, B, IntervalType_> BiConstraintCollector<A, B, ?, ConnectedRangeChain<IntervalType_, Long, Long>>
+            toConnectedRanges(BiFunction<A, B, IntervalType_> intervalMap, ToLongFunction<IntervalType_> startMap,
+                    ToLongFunction<IntervalType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps the three facts to a range
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the range
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            TriConstraintCollector<A, B, C, ?, ConnectedRangeChain<IntervalType_, PointType_, DifferenceType_>>
+            toConnectedRanges(TriFunction<A, B, C, IntervalType_> intervalMap, Function<IntervalType_, PointType_> startMap,
+                    Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                (resultContainer, a, b, c) -> innerConnectedRanges(resultContainer, intervalMap.apply(a, b, c)),
+                IntervalTree::getConnectedRangeChain);
+    }
+
+    /**
+     * As defined by {@link #toConnectedTemporalRanges(Function,Function)}.
+     *
+     * @param intervalMap Maps the three facts to a range
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the range
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            TriConstraintCollector<A, B, C, ?, ConnectedRangeChain<IntervalType_, PointType_, Duration>>
+            toConnectedTemporalRanges(TriFunction<A, B, C, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap Maps the three facts to a range
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the range
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_>
+            TriConstraintCollector<A, B, C, ?, ConnectedRangeChain<IntervalType_, Long, Long>>
+            toConnectedRanges(TriFunction<A, B, C, IntervalType_> intervalMap, ToLongFunction<IntervalType_> startMap,
+                    ToLongFunction<IntervalType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps the four facts to a range
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or {@code (a,b) -> b - a}).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the range
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            QuadConstraintCollector<A, B, C, D, ?, ConnectedRangeChain<IntervalType_, PointType_, DifferenceType_>>
+            toConnectedRanges(QuadFunction<A, B, C, D, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                (resultContainer, a, b, c, d) -> innerConnectedRanges(resultContainer, intervalMap.apply(a, b, c, d)),
+                IntervalTree::getConnectedRangeChain);
+    }
+
+    /**
+     * As defined by {@link #toConnectedTemporalRanges(Function,Function)}.
+     *
+     * @param intervalMap Maps the four facts to a range
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the range
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            QuadConstraintCollector<A, B, C, D, ?, ConnectedRangeChain<IntervalType_, PointType_, Duration>>
+            toConnectedTemporalRanges(QuadFunction<A, B, C, D, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #toConnectedRanges(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap Maps the four facts to a range
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the range
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_>
+            QuadConstraintCollector<A, B, C, D, ?, ConnectedRangeChain<IntervalType_, Long, Long>>
+            toConnectedRanges(QuadFunction<A, B, C, D, IntervalType_> intervalMap, ToLongFunction<IntervalType_> startMap,
+                    ToLongFunction<IntervalType_> endMap) {
+        return toConnectedRanges(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
     private ConstraintCollectors() {
     }
 }
@@ -17,6 +17,11 @@ import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
 /**
  * The factory to create every {@link ConstraintStream} (for example with {@link #forEach(Class)})
  * which ends in a {@link Constraint} returned by {@link ConstraintProvider#defineConstraints(ConstraintFactory)}.
+ * <p>
+ * Constraints that start with the same building blocks share their nodes,
+ * as long as their lambdas and method references are recognized as equivalent (see {@link Joiners}).
+ * Plain method references written in different places are not,
+ * so reuse the same instance (for example a {@code static final} field) to share those nodes.
  */
 public interface ConstraintFactory {
 
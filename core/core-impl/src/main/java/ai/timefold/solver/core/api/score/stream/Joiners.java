@@ -21,6 +21,13 @@ import ai.timefold.solver.core.impl.score.stream.JoinerType;
 /**
  * Creates an {@link BiJoiner}, {@link TriJoiner}, ... instance
  * for use in {@link UniConstraintStream#join(Class, BiJoiner)}, ...
+ * <p>
+ * Constraints that build the same join with equivalent joiners share its nodes.
+ * Mappings are only recognized as equivalent if they are the same instance,
+ * were created by the same call site with equivalent captured values, or are {@link java.io.Serializable}.
+ * Plain method references written in different places, such as {@code equal(Shift::getEmployee)} in two constraints,
+ * are not recognized as equivalent and therefore do not share nodes.
+ * To share those, reuse the same instance, for example a {@code static final} field.
  */
 public final class Joiners {
 
@@ -0,0 +1,39 @@
+package ai.timefold.solver.core.api.score.stream.common;
+
+/**
+ * Represents a collection of ranges that are connected,
+ * meaning the union of all the ranges results in the range
+ * [{@link #getStart()}, {@link #getEnd()}) without gaps.
+ *
+ * @param <Interval_> The type of range in the collection
+ * @param <Point_> The type of the start and end points for each range
+ * @param <Difference_> The type of difference between start and end points
+ */
+public interface ConnectedRange<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        extends Iterable<Interval_> {
+    /**
+     * @return the number of ranges contained by this {@link ConnectedRange}
+     */
+    int size();
+
+    /**
+     * @return true if any of the ranges contained by this {@link ConnectedRange} overlap, false otherwise
+     */
+    boolean hasOverlap();
+
+    /**
+     * @return never null, the length of this {@link ConnectedRange}, which is the difference
+     *         between {@link #getEnd()} and {@link #getStart()}
+     */
+    Difference_ getLength();
+
+    /**
+     * @return never null, the minimum start point of the ranges in this {@link ConnectedRange}
+     */
+    Point_ getStart();
+
+    /**
+     * @return never null, the maximum end point of the ranges in this {@link ConnectedRange}
+     */
+    Point_ getEnd();
+}
@@ -0,0 +1,49 @@
+package ai.timefold.solver.core.api.score.stream.common;
+
+/**
+ * A RangeGap is a gap between two consecutive connected ranges. For instance,
+ * the list [(1,3),(2,4),(3,5),(7,8)] has a gap of length 2 between 5 and 7.
+ *
+ * @param <Interval_> The type of value in the sequence
+ * @param <Difference_> The type of difference between values in the sequence
+ */
+public interface RangeGap<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>> {
+    /**
+     * @return never null, the connected range leading directly into this
+     */
+    ConnectedRange<Interval_, Point_, Difference_> getPreviousConnectedRange();
+
+    /**
+     * @return never null, the connected range immediately following this
+     */
+    ConnectedRange<Interval_, Point_, Difference_> getNextConnectedRange();
+
+    /**
+     * Return the end of the connected range before this gap. For the
+     * gap between 6 and 10, this will return 6.
+     *
+     * @return never null, the point this gap is directly after
+     */
+    default Point_ getPreviousRangeEnd() {
+        return getPreviousConnectedRange().getEnd();
+    }
+
+    /**
+     * Return the start of the connected range after this gap. For the
+     * gap between 6 and 10, this will return 10.
+     *
+     * @return never null, the point this gap is directly before
+     */
+    default Point_ getNextRangeStart() {
+        return getNextConnectedRange().getStart();
+    }
+
+    /**
+     * Return the length of the gap, which is the difference
+     * between {@link #getNextRangeStart()} and {@link #getPreviousRangeEnd()}. For the
+     * gap between 6 and 10, this will return 4.
+     *
+     * @return never null, the length of this gap
+     */
+    Difference_ getLength();
+}
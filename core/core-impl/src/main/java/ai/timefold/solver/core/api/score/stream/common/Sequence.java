@@ -1,4 +1,6 @@
-package ai.timefold.solver.examples.common.experimental.api;
+package ai.timefold.solver.core.api.score.stream.common;
+
+import java.util.Collection;
 
 /**
  * A Sequence is a series of consecutive values. For instance,
@@ -39,9 +41,9 @@ public interface Sequence<Value_, Difference_ extends Comparable<Difference_>> {
     Break<Value_, Difference_> getNextBreak();
 
     /**
-     * @return never null, an iterable that can iterate through this sequence
+     * @return never null, a read-only view of the items in this sequence, in ascending order
      */
-    Iterable<Value_> getItems();
+    Collection<Value_> getItems();
 
     /**
      * @return the number of items in this sequence
@@ -1,4 +1,4 @@
-package ai.timefold.solver.examples.common.experimental.api;
+package ai.timefold.solver.core.api.score.stream.common;
 
 /**
  * Contains info regarding the consecutive sequences and breaks
@@ -7,7 +7,7 @@ package ai.timefold.solver.examples.common.experimental.api;
  * @param <Value_> The type of value in the sequence
  * @param <Difference_> The type of difference between values in the sequence
  */
-public interface ConsecutiveInfo<Value_, Difference_ extends Comparable<Difference_>> {
+public interface SequenceChain<Value_, Difference_ extends Comparable<Difference_>> {
     /**
      * @return never null, an iterable that iterates through the sequences contained in
      *         the collection in ascending order
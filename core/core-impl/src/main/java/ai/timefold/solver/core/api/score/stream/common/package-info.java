@@ -0,0 +1,5 @@
+/**
+ * Result types of the consecutive sequence and connected range collectors in
+ * {@link ai.timefold.solver.core.api.score.stream.ConstraintCollectors}.
+ */
+package ai.timefold.solver.core.api.score.stream.common;
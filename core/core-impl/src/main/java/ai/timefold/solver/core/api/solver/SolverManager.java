@@ -321,6 +321,23 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
      */
     void terminateEarly(ProblemId_ problemId);
 
+    /**
+     * Changes the priority of a solver job, if the solver jobs are time-sliced
+     * with {@link SolverManagerConfig#getTimeSlice()}.
+     * When a solver job yields at the end of its time slice,
+     * the waiting solver job with the highest priority resumes first.
+     * Between solver jobs with the same priority, the one that has solved the least time resumes first.
+     * The default priority is {@code 0}.
+     * <p>
+     * Does nothing if the solver already terminated or the problemId was never added.
+     *
+     * @param problemId never null, a value given to {@link #solve(Object, Function, Consumer)}
+     *        or {@link #solveAndListen(Object, Function, Consumer)}
+     * @param priority the higher, the sooner the solver job is resumed
+     * @throws IllegalStateException if the solver jobs are not time-sliced
+     */
+    void setPriority(ProblemId_ problemId, int priority);
+
     /**
      * Terminates all solvers, cancels all solver jobs that haven't (re)started yet
      * and discards all queued {@link ProblemChange}s.
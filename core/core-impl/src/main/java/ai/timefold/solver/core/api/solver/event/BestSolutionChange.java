@@ -0,0 +1,98 @@
+package ai.timefold.solver.core.api.solver.event;
+
+import java.util.Objects;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+import ai.timefold.solver.core.config.solver.BestSolutionEventMode;
+
+/**
+ * A genuine {@link PlanningVariable planning variable} of a {@link PlanningEntity}
+ * that has a different value in the new {@link PlanningSolution best solution}
+ * than in the best solution of the previous {@link BestSolutionChangedEvent}.
+ * <p>
+ * The planning entity is identified by its class and its {@link PlanningId},
+ * because the planning entity instances of the solver are planning clones.
+ * The new value is the same instance as in the problem that was given to the solver,
+ * because planning values aren't planning cloned.
+ * <p>
+ * This class is immutable.
+ *
+ * @see BestSolutionEventMode#CHANGE_LIST
+ */
+public final class BestSolutionChange {
+
+    private final Class<?> entityClass;
+    private final Object entityId;
+    private final String variableName;
+    private final Object newValue;
+
+    /**
+     * @param entityClass never null, the class of the planning entity
+     * @param entityId never null, the {@link PlanningId} of the planning entity
+     * @param variableName never null, the name of the genuine planning variable
+     * @param newValue sometimes null, the value of that planning variable in the new best solution
+     */
+    public BestSolutionChange(Class<?> entityClass, Object entityId, String variableName, Object newValue) {
+        this.entityClass = Objects.requireNonNull(entityClass);
+        this.entityId = Objects.requireNonNull(entityId);
+        this.variableName = Objects.requireNonNull(variableName);
+        this.newValue = newValue;
+    }
+
+    /**
+     * @return never null, the class of the planning entity
+     */
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * @return never null, the {@link PlanningId} of the planning entity
+     */
+    public Object getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * @return never null, the name of the genuine planning variable
+     */
+    public String getVariableName() {
+        return variableName;
+    }
+
+    /**
+     * @return sometimes null, the value of that planning variable in the new best solution
+     */
+    public Object getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BestSolutionChange that = (BestSolutionChange) o;
+        return entityClass.equals(that.entityClass)
+                && entityId.equals(that.entityId)
+                && variableName.equals(that.variableName)
+                && Objects.equals(newValue, that.newValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityClass, entityId, variableName, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return entityClass.getSimpleName() + "(" + entityId + ")." + variableName + " = " + newValue;
+    }
+
+}
@@ -1,11 +1,14 @@
 package ai.timefold.solver.core.api.solver.event;
 
 import java.util.EventObject;
+import java.util.List;
+import java.util.function.Supplier;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.config.solver.BestSolutionEventMode;
 
 /**
  * Delivered when the {@link PlanningSolution best solution} changes during solving.
@@ -17,8 +20,10 @@ public class BestSolutionChangedEvent<Solution_> extends EventObject {
 
     private final Solver<Solution_> solver;
     private final long timeMillisSpent;
-    private final Solution_ newBestSolution;
+    private Solution_ newBestSolution;
+    private Supplier<Solution_> newBestSolutionSupplier;
     private final Score newBestScore;
+    private final List<BestSolutionChange> changeList;
 
     /**
      * @param solver never null
@@ -31,7 +36,26 @@ public class BestSolutionChangedEvent<Solution_> extends EventObject {
         this.solver = solver;
         this.timeMillisSpent = timeMillisSpent;
         this.newBestSolution = newBestSolution;
+        this.newBestSolutionSupplier = null;
         this.newBestScore = newBestScore;
+        this.changeList = null;
+    }
+
+    /**
+     * @param solver never null
+     * @param timeMillisSpent {@code >= 0L}
+     * @param newBestSolutionSupplier never null, called at most once, in the solver thread
+     * @param changeList null if the changes since the previous event aren't known
+     */
+    public BestSolutionChangedEvent(Solver<Solution_> solver, long timeMillisSpent,
+            Supplier<Solution_> newBestSolutionSupplier, Score newBestScore, List<BestSolutionChange> changeList) {
+        super(solver);
+        this.solver = solver;
+        this.timeMillisSpent = timeMillisSpent;
+        this.newBestSolution = null;
+        this.newBestSolutionSupplier = newBestSolutionSupplier;
+        this.newBestScore = newBestScore;
+        this.changeList = changeList;
     }
 
     /**
@@ -50,13 +74,37 @@ public class BestSolutionChangedEvent<Solution_> extends EventObject {
      * <li>this {@link PlanningSolution} might be uninitialized: check {@link Score#isSolutionInitialized()}.</li>
      * <li>this {@link PlanningSolution} might be infeasible: check {@link Score#isFeasible()}.</li>
      * </ul>
+     * <p>
+     * In {@link BestSolutionEventMode#CHANGE_LIST}, the best solution is planning cloned by the first call of this method,
+     * so only call it if the {@link #getChangeList()} doesn't suffice,
+     * and only call it in the solver thread, before the event listener returns.
      *
      * @return never null
      */
     public Solution_ getNewBestSolution() {
+        if (newBestSolutionSupplier != null) {
+            newBestSolution = newBestSolutionSupplier.get();
+            newBestSolutionSupplier = null;
+        }
         return newBestSolution;
     }
 
+    /**
+     * The genuine planning variables that changed since the previous event of the same solve,
+     * or since the problem that was given to the solver if this is the first event.
+     * The changes of several new best solutions are coalesced:
+     * every planning variable occurs at most once, with its latest value.
+     * <p>
+     * Only available in {@link BestSolutionEventMode#CHANGE_LIST}.
+     * Even then, it's null after a {@link ProblemChange}, because that can add or remove planning entities:
+     * use {@link #getNewBestSolution()} instead.
+     *
+     * @return null if the changes aren't known, otherwise never null and possibly empty
+     */
+    public List<BestSolutionChange> getChangeList() {
+        return changeList;
+    }
+
     /**
      * Returns the {@link Score} of the {@link #getNewBestSolution()}.
      * <p>
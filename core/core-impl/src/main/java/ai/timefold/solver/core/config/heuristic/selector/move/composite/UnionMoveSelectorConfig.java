@@ -28,7 +28,8 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.Selectio
 
 @XmlType(propOrder = {
         "moveSelectorConfigList",
-        "selectorProbabilityWeightFactoryClass"
+        "selectorProbabilityWeightFactoryClass",
+        "adaptiveProbabilityWeightEnabled"
 })
 public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelectorConfig> {
 
@@ -60,6 +61,7 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
     private List<MoveSelectorConfig> moveSelectorConfigList = null;
 
     private Class<? extends SelectionProbabilityWeightFactory> selectorProbabilityWeightFactoryClass = null;
+    private Boolean adaptiveProbabilityWeightEnabled = null;
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -107,6 +109,24 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
         this.selectorProbabilityWeightFactoryClass = selectorProbabilityWeightFactoryClass;
     }
 
+    /**
+     * Continuously reweights the child move selectors during random selection,
+     * by how often the steps that they selected improved the score, relative to how many moves they selected.
+     * Incompatible with a {@link #getSelectorProbabilityWeightFactoryClass()},
+     * with a fixedProbabilityWeight on the child move selectors and with a moveThreadCount.
+     * <p>
+     * Defaults to false.
+     *
+     * @return sometimes null
+     */
+    public Boolean getAdaptiveProbabilityWeightEnabled() {
+        return adaptiveProbabilityWeightEnabled;
+    }
+
+    public void setAdaptiveProbabilityWeightEnabled(Boolean adaptiveProbabilityWeightEnabled) {
+        this.adaptiveProbabilityWeightEnabled = adaptiveProbabilityWeightEnabled;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -127,6 +147,11 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
         return this;
     }
 
+    public UnionMoveSelectorConfig withAdaptiveProbabilityWeightEnabled(Boolean adaptiveProbabilityWeightEnabled) {
+        this.adaptiveProbabilityWeightEnabled = adaptiveProbabilityWeightEnabled;
+        return this;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -145,6 +170,8 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
                 ConfigUtils.inheritMergeableListConfig(moveSelectorConfigList, inheritedConfig.getMoveSelectorList());
         selectorProbabilityWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(
                 selectorProbabilityWeightFactoryClass, inheritedConfig.getSelectorProbabilityWeightFactoryClass());
+        adaptiveProbabilityWeightEnabled = ConfigUtils.inheritOverwritableProperty(
+                adaptiveProbabilityWeightEnabled, inheritedConfig.getAdaptiveProbabilityWeightEnabled());
         return this;
     }
 
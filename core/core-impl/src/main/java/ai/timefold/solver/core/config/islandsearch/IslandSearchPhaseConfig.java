@@ -0,0 +1,135 @@
+package ai.timefold.solver.core.config.islandsearch;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.phase.PhaseConfig;
+import ai.timefold.solver.core.config.util.ConfigUtils;
+
+@XmlType(propOrder = {
+        "islandCount",
+        "migrationStepCount",
+        "localSearchPhaseConfigList"
+})
+public class IslandSearchPhaseConfig extends PhaseConfig<IslandSearchPhaseConfig> {
+
+    public static final String XML_ELEMENT_NAME = "islandSearch";
+    public static final String ISLAND_COUNT_AUTO = "AUTO";
+
+    // Warning: all fields are null (and not defaulted) because they can be inherited
+    // and also because the input config file should match the output config file
+
+    protected String islandCount = null;
+    protected Integer migrationStepCount = null;
+
+    @XmlElement(name = LocalSearchPhaseConfig.XML_ELEMENT_NAME)
+    protected List<LocalSearchPhaseConfig> localSearchPhaseConfigList = null;
+
+    // ************************************************************************
+    // Constructors and simple getters/setters
+    // ************************************************************************
+
+    /**
+     * The number of islands, each of which runs its own Local Search on its own working solution, on its own thread.
+     * <p>
+     * Defaults to {@value #ISLAND_COUNT_AUTO} which consumes the majority
+     * but not all of the CPU cores on multi-core machines, to prevent a livelock that hangs other processes
+     * (such as your IDE, REST servlets threads or SSH connections) on the machine.
+     *
+     * @return null, a number or {@value #ISLAND_COUNT_AUTO}.
+     */
+    public String getIslandCount() {
+        return islandCount;
+    }
+
+    public void setIslandCount(String islandCount) {
+        this.islandCount = islandCount;
+    }
+
+    /**
+     * Every this many steps, an island whose working solution is worse than the best solution of another island,
+     * continues from that best solution instead.
+     * <p>
+     * Defaults to 1000.
+     *
+     * @return null or at least 1
+     */
+    public Integer getMigrationStepCount() {
+        return migrationStepCount;
+    }
+
+    public void setMigrationStepCount(Integer migrationStepCount) {
+        this.migrationStepCount = migrationStepCount;
+    }
+
+    /**
+     * The island with index {@code i} uses the config with index {@code i % size}, so islands can use different
+     * acceptors to diversify the search.
+     * <p>
+     * Defaults to a single default {@link LocalSearchPhaseConfig}.
+     *
+     * @return sometimes null
+     */
+    public List<LocalSearchPhaseConfig> getLocalSearchPhaseConfigList() {
+        return localSearchPhaseConfigList;
+    }
+
+    public void setLocalSearchPhaseConfigList(List<LocalSearchPhaseConfig> localSearchPhaseConfigList) {
+        this.localSearchPhaseConfigList = localSearchPhaseConfigList;
+    }
+
+    // ************************************************************************
+    // With methods
+    // ************************************************************************
+
+    public IslandSearchPhaseConfig withIslandCount(String islandCount) {
+        this.setIslandCount(islandCount);
+        return this;
+    }
+
+    public IslandSearchPhaseConfig withMigrationStepCount(Integer migrationStepCount) {
+        this.setMigrationStepCount(migrationStepCount);
+        return this;
+    }
+
+    public IslandSearchPhaseConfig withLocalSearchPhaseConfigList(List<LocalSearchPhaseConfig> localSearchPhaseConfigList) {
+        this.setLocalSearchPhaseConfigList(localSearchPhaseConfigList);
+        return this;
+    }
+
+    public IslandSearchPhaseConfig withLocalSearchPhaseConfigs(LocalSearchPhaseConfig... localSearchPhaseConfigs) {
+        this.setLocalSearchPhaseConfigList(List.of(localSearchPhaseConfigs));
+        return this;
+    }
+
+    @Override
+    public IslandSearchPhaseConfig inherit(IslandSearchPhaseConfig inheritedConfig) {
+        super.inherit(inheritedConfig);
+        islandCount = ConfigUtils.inheritOverwritableProperty(islandCount, inheritedConfig.getIslandCount());
+        migrationStepCount = ConfigUtils.inheritOverwritableProperty(migrationStepCount,
+                inheritedConfig.getMigrationStepCount());
+        localSearchPhaseConfigList = ConfigUtils.inheritMergeableListConfig(
+                localSearchPhaseConfigList, inheritedConfig.getLocalSearchPhaseConfigList());
+        return this;
+    }
+
+    @Override
+    public IslandSearchPhaseConfig copyConfig() {
+        return new IslandSearchPhaseConfig().inherit(this);
+    }
+
+    @Override
+    public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
+        if (getTerminationConfig() != null) {
+            getTerminationConfig().visitReferencedClasses(classVisitor);
+        }
+        if (localSearchPhaseConfigList != null) {
+            localSearchPhaseConfigList.forEach(pc -> pc.visitReferencedClasses(classVisitor));
+        }
+    }
+
+}
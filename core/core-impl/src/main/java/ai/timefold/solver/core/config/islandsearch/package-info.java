@@ -0,0 +1,9 @@
+@XmlSchema(
+        namespace = SolverConfig.XML_NAMESPACE,
+        elementFormDefault = XmlNsForm.QUALIFIED)
+package ai.timefold.solver.core.config.islandsearch;
+
+import jakarta.xml.bind.annotation.XmlNsForm;
+import jakarta.xml.bind.annotation.XmlSchema;
+
+import ai.timefold.solver.core.config.solver.SolverConfig;
@@ -31,7 +31,8 @@ import ai.timefold.solver.core.config.util.ConfigUtils;
         "localSearchType",
         "moveSelectorConfig",
         "acceptorConfig",
-        "foragerConfig"
+        "foragerConfig",
+        "rejectedMoveCacheEnabled"
 })
 public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig> {
 
@@ -69,6 +70,7 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
     private LocalSearchAcceptorConfig acceptorConfig = null;
     @XmlElement(name = "forager")
     private LocalSearchForagerConfig foragerConfig = null;
+    private Boolean rejectedMoveCacheEnabled = null;
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -106,6 +108,24 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         this.foragerConfig = foragerConfig;
     }
 
+    /**
+     * Skip a move that was rejected in an earlier step,
+     * as long as no step since then changed any of its planning entities or planning values.
+     * Such a move is presumed to be rejected again, which isn't guaranteed,
+     * because the other entities or the acceptor might have changed.
+     * <p>
+     * Defaults to false. Not supported with a moveThreadCount.
+     *
+     * @return sometimes null
+     */
+    public Boolean getRejectedMoveCacheEnabled() {
+        return rejectedMoveCacheEnabled;
+    }
+
+    public void setRejectedMoveCacheEnabled(Boolean rejectedMoveCacheEnabled) {
+        this.rejectedMoveCacheEnabled = rejectedMoveCacheEnabled;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -130,6 +150,11 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         return this;
     }
 
+    public LocalSearchPhaseConfig withRejectedMoveCacheEnabled(Boolean rejectedMoveCacheEnabled) {
+        this.rejectedMoveCacheEnabled = rejectedMoveCacheEnabled;
+        return this;
+    }
+
     @Override
     public LocalSearchPhaseConfig inherit(LocalSearchPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -139,6 +164,8 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
                 getMoveSelectorConfig(), inheritedConfig.getMoveSelectorConfig()));
         acceptorConfig = ConfigUtils.inheritConfig(acceptorConfig, inheritedConfig.getAcceptorConfig());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        rejectedMoveCacheEnabled = ConfigUtils.inheritOverwritableProperty(rejectedMoveCacheEnabled,
+                inheritedConfig.getRejectedMoveCacheEnabled());
         return this;
     }
 
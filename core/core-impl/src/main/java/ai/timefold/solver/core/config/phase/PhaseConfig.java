@@ -7,6 +7,7 @@ import jakarta.xml.bind.annotation.XmlType;
 import ai.timefold.solver.core.config.AbstractConfig;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
+import ai.timefold.solver.core.config.islandsearch.IslandSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
 import ai.timefold.solver.core.config.phase.custom.CustomPhaseConfig;
@@ -17,6 +18,7 @@ import ai.timefold.solver.core.config.util.ConfigUtils;
         ConstructionHeuristicPhaseConfig.class,
         CustomPhaseConfig.class,
         ExhaustiveSearchPhaseConfig.class,
+        IslandSearchPhaseConfig.class,
         LocalSearchPhaseConfig.class,
         NoChangePhaseConfig.class,
         PartitionedSearchPhaseConfig.class
@@ -23,10 +23,14 @@ import ai.timefold.solver.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
         "constraintProviderClass",
         "constraintProviderCustomProperties",
         "constraintStreamImplType",
+        "constraintStreamThreadCount",
+        "constraintStreamTupleRecyclingEnabled",
+        "constraintStreamEarlyRejectionEnabled",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "scoreDrlList",
         "initializingScoreTrend",
+        "moveJournalEnabled",
         "assertionScoreDirectorFactory"
 })
 public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFactoryConfig> {
@@ -41,6 +45,9 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> constraintProviderCustomProperties = null;
     protected ConstraintStreamImplType constraintStreamImplType;
+    protected Integer constraintStreamThreadCount = null;
+    protected Boolean constraintStreamTupleRecyclingEnabled = null;
+    protected Boolean constraintStreamEarlyRejectionEnabled = null;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -54,6 +61,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     // TODO: this should be rather an enum?
     protected String initializingScoreTrend = null;
 
+    protected Boolean moveJournalEnabled = null;
+
     @XmlElement(name = "assertionScoreDirectorFactory")
     protected ScoreDirectorFactoryConfig assertionScoreDirectorFactory = null;
 
@@ -101,6 +110,60 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.constraintStreamImplType = constraintStreamImplType;
     }
 
+    /**
+     * Experimental: if higher than 1, the parts of the constraint stream node network
+     * that share no nodes (except for the {@code forEach()} sources) are evaluated in parallel on that many threads,
+     * including the thread that calculates the score.
+     * All score directors of a solver, including those of the move threads, share the same extra threads.
+     * Only supported by {@link ConstraintStreamImplType#BAVET}.
+     * Ignored when constraint matching is enabled.
+     *
+     * @return null if the node network is evaluated on the solver thread only
+     */
+    public Integer getConstraintStreamThreadCount() {
+        return constraintStreamThreadCount;
+    }
+
+    public void setConstraintStreamThreadCount(Integer constraintStreamThreadCount) {
+        this.constraintStreamThreadCount = constraintStreamThreadCount;
+    }
+
+    /**
+     * Experimental: if true, the constraint stream nodes that create tuples (joins, groups and maps)
+     * reuse their dead tuples instead of allocating new ones, which reduces garbage collection pressure.
+     * Only supported by {@link ConstraintStreamImplType#BAVET}.
+     *
+     * @return null if tuples are not recycled
+     */
+    public Boolean getConstraintStreamTupleRecyclingEnabled() {
+        return constraintStreamTupleRecyclingEnabled;
+    }
+
+    public void setConstraintStreamTupleRecyclingEnabled(Boolean constraintStreamTupleRecyclingEnabled) {
+        this.constraintStreamTupleRecyclingEnabled = constraintStreamTupleRecyclingEnabled;
+    }
+
+    /**
+     * Experimental: if true, Local Search stops calculating the score of a move
+     * as soon as the penalties on the hardest score level already make the acceptor reject it,
+     * and the rest of the node network catches up during the next score calculation.
+     * Only the penalties of the constraints that have been calculated so far are taken into account,
+     * because a constraint that only penalizes can't improve the score.
+     * Has no effect if constraint matching or constraint profiling is enabled,
+     * or if the node network is evaluated in parallel (see {@link #getConstraintStreamThreadCount()}).
+     * Only supported by {@link ConstraintStreamImplType#BAVET} and by score types that support bounds,
+     * so not by BigDecimal scores.
+     *
+     * @return null if every move score is calculated completely
+     */
+    public Boolean getConstraintStreamEarlyRejectionEnabled() {
+        return constraintStreamEarlyRejectionEnabled;
+    }
+
+    public void setConstraintStreamEarlyRejectionEnabled(Boolean constraintStreamEarlyRejectionEnabled) {
+        this.constraintStreamEarlyRejectionEnabled = constraintStreamEarlyRejectionEnabled;
+    }
+
     public Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -147,6 +210,24 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.initializingScoreTrend = initializingScoreTrend;
     }
 
+    /**
+     * Experimental: if true, an evaluated move is rolled back by replaying the variable changes it made backwards,
+     * instead of by doing its undo move, so the variable listeners don't run again.
+     * Only enable it if every custom variable listener keeps all of its state in the shadow variables it changes.
+     * It has no effect if a shadow variable has no setter or if an externalized supply, such as an inverse relation
+     * that isn't declared as a shadow variable, is in use.
+     * The asserted environment modes still verify the score after each rollback.
+     *
+     * @return null if evaluated moves are rolled back with their undo move
+     */
+    public Boolean getMoveJournalEnabled() {
+        return moveJournalEnabled;
+    }
+
+    public void setMoveJournalEnabled(Boolean moveJournalEnabled) {
+        this.moveJournalEnabled = moveJournalEnabled;
+    }
+
     public ScoreDirectorFactoryConfig getAssertionScoreDirectorFactory() {
         return assertionScoreDirectorFactory;
     }
@@ -187,6 +268,23 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig withConstraintStreamThreadCount(Integer constraintStreamThreadCount) {
+        this.constraintStreamThreadCount = constraintStreamThreadCount;
+        return this;
+    }
+
+    public ScoreDirectorFactoryConfig
+            withConstraintStreamTupleRecyclingEnabled(Boolean constraintStreamTupleRecyclingEnabled) {
+        this.constraintStreamTupleRecyclingEnabled = constraintStreamTupleRecyclingEnabled;
+        return this;
+    }
+
+    public ScoreDirectorFactoryConfig
+            withConstraintStreamEarlyRejectionEnabled(Boolean constraintStreamEarlyRejectionEnabled) {
+        this.constraintStreamEarlyRejectionEnabled = constraintStreamEarlyRejectionEnabled;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
         this.incrementalScoreCalculatorClass = incrementalScoreCalculatorClass;
@@ -228,6 +326,11 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig withMoveJournalEnabled(Boolean moveJournalEnabled) {
+        this.moveJournalEnabled = moveJournalEnabled;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig withAssertionScoreDirectorFactory(
             ScoreDirectorFactoryConfig assertionScoreDirectorFactory) {
         this.assertionScoreDirectorFactory = assertionScoreDirectorFactory;
@@ -246,6 +349,12 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 constraintProviderCustomProperties, inheritedConfig.getConstraintProviderCustomProperties());
         constraintStreamImplType = ConfigUtils.inheritOverwritableProperty(
                 constraintStreamImplType, inheritedConfig.getConstraintStreamImplType());
+        constraintStreamThreadCount = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamThreadCount, inheritedConfig.getConstraintStreamThreadCount());
+        constraintStreamTupleRecyclingEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamTupleRecyclingEnabled, inheritedConfig.getConstraintStreamTupleRecyclingEnabled());
+        constraintStreamEarlyRejectionEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamEarlyRejectionEnabled, inheritedConfig.getConstraintStreamEarlyRejectionEnabled());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -254,6 +363,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 scoreDrlList, inheritedConfig.getScoreDrlList());
         initializingScoreTrend = ConfigUtils.inheritOverwritableProperty(
                 initializingScoreTrend, inheritedConfig.getInitializingScoreTrend());
+        moveJournalEnabled = ConfigUtils.inheritOverwritableProperty(
+                moveJournalEnabled, inheritedConfig.getMoveJournalEnabled());
         assertionScoreDirectorFactory = ConfigUtils.inheritOverwritableProperty(
                 assertionScoreDirectorFactory, inheritedConfig.getAssertionScoreDirectorFactory());
         return this;
@@ -0,0 +1,35 @@
+package ai.timefold.solver.core.config.solver;
+
+import jakarta.xml.bind.annotation.XmlEnum;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
+
+/**
+ * Determines how the solver planning clones every new {@link PlanningSolution best solution}.
+ */
+@XmlEnum
+public enum BestSolutionCloningMode {
+    /**
+     * Every best solution is a full planning clone of the working solution.
+     * <p>
+     * This is the default.
+     */
+    FULL,
+    /**
+     * Every best solution shares the planning entity clones of the previous best solution
+     * for the planning entities that didn't change since then,
+     * so it only planning clones the changed planning entities.
+     * That greatly reduces the cost of a new best solution on large datasets.
+     * <p>
+     * Because the best solutions of the same solve share planning entity instances,
+     * a best solution, for example of a {@link BestSolutionChangedEvent}, must never be changed.
+     * <p>
+     * Planning entities that reference another planning entity,
+     * for example through a chained variable or a list variable, are always planning cloned.
+     * A custom {@link SolutionCloner} and a {@link SolverConfig#getSolutionCloningThreadCount() solutionCloningThreadCount}
+     * higher than 1 are not supported.
+     */
+    COPY_ON_WRITE;
+}
@@ -0,0 +1,32 @@
+package ai.timefold.solver.core.config.solver;
+
+import jakarta.xml.bind.annotation.XmlEnum;
+
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
+
+/**
+ * Determines what a {@link BestSolutionChangedEvent} carries
+ * and what it costs the solver to track every new best solution.
+ */
+@XmlEnum
+public enum BestSolutionEventMode {
+    /**
+     * Every new best solution is planning cloned,
+     * even if nobody looks at it before the next new best solution replaces it.
+     * <p>
+     * This is the default.
+     */
+    FULL_SOLUTION,
+    /**
+     * Every new best solution only records the values of the genuine planning variables.
+     * A {@link BestSolutionChangedEvent} carries the {@link BestSolutionChangedEvent#getChangeList() changes}
+     * since the previous event,
+     * and the best solution is only planning cloned when it's needed,
+     * for example when {@link BestSolutionChangedEvent#getNewBestSolution()} is called.
+     * <p>
+     * Every planning entity class must have a {@link PlanningId}.
+     * List variables and chained variables are not supported.
+     */
+    CHANGE_LIST;
+}
@@ -22,6 +22,7 @@ import jakarta.xml.bind.annotation.XmlElements;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlTransient;
 import jakarta.xml.bind.annotation.XmlType;
+import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import ai.timefold.solver.core.api.domain.common.DomainAccessType;
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
@@ -30,9 +31,11 @@ import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
 import ai.timefold.solver.core.api.score.stream.ConstraintStreamImplType;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
 import ai.timefold.solver.core.config.AbstractConfig;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
+import ai.timefold.solver.core.config.islandsearch.IslandSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
 import ai.timefold.solver.core.config.phase.NoChangePhaseConfig;
@@ -47,6 +50,7 @@ import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.impl.ai.TimefoldXmlSerializationException;
 import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
 import ai.timefold.solver.core.impl.io.jaxb.SolverConfigIO;
+import ai.timefold.solver.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 import ai.timefold.solver.core.impl.solver.random.RandomFactory;
 
 /**
@@ -62,7 +66,12 @@ import ai.timefold.solver.core.impl.solver.random.RandomFactory;
         "randomFactoryClass",
         "moveThreadCount",
         "moveThreadBufferSize",
+        "moveThreadBusySpinEnabled",
         "threadFactoryClass",
+        "bestSolutionEventMode",
+        "bestSolutionEventThrottlingDelay",
+        "bestSolutionCloningMode",
+        "solutionCloningThreadCount",
         "monitoringConfig",
         "solutionClass",
         "entityClassList",
@@ -221,7 +230,13 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     protected Class<? extends RandomFactory> randomFactoryClass = null;
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
+    protected Boolean moveThreadBusySpinEnabled = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected BestSolutionEventMode bestSolutionEventMode = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration bestSolutionEventThrottlingDelay = null;
+    protected BestSolutionCloningMode bestSolutionCloningMode = null;
+    protected Integer solutionCloningThreadCount = null;
 
     protected Class<?> solutionClass = null;
 
@@ -244,6 +259,7 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                     type = ConstructionHeuristicPhaseConfig.class),
             @XmlElement(name = CustomPhaseConfig.XML_ELEMENT_NAME, type = CustomPhaseConfig.class),
             @XmlElement(name = ExhaustiveSearchPhaseConfig.XML_ELEMENT_NAME, type = ExhaustiveSearchPhaseConfig.class),
+            @XmlElement(name = IslandSearchPhaseConfig.XML_ELEMENT_NAME, type = IslandSearchPhaseConfig.class),
             @XmlElement(name = LocalSearchPhaseConfig.XML_ELEMENT_NAME, type = LocalSearchPhaseConfig.class),
             @XmlElement(name = NoChangePhaseConfig.XML_ELEMENT_NAME, type = NoChangePhaseConfig.class),
             @XmlElement(name = PartitionedSearchPhaseConfig.XML_ELEMENT_NAME, type = PartitionedSearchPhaseConfig.class)
@@ -346,6 +362,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.moveThreadBufferSize = moveThreadBufferSize;
     }
 
+    public Boolean getMoveThreadBusySpinEnabled() {
+        return moveThreadBusySpinEnabled;
+    }
+
+    public void setMoveThreadBusySpinEnabled(Boolean moveThreadBusySpinEnabled) {
+        this.moveThreadBusySpinEnabled = moveThreadBusySpinEnabled;
+    }
+
     public Class<? extends ThreadFactory> getThreadFactoryClass() {
         return threadFactoryClass;
     }
@@ -354,6 +378,62 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * @return null if it defaults to {@link BestSolutionEventMode#FULL_SOLUTION}
+     */
+    public BestSolutionEventMode getBestSolutionEventMode() {
+        return bestSolutionEventMode;
+    }
+
+    public void setBestSolutionEventMode(BestSolutionEventMode bestSolutionEventMode) {
+        this.bestSolutionEventMode = bestSolutionEventMode;
+    }
+
+    /**
+     * If set, a {@link BestSolutionChangedEvent} is delivered at most once per this delay.
+     * The new best solutions found in the meantime are coalesced into the next event,
+     * which is delivered at the first step that ends after the delay,
+     * or when solving ends, whichever comes first.
+     * The event after a real-time problem change is never delayed.
+     *
+     * @return null if every new best solution is delivered immediately
+     */
+    public Duration getBestSolutionEventThrottlingDelay() {
+        return bestSolutionEventThrottlingDelay;
+    }
+
+    public void setBestSolutionEventThrottlingDelay(Duration bestSolutionEventThrottlingDelay) {
+        this.bestSolutionEventThrottlingDelay = bestSolutionEventThrottlingDelay;
+    }
+
+    /**
+     * @return null if it defaults to {@link BestSolutionCloningMode#FULL}
+     */
+    public BestSolutionCloningMode getBestSolutionCloningMode() {
+        return bestSolutionCloningMode;
+    }
+
+    public void setBestSolutionCloningMode(BestSolutionCloningMode bestSolutionCloningMode) {
+        this.bestSolutionCloningMode = bestSolutionCloningMode;
+    }
+
+    /**
+     * The number of threads that planning clone a very large solution,
+     * for example when the solver starts and for every new best solution.
+     * Only solutions with at least 10 000 planning entities are planning cloned by multiple threads.
+     * Not supported with a custom {@link SolutionCloner}
+     * or with {@link BestSolutionCloningMode#COPY_ON_WRITE}.
+     *
+     * @return null if it defaults to 1
+     */
+    public Integer getSolutionCloningThreadCount() {
+        return solutionCloningThreadCount;
+    }
+
+    public void setSolutionCloningThreadCount(Integer solutionCloningThreadCount) {
+        this.solutionCloningThreadCount = solutionCloningThreadCount;
+    }
+
     public Class<?> getSolutionClass() {
         return solutionClass;
     }
@@ -465,6 +545,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withMoveThreadBusySpinEnabled(Boolean moveThreadBusySpinEnabled) {
+        this.moveThreadBusySpinEnabled = moveThreadBusySpinEnabled;
+        return this;
+    }
+
     public SolverConfig withThreadFactoryClass(Class<? extends ThreadFactory> threadFactoryClass) {
         this.threadFactoryClass = threadFactoryClass;
         return this;
@@ -570,6 +655,26 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withBestSolutionEventMode(BestSolutionEventMode bestSolutionEventMode) {
+        this.bestSolutionEventMode = bestSolutionEventMode;
+        return this;
+    }
+
+    public SolverConfig withBestSolutionEventThrottlingDelay(Duration bestSolutionEventThrottlingDelay) {
+        this.bestSolutionEventThrottlingDelay = bestSolutionEventThrottlingDelay;
+        return this;
+    }
+
+    public SolverConfig withBestSolutionCloningMode(BestSolutionCloningMode bestSolutionCloningMode) {
+        this.bestSolutionCloningMode = bestSolutionCloningMode;
+        return this;
+    }
+
+    public SolverConfig withSolutionCloningThreadCount(Integer solutionCloningThreadCount) {
+        this.solutionCloningThreadCount = solutionCloningThreadCount;
+        return this;
+    }
+
     public SolverConfig withMonitoringConfig(MonitoringConfig monitoringConfig) {
         this.monitoringConfig = monitoringConfig;
         return this;
@@ -587,6 +692,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return Objects.requireNonNullElse(domainAccessType, DomainAccessType.REFLECTION);
     }
 
+    public BestSolutionEventMode determineBestSolutionEventMode() {
+        return Objects.requireNonNullElse(bestSolutionEventMode, BestSolutionEventMode.FULL_SOLUTION);
+    }
+
+    public BestSolutionCloningMode determineBestSolutionCloningMode() {
+        return Objects.requireNonNullElse(bestSolutionCloningMode, BestSolutionCloningMode.FULL);
+    }
+
     public MonitoringConfig determineMetricConfig() {
         return Objects.requireNonNullElse(monitoringConfig,
                 new MonitoringConfig().withSolverMetricList(Arrays.asList(SolverMetric.SOLVE_DURATION, SolverMetric.ERROR_COUNT,
@@ -624,8 +737,18 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadCount());
         moveThreadBufferSize = ConfigUtils.inheritOverwritableProperty(moveThreadBufferSize,
                 inheritedConfig.getMoveThreadBufferSize());
+        moveThreadBusySpinEnabled = ConfigUtils.inheritOverwritableProperty(moveThreadBusySpinEnabled,
+                inheritedConfig.getMoveThreadBusySpinEnabled());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        bestSolutionEventMode = ConfigUtils.inheritOverwritableProperty(bestSolutionEventMode,
+                inheritedConfig.getBestSolutionEventMode());
+        bestSolutionEventThrottlingDelay = ConfigUtils.inheritOverwritableProperty(bestSolutionEventThrottlingDelay,
+                inheritedConfig.getBestSolutionEventThrottlingDelay());
+        bestSolutionCloningMode = ConfigUtils.inheritOverwritableProperty(bestSolutionCloningMode,
+                inheritedConfig.getBestSolutionCloningMode());
+        solutionCloningThreadCount = ConfigUtils.inheritOverwritableProperty(solutionCloningThreadCount,
+                inheritedConfig.getSolutionCloningThreadCount());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
         entityClassList = ConfigUtils.inheritMergeableListProperty(entityClassList,
                 inheritedConfig.getEntityClassList());
@@ -1,19 +1,24 @@
 package ai.timefold.solver.core.config.solver;
 
+import java.time.Duration;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 import jakarta.xml.bind.annotation.XmlType;
+import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
+import ai.timefold.solver.core.api.solver.SolverManager;
 import ai.timefold.solver.core.config.AbstractConfig;
 import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "timeSlice"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
@@ -23,6 +28,8 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration timeSlice = null;
 
     // Future features:
     // throttlingDelay
@@ -51,6 +58,30 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * If set, more problems can be solving than the parallelSolverCount,
+     * but only the parallelSolverCount of them run at the same time.
+     * A solver pauses at a step boundary when it has run this long and another problem is waiting,
+     * and resumes later where it left off.
+     * Waiting problems resume by {@link SolverManager#setPriority(Object, int) priority}
+     * and then by least solved time.
+     * <p>
+     * A paused solver keeps its thread, but a problem that hasn't started yet doesn't occupy a thread.
+     * With {@link SolverConfig#getMoveThreadBusySpinEnabled() busy spinning move threads},
+     * the move threads of a paused solver keep spinning, so avoid combining both.
+     * <p>
+     * Time-based terminations (such as a spent limit) measure wall clock time, which includes the paused time.
+     *
+     * @return null if a new problem waits until a running problem finishes
+     */
+    public Duration getTimeSlice() {
+        return timeSlice;
+    }
+
+    public void setTimeSlice(Duration timeSlice) {
+        this.timeSlice = timeSlice;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -65,6 +96,11 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withTimeSlice(Duration timeSlice) {
+        this.timeSlice = timeSlice;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -111,6 +147,7 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        timeSlice = ConfigUtils.inheritOverwritableProperty(timeSlice, inheritedConfig.getTimeSlice());
         return this;
     }
 
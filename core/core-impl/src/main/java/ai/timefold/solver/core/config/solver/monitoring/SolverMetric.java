@@ -12,11 +12,13 @@ import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 import ai.timefold.solver.core.impl.statistic.BestScoreStatistic;
 import ai.timefold.solver.core.impl.statistic.BestSolutionMutationCountStatistic;
+import ai.timefold.solver.core.impl.statistic.ConstraintProfileStatistic;
 import ai.timefold.solver.core.impl.statistic.MemoryUseStatistic;
 import ai.timefold.solver.core.impl.statistic.PickedMoveBestScoreDiffStatistic;
 import ai.timefold.solver.core.impl.statistic.PickedMoveStepScoreDiffStatistic;
 import ai.timefold.solver.core.impl.statistic.SolverStatistic;
 import ai.timefold.solver.core.impl.statistic.StatelessSolverStatistic;
+import ai.timefold.solver.core.impl.statistic.TupleCountStatistic;
 
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tags;
@@ -36,7 +38,9 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("timefold.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("timefold.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
-            false);
+            false),
+    CONSTRAINT_PROFILE("timefold.solver.constraint.profile", new ConstraintProfileStatistic<>(), false),
+    CONSTRAINT_STREAM_TUPLE_COUNT("timefold.solver.constraint.stream.tuple.count", new TupleCountStatistic<>(), false);
 
     String meterId;
     @SuppressWarnings("rawtypes")
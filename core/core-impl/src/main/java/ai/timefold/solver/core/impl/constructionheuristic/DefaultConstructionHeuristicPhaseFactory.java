@@ -35,6 +35,7 @@ import ai.timefold.solver.core.impl.constructionheuristic.placer.QueuedValuePlac
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.thread.WaitStrategy;
 import ai.timefold.solver.core.impl.phase.AbstractPhaseFactory;
 import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
@@ -193,6 +194,9 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
             MultiThreadedConstructionHeuristicDecider<Solution_> multiThreadedDecider =
                     new MultiThreadedConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager,
                             threadFactory, moveThreadCount, selectedMoveBufferSize);
+            if (configPolicy.isMoveThreadBusySpinEnabled()) {
+                multiThreadedDecider.setWaitStrategy(WaitStrategy.BUSY_SPIN);
+            }
             if (environmentMode.isNonIntrusiveFullAsserted()) {
                 multiThreadedDecider.setAssertStepScoreFromScratch(true);
             }
@@ -3,8 +3,6 @@ package ai.timefold.solver.core.impl.constructionheuristic.decider;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -21,11 +19,11 @@ import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeur
 import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.heuristic.thread.ApplyStepOperation;
 import ai.timefold.solver.core.impl.heuristic.thread.DestroyOperation;
-import ai.timefold.solver.core.impl.heuristic.thread.MoveEvaluationOperation;
-import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperationRingBuffer;
 import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadRunner;
 import ai.timefold.solver.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
 import ai.timefold.solver.core.impl.heuristic.thread.SetupOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.WaitStrategy;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
@@ -43,8 +41,9 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+    protected WaitStrategy waitStrategy = WaitStrategy.SPIN_THEN_PARK;
 
-    protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    protected MoveThreadOperationRingBuffer<Solution_> operationQueue;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
     protected CyclicBarrier moveThreadBarrier;
     protected ExecutorService executor;
@@ -59,6 +58,10 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         this.selectedMoveBufferSize = selectedMoveBufferSize;
     }
 
+    public void setWaitStrategy(WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
     public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
         this.assertStepScoreFromScratch = assertStepScoreFromScratch;
     }
@@ -75,9 +78,10 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
-        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        operationQueue = new MoveThreadOperationRingBuffer<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount,
+                waitStrategy);
         // Capacity: number of moves in circulation + number of exception handling results
-        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
+        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount, waitStrategy);
         moveThreadBarrier = new CyclicBarrier(moveThreadCount);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
         executor = createThreadPoolExecutor();
@@ -153,7 +157,7 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             }
             if (hasNextMove) {
                 Move<Solution_> move = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex, move));
+                operationQueue.addMoveEvaluation(stepIndex, selectMoveIndex, move);
                 selectMoveIndex++;
                 movesInPlay++;
             }
@@ -62,7 +62,8 @@ public final class MemberAccessorFactory {
                     // Intentionally fall through (no break)
                 case FIELD_OR_GETTER_METHOD:
                 case FIELD_OR_GETTER_METHOD_WITH_SETTER:
-                    boolean getterOnly = memberAccessorType != MemberAccessorType.FIELD_OR_GETTER_METHOD_WITH_SETTER;
+                    // Like the gizmo accessors, FIELD_OR_GETTER_METHOD uses the setter if there is one, without requiring it
+                    boolean getterOnly = memberAccessorType == MemberAccessorType.FIELD_OR_READ_METHOD;
                     ReflectionHelper.assertGetterMethod(method, annotationClass);
                     if (Modifier.isPublic(method.getModifiers())
                             // HACK The lambda approach doesn't support classes from another classloader in JDK 8
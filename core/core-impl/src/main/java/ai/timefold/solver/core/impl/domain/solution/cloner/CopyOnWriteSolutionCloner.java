@@ -0,0 +1,126 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
+import ai.timefold.solver.core.config.solver.BestSolutionCloningMode;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+
+/**
+ * Planning clones the same working solution repeatedly, as snapshots that share planning entity clones.
+ * A planning entity that didn't change since the previous snapshot isn't planning cloned again,
+ * so the number of planning entity clones is proportional to the number of changed planning entities.
+ * <p>
+ * It relies on the {@link #markDirty(Object) notifications} of the score director to know what changed,
+ * and only reuses the clone of a planning entity that only references problem facts and immutable values,
+ * so a planning entity that references another planning entity, for example through a chained or a list variable,
+ * is always planning cloned.
+ * <p>
+ * Because the snapshots share planning entity clones, a snapshot must never be changed.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see BestSolutionCloningMode#COPY_ON_WRITE
+ */
+public final class CopyOnWriteSolutionCloner<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final FieldAccessingSolutionCloner<Solution_> solutionCloner;
+
+    /**
+     * Maps every planning entity that didn't change since the previous snapshot to its clone in that snapshot.
+     */
+    private Map<Object, Object> reusableCloneMap = new IdentityHashMap<>();
+    /**
+     * Maps every planning entity that changed since the previous snapshot to its clone in that snapshot,
+     * if that clone was reusable.
+     * Most of them changed back, because most moves are undone after they are evaluated.
+     */
+    private final Map<Object, Object> dirtyCloneMap = new IdentityHashMap<>();
+
+    public CopyOnWriteSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor) {
+        Class<? extends SolutionCloner> solutionClonerClass = solutionDescriptor.getSolutionClass()
+                .getAnnotation(PlanningSolution.class).solutionCloner();
+        if (solutionClonerClass != PlanningSolution.NullSolutionCloner.class) {
+            throw new IllegalArgumentException("The bestSolutionCloningMode (" + BestSolutionCloningMode.COPY_ON_WRITE
+                    + ") does not support the custom solutionCloner (" + solutionClonerClass.getName()
+                    + ") of the solution class (" + solutionDescriptor.getSolutionClass().getName() + ").\n"
+                    + "Maybe remove that solutionCloner or use the bestSolutionCloningMode ("
+                    + BestSolutionCloningMode.FULL + ").");
+        }
+        this.solutionDescriptor = solutionDescriptor;
+        this.solutionCloner = new FieldAccessingSolutionCloner<>(solutionDescriptor);
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * Call this before a variable of the planning entity changes.
+     *
+     * @param entity never null
+     */
+    public void markDirty(Object entity) {
+        Object clone = reusableCloneMap.remove(entity);
+        if (clone != null) {
+            dirtyCloneMap.put(entity, clone);
+        }
+    }
+
+    /**
+     * Call this when the planning entity is removed from the working solution
+     * or when one of its problem properties changes.
+     *
+     * @param entity never null
+     */
+    public void forget(Object entity) {
+        reusableCloneMap.remove(entity);
+        dirtyCloneMap.remove(entity);
+    }
+
+    /**
+     * Call this when the working solution is replaced or when anything changed without a notification,
+     * so the next snapshot planning clones every planning entity.
+     */
+    public void reset() {
+        reusableCloneMap = new IdentityHashMap<>();
+        dirtyCloneMap.clear();
+    }
+
+    /**
+     * @param workingSolution never null
+     * @return never null, a planning clone that must never be changed
+     */
+    public Solution_ cloneSolution(Solution_ workingSolution) {
+        for (Map.Entry<Object, Object> dirtyEntry : dirtyCloneMap.entrySet()) {
+            Object entity = dirtyEntry.getKey();
+            Object clone = dirtyEntry.getValue();
+            if (isCloneUpToDate(entity, clone)) {
+                reusableCloneMap.put(entity, clone);
+            }
+        }
+        dirtyCloneMap.clear();
+        return solutionCloner.cloneSolution(workingSolution, reusableCloneMap);
+    }
+
+    private boolean isCloneUpToDate(Object entity, Object clone) {
+        // Only the variables can change without a reset, so the other fields are still shallow copies.
+        EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+        for (VariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getVariableDescriptorMap().values()) {
+            Object value = variableDescriptor.getValue(entity);
+            Object cloneValue = variableDescriptor.getValue(clone);
+            if (value != cloneValue
+                    && (value == null || !DeepCloningUtils.isImmutable(value.getClass()) || !value.equals(cloneValue))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
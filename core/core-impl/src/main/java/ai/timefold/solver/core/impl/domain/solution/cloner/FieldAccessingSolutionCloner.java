@@ -8,6 +8,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
@@ -25,7 +26,10 @@ import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+import ai.timefold.solver.core.api.domain.solution.cloner.DeepPlanningClone;
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
 import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
@@ -35,12 +39,44 @@ import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescripto
  */
 public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCloner<Solution_> {
 
+    /**
+     * Below this number of planning entities, the overhead of the threads outweighs the gain.
+     */
+    private static final int PARALLEL_CLONING_MINIMUM_ENTITY_COUNT = 10_000;
+    private static final int PARTITIONS_PER_THREAD = 4;
+
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final ConcurrentMap<Class<?>, Constructor<?>> constructorMemoization = new ConcurrentMemoization<>();
     private final ConcurrentMap<Class<?>, ClassMetadata> classMetadataMemoization = new ConcurrentMemoization<>();
+    private final int threadCount;
+    private final int parallelCloningMinimumEntityCount;
+    /**
+     * Null if single threaded. Its worker threads are daemon threads that terminate when idle.
+     */
+    private final ForkJoinPool forkJoinPool;
 
     public FieldAccessingSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this(solutionDescriptor, 1);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param threadCount at least 1, the number of threads that planning clone a solution
+     *        with at least {@value #PARALLEL_CLONING_MINIMUM_ENTITY_COUNT} planning entities
+     */
+    public FieldAccessingSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor, int threadCount) {
+        this(solutionDescriptor, threadCount, PARALLEL_CLONING_MINIMUM_ENTITY_COUNT);
+    }
+
+    FieldAccessingSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor, int threadCount,
+            int parallelCloningMinimumEntityCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("The threadCount (" + threadCount + ") must be at least 1.");
+        }
         this.solutionDescriptor = solutionDescriptor;
+        this.threadCount = threadCount;
+        this.parallelCloningMinimumEntityCount = parallelCloningMinimumEntityCount;
+        this.forkJoinPool = threadCount == 1 ? null : new ForkJoinPool(threadCount);
     }
 
     // ************************************************************************
@@ -51,7 +87,106 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
     public Solution_ cloneSolution(Solution_ originalSolution) {
         int entityCount = solutionDescriptor.getEntityCount(originalSolution);
         Map<Object, Object> originalToCloneMap = new IdentityHashMap<>(entityCount + 1);
+        if (forkJoinPool != null && entityCount >= parallelCloningMinimumEntityCount) {
+            return cloneSolutionInParallel(originalSolution, originalToCloneMap, entityCount);
+        }
+        return cloneSolution(originalSolution, originalToCloneMap, entityCount, null);
+    }
+
+    /**
+     * Like {@link #cloneSolution(Object)},
+     * but reuses the planning entity clones of a previous call instead of planning cloning those entities again.
+     * <p>
+     * Afterwards, the reusableCloneMap contains every planning entity clone of the new planning clone
+     * that a later call can reuse, because all of its fields are shallow copies of the original's fields.
+     * So such a clone only references problem facts and immutable values, never other planning clones.
+     *
+     * @param originalSolution never null
+     * @param reusableCloneMap never null, an {@link IdentityHashMap} from original planning entity to its clone,
+     *        which must still be equal to the original
+     * @return never null
+     * @see CopyOnWriteSolutionCloner
+     */
+    public Solution_ cloneSolution(Solution_ originalSolution, Map<Object, Object> reusableCloneMap) {
+        int entityCount = solutionDescriptor.getEntityCount(originalSolution);
+        Set<Object> deepClonedBeanSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        Solution_ cloneSolution = cloneSolution(originalSolution, reusableCloneMap, entityCount, deepClonedBeanSet);
+        reusableCloneMap.entrySet().removeIf(entry -> !solutionDescriptor.hasEntityDescriptor(entry.getKey().getClass())
+                || deepClonedBeanSet.contains(entry.getValue()));
+        return cloneSolution;
+    }
+
+    private Solution_ cloneSolution(Solution_ originalSolution, Map<Object, Object> originalToCloneMap, int entityCount,
+            Set<Object> deepClonedBeanSet) {
         Queue<Unprocessed> unprocessedQueue = new ArrayDeque<>(entityCount + 1);
+        Solution_ cloneSolution = clone(originalSolution, originalToCloneMap, unprocessedQueue,
+                retrieveClassMetadata(originalSolution.getClass()));
+        while (!unprocessedQueue.isEmpty()) {
+            Unprocessed unprocessed = unprocessedQueue.remove();
+            if (deepClonedBeanSet != null) {
+                deepClonedBeanSet.add(unprocessed.bean);
+            }
+            Object cloneValue = process(unprocessed, originalToCloneMap, unprocessedQueue);
+            FieldCloningUtils.setObjectFieldValue(unprocessed.bean, unprocessed.field, cloneValue);
+        }
+        validateCloneSolution(originalSolution, cloneSolution);
+        return cloneSolution;
+    }
+
+    /**
+     * Planning clones the planning entities in partitions on the {@link #forkJoinPool}, in 2 passes.
+     * The first pass, single threaded, constructs the clone of every planning entity,
+     * so the second pass, which copies their fields in parallel, can resolve every reference to a planning entity
+     * by only reading the originalToCloneMap.
+     * The fields that require any other clone, for example of a {@link DeepPlanningClone} problem fact,
+     * are deferred to the single threaded processing of the planning solution itself,
+     * so every original still has exactly 1 clone.
+     */
+    private Solution_ cloneSolutionInParallel(Solution_ originalSolution, Map<Object, Object> originalToCloneMap,
+            int entityCount) {
+        List<Object> originalEntityList = new ArrayList<>(entityCount);
+        List<Object> cloneEntityList = new ArrayList<>(entityCount);
+        Set<Class<?>> entityClassSet = new HashSet<>();
+        solutionDescriptor.visitAllEntities(originalSolution, originalEntity -> {
+            if (!originalToCloneMap.containsKey(originalEntity)) { // An entity can be in multiple entity collections.
+                Object cloneEntity = constructClone(originalEntity.getClass());
+                originalToCloneMap.put(originalEntity, cloneEntity);
+                originalEntityList.add(originalEntity);
+                cloneEntityList.add(cloneEntity);
+                entityClassSet.add(originalEntity.getClass());
+            }
+        });
+        for (Class<?> entityClass : entityClassSet) {
+            // Initialize the lazy-loaded metadata before it is shared between threads.
+            for (Class<?> clazz = entityClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                ClassMetadata classMetadata = retrieveClassMetadata(clazz);
+                classMetadata.getCopiedFieldArray();
+                classMetadata.getClonedFieldArray();
+            }
+        }
+        // From now on, the originalToCloneMap is only read until all partitions are done.
+        List<Unprocessed> deferredList = invokePartitions(originalEntityList.size(), (fromIndex, toIndex) -> {
+            Queue<Unprocessed> partitionQueue = new ArrayDeque<>();
+            List<Unprocessed> partitionDeferredList = new ArrayList<>();
+            for (int i = fromIndex; i < toIndex; i++) {
+                Object originalEntity = originalEntityList.get(i);
+                Class<Object> entityClass = (Class<Object>) originalEntity.getClass();
+                copyFields(entityClass, originalEntity, cloneEntityList.get(i), partitionQueue,
+                        retrieveClassMetadata(entityClass));
+                while (!partitionQueue.isEmpty()) {
+                    Unprocessed unprocessed = partitionQueue.remove();
+                    if (isResolvableWithoutNewClone(unprocessed.originalValue, originalToCloneMap, true)) {
+                        // Never adds to the partitionQueue, because it doesn't create new clones.
+                        Object cloneValue = process(unprocessed, originalToCloneMap, partitionQueue);
+                        FieldCloningUtils.setObjectFieldValue(unprocessed.bean, unprocessed.field, cloneValue);
+                    } else {
+                        partitionDeferredList.add(unprocessed);
+                    }
+                }
+            }
+            return partitionDeferredList;
+        });
+        Queue<Unprocessed> unprocessedQueue = new ArrayDeque<>(deferredList);
         Solution_ cloneSolution = clone(originalSolution, originalToCloneMap, unprocessedQueue,
                 retrieveClassMetadata(originalSolution.getClass()));
         while (!unprocessedQueue.isEmpty()) {
@@ -63,6 +198,65 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
         return cloneSolution;
     }
 
+    private <T> List<T> invokePartitions(int size, PartitionFunction<T> partitionFunction) {
+        int partitionCount = Math.min(size, threadCount * PARTITIONS_PER_THREAD);
+        List<ForkJoinTask<List<T>>> taskList = new ArrayList<>(partitionCount);
+        for (int partIndex = 0; partIndex < partitionCount; partIndex++) {
+            int fromIndex = (int) ((long) size * partIndex / partitionCount);
+            int toIndex = (int) ((long) size * (partIndex + 1) / partitionCount);
+            taskList.add(forkJoinPool.submit(() -> partitionFunction.apply(fromIndex, toIndex)));
+        }
+        List<T> resultList = new ArrayList<>();
+        for (ForkJoinTask<List<T>> task : taskList) {
+            resultList.addAll(task.join());
+        }
+        return resultList;
+    }
+
+    /**
+     * Mirrors {@link #process(Unprocessed, Map, Queue)}, without changing anything.
+     *
+     * @param originalValue never null
+     * @param originalToCloneMap never null
+     * @param isFieldValue true if it's the value of a deep cloned field, false if it's an element of a collection
+     * @return true if processing it would not construct any clone other than collections, maps and arrays
+     */
+    private boolean isResolvableWithoutNewClone(Object originalValue, Map<Object, Object> originalToCloneMap,
+            boolean isFieldValue) {
+        if (originalValue == null) {
+            return true;
+        } else if (originalValue instanceof Collection) {
+            for (Object element : (Collection<?>) originalValue) {
+                if (!isResolvableWithoutNewClone(element, originalToCloneMap, false)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (originalValue instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) originalValue).entrySet()) {
+                if (!isResolvableWithoutNewClone(entry.getKey(), originalToCloneMap, false)
+                        || !isResolvableWithoutNewClone(entry.getValue(), originalToCloneMap, false)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (originalValue.getClass().isArray()) {
+            if (originalValue.getClass().getComponentType().isPrimitive()) {
+                return true;
+            }
+            for (Object element : (Object[]) originalValue) {
+                if (!isResolvableWithoutNewClone(element, originalToCloneMap, false)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (isFieldValue || retrieveClassMetadata(originalValue.getClass()).isDeepCloned) {
+            return originalToCloneMap.containsKey(originalValue);
+        } else {
+            return true;
+        }
+    }
+
     private Object process(Unprocessed unprocessed, Map<Object, Object> originalToCloneMap,
             Queue<Unprocessed> unprocessedQueue) {
         Object originalValue = unprocessed.originalValue;
@@ -327,6 +521,13 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
 
     }
 
+    @FunctionalInterface
+    private interface PartitionFunction<T> {
+
+        List<T> apply(int fromIndex, int toIndex);
+
+    }
+
     private static final class Unprocessed {
 
         final Object bean;
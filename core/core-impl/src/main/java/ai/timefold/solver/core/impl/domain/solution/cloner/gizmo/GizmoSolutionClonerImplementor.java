@@ -39,17 +39,28 @@ import io.quarkus.gizmo.BranchResult;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 
 public class GizmoSolutionClonerImplementor {
+
+    // TODO Resolve planning entity references through a dense clone index (from @PlanningId or sequential)
+    // and flat arrays instead of the createdCloneMap, and bulk copy list variable element lists.
+
     private static final MethodDescriptor EQUALS_METHOD = MethodDescriptor.ofMethod(Object.class, "equals", boolean.class,
             Object.class);
     private static final MethodDescriptor GET_METHOD = MethodDescriptor.ofMethod(Map.class, "get", Object.class,
             Object.class);
     private static final MethodDescriptor PUT_METHOD = MethodDescriptor.ofMethod(Map.class, "put", Object.class,
             Object.class, Object.class);
+    /**
+     * The number of clones of the previous planning clone,
+     * to presize the createdCloneMap of the next one, because a solver planning clones the same solution many times.
+     * Racy by design: it's only a hint, so a planning clone on another thread just uses another size.
+     */
+    private static final String EXPECTED_CLONE_COUNT_FIELD = "expectedCloneCount";
     public static final boolean DEBUG = false;
 
     /**
@@ -123,6 +134,8 @@ public class GizmoSolutionClonerImplementor {
         SortedSet<Class<?>> deepCloneClassesThatAreNotSolutionSortedSet = new TreeSet<>(instanceOfComparator);
         deepCloneClassesThatAreNotSolutionSortedSet.addAll(deepCloneClassesThatAreNotSolutionSet);
 
+        classCreator.getFieldCreator(EXPECTED_CLONE_COUNT_FIELD, int.class)
+                .setModifiers(Modifier.PRIVATE);
         createConstructor(classCreator);
         createCloneSolution(classCreator, solutionDescriptor);
         createCloneSolutionRun(classCreator, solutionDescriptor, solutionClassSet, memoizedSolutionOrEntityDescriptorMap,
@@ -226,13 +239,22 @@ public class GizmoSolutionClonerImplementor {
                         Object.class));
 
         ResultHandle thisObj = methodCreator.getMethodParam(0);
+        ResultHandle clonerObj = methodCreator.getThis();
+        FieldDescriptor expectedCloneCountField =
+                FieldDescriptor.of(classCreator.getClassName(), EXPECTED_CLONE_COUNT_FIELD, int.class);
 
+        ResultHandle expectedCloneCount = methodCreator.readInstanceField(expectedCloneCountField, clonerObj);
+        ResultHandle createdCloneMap = methodCreator.newInstance(
+                MethodDescriptor.ofConstructor(IdentityHashMap.class, int.class), expectedCloneCount);
         ResultHandle clone = methodCreator.invokeStaticMethod(
                 MethodDescriptor.ofMethod(
                         GizmoSolutionClonerFactory.getGeneratedClassName(solutionDescriptor),
                         "cloneSolutionRun", solutionClass, solutionClass, Map.class),
                 thisObj,
-                methodCreator.newInstance(MethodDescriptor.ofConstructor(IdentityHashMap.class)));
+                createdCloneMap);
+        ResultHandle cloneCount = methodCreator.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(Map.class, "size", int.class), createdCloneMap);
+        methodCreator.writeInstanceField(expectedCloneCountField, clonerObj, cloneCount);
         methodCreator.returnValue(clone);
     }
 
@@ -534,6 +556,11 @@ public class GizmoSolutionClonerImplementor {
      *     clone.add(nextClone);
      * }
      * cloneResultHolder = clone;
+     *
+     * // For a Collection of elements that are never deep cloned
+     * Collection clone = new ActualCollectionType();
+     * clone.addAll(toClone);
+     * cloneResultHolder = clone;
      * </pre>
      **/
     private static void writeDeepCloneCollectionInstructions(BytecodeCreator bytecodeCreator,
@@ -585,15 +612,6 @@ public class GizmoSolutionClonerImplementor {
             isNotSetBranch.assign(cloneCollection,
                     isNotSetBranch.newInstance(MethodDescriptor.ofConstructor(ArrayList.class, int.class), size));
         }
-        ResultHandle iterator = bytecodeCreator
-                .invokeInterfaceMethod(MethodDescriptor.ofMethod(Iterable.class, "iterator", Iterator.class), toClone);
-
-        BytecodeCreator whileLoopBlock = bytecodeCreator.whileLoop(conditionBytecode -> {
-            ResultHandle hasNext = conditionBytecode
-                    .invokeInterfaceMethod(MethodDescriptor.ofMethod(Iterator.class, "hasNext", boolean.class), iterator);
-            return conditionBytecode.ifTrue(hasNext);
-        }).block();
-
         Class<?> elementClass;
         java.lang.reflect.Type elementClassType;
         if (type instanceof ParameterizedType) {
@@ -610,6 +628,24 @@ public class GizmoSolutionClonerImplementor {
             throw new IllegalStateException("Cannot infer element type for Collection type (" + type + ").");
         }
 
+        if (isNeverDeepCloned(solutionDescriptor, elementClass, deepClonedClassesSortedSet)) {
+            // Bulk copy, for example an ArrayList copies its elements with System.arraycopy().
+            bytecodeCreator.invokeInterfaceMethod(
+                    MethodDescriptor.ofMethod(Collection.class, "addAll", boolean.class, Collection.class),
+                    cloneCollection, toClone);
+            bytecodeCreator.assign(cloneResultHolder, cloneCollection);
+            return;
+        }
+
+        ResultHandle iterator = bytecodeCreator
+                .invokeInterfaceMethod(MethodDescriptor.ofMethod(Iterable.class, "iterator", Iterator.class), toClone);
+
+        BytecodeCreator whileLoopBlock = bytecodeCreator.whileLoop(conditionBytecode -> {
+            ResultHandle hasNext = conditionBytecode
+                    .invokeInterfaceMethod(MethodDescriptor.ofMethod(Iterator.class, "hasNext", boolean.class), iterator);
+            return conditionBytecode.ifTrue(hasNext);
+        }).block();
+
         // Odd case of member get and set being on different classes; will work as we only
         // use get on the original and set on the clone.
         ResultHandle next =
@@ -745,6 +781,11 @@ public class GizmoSolutionClonerImplementor {
      *     clone[i] = (result from recursion on toClone[i]);
      * }
      * cloneResultHolder = clone;
+     *
+     * // For an array of elements that are never deep cloned
+     * Object[] clone = new Object[toClone.length];
+     * System.arraycopy(toClone, 0, clone, 0, toClone.length);
+     * cloneResultHolder = clone;
      * </pre>
      **/
     private static void writeDeepCloneArrayInstructions(BytecodeCreator bytecodeCreator,
@@ -755,6 +796,14 @@ public class GizmoSolutionClonerImplementor {
         Class<?> arrayComponent = deeplyClonedFieldClass.getComponentType();
         ResultHandle arrayLength = bytecodeCreator.arrayLength(toClone);
         ResultHandle arrayClone = bytecodeCreator.newArray(arrayComponent, arrayLength);
+        if (isNeverDeepCloned(solutionDescriptor, arrayComponent, deepClonedClassesSortedSet)) {
+            bytecodeCreator.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(System.class, "arraycopy", void.class,
+                            Object.class, int.class, Object.class, int.class, int.class),
+                    toClone, bytecodeCreator.load(0), arrayClone, bytecodeCreator.load(0), arrayLength);
+            bytecodeCreator.assign(cloneResultHolder, arrayClone);
+            return;
+        }
         AssignableResultHandle iterations = bytecodeCreator.createVariable(int.class);
         bytecodeCreator.assign(iterations, bytecodeCreator.load(0));
         BytecodeCreator whileLoopBlock = bytecodeCreator
@@ -797,10 +846,8 @@ public class GizmoSolutionClonerImplementor {
             GizmoSolutionOrEntityDescriptor solutionDescriptor, Class<?> deeplyClonedFieldClass, ResultHandle toClone,
             AssignableResultHandle cloneResultHolder, ResultHandle createdCloneMap,
             SortedSet<Class<?>> deepClonedClassesSortedSet, boolean forceDeepClone) {
-        List<Class<?>> deepClonedSubclasses = deepClonedClassesSortedSet.stream()
-                .filter(deeplyClonedFieldClass::isAssignableFrom)
-                .filter(type -> DeepCloningUtils.isClassDeepCloned(solutionDescriptor.getSolutionDescriptor(), type))
-                .collect(Collectors.toList());
+        List<Class<?>> deepClonedSubclasses =
+                getDeepClonedSubclasses(solutionDescriptor, deeplyClonedFieldClass, deepClonedClassesSortedSet);
         BytecodeCreator currentBranch = bytecodeCreator;
         // If the field holds an instance of one of the field's declared type's subtypes, clone the subtype instead.
         for (Class<?> deepClonedSubclass : deepClonedSubclasses) {
@@ -829,6 +876,32 @@ public class GizmoSolutionClonerImplementor {
         }
     }
 
+    private static List<Class<?>> getDeepClonedSubclasses(GizmoSolutionOrEntityDescriptor solutionDescriptor,
+            Class<?> deeplyClonedFieldClass, SortedSet<Class<?>> deepClonedClassesSortedSet) {
+        return deepClonedClassesSortedSet.stream()
+                .filter(deeplyClonedFieldClass::isAssignableFrom)
+                .filter(type -> DeepCloningUtils.isClassDeepCloned(solutionDescriptor.getSolutionDescriptor(), type))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Mirrors the decisions of
+     * {@link #writeDeepCloneInstructions(BytecodeCreator, GizmoSolutionOrEntityDescriptor, Class, Type, ResultHandle,
+     * AssignableResultHandle, ResultHandle, SortedSet)}.
+     * Elements that might be planning entities, such as the values of a list variable with shadow variables,
+     * are still cloned one by one, because each one is resolved through the createdCloneMap.
+     *
+     * @return true if the recursion on an element of that class always returns that element itself
+     */
+    private static boolean isNeverDeepCloned(GizmoSolutionOrEntityDescriptor solutionDescriptor, Class<?> elementClass,
+            SortedSet<Class<?>> deepClonedClassesSortedSet) {
+        return !solutionDescriptor.getSolutionDescriptor().getSolutionClass().isAssignableFrom(elementClass)
+                && !Collection.class.isAssignableFrom(elementClass)
+                && !Map.class.isAssignableFrom(elementClass)
+                && !elementClass.isArray()
+                && getDeepClonedSubclasses(solutionDescriptor, elementClass, deepClonedClassesSortedSet).isEmpty();
+    }
+
     private static String getEntityHelperMethodName(Class<?> entityClass) {
         return "$clone" + entityClass.getName().replace('.', '_');
     }
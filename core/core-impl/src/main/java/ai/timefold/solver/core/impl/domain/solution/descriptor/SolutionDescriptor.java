@@ -659,6 +659,24 @@ public class SolutionDescriptor<Solution_> {
         this.assertModelForCloning = assertModelForCloning;
     }
 
+    /**
+     * Replaces the default {@link SolutionCloner} by a {@link FieldAccessingSolutionCloner}
+     * that planning clones very large solutions with multiple threads.
+     *
+     * @param solutionCloningThreadCount at least 2
+     */
+    public void enableParallelSolutionCloning(int solutionCloningThreadCount) {
+        Class<? extends SolutionCloner> solutionClonerClass = solutionClass.getAnnotation(PlanningSolution.class)
+                .solutionCloner();
+        if (solutionClonerClass != PlanningSolution.NullSolutionCloner.class) {
+            throw new IllegalArgumentException("The solutionCloningThreadCount (" + solutionCloningThreadCount
+                    + ") is not supported with the custom solutionCloner (" + solutionClonerClass.getName()
+                    + ") of the solutionClass (" + solutionClass.getName() + ").\n"
+                    + "Maybe remove that solutionCloningThreadCount.");
+        }
+        solutionCloner = new FieldAccessingSolutionCloner<>(this, solutionCloningThreadCount);
+    }
+
     // ************************************************************************
     // Model methods
     // ************************************************************************
@@ -104,6 +104,14 @@ public abstract class VariableDescriptor<Solution_> {
         variableMemberAccessor.executeSetter(entity, value);
     }
 
+    /**
+     * @return false if {@link #setValue(Object, Object)} is not supported,
+     *         for example for a shadow variable with a getter but without a setter
+     */
+    public boolean supportsSetValue() {
+        return variableMemberAccessor.supportSetter();
+    }
+
     public String getMemberAccessorSpeedNote() {
         return variableMemberAccessor.getSpeedNote();
     }
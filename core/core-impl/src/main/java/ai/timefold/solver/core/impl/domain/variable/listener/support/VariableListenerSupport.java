@@ -40,6 +40,7 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
     private final Map<Demand<?>, Long> demandCounterMap = new HashMap<>();
 
     private boolean notificationQueuesAreEmpty = true;
+    private boolean revertibleWithoutVariableListeners = true;
     private int nextGlobalOrder = 0;
 
     VariableListenerSupport(InnerScoreDirector<Solution_, ?> scoreDirector, NotifiableRegistry<Solution_> notifiableRegistry) {
@@ -48,6 +49,10 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
     }
 
     public void linkVariableListeners() {
+        revertibleWithoutVariableListeners &= scoreDirector.getSolutionDescriptor().getEntityDescriptors().stream()
+                .map(EntityDescriptor::getDeclaredShadowVariableDescriptors)
+                .flatMap(Collection::stream)
+                .allMatch(VariableDescriptor::supportsSetValue);
         scoreDirector.getSolutionDescriptor().getEntityDescriptors().stream()
                 .map(EntityDescriptor::getDeclaredShadowVariableDescriptors)
                 .flatMap(Collection::stream)
@@ -90,6 +95,8 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
         Supply supply = demand.createExternalizedSupply(this);
         if (supply instanceof SourcedVariableListener) {
             SourcedVariableListener<Solution_> variableListener = (SourcedVariableListener<Solution_>) supply;
+            // An externalized supply keeps its state outside of the shadow variables
+            revertibleWithoutVariableListeners = false;
             // An external ScoreDirector can be created before the working solution is set
             if (scoreDirector.getWorkingSolution() != null) {
                 variableListener.resetWorkingSolution(scoreDirector);
@@ -101,6 +108,20 @@ public final class VariableListenerSupport<Solution_> implements SupplyManager {
         return supply;
     }
 
+    /**
+     * The shadow variables can be reverted without triggering the variable listeners
+     * if every shadow variable has a setter and no externalized supply has been demanded,
+     * because such a supply keeps its state outside of the shadow variables.
+     * The built-in variable listeners of the shadow variables keep all of their state in those shadow variables,
+     * but a custom variable listener might not, which is why the move journal is opt-in.
+     * An externalized supply is never forgotten, even if it is canceled.
+     *
+     * @return true if the shadow variables can be reverted without triggering the variable listeners
+     */
+    public boolean isRevertibleWithoutVariableListeners() {
+        return revertibleWithoutVariableListeners;
+    }
+
     @Override
     public <Supply_ extends Supply> boolean cancel(Demand<Supply_> demand) {
         Long result = demandCounterMap.computeIfPresent(demand, (key, count) -> Objects.equals(count, 1L) ? null : count - 1L);
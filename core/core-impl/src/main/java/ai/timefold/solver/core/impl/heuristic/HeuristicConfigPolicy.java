@@ -36,6 +36,7 @@ public class HeuristicConfigPolicy<Solution_> {
     private final boolean reinitializeVariableFilterEnabled;
     private final boolean initializedChainedValueFilterEnabled;
     private final boolean unassignedValuesAllowed;
+    private final boolean moveThreadBusySpinEnabled;
 
     private final Map<String, EntityMimicRecorder<Solution_>> entityMimicRecorderMap = new HashMap<>();
     private final Map<String, SubListMimicRecorder<Solution_>> subListMimicRecorderMap = new HashMap<>();
@@ -55,6 +56,7 @@ public class HeuristicConfigPolicy<Solution_> {
         this.reinitializeVariableFilterEnabled = builder.reinitializeVariableFilterEnabled;
         this.initializedChainedValueFilterEnabled = builder.initializedChainedValueFilterEnabled;
         this.unassignedValuesAllowed = builder.unassignedValuesAllowed;
+        this.moveThreadBusySpinEnabled = builder.moveThreadBusySpinEnabled;
     }
 
     public EnvironmentMode getEnvironmentMode() {
@@ -109,13 +111,19 @@ public class HeuristicConfigPolicy<Solution_> {
         return unassignedValuesAllowed;
     }
 
+    public boolean isMoveThreadBusySpinEnabled() {
+        return moveThreadBusySpinEnabled;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
 
     public Builder<Solution_> cloneBuilder() {
         return new Builder<>(environmentMode, moveThreadCount, moveThreadBufferSize, threadFactoryClass, initializingScoreTrend,
-                solutionDescriptor, classInstanceCache).withLogIndentation(logIndentation);
+                solutionDescriptor, classInstanceCache)
+                .withLogIndentation(logIndentation)
+                .withMoveThreadBusySpinEnabled(moveThreadBusySpinEnabled);
     }
 
     public HeuristicConfigPolicy<Solution_> createPhaseConfigPolicy() {
@@ -210,6 +218,7 @@ public class HeuristicConfigPolicy<Solution_> {
         private boolean reinitializeVariableFilterEnabled = false;
         private boolean initializedChainedValueFilterEnabled = false;
         private boolean unassignedValuesAllowed = false;
+        private boolean moveThreadBusySpinEnabled = false;
 
         public Builder(EnvironmentMode environmentMode, Integer moveThreadCount, Integer moveThreadBufferSize,
                 Class<? extends ThreadFactory> threadFactoryClass, InitializingScoreTrend initializingScoreTrend,
@@ -253,6 +262,11 @@ public class HeuristicConfigPolicy<Solution_> {
             return this;
         }
 
+        public Builder<Solution_> withMoveThreadBusySpinEnabled(boolean moveThreadBusySpinEnabled) {
+            this.moveThreadBusySpinEnabled = moveThreadBusySpinEnabled;
+            return this;
+        }
+
         public HeuristicConfigPolicy<Solution_> build() {
             return new HeuristicConfigPolicy<>(this);
         }
@@ -0,0 +1,156 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+
+/**
+ * Reweights the child move selectors of a {@link UnionMoveSelector} after every step, like a multi-armed bandit.
+ * A child move selector is rewarded when it selected the step and that step improved the score of the last step.
+ * Its probability weight is its recent number of rewards per selected move,
+ * so the move selectors that currently pay off are selected more,
+ * which shifts between the early and the late search.
+ * <p>
+ * The rewards and selection counts decay every step, so older steps count less.
+ * Every child move selector keeps a minimum probability weight, relative to the best one,
+ * so it can recover when it starts paying off again.
+ * <p>
+ * The move evaluation count is used as the cost, instead of the move evaluation time,
+ * to keep the selection reproducible.
+ * <p>
+ * The step must be the very move instance that a child move selector selected,
+ * so this doesn't support multithreaded solving, where the steps are rebased from the move threads.
+ *
+ * @param <Solution_> the solution type
+ */
+final class AdaptiveSelectorProbabilityWeightFactory<Solution_> extends PhaseLifecycleListenerAdapter<Solution_>
+        implements SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> {
+
+    static final double DECAY = 0.995;
+    /**
+     * Presume 1 reward per 100 selected moves for a child move selector without a history.
+     */
+    static final double PRIOR_REWARD = 1.0;
+    static final double PRIOR_SELECTION_COUNT = 100.0;
+    static final double MINIMUM_PROBABILITY_WEIGHT_RATIO = 0.05;
+
+    private final Map<MoveSelector<Solution_>, Arm<Solution_>> armMap;
+
+    private Score lastStepScore = null;
+
+    public AdaptiveSelectorProbabilityWeightFactory(List<MoveSelector<Solution_>> childMoveSelectorList) {
+        armMap = new LinkedHashMap<>(childMoveSelectorList.size());
+        for (MoveSelector<Solution_> childMoveSelector : childMoveSelectorList) {
+            armMap.put(childMoveSelector, new Arm<>());
+        }
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        lastStepScore = phaseScope.getStartingScore();
+        for (Arm<Solution_> arm : armMap.values()) {
+            arm.reset();
+        }
+    }
+
+    @Override
+    public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+        for (Arm<Solution_> arm : armMap.values()) {
+            arm.selectedMoveList.clear();
+        }
+    }
+
+    /**
+     * Called for every move that the {@link BiasedRandomUnionMoveIterator} selects.
+     *
+     * @param childMoveSelector never null
+     * @param move never null
+     */
+    public void moveSelected(MoveSelector<Solution_> childMoveSelector, Move<Solution_> move) {
+        armMap.get(childMoveSelector).selectedMoveList.add(move);
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        Move<Solution_> step = null;
+        boolean improving = false;
+        if (stepScope instanceof LocalSearchStepScope) {
+            step = ((LocalSearchStepScope<Solution_>) stepScope).getStep();
+            if (step != null) {
+                Score stepScore = stepScope.getScore();
+                improving = lastStepScore != null && stepScore.compareTo(lastStepScore) > 0;
+                lastStepScore = stepScore;
+            }
+        }
+        for (Arm<Solution_> arm : armMap.values()) {
+            arm.rewardSum *= DECAY;
+            arm.selectionCount = arm.selectionCount * DECAY + arm.selectedMoveList.size();
+            if (improving && containsByIdentity(arm.selectedMoveList, step)) {
+                arm.rewardSum += 1.0;
+            }
+            arm.selectedMoveList.clear();
+        }
+    }
+
+    private static <Solution_> boolean containsByIdentity(List<Move<Solution_>> moveList, Move<Solution_> step) {
+        for (Move<Solution_> move : moveList) {
+            if (move == step) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        lastStepScore = null;
+        for (Arm<Solution_> arm : armMap.values()) {
+            arm.selectedMoveList.clear();
+        }
+    }
+
+    @Override
+    public double createProbabilityWeight(ScoreDirector<Solution_> scoreDirector, MoveSelector<Solution_> selector) {
+        double bestRewardRate = 0.0;
+        for (Arm<Solution_> arm : armMap.values()) {
+            bestRewardRate = Math.max(bestRewardRate, arm.calculateRewardRate());
+        }
+        double rewardRate = armMap.get(selector).calculateRewardRate();
+        return Math.max(rewardRate, bestRewardRate * MINIMUM_PROBABILITY_WEIGHT_RATIO);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+    private static final class Arm<Solution_> {
+
+        private final List<Move<Solution_>> selectedMoveList = new ArrayList<>();
+        private double rewardSum;
+        private double selectionCount;
+
+        private void reset() {
+            selectedMoveList.clear();
+            rewardSum = 0.0;
+            selectionCount = 0.0;
+        }
+
+        private double calculateRewardRate() {
+            return (rewardSum + PRIOR_REWARD) / (selectionCount + PRIOR_SELECTION_COUNT);
+        }
+
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Random;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import java.util.function.ToDoubleFunction;
 
 import ai.timefold.solver.core.impl.heuristic.move.Move;
@@ -17,14 +18,24 @@ import ai.timefold.solver.core.impl.solver.random.RandomUtils;
 final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<Move<Solution_>> {
 
     private final Map<Iterator<Move<Solution_>>, ProbabilityItem<Solution_>> probabilityItemMap;
-    private final NavigableMap<Double, Iterator<Move<Solution_>>> moveIteratorMap;
+    private final NavigableMap<Double, ProbabilityItem<Solution_>> moveIteratorMap;
     private final Random workingRandom;
+    private final BiConsumer<MoveSelector<Solution_>, Move<Solution_>> moveSelectedListener;
     private double probabilityWeightTotal;
     private boolean stale;
 
     public BiasedRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList,
             ToDoubleFunction<MoveSelector<Solution_>> probabilityWeightFunction,
             Random workingRandom) {
+        this(childMoveSelectorList, probabilityWeightFunction, workingRandom, null);
+    }
+
+    /**
+     * @param moveSelectedListener null or called for every selected move, with the child move selector that selected it
+     */
+    public BiasedRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList,
+            ToDoubleFunction<MoveSelector<Solution_>> probabilityWeightFunction,
+            Random workingRandom, BiConsumer<MoveSelector<Solution_>, Move<Solution_>> moveSelectedListener) {
         this.probabilityItemMap = new LinkedHashMap<>(childMoveSelectorList.size());
         for (MoveSelector<Solution_> moveSelector : childMoveSelectorList) {
             Iterator<Move<Solution_>> moveIterator = moveSelector.iterator();
@@ -37,6 +48,7 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
         this.moveIteratorMap = new TreeMap<>();
         this.stale = true;
         this.workingRandom = workingRandom;
+        this.moveSelectedListener = moveSelectedListener;
     }
 
     @Override
@@ -53,13 +65,17 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
             refreshMoveIteratorMap();
         }
         double randomOffset = RandomUtils.nextDouble(workingRandom, probabilityWeightTotal);
-        Map.Entry<Double, Iterator<Move<Solution_>>> entry = moveIteratorMap.floorEntry(randomOffset);
+        Map.Entry<Double, ProbabilityItem<Solution_>> entry = moveIteratorMap.floorEntry(randomOffset);
         // The entry is never null because randomOffset < probabilityWeightTotal
-        Iterator<Move<Solution_>> moveIterator = entry.getValue();
+        ProbabilityItem<Solution_> probabilityItem = entry.getValue();
+        Iterator<Move<Solution_>> moveIterator = probabilityItem.moveIterator;
         Move<Solution_> next = moveIterator.next();
         if (!moveIterator.hasNext()) {
             stale = true;
         }
+        if (moveSelectedListener != null) {
+            moveSelectedListener.accept(probabilityItem.moveSelector, next);
+        }
         return next;
     }
 
@@ -69,7 +85,7 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
         for (ProbabilityItem<Solution_> probabilityItem : probabilityItemMap.values()) {
             if (probabilityItem.probabilityWeight != 0.0
                     && probabilityItem.moveIterator.hasNext()) {
-                moveIteratorMap.put(probabilityWeightOffset, probabilityItem.moveIterator);
+                moveIteratorMap.put(probabilityWeightOffset, probabilityItem);
                 probabilityWeightOffset += probabilityItem.probabilityWeight;
             }
         }
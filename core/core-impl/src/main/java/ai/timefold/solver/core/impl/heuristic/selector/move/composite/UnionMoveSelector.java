@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -42,6 +43,10 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
                         + ").");
             }
         }
+        if (selectorProbabilityWeightFactory instanceof AdaptiveSelectorProbabilityWeightFactory) {
+            phaseLifecycleSupport.addEventListener(
+                    (AdaptiveSelectorProbabilityWeightFactory<Solution_>) selectorProbabilityWeightFactory);
+        }
     }
 
     @Override
@@ -97,6 +102,12 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
         } else if (selectorProbabilityWeightFactory == null) {
             return new UniformRandomUnionMoveIterator<>(childMoveSelectorList, workingRandom);
         } else {
+            BiConsumer<MoveSelector<Solution_>, Move<Solution_>> moveSelectedListener = null;
+            if (selectorProbabilityWeightFactory instanceof AdaptiveSelectorProbabilityWeightFactory) {
+                AdaptiveSelectorProbabilityWeightFactory<Solution_> adaptiveFactory =
+                        (AdaptiveSelectorProbabilityWeightFactory<Solution_>) selectorProbabilityWeightFactory;
+                moveSelectedListener = adaptiveFactory::moveSelected;
+            }
             return new BiasedRandomUnionMoveIterator<>(childMoveSelectorList,
                     moveSelector -> {
                         double weight = selectorProbabilityWeightFactory.createProbabilityWeight(scoreDirector, moveSelector);
@@ -106,7 +117,7 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
                                             + ") returned a negative probabilityWeight (" + weight + ").");
                         }
                         return weight;
-                    }, workingRandom);
+                    }, workingRandom, moveSelectedListener);
         }
     }
 
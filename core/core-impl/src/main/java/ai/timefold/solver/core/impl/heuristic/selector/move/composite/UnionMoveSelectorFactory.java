@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
@@ -26,7 +27,38 @@ public class UnionMoveSelectorFactory<Solution_>
                 configPolicy, minimumCacheType, randomSelection);
 
         SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
-        if (config.getSelectorProbabilityWeightFactoryClass() != null) {
+        if (Objects.requireNonNullElse(config.getAdaptiveProbabilityWeightEnabled(), false)) {
+            if (config.getSelectorProbabilityWeightFactoryClass() != null) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveProbabilityWeightEnabled (" + config.getAdaptiveProbabilityWeightEnabled()
+                        + ") cannot have a selectorProbabilityWeightFactoryClass ("
+                        + config.getSelectorProbabilityWeightFactoryClass() + ").");
+            }
+            if (!randomSelection) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveProbabilityWeightEnabled (" + config.getAdaptiveProbabilityWeightEnabled()
+                        + ") has non-random randomSelection (" + randomSelection + ").");
+            }
+            if (configPolicy.getMoveThreadCount() != null) {
+                // The steps are rebased from the move threads, so they can't be attributed to a child move selector
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveProbabilityWeightEnabled (" + config.getAdaptiveProbabilityWeightEnabled()
+                        + ") does not support multithreaded solving with a moveThreadCount ("
+                        + configPolicy.getMoveThreadCount() + ").\n"
+                        + "Maybe remove the moveThreadCount or disable adaptiveProbabilityWeightEnabled.");
+            }
+            for (MoveSelectorConfig<?> innerMoveSelectorConfig : config.getMoveSelectorList()) {
+                if (innerMoveSelectorConfig.getFixedProbabilityWeight() != null) {
+                    throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                            + ") with adaptiveProbabilityWeightEnabled (" + config.getAdaptiveProbabilityWeightEnabled()
+                            + ") has a child moveSelectorConfig (" + innerMoveSelectorConfig
+                            + ") with a fixedProbabilityWeight (" + innerMoveSelectorConfig.getFixedProbabilityWeight()
+                            + ").\n"
+                            + "Maybe remove the fixedProbabilityWeight.");
+                }
+            }
+            selectorProbabilityWeightFactory = new AdaptiveSelectorProbabilityWeightFactory<>(moveSelectorList);
+        } else if (config.getSelectorProbabilityWeightFactoryClass() != null) {
             if (!randomSelection) {
                 throw new IllegalArgumentException("The moveSelectorConfig (" + config
                         + ") with selectorProbabilityWeightFactoryClass ("
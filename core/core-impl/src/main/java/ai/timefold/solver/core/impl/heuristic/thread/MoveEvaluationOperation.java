@@ -2,11 +2,17 @@ package ai.timefold.solver.core.impl.heuristic.thread;
 
 import ai.timefold.solver.core.impl.heuristic.move.Move;
 
+/**
+ * Each move thread reuses a single instance, which {@link MoveThreadOperationRingBuffer#take(MoveEvaluationOperation)}
+ * fills in for every move that it evaluates.
+ *
+ * @param <Solution_> the solution type
+ */
 public class MoveEvaluationOperation<Solution_> extends MoveThreadOperation<Solution_> {
 
-    private final int stepIndex;
-    private final int moveIndex;
-    private final Move<Solution_> move;
+    private int stepIndex;
+    private int moveIndex;
+    private Move<Solution_> move;
 
     public MoveEvaluationOperation(int stepIndex, int moveIndex, Move<Solution_> move) {
         this.stepIndex = stepIndex;
@@ -14,6 +20,12 @@ public class MoveEvaluationOperation<Solution_> extends MoveThreadOperation<Solu
         this.move = move;
     }
 
+    void reset(int stepIndex, int moveIndex, Move<Solution_> move) {
+        this.stepIndex = stepIndex;
+        this.moveIndex = moveIndex;
+        this.move = move;
+    }
+
     public int getStepIndex() {
         return stepIndex;
     }
@@ -22,6 +34,9 @@ public class MoveEvaluationOperation<Solution_> extends MoveThreadOperation<Solu
         return moveIndex;
     }
 
+    /**
+     * @return null if the move thread selects the move to evaluate itself
+     */
     public Move<Solution_> getMove() {
         return move;
     }
@@ -0,0 +1,147 @@
+package ai.timefold.solver.core.impl.heuristic.thread;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+
+/**
+ * Passes {@link MoveThreadOperation}s from the solver thread to the move threads, in FIFO order.
+ * Only the solver thread adds operations, but every move thread takes them.
+ * <p>
+ * The slots are preallocated and reused.
+ * A move evaluation is stored as the primitive fields of its slot,
+ * so adding it doesn't create a {@link MoveEvaluationOperation}.
+ * Move threads claim a slot with a compare-and-set, instead of taking a lock.
+ *
+ * @param <Solution_> the solution type
+ */
+public final class MoveThreadOperationRingBuffer<Solution_> {
+
+    private final int capacity;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    /**
+     * Null in a slot which holds a move evaluation.
+     */
+    private final MoveThreadOperation<Solution_>[] operations;
+    private final int[] stepIndexes;
+    private final int[] moveIndexes;
+    private final Move<Solution_>[] moves;
+
+    /**
+     * The sequence of the next operation to take. Move threads increment it to claim an operation.
+     */
+    private final AtomicLong head = new AtomicLong(0L);
+    /**
+     * The sequence of the next operation to add. Only written by the solver thread.
+     */
+    private volatile long tail = 0L;
+
+    /**
+     * @param capacity at least 1, the maximum number of operations that are added but not yet taken
+     * @param waitStrategy never null
+     */
+    public MoveThreadOperationRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        this.capacity = capacity;
+        int slotCount = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.mask = slotCount - 1;
+        this.waitStrategy = waitStrategy;
+        this.operations = new MoveThreadOperation[slotCount];
+        this.stepIndexes = new int[slotCount];
+        this.moveIndexes = new int[slotCount];
+        this.moves = new Move[slotCount];
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @param operation never null
+     * @throws IllegalStateException if the capacity is exceeded
+     */
+    public void add(MoveThreadOperation<Solution_> operation) {
+        int index = claimSlot();
+        operations[index] = operation;
+        moves[index] = null;
+        publishSlot();
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @param move null if the move thread that takes it selects the move to evaluate itself
+     * @throws IllegalStateException if the capacity is exceeded
+     */
+    public void addMoveEvaluation(int stepIndex, int moveIndex, Move<Solution_> move) {
+        int index = claimSlot();
+        operations[index] = null;
+        stepIndexes[index] = stepIndex;
+        moveIndexes[index] = moveIndex;
+        moves[index] = move;
+        publishSlot();
+    }
+
+    private int claimSlot() {
+        long sequence = tail;
+        if (sequence - head.get() >= capacity) {
+            // Fail fast if there is not enough capacity (which is impossible)
+            throw new IllegalStateException("Impossible state: the ring buffer's capacity (" + capacity
+                    + ") is exceeded.");
+        }
+        return (int) (sequence & mask);
+    }
+
+    private void publishSlot() {
+        // The volatile write publishes the slot's fields to the move threads
+        tail = tail + 1L;
+    }
+
+    /**
+     * Removes every operation that hasn't been taken yet.
+     * Not thread-safe. Can only be called from the solver thread.
+     */
+    public void clear() {
+        long end = tail;
+        long sequence = head.get();
+        while (sequence < end && !head.compareAndSet(sequence, end)) {
+            sequence = head.get();
+        }
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param moveEvaluationOperation never null, owned by the calling move thread,
+     *        filled in and returned if the next operation is a move evaluation
+     * @return never null
+     * @throws InterruptedException if interrupted
+     */
+    public MoveThreadOperation<Solution_> take(MoveEvaluationOperation<Solution_> moveEvaluationOperation)
+            throws InterruptedException {
+        int attempt = 0;
+        while (true) {
+            long sequence = head.get();
+            if (sequence < tail) {
+                int index = (int) (sequence & mask);
+                // Read the slot before claiming it, because the solver thread can reuse it as soon as it is claimed.
+                // If another move thread claims it first, the compare-and-set fails and these values are ignored.
+                MoveThreadOperation<Solution_> operation = operations[index];
+                int stepIndex = stepIndexes[index];
+                int moveIndex = moveIndexes[index];
+                Move<Solution_> move = moves[index];
+                if (head.compareAndSet(sequence, sequence + 1L)) {
+                    if (operation != null) {
+                        return operation;
+                    }
+                    moveEvaluationOperation.reset(stepIndex, moveIndex, move);
+                    return moveEvaluationOperation;
+                }
+            } else {
+                waitStrategy.idle(attempt);
+                attempt++;
+            }
+        }
+    }
+
+}
@@ -1,6 +1,5 @@
 package ai.timefold.solver.core.impl.heuristic.thread;
 
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicLong;
@@ -21,9 +20,10 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private final int moveThreadIndex;
     private final boolean evaluateDoable;
 
-    private final BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    private final MoveThreadOperationRingBuffer<Solution_> operationQueue;
     private final OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
     private final CyclicBarrier moveThreadBarrier;
+    private final MoveEvaluationOperation<Solution_> moveEvaluationOperation = new MoveEvaluationOperation<>(-1, -1, null);
 
     private final boolean assertMoveScoreFromScratch;
     private final boolean assertExpectedUndoMoveScore;
@@ -35,7 +35,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private AtomicLong calculationCount = new AtomicLong(-1);
 
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
-            BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
+            MoveThreadOperationRingBuffer<Solution_> operationQueue,
             OrderByMoveIndexBlockingQueue<Solution_> resultQueue,
             CyclicBarrier moveThreadBarrier,
             boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
@@ -62,7 +62,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
             while (true) {
                 MoveThreadOperation<Solution_> operation;
                 try {
-                    operation = operationQueue.take();
+                    operation = operationQueue.take(moveEvaluationOperation);
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     break;
@@ -74,6 +74,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                             .createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
                     stepIndex = 0;
                     lastStepScore = scoreDirector.calculateScore();
+                    setupEnded(scoreDirector);
                     LOGGER.trace("{}            Move thread ({}) setup: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
                     try {
@@ -86,6 +87,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                 } else if (operation instanceof DestroyOperation) {
                     LOGGER.trace("{}            Move thread ({}) destroy: step index ({}).",
                             logIndentation, moveThreadIndex, stepIndex);
+                    destroyStarted();
                     calculationCount.set(scoreDirector.getCalculationCount());
                     break;
                 } else if (operation instanceof ApplyStepOperation) {
@@ -105,6 +107,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     step.doMoveOnly(scoreDirector);
                     predictWorkingStepScore(step, score);
                     lastStepScore = score;
+                    stepApplied(stepIndex, step, score);
                     LOGGER.trace("{}            Move thread ({}) step: step index ({}), score ({}).",
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
                     try {
@@ -123,7 +126,18 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                                 + moveEvaluationOperation.getStepIndex() + ") with moveIndex ("
                                 + moveIndex + ").");
                     }
-                    Move<Solution_> move = moveEvaluationOperation.getMove().rebase(scoreDirector);
+                    Move<Solution_> move;
+                    if (moveEvaluationOperation.getMove() != null) {
+                        move = moveEvaluationOperation.getMove().rebase(scoreDirector);
+                    } else {
+                        move = selectMove();
+                        if (move == null) {
+                            LOGGER.trace("{}            Move thread ({}) selection: step index ({}), move index ({}), no move.",
+                                    logIndentation, moveThreadIndex, stepIndex, moveIndex);
+                            resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, null);
+                            continue;
+                        }
+                    }
                     if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
                         LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
                                 logIndentation, moveThreadIndex, stepIndex, moveIndex);
@@ -157,6 +171,47 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         }
     }
 
+    /**
+     * Called on the move thread, after the {@link SetupOperation} created its child score director.
+     * Does nothing by default.
+     *
+     * @param scoreDirector never null, the score director of this move thread
+     */
+    protected void setupEnded(InnerScoreDirector<Solution_, Score_> scoreDirector) {
+        // Overridable by a subclass.
+    }
+
+    /**
+     * Called on the move thread, after the step of an {@link ApplyStepOperation} is done on its working solution.
+     * Does nothing by default.
+     *
+     * @param stepIndex at least 1
+     * @param step never null, rebased to the score director of this move thread
+     * @param score never null
+     */
+    protected void stepApplied(int stepIndex, Move<Solution_> step, Score_ score) {
+        // Overridable by a subclass.
+    }
+
+    /**
+     * Called on the move thread, when it takes a {@link DestroyOperation}.
+     * Does nothing by default.
+     */
+    protected void destroyStarted() {
+        // Overridable by a subclass.
+    }
+
+    /**
+     * Called on the move thread for a {@link MoveEvaluationOperation} without a move,
+     * which only a move thread that selects its own moves receives.
+     *
+     * @return null if there are no more moves to select in this step
+     */
+    protected Move<Solution_> selectMove() {
+        throw new IllegalStateException("Impossible state: the move thread (" + moveThreadIndex
+                + ") received a move evaluation without a move, but it doesn't select its own moves.");
+    }
+
     protected void predictWorkingStepScore(Move<Solution_> step, Score_ score) {
         // There is no need to recalculate the score, but we still need to set it
         scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
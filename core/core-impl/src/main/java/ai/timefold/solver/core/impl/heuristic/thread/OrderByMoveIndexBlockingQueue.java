@@ -1,24 +1,39 @@
 package ai.timefold.solver.core.impl.heuristic.thread;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
 
+/**
+ * Passes the {@link MoveResult}s from the move threads to the solver thread, in the order of their move index.
+ * <p>
+ * Every move index has a preallocated result slot ({@code moveIndex % capacity}),
+ * which the move thread fills in and the solver thread waits for, so there is no lock and no reordering backlog.
+ * That requires that the move indexes which are in circulation during a step never differ by the capacity or more,
+ * which holds because the solver thread only selects a new move after taking the result of an older one.
+ * A move thread only writes results of the previous step before it passes the step barrier,
+ * so those never race with the results of the current step.
+ */
 public class OrderByMoveIndexBlockingQueue<Solution_> {
 
-    private final BlockingQueue<MoveResult<Solution_>> innerQueue;
-    private final Map<Integer, MoveResult<Solution_>> backlog;
+    private final MoveResult<Solution_>[] results;
+    private final WaitStrategy waitStrategy;
+    private final AtomicReference<MoveResult<Solution_>> exceptionResult = new AtomicReference<>(null);
 
-    private int filterStepIndex = Integer.MIN_VALUE;
+    private volatile int filterStepIndex = Integer.MIN_VALUE;
     private int nextMoveIndex = Integer.MIN_VALUE;
 
     public OrderByMoveIndexBlockingQueue(int capacity) {
-        innerQueue = new ArrayBlockingQueue<>(capacity);
-        backlog = new HashMap<>(capacity);
+        this(capacity, WaitStrategy.SPIN_THEN_PARK);
+    }
+
+    public OrderByMoveIndexBlockingQueue(int capacity, WaitStrategy waitStrategy) {
+        results = new MoveResult[capacity];
+        for (int i = 0; i < capacity; i++) {
+            results[i] = new MoveResult<>();
+        }
+        this.waitStrategy = waitStrategy;
     }
 
     /**
@@ -27,24 +42,13 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @param stepIndex at least 0
      */
     public void startNextStep(int stepIndex) {
-        synchronized (this) {
-            if (filterStepIndex >= stepIndex) {
-                throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
-                        + ") must be less than the stepIndex (" + stepIndex + ")");
-            }
-            filterStepIndex = stepIndex;
-            MoveResult<Solution_> exceptionResult = innerQueue.stream().filter(MoveResult::hasThrownException)
-                    .findFirst().orElse(null);
-            if (exceptionResult != null) {
-                throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + exceptionResult.getMoveThreadIndex() + ") has thrown an exception."
-                        + " Relayed here in the parent thread.",
-                        exceptionResult.getThrowable());
-            }
-            innerQueue.clear();
+        if (filterStepIndex >= stepIndex) {
+            throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
+                    + ") must be less than the stepIndex (" + stepIndex + ")");
         }
+        filterStepIndex = stepIndex;
+        throwIfExceptionThrown();
         nextMoveIndex = 0;
-        backlog.clear();
     }
 
     /**
@@ -53,18 +57,10 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
      * @param stepIndex at least 0
      * @param moveIndex at least 0
-     * @param move never null
-     * @see BlockingQueue#add(Object)
+     * @param move null if the move thread selects its own moves and there are no more moves to select
      */
     public void addUndoableMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null);
-        synchronized (this) {
-            if (result.getStepIndex() != filterStepIndex) {
-                // Discard element from previous step
-                return;
-            }
-            innerQueue.add(result);
-        }
+        add(moveThreadIndex, stepIndex, moveIndex, move, false, null);
     }
 
     /**
@@ -75,102 +71,105 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
      * @param moveIndex at least 0
      * @param move never null
      * @param score never null
-     * @see BlockingQueue#add(Object)
      */
     public void addMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, Score score) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score);
-        synchronized (this) {
-            if (result.getStepIndex() != filterStepIndex) {
-                // Discard element from previous step
-                return;
-            }
-            innerQueue.add(result);
+        add(moveThreadIndex, stepIndex, moveIndex, move, true, score);
+    }
+
+    private void add(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, boolean moveDoable,
+            Score score) {
+        if (stepIndex != filterStepIndex) {
+            // Discard element from previous step
+            return;
         }
+        results[moveIndex % results.length].publish(moveThreadIndex, stepIndex, moveIndex, move, moveDoable, score);
     }
 
     /**
      * This method is thread-safe. It can be called from any move thread.
-     * Previous results (that haven't been consumed yet), will still be returned during iteration
-     * before the iteration throws an exception,
-     * unless there's a lower moveIndex that isn't in the queue yet.
+     * Results that are already available will still be returned before {@link #take()} throws an exception,
+     * but as soon as the result of the next move index isn't available, it throws.
+     * If several move threads throw an exception, only the first one is relayed.
      *
      * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
      * @param throwable never null
      */
     public void addExceptionThrown(int moveThreadIndex, Throwable throwable) {
-        MoveResult<Solution_> result = new MoveResult<>(moveThreadIndex, throwable);
-        synchronized (this) {
-            innerQueue.add(result);
-        }
+        exceptionResult.compareAndSet(null, new MoveResult<>(moveThreadIndex, throwable));
     }
 
     /**
      * Not thread-safe. Can only be called from the solver thread.
+     * The returned result is reused for a later move index,
+     * so it must be consumed before the solver thread selects the next move.
      *
      * @return never null
      * @throws InterruptedException if interrupted
-     * @see BlockingQueue#take()
      */
     public MoveResult<Solution_> take() throws InterruptedException {
         int moveIndex = nextMoveIndex;
         nextMoveIndex++;
-        if (!backlog.isEmpty()) {
-            MoveResult<Solution_> result = backlog.remove(moveIndex);
-            if (result != null) {
-                return result;
-            }
-        }
-        while (true) {
-            MoveResult<Solution_> result = innerQueue.take();
-            // If 2 exceptions are added from different threads concurrently, either one could end up first.
-            // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
-            if (result.hasThrownException()) {
-                throw new IllegalStateException("The move thread with moveThreadIndex ("
-                        + result.getMoveThreadIndex() + ") has thrown an exception."
-                        + " Relayed here in the parent thread.",
-                        result.getThrowable());
-            }
-            if (result.getMoveIndex() == moveIndex) {
-                return result;
-            } else {
-                backlog.put(result.getMoveIndex(), result);
-            }
+        MoveResult<Solution_> result = results[moveIndex % results.length];
+        long expectedSequence = MoveResult.toSequence(filterStepIndex, moveIndex);
+        int attempt = 0;
+        while (result.sequence != expectedSequence) {
+            throwIfExceptionThrown();
+            waitStrategy.idle(attempt);
+            attempt++;
+        }
+        return result;
+    }
+
+    private void throwIfExceptionThrown() {
+        MoveResult<Solution_> result = exceptionResult.get();
+        // If 2 exceptions are added from different threads concurrently, either one could end up first.
+        // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
+        if (result != null) {
+            throw new IllegalStateException("The move thread with moveThreadIndex ("
+                    + result.getMoveThreadIndex() + ") has thrown an exception."
+                    + " Relayed here in the parent thread.",
+                    result.getThrowable());
         }
     }
 
     public static class MoveResult<Solution_> {
 
-        private final int moveThreadIndex;
-        private final int stepIndex;
-        private final int moveIndex;
-        private final Move<Solution_> move;
-        private final boolean moveDoable;
-        private final Score score;
+        /**
+         * Combines the stepIndex and the moveIndex. The volatile write publishes the other fields.
+         */
+        private volatile long sequence = -1L;
+        private int moveThreadIndex;
+        private int stepIndex;
+        private int moveIndex;
+        private Move<Solution_> move;
+        private boolean moveDoable;
+        private Score score;
         private final Throwable throwable;
 
-        public MoveResult(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, boolean moveDoable,
-                Score score) {
-            this.moveThreadIndex = moveThreadIndex;
-            this.stepIndex = stepIndex;
-            this.moveIndex = moveIndex;
-            this.move = move;
-            this.moveDoable = moveDoable;
-            this.score = score;
+        private MoveResult() {
             this.throwable = null;
         }
 
-        public MoveResult(int moveThreadIndex, Throwable throwable) {
+        private MoveResult(int moveThreadIndex, Throwable throwable) {
             this.moveThreadIndex = moveThreadIndex;
             this.stepIndex = -1;
             this.moveIndex = -1;
-            this.move = null;
-            this.moveDoable = false;
-            this.score = null;
             this.throwable = throwable;
         }
 
-        private boolean hasThrownException() {
-            return throwable != null;
+        private static long toSequence(int stepIndex, int moveIndex) {
+            return ((long) stepIndex << 32) | (moveIndex & 0xFFFF_FFFFL);
+        }
+
+        private void publish(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, boolean moveDoable,
+                Score score) {
+            this.moveThreadIndex = moveThreadIndex;
+            this.stepIndex = stepIndex;
+            this.moveIndex = moveIndex;
+            this.move = move;
+            this.moveDoable = moveDoable;
+            this.score = score;
+            this.sequence = toSequence(stepIndex, moveIndex);
         }
 
         public int getMoveThreadIndex() {
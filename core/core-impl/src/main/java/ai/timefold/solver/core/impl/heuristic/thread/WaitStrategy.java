@@ -0,0 +1,44 @@
+package ai.timefold.solver.core.impl.heuristic.thread;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a thread waits for another thread to fill a {@link MoveThreadOperationRingBuffer}
+ * or an {@link OrderByMoveIndexBlockingQueue}.
+ * Neither has a lock to block on, so a waiting thread polls.
+ */
+public enum WaitStrategy {
+    /**
+     * Polls continuously, for the lowest latency.
+     * Occupies a CPU core while waiting, so it only makes sense if every thread has a core of its own.
+     * Only used if {@link ai.timefold.solver.core.config.solver.SolverConfig#getMoveThreadBusySpinEnabled()} is true.
+     */
+    BUSY_SPIN,
+    /**
+     * Polls continuously for a short while, then parks for increasingly longer periods,
+     * to free up the CPU core for other threads.
+     * This is the default.
+     */
+    SPIN_THEN_PARK;
+
+    private static final int SPIN_ATTEMPTS = 1_000;
+    private static final long MIN_PARK_NANOS = 1_000L;
+    private static final long MAX_PARK_NANOS = 100_000L;
+
+    /**
+     * @param attempt at least 0, the number of times the caller already waited without success
+     * @throws InterruptedException if interrupted
+     */
+    void idle(int attempt) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        if (this == BUSY_SPIN || attempt < SPIN_ATTEMPTS) {
+            Thread.onSpinWait();
+        } else {
+            int doublings = Math.min(attempt - SPIN_ATTEMPTS, 7);
+            LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << doublings, MAX_PARK_NANOS));
+        }
+    }
+
+}
@@ -0,0 +1,213 @@
+package ai.timefold.solver.core.impl.islandsearch;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.islandsearch.scope.IslandSearchPhaseScope;
+import ai.timefold.solver.core.impl.islandsearch.scope.IslandSearchStepScope;
+import ai.timefold.solver.core.impl.localsearch.DefaultLocalSearchPhase;
+import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
+import ai.timefold.solver.core.impl.partitionedsearch.PartitionSolver;
+import ai.timefold.solver.core.impl.partitionedsearch.queue.PartitionQueue;
+import ai.timefold.solver.core.impl.partitionedsearch.scope.PartitionChangeMove;
+import ai.timefold.solver.core.impl.phase.AbstractPhase;
+import ai.timefold.solver.core.impl.phase.Phase;
+import ai.timefold.solver.core.impl.phase.PhaseFactory;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
+import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecallerFactory;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.ChildThreadPlumbingTermination;
+import ai.timefold.solver.core.impl.solver.termination.OrCompositeTermination;
+import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Default implementation of {@link IslandSearchPhase}.
+ * <p>
+ * Every island is a {@link PartitionSolver} which solves a clone of the entire working solution
+ * with a single Local Search phase.
+ * Just like in Partitioned Search, the best solutions of the islands are sent to the solver thread
+ * as {@link PartitionChangeMove}s, which become the steps of this phase.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see IslandMigration
+ */
+public class DefaultIslandSearchPhase<Solution_> extends AbstractPhase<Solution_>
+        implements IslandSearchPhase<Solution_> {
+
+    protected final ThreadFactory threadFactory;
+    protected final int islandCount;
+    protected final int migrationStepCount;
+
+    protected final List<LocalSearchPhaseConfig> localSearchPhaseConfigList;
+    protected final HeuristicConfigPolicy<Solution_> configPolicy;
+
+    private DefaultIslandSearchPhase(Builder<Solution_> builder) {
+        super(builder);
+        threadFactory = builder.threadFactory;
+        islandCount = builder.islandCount;
+        migrationStepCount = builder.migrationStepCount;
+        localSearchPhaseConfigList = builder.localSearchPhaseConfigList;
+        configPolicy = builder.configPolicy;
+    }
+
+    @Override
+    public String getPhaseTypeString() {
+        return "Island Search";
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void solve(SolverScope<Solution_> solverScope) {
+        IslandSearchPhaseScope<Solution_> phaseScope = new IslandSearchPhaseScope<>(solverScope);
+        phaseScope.setIslandCount(islandCount);
+        phaseStarted(phaseScope);
+        ExecutorService executor = Executors.newFixedThreadPool(islandCount, threadFactory);
+        ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination =
+                new ChildThreadPlumbingTermination<>();
+        PartitionQueue<Solution_> partitionQueue = new PartitionQueue<>(islandCount);
+        IslandMigration<Solution_> islandMigration = new IslandMigration<>(migrationStepCount);
+        try {
+            for (int i = 0; i < islandCount; i++) {
+                int islandIndex = i;
+                Solution_ island = solverScope.getScoreDirector().cloneWorkingSolution();
+                SolverScope<Solution_> islandSolverScope =
+                        solverScope.createChildThreadSolverScope(ChildThreadType.PART_THREAD);
+                PartitionSolver<Solution_> islandSolver = buildIslandSolver(islandIndex,
+                        childThreadPlumbingTermination, islandMigration, solverScope, islandSolverScope);
+                islandSolver.addEventListener(event -> {
+                    InnerScoreDirector<Solution_, ?> islandScoreDirector = islandSolverScope.getScoreDirector();
+                    PartitionChangeMove<Solution_> move = PartitionChangeMove.createMove(islandScoreDirector, islandIndex);
+                    islandMigration.offer(islandIndex, event.getNewBestScore(), move);
+                    InnerScoreDirector<Solution_, ?> parentScoreDirector = solverScope.getScoreDirector();
+                    partitionQueue.addMove(islandIndex, move.rebase(parentScoreDirector));
+                });
+                executor.submit(() -> {
+                    try {
+                        islandSolver.solve(island);
+                        long islandCalculationCount = islandSolver.getScoreCalculationCount();
+                        partitionQueue.addFinish(islandIndex, islandCalculationCount);
+                    } catch (Throwable throwable) {
+                        // Any Exception or even Error that happens here (on an island thread) must be stored
+                        // in the partitionQueue in order to be propagated to the solver thread.
+                        logger.trace("{}            Island thread ({}) exception that will be propagated to the solver thread.",
+                                logIndentation, islandIndex, throwable);
+                        partitionQueue.addExceptionThrown(islandIndex, throwable);
+                    }
+                });
+            }
+            for (PartitionChangeMove<Solution_> step : partitionQueue) {
+                IslandSearchStepScope<Solution_> stepScope = new IslandSearchStepScope<>(phaseScope);
+                stepStarted(stepScope);
+                stepScope.setStep(step);
+                if (logger.isDebugEnabled()) {
+                    stepScope.setStepString(step.toString());
+                }
+                doStep(stepScope);
+                stepEnded(stepScope);
+                phaseScope.setLastCompletedStepScope(stepScope);
+            }
+            phaseScope.addChildThreadsScoreCalculationCount(partitionQueue.getPartsCalculationCount());
+        } finally {
+            // In case one of the island threads threw an Exception, it is propagated here
+            // but the other island threads are not aware of the failure and may continue solving for a long time,
+            // so we need to ask them to terminate. In case no exception was thrown, this does nothing.
+            childThreadPlumbingTermination.terminateChildren();
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Island Search");
+        }
+        phaseEnded(phaseScope);
+    }
+
+    public PartitionSolver<Solution_> buildIslandSolver(int islandIndex,
+            ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination,
+            IslandMigration<Solution_> islandMigration,
+            SolverScope<Solution_> solverScope, SolverScope<Solution_> islandSolverScope) {
+        BestSolutionRecaller<Solution_> bestSolutionRecaller =
+                BestSolutionRecallerFactory.create().buildBestSolutionRecaller(configPolicy.getEnvironmentMode());
+        Termination<Solution_> islandTermination = new OrCompositeTermination<>(childThreadPlumbingTermination,
+                phaseTermination.createChildThreadTermination(solverScope, ChildThreadType.PART_THREAD));
+        // Islands with a different config explore the search space differently
+        LocalSearchPhaseConfig localSearchPhaseConfig =
+                localSearchPhaseConfigList.get(islandIndex % localSearchPhaseConfigList.size());
+        List<Phase<Solution_>> phaseList = PhaseFactory.buildPhases(List.of(localSearchPhaseConfig), configPolicy,
+                bestSolutionRecaller, islandTermination);
+        PartitionSolver<Solution_> islandSolver =
+                new PartitionSolver<>(bestSolutionRecaller, islandTermination, phaseList, islandSolverScope);
+        LocalSearchDecider<Solution_> decider = ((DefaultLocalSearchPhase<Solution_>) phaseList.get(0)).getDecider();
+        islandSolver.addPhaseLifecycleListener(
+                islandMigration.createIslandListener(islandIndex, bestSolutionRecaller, decider));
+        return islandSolver;
+    }
+
+    protected void doStep(IslandSearchStepScope<Solution_> stepScope) {
+        Move<Solution_> nextStep = stepScope.getStep();
+        nextStep.doMoveOnly(stepScope.getScoreDirector());
+        calculateWorkingStepScore(stepScope, nextStep);
+        solver.getBestSolutionRecaller().processWorkingSolutionDuringStep(stepScope);
+    }
+
+    public void stepEnded(IslandSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        IslandSearchPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        if (logger.isDebugEnabled()) {
+            logger.debug("{}    IS step ({}), time spent ({}), score ({}), {} best score ({}), picked move ({}).",
+                    logIndentation,
+                    stepScope.getStepIndex(),
+                    phaseScope.calculateSolverTimeMillisSpentUpToNow(),
+                    stepScope.getScore(),
+                    (stepScope.getBestScoreImproved() ? "new" : "   "), phaseScope.getBestScore(),
+                    stepScope.getStepString());
+        }
+    }
+
+    public void phaseEnded(IslandSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        phaseScope.endingNow();
+        logger.info("{}Island Search phase ({}) ended: time spent ({}), best score ({}),"
+                + " score calculation speed ({}/sec), step total ({}), islandCount ({}), migrationStepCount ({}).",
+                logIndentation,
+                phaseIndex,
+                phaseScope.calculateSolverTimeMillisSpentUpToNow(),
+                phaseScope.getBestScore(),
+                phaseScope.getPhaseScoreCalculationSpeed(),
+                phaseScope.getNextStepIndex(),
+                phaseScope.getIslandCount(),
+                migrationStepCount);
+    }
+
+    public static class Builder<Solution_> extends AbstractPhase.Builder<Solution_> {
+
+        private final ThreadFactory threadFactory;
+        private final int islandCount;
+        private final int migrationStepCount;
+        private final List<LocalSearchPhaseConfig> localSearchPhaseConfigList;
+        private final HeuristicConfigPolicy<Solution_> configPolicy;
+
+        public Builder(int phaseIndex, String logIndentation, Termination<Solution_> phaseTermination,
+                ThreadFactory threadFactory, int islandCount, int migrationStepCount,
+                List<LocalSearchPhaseConfig> localSearchPhaseConfigList, HeuristicConfigPolicy<Solution_> configPolicy) {
+            super(phaseIndex, logIndentation, phaseTermination);
+            this.threadFactory = threadFactory;
+            this.islandCount = islandCount;
+            this.migrationStepCount = migrationStepCount;
+            this.localSearchPhaseConfigList = List.copyOf(localSearchPhaseConfigList);
+            this.configPolicy = configPolicy;
+        }
+
+        @Override
+        public DefaultIslandSearchPhase<Solution_> build() {
+            return new DefaultIslandSearchPhase<>(this);
+        }
+    }
+}
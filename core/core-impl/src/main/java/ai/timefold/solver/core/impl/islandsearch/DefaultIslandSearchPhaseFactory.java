@@ -0,0 +1,92 @@
+package ai.timefold.solver.core.impl.islandsearch;
+
+import static ai.timefold.solver.core.config.islandsearch.IslandSearchPhaseConfig.ISLAND_COUNT_AUTO;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+
+import ai.timefold.solver.core.config.islandsearch.IslandSearchPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.phase.AbstractPhaseFactory;
+import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
+import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class DefaultIslandSearchPhaseFactory<Solution_>
+        extends AbstractPhaseFactory<Solution_, IslandSearchPhaseConfig> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultIslandSearchPhaseFactory.class);
+
+    public DefaultIslandSearchPhaseFactory(IslandSearchPhaseConfig phaseConfig) {
+        super(phaseConfig);
+    }
+
+    @Override
+    public IslandSearchPhase<Solution_> buildPhase(int phaseIndex, HeuristicConfigPolicy<Solution_> solverConfigPolicy,
+            BestSolutionRecaller<Solution_> bestSolutionRecaller, Termination<Solution_> solverTermination) {
+        if (solverConfigPolicy.getMoveThreadCount() != null) {
+            // A migration changes the working solution behind the back of the move threads
+            throw new IllegalArgumentException("The islandSearch phase (" + phaseConfig
+                    + ") does not support a moveThreadCount (" + solverConfigPolicy.getMoveThreadCount() + ").\n"
+                    + "Maybe remove the moveThreadCount from the solver config:"
+                    + " the islands already solve in parallel.");
+        }
+        HeuristicConfigPolicy<Solution_> phaseConfigPolicy = solverConfigPolicy.createPhaseConfigPolicy();
+        ThreadFactory threadFactory = solverConfigPolicy.buildThreadFactory(ChildThreadType.PART_THREAD);
+        Termination<Solution_> phaseTermination = buildPhaseTermination(phaseConfigPolicy, solverTermination);
+        int resolvedIslandCount = resolveIslandCount(phaseConfig.getIslandCount());
+        int migrationStepCount_ = Objects.requireNonNullElse(phaseConfig.getMigrationStepCount(), 1000);
+        List<LocalSearchPhaseConfig> localSearchPhaseConfigList_ = phaseConfig.getLocalSearchPhaseConfigList();
+        if (ConfigUtils.isEmptyCollection(localSearchPhaseConfigList_)) {
+            localSearchPhaseConfigList_ = List.of(new LocalSearchPhaseConfig());
+        }
+
+        DefaultIslandSearchPhase.Builder<Solution_> builder = new DefaultIslandSearchPhase.Builder<>(phaseIndex,
+                solverConfigPolicy.getLogIndentation(), phaseTermination, threadFactory,
+                resolvedIslandCount, migrationStepCount_, localSearchPhaseConfigList_,
+                phaseConfigPolicy.createChildThreadConfigPolicy(ChildThreadType.PART_THREAD));
+
+        EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
+        if (environmentMode.isNonIntrusiveFullAsserted()) {
+            builder.setAssertStepScoreFromScratch(true);
+        }
+        if (environmentMode.isIntrusiveFastAsserted()) {
+            builder.setAssertExpectedStepScore(true);
+            builder.setAssertShadowVariablesAreNotStaleAfterStep(true);
+        }
+        return builder.build();
+    }
+
+    protected int resolveIslandCount(String islandCount) {
+        int availableProcessorCount = getAvailableProcessors();
+        int resolvedIslandCount;
+        if (islandCount == null || islandCount.equals(ISLAND_COUNT_AUTO)) {
+            // Leave one for the Operating System and 1 for the solver thread, take the rest
+            resolvedIslandCount = Math.max(1, availableProcessorCount - 2);
+        } else {
+            resolvedIslandCount = ConfigUtils.resolvePoolSize("islandCount", islandCount, ISLAND_COUNT_AUTO);
+            if (resolvedIslandCount < 1) {
+                throw new IllegalArgumentException("The islandCount (" + islandCount
+                        + ") resulted in a resolvedIslandCount (" + resolvedIslandCount
+                        + ") that is lower than 1.");
+            }
+            if (resolvedIslandCount > availableProcessorCount) {
+                LOGGER.debug("The resolvedIslandCount ({}) is higher than "
+                        + "the availableProcessorCount ({}), so the JVM will "
+                        + "round-robin the CPU instead.", resolvedIslandCount, availableProcessorCount);
+            }
+        }
+        return resolvedIslandCount;
+    }
+
+    protected int getAvailableProcessors() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,113 @@
+package ai.timefold.solver.core.impl.islandsearch;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.partitionedsearch.scope.PartitionChangeMove;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListener;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
+
+/**
+ * Holds the best solution of all islands, so the other islands can continue from it.
+ * <p>
+ * The best solution is kept as a {@link PartitionChangeMove} of every genuine planning variable,
+ * so an island migrates by {@link PartitionChangeMove#rebase rebasing} and doing that move on its own working solution.
+ * That only changes planning variable values, so the planning entity instances
+ * (and the caches of the island's selectors) stay the same.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class IslandMigration<Solution_> {
+
+    private final int migrationStepCount;
+
+    private volatile Migrant<Solution_> bestMigrant = null;
+
+    public IslandMigration(int migrationStepCount) {
+        if (migrationStepCount < 1) {
+            throw new IllegalArgumentException("The migrationStepCount (" + migrationStepCount
+                    + ") cannot be negative or zero.");
+        }
+        this.migrationStepCount = migrationStepCount;
+    }
+
+    public int getMigrationStepCount() {
+        return migrationStepCount;
+    }
+
+    /**
+     * Called from an island thread when that island finds a new best solution.
+     *
+     * @param islandIndex {@code 0 <= islandIndex < islandCount}
+     * @param score never null
+     * @param move never null, created from the working solution of that island
+     */
+    public synchronized void offer(int islandIndex, Score score, PartitionChangeMove<Solution_> move) {
+        Migrant<Solution_> oldBestMigrant = bestMigrant;
+        if (oldBestMigrant == null || score.compareTo(oldBestMigrant.score) > 0) {
+            bestMigrant = new Migrant<>(islandIndex, score, move);
+        }
+    }
+
+    /**
+     * The island migrates when a step starts, so the migrated solution is the result of the last completed step.
+     * Afterwards, the search history of the island's {@link LocalSearchDecider} no longer matches that solution,
+     * so it is reset, and the island's {@link BestSolutionRecaller} learns of the (possibly better) solution.
+     *
+     * @param islandIndex {@code 0 <= islandIndex < islandCount}
+     * @param bestSolutionRecaller never null, of the island's solver
+     * @param decider never null, of the island's Local Search phase
+     * @return never null, to be registered on the island's solver
+     */
+    public PhaseLifecycleListener<Solution_> createIslandListener(int islandIndex,
+            BestSolutionRecaller<Solution_> bestSolutionRecaller, LocalSearchDecider<Solution_> decider) {
+        return new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+                int stepIndex = stepScope.getStepIndex();
+                if (stepIndex > 0 && stepIndex % migrationStepCount == 0) {
+                    migrate(islandIndex, (LocalSearchPhaseScope<Solution_>) stepScope.getPhaseScope(),
+                            bestSolutionRecaller, decider);
+                }
+            }
+        };
+    }
+
+    private void migrate(int islandIndex, LocalSearchPhaseScope<Solution_> phaseScope,
+            BestSolutionRecaller<Solution_> bestSolutionRecaller, LocalSearchDecider<Solution_> decider) {
+        Migrant<Solution_> migrant = bestMigrant;
+        LocalSearchStepScope<Solution_> lastCompletedStepScope = phaseScope.getLastCompletedStepScope();
+        if (migrant == null || migrant.islandIndex == islandIndex
+                || migrant.score.compareTo(lastCompletedStepScope.getScore()) <= 0) {
+            return;
+        }
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        migrant.move.rebase(scoreDirector).doMoveOnly(scoreDirector);
+        Score score = scoreDirector.calculateScore();
+        lastCompletedStepScope.setScore(score);
+        bestSolutionRecaller.processWorkingSolutionDuringMove(score, lastCompletedStepScope);
+        decider.restartSearch(phaseScope);
+    }
+
+    private static final class Migrant<Solution_> {
+
+        private final int islandIndex;
+        private final Score score;
+        private final PartitionChangeMove<Solution_> move;
+
+        private Migrant(int islandIndex, Score score, PartitionChangeMove<Solution_> move) {
+            this.islandIndex = islandIndex;
+            this.score = score;
+            this.move = move;
+        }
+
+    }
+
+}
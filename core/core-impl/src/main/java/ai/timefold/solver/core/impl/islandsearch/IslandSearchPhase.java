@@ -0,0 +1,19 @@
+package ai.timefold.solver.core.impl.islandsearch;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.phase.AbstractPhase;
+import ai.timefold.solver.core.impl.phase.Phase;
+
+/**
+ * An {@link IslandSearchPhase} is a {@link Phase} which uses an Island Model algorithm.
+ * It runs several Local Search trajectories in parallel, each on its own copy of the {@link PlanningSolution},
+ * and periodically lets them continue from the best solution found by any of them.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see Phase
+ * @see AbstractPhase
+ * @see DefaultIslandSearchPhase
+ */
+public interface IslandSearchPhase<Solution_> extends Phase<Solution_> {
+
+}
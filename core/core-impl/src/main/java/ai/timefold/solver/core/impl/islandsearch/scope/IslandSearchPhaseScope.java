@@ -0,0 +1,42 @@
+package ai.timefold.solver.core.impl.islandsearch.scope;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+/**
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class IslandSearchPhaseScope<Solution_> extends AbstractPhaseScope<Solution_> {
+
+    private Integer islandCount;
+
+    private IslandSearchStepScope<Solution_> lastCompletedStepScope;
+
+    public IslandSearchPhaseScope(SolverScope<Solution_> solverScope) {
+        super(solverScope);
+        lastCompletedStepScope = new IslandSearchStepScope<>(this, -1);
+    }
+
+    public Integer getIslandCount() {
+        return islandCount;
+    }
+
+    public void setIslandCount(Integer islandCount) {
+        this.islandCount = islandCount;
+    }
+
+    @Override
+    public IslandSearchStepScope<Solution_> getLastCompletedStepScope() {
+        return lastCompletedStepScope;
+    }
+
+    public void setLastCompletedStepScope(IslandSearchStepScope<Solution_> lastCompletedStepScope) {
+        this.lastCompletedStepScope = lastCompletedStepScope;
+    }
+
+    // ************************************************************************
+    // Calculated methods
+    // ************************************************************************
+
+}
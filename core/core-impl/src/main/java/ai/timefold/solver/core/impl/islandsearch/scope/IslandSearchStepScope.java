@@ -0,0 +1,54 @@
+package ai.timefold.solver.core.impl.islandsearch.scope;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.partitionedsearch.scope.PartitionChangeMove;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+
+/**
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class IslandSearchStepScope<Solution_> extends AbstractStepScope<Solution_> {
+
+    private final IslandSearchPhaseScope<Solution_> phaseScope;
+
+    private PartitionChangeMove<Solution_> step = null;
+    private String stepString = null;
+
+    public IslandSearchStepScope(IslandSearchPhaseScope<Solution_> phaseScope) {
+        this(phaseScope, phaseScope.getNextStepIndex());
+    }
+
+    public IslandSearchStepScope(IslandSearchPhaseScope<Solution_> phaseScope, int stepIndex) {
+        super(stepIndex);
+        this.phaseScope = phaseScope;
+    }
+
+    @Override
+    public IslandSearchPhaseScope<Solution_> getPhaseScope() {
+        return phaseScope;
+    }
+
+    public PartitionChangeMove<Solution_> getStep() {
+        return step;
+    }
+
+    public void setStep(PartitionChangeMove<Solution_> step) {
+        this.step = step;
+    }
+
+    /**
+     * @return null if logging level is too high
+     */
+    public String getStepString() {
+        return stepString;
+    }
+
+    public void setStepString(String stepString) {
+        this.stepString = stepString;
+    }
+
+    // ************************************************************************
+    // Calculated methods
+    // ************************************************************************
+
+}
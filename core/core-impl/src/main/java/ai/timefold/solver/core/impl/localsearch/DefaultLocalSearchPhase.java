@@ -49,6 +49,10 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
         return "Local Search";
     }
 
+    public LocalSearchDecider<Solution_> getDecider() {
+        return decider;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.localsearch;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -24,11 +25,14 @@ import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescripto
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.thread.WaitStrategy;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.move.composite.UnionMoveSelectorFactory;
 import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
 import ai.timefold.solver.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
+import ai.timefold.solver.core.impl.localsearch.decider.NonReproducibleMultiThreadedLocalSearchDecider;
+import ai.timefold.solver.core.impl.localsearch.decider.RejectedMoveCache;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AcceptorFactory;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
@@ -90,9 +94,25 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
             }
             ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
             int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
-            MultiThreadedLocalSearchDecider<Solution_> multiThreadedDecider = new MultiThreadedLocalSearchDecider<>(
-                    configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager,
-                    threadFactory, moveThreadCount, selectedMoveBufferSize);
+            MultiThreadedLocalSearchDecider<Solution_> multiThreadedDecider;
+            if (environmentMode == EnvironmentMode.NON_REPRODUCIBLE && moveSelector.isNeverEnding()) {
+                // Trade reproducibility for throughput: every move thread selects its own moves
+                List<MoveSelector<Solution_>> moveThreadMoveSelectorList = new ArrayList<>(moveThreadCount);
+                for (int i = 0; i < moveThreadCount; i++) {
+                    moveThreadMoveSelectorList.add(
+                            buildMoveSelector(configPolicy.createChildThreadConfigPolicy(ChildThreadType.MOVE_THREAD)));
+                }
+                multiThreadedDecider = new NonReproducibleMultiThreadedLocalSearchDecider<>(
+                        configPolicy.getLogIndentation(), termination, moveSelector, moveThreadMoveSelectorList,
+                        acceptor, forager, threadFactory, moveThreadCount, selectedMoveBufferSize);
+            } else {
+                multiThreadedDecider = new MultiThreadedLocalSearchDecider<>(
+                        configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager,
+                        threadFactory, moveThreadCount, selectedMoveBufferSize);
+            }
+            if (configPolicy.isMoveThreadBusySpinEnabled()) {
+                multiThreadedDecider.setWaitStrategy(WaitStrategy.BUSY_SPIN);
+            }
             if (environmentMode.isNonIntrusiveFullAsserted()) {
                 multiThreadedDecider.setAssertStepScoreFromScratch(true);
             }
@@ -108,6 +128,15 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
         if (environmentMode.isIntrusiveFastAsserted()) {
             decider.setAssertExpectedUndoMoveScore(true);
         }
+        if (Objects.requireNonNullElse(phaseConfig.getRejectedMoveCacheEnabled(), false)) {
+            if (moveThreadCount != null) {
+                throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                        + ") with rejectedMoveCacheEnabled (" + phaseConfig.getRejectedMoveCacheEnabled()
+                        + ") does not support a moveThreadCount (" + moveThreadCount + ").\n"
+                        + "Maybe remove the moveThreadCount from the solver config.");
+            }
+            decider.setRejectedMoveCache(new RejectedMoveCache<>());
+        }
         return decider;
     }
 
@@ -31,6 +31,12 @@ public class LocalSearchDecider<Solution_> {
 
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
+    protected RejectedMoveCache<Solution_> rejectedMoveCache = null;
+
+    /**
+     * Null if every move of the current step is evaluated completely.
+     */
+    protected Score acceptorRejectionBound = null;
 
     public LocalSearchDecider(String logIndentation, Termination<Solution_> termination,
             MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager) {
@@ -65,6 +71,13 @@ public class LocalSearchDecider<Solution_> {
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
     }
 
+    /**
+     * @param rejectedMoveCache null if the rejected moves are evaluated again
+     */
+    public void setRejectedMoveCache(RejectedMoveCache<Solution_> rejectedMoveCache) {
+        this.rejectedMoveCache = rejectedMoveCache;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -79,6 +92,9 @@ public class LocalSearchDecider<Solution_> {
         moveSelector.phaseStarted(phaseScope);
         acceptor.phaseStarted(phaseScope);
         forager.phaseStarted(phaseScope);
+        if (rejectedMoveCache != null) {
+            rejectedMoveCache.clear();
+        }
     }
 
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
@@ -90,6 +106,9 @@ public class LocalSearchDecider<Solution_> {
     public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
         InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
         scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        acceptorRejectionBound = scoreDirector.isEarlyRejectionSupported() && !assertMoveScoreFromScratch
+                ? acceptor.calculateRejectionBound(stepScope)
+                : null;
         int moveIndex = 0;
         for (Move<Solution_> move : moveSelector) {
             LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
@@ -98,8 +117,14 @@ public class LocalSearchDecider<Solution_> {
             if (!move.isMoveDoable(scoreDirector)) {
                 logger.trace("{}        Move index ({}) not doable, ignoring move ({}).",
                         logIndentation, moveScope.getMoveIndex(), move);
+            } else if (rejectedMoveCache != null && rejectedMoveCache.isRejectedAndUnchanged(move)) {
+                logger.trace("{}        Move index ({}) rejected before and unchanged since, ignoring move ({}).",
+                        logIndentation, moveScope.getMoveIndex(), move);
             } else {
                 doMove(moveScope);
+                if (rejectedMoveCache != null && !moveScope.getAccepted()) {
+                    rejectedMoveCache.addRejectedMove(move, stepScope.getStepIndex());
+                }
                 if (forager.isQuitEarly()) {
                     break;
                 }
@@ -110,17 +135,26 @@ public class LocalSearchDecider<Solution_> {
             }
         }
         scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+        acceptorRejectionBound = null;
         pickMove(stepScope);
     }
 
     protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
         InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
-        scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
-            moveScope.setScore(score);
-            boolean accepted = acceptor.isAccepted(moveScope);
-            moveScope.setAccepted(accepted);
-            forager.addMove(moveScope);
-        });
+        Score_ rejectionBound = acceptorRejectionBound == null ? null
+                : (Score_) forager.calculateRejectionBound(acceptorRejectionBound);
+        boolean processed = scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, rejectionBound,
+                score -> {
+                    moveScope.setScore(score);
+                    boolean accepted = acceptor.isAccepted(moveScope);
+                    moveScope.setAccepted(accepted);
+                    forager.addMove(moveScope);
+                });
+        if (!processed) {
+            // The score is certainly worse than the rejectionBound, so the acceptor would have rejected it
+            moveScope.setAccepted(false);
+            forager.addEarlyRejectedMove(moveScope);
+        }
         if (assertExpectedUndoMoveScore) {
             scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
                     (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
@@ -147,12 +181,35 @@ public class LocalSearchDecider<Solution_> {
         moveSelector.stepEnded(stepScope);
         acceptor.stepEnded(stepScope);
         forager.stepEnded(stepScope);
+        if (rejectedMoveCache != null && stepScope.getStep() != null) {
+            rejectedMoveCache.stepEnded(stepScope.getStep(), stepScope.getStepIndex());
+        }
+    }
+
+    /**
+     * Forgets the search history of the {@link Acceptor} and the {@link LocalSearchForager},
+     * because the working solution was replaced outside of a step, for example by an island migration.
+     * Must be called between steps, after the new working score has been set on the last completed step.
+     *
+     * @param phaseScope never null
+     */
+    public void restartSearch(LocalSearchPhaseScope<Solution_> phaseScope) {
+        acceptor.phaseEnded(phaseScope);
+        acceptor.phaseStarted(phaseScope);
+        forager.phaseEnded(phaseScope);
+        forager.phaseStarted(phaseScope);
+        if (rejectedMoveCache != null) {
+            rejectedMoveCache.clear();
+        }
     }
 
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         moveSelector.phaseEnded(phaseScope);
         acceptor.phaseEnded(phaseScope);
         forager.phaseEnded(phaseScope);
+        if (rejectedMoveCache != null) {
+            rejectedMoveCache.clear();
+        }
     }
 
     public void solvingEnded(SolverScope<Solution_> solverScope) {
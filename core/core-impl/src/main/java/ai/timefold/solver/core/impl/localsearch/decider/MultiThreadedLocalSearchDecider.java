@@ -3,8 +3,6 @@ package ai.timefold.solver.core.impl.localsearch.decider;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -17,11 +15,11 @@ import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.heuristic.thread.ApplyStepOperation;
 import ai.timefold.solver.core.impl.heuristic.thread.DestroyOperation;
-import ai.timefold.solver.core.impl.heuristic.thread.MoveEvaluationOperation;
-import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperationRingBuffer;
 import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadRunner;
 import ai.timefold.solver.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
 import ai.timefold.solver.core.impl.heuristic.thread.SetupOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.WaitStrategy;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
@@ -44,8 +42,9 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+    protected WaitStrategy waitStrategy = WaitStrategy.SPIN_THEN_PARK;
 
-    protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    protected MoveThreadOperationRingBuffer<Solution_> operationQueue;
     protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
     protected CyclicBarrier moveThreadBarrier;
     protected ExecutorService executor;
@@ -60,6 +59,10 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         this.selectedMoveBufferSize = selectedMoveBufferSize;
     }
 
+    public void setWaitStrategy(WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
     public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
         this.assertStepScoreFromScratch = assertStepScoreFromScratch;
     }
@@ -76,25 +79,31 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
-        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        operationQueue = new MoveThreadOperationRingBuffer<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount,
+                waitStrategy);
         // Capacity: number of moves in circulation + number of exception handling results
-        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
+        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount, waitStrategy);
         moveThreadBarrier = new CyclicBarrier(moveThreadCount);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
         executor = createThreadPoolExecutor();
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
-            MoveThreadRunner<Solution_, ?> moveThreadRunner = new MoveThreadRunner<>(
-                    logIndentation, moveThreadIndex, true,
-                    operationQueue, resultQueue, moveThreadBarrier,
-                    assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
-                    assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+            MoveThreadRunner<Solution_, ?> moveThreadRunner = createMoveThreadRunner(phaseScope, moveThreadIndex);
             moveThreadRunnerList.add(moveThreadRunner);
             executor.submit(moveThreadRunner);
             operationQueue.add(new SetupOperation<>(scoreDirector));
         }
     }
 
+    protected MoveThreadRunner<Solution_, ?> createMoveThreadRunner(LocalSearchPhaseScope<Solution_> phaseScope,
+            int moveThreadIndex) {
+        return new MoveThreadRunner<>(
+                logIndentation, moveThreadIndex, true,
+                operationQueue, resultQueue, moveThreadBarrier,
+                assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+    }
+
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
@@ -140,7 +149,7 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
 
         int selectMoveIndex = 0;
         int movesInPlay = 0;
-        Iterator<Move<Solution_>> moveIterator = moveSelector.iterator();
+        Iterator<Move<Solution_>> moveIterator = createMoveIterator();
         do {
             boolean hasNextMove = moveIterator.hasNext();
             // First fill the buffer so move evaluation can run freely in parallel
@@ -154,7 +163,7 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             }
             if (hasNextMove) {
                 Move<Solution_> move = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex, move));
+                operationQueue.addMoveEvaluation(stepIndex, selectMoveIndex, move);
                 selectMoveIndex++;
                 movesInPlay++;
             }
@@ -180,6 +189,13 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         }
     }
 
+    /**
+     * @return never null, a null element means that a move thread selects the move itself
+     */
+    protected Iterator<Move<Solution_>> createMoveIterator() {
+        return moveSelector.iterator();
+    }
+
     private boolean forageResult(LocalSearchStepScope<Solution_> stepScope, int stepIndex) {
         OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
         try {
@@ -192,6 +208,10 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
                     + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
         }
+        if (result.getMove() == null) {
+            // The move selector of a move thread has no more moves
+            return true;
+        }
         Move<Solution_> foragingMove = result.getMove().rebase(stepScope.getScoreDirector());
         int foragingMoveIndex = result.getMoveIndex();
         LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, foragingMoveIndex, foragingMove);
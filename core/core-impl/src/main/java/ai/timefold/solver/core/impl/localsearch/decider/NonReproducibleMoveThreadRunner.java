@@ -0,0 +1,88 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperationRingBuffer;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadRunner;
+import ai.timefold.solver.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+/**
+ * A move thread which selects the moves that it evaluates from its own {@link MoveSelector} and {@link Random},
+ * instead of evaluating the moves that the solver thread selected.
+ *
+ * @see NonReproducibleMultiThreadedLocalSearchDecider
+ */
+public class NonReproducibleMoveThreadRunner<Solution_, Score_ extends Score<Score_>>
+        extends MoveThreadRunner<Solution_, Score_> {
+
+    private final MoveSelector<Solution_> moveSelector;
+    private final Random workingRandom;
+
+    private SolverScope<Solution_> solverScope;
+    private LocalSearchPhaseScope<Solution_> phaseScope;
+    private LocalSearchStepScope<Solution_> stepScope;
+    private Iterator<Move<Solution_>> moveIterator;
+
+    public NonReproducibleMoveThreadRunner(String logIndentation, int moveThreadIndex,
+            MoveThreadOperationRingBuffer<Solution_> operationQueue,
+            OrderByMoveIndexBlockingQueue<Solution_> resultQueue,
+            CyclicBarrier moveThreadBarrier,
+            MoveSelector<Solution_> moveSelector, Random workingRandom,
+            boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
+            boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
+            boolean assertShadowVariablesAreNotStaleAfterStep) {
+        super(logIndentation, moveThreadIndex, true, operationQueue, resultQueue, moveThreadBarrier,
+                assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+        this.moveSelector = moveSelector;
+        this.workingRandom = workingRandom;
+    }
+
+    @Override
+    protected void setupEnded(InnerScoreDirector<Solution_, Score_> scoreDirector) {
+        solverScope = new SolverScope<>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setWorkingRandom(workingRandom);
+        phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        moveSelector.solvingStarted(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+        startStep(0);
+    }
+
+    private void startStep(int stepIndex) {
+        stepScope = new LocalSearchStepScope<>(phaseScope, stepIndex);
+        moveSelector.stepStarted(stepScope);
+        moveIterator = moveSelector.iterator();
+    }
+
+    @Override
+    protected void stepApplied(int stepIndex, Move<Solution_> step, Score_ score) {
+        stepScope.setStep(step);
+        stepScope.setScore(score);
+        moveSelector.stepEnded(stepScope);
+        phaseScope.setLastCompletedStepScope(stepScope);
+        startStep(stepIndex);
+    }
+
+    @Override
+    protected void destroyStarted() {
+        moveSelector.stepEnded(stepScope);
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+    }
+
+    @Override
+    protected Move<Solution_> selectMove() {
+        return moveIterator.hasNext() ? moveIterator.next() : null;
+    }
+
+}
@@ -0,0 +1,80 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadFactory;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadRunner;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.solver.termination.Termination;
+
+/**
+ * Used in {@link EnvironmentMode#NON_REPRODUCIBLE} with a never ending move selector.
+ * Every move thread selects the moves that it evaluates from its own move selector and random,
+ * so move selection no longer happens on the solver thread.
+ * The solver thread only tells the move threads how many moves to evaluate
+ * and forages the results in the order in which the move threads claimed them,
+ * which depends on thread scheduling.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class NonReproducibleMultiThreadedLocalSearchDecider<Solution_> extends MultiThreadedLocalSearchDecider<Solution_> {
+
+    private final List<MoveSelector<Solution_>> moveThreadMoveSelectorList;
+
+    /**
+     * @param moveSelector never null, only used to validate the configuration
+     * @param moveThreadMoveSelectorList never null, a move selector per move thread, with a size of moveThreadCount
+     */
+    public NonReproducibleMultiThreadedLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
+            MoveSelector<Solution_> moveSelector, List<MoveSelector<Solution_>> moveThreadMoveSelectorList,
+            Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            ThreadFactory threadFactory, int moveThreadCount, int selectedMoveBufferSize) {
+        super(logIndentation, termination, moveSelector, acceptor, forager,
+                threadFactory, moveThreadCount, selectedMoveBufferSize);
+        if (moveThreadMoveSelectorList.size() != moveThreadCount) {
+            throw new IllegalArgumentException("The moveThreadMoveSelectorList size (" + moveThreadMoveSelectorList.size()
+                    + ") differs from the moveThreadCount (" + moveThreadCount + ").");
+        }
+        this.moveThreadMoveSelectorList = moveThreadMoveSelectorList;
+    }
+
+    public List<MoveSelector<Solution_>> getMoveThreadMoveSelectorList() {
+        return moveThreadMoveSelectorList;
+    }
+
+    @Override
+    protected MoveThreadRunner<Solution_, ?> createMoveThreadRunner(LocalSearchPhaseScope<Solution_> phaseScope,
+            int moveThreadIndex) {
+        return new NonReproducibleMoveThreadRunner<>(
+                logIndentation, moveThreadIndex,
+                operationQueue, resultQueue, moveThreadBarrier,
+                moveThreadMoveSelectorList.get(moveThreadIndex), new Random(phaseScope.getWorkingRandom().nextLong()),
+                assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+    }
+
+    @Override
+    protected Iterator<Move<Solution_>> createMoveIterator() {
+        // Never selects a move itself: every move evaluation is a placeholder for a move that a move thread selects
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Move<Solution_> next() {
+                return null;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,109 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+
+/**
+ * Remembers the moves that weren't accepted,
+ * so they can be skipped until a step changes one of their planning entities or planning values.
+ * Also known as don't look bits.
+ * <p>
+ * Relies on {@link Move#equals(Object)} to recognize a move that is selected again.
+ * A move that doesn't implement it is never skipped.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see LocalSearchPhaseConfig#getRejectedMoveCacheEnabled()
+ */
+public final class RejectedMoveCache<Solution_> {
+
+    /**
+     * Limits the memory footprint if the moves are rarely selected twice, such as on big datasets.
+     */
+    static final int DEFAULT_CAPACITY = 100_000;
+
+    private final int capacity;
+    private final Map<Move<Solution_>, Integer> rejectedStepIndexMap = new HashMap<>();
+    /**
+     * Planning entities and planning values are compared by identity, like in the working solution.
+     */
+    private final Map<Object, Integer> lastChangedStepIndexMap = new IdentityHashMap<>();
+
+    public RejectedMoveCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity at least 1, the maximum number of rejected moves to remember
+     */
+    public RejectedMoveCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity (" + capacity + ") must be at least 1.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * @param move never null
+     * @return true if the move was rejected before
+     *         and no step since then changed its planning entities or planning values
+     */
+    public boolean isRejectedAndUnchanged(Move<Solution_> move) {
+        Integer rejectedStepIndex = rejectedStepIndexMap.get(move);
+        if (rejectedStepIndex == null) {
+            return false;
+        }
+        if (isChangedSince(move.getPlanningEntities(), rejectedStepIndex)
+                || isChangedSince(move.getPlanningValues(), rejectedStepIndex)) {
+            rejectedStepIndexMap.remove(move);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isChangedSince(Iterable<?> planningObjects, int rejectedStepIndex) {
+        for (Object planningObject : planningObjects) {
+            Integer lastChangedStepIndex = lastChangedStepIndexMap.get(planningObject);
+            if (lastChangedStepIndex != null && lastChangedStepIndex >= rejectedStepIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param move never null, a move that is not accepted
+     * @param stepIndex at least 0
+     */
+    public void addRejectedMove(Move<Solution_> move, int stepIndex) {
+        if (rejectedStepIndexMap.size() >= capacity) {
+            rejectedStepIndexMap.clear();
+        }
+        rejectedStepIndexMap.put(move, stepIndex);
+    }
+
+    /**
+     * @param step never null, the move that is done as the step
+     * @param stepIndex at least 0
+     */
+    public void stepEnded(Move<Solution_> step, int stepIndex) {
+        for (Object planningEntity : step.getPlanningEntities()) {
+            lastChangedStepIndexMap.put(planningEntity, stepIndex);
+        }
+        for (Object planningValue : step.getPlanningValues()) {
+            lastChangedStepIndexMap.put(planningValue, stepIndex);
+        }
+    }
+
+    public void clear() {
+        rejectedStepIndexMap.clear();
+        lastChangedStepIndexMap.clear();
+    }
+
+}
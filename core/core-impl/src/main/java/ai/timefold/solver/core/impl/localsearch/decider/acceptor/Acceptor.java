@@ -1,9 +1,11 @@
 package ai.timefold.solver.core.impl.localsearch.decider.acceptor;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 
 /**
  * An Acceptor accepts or rejects a selected {@link Move}.
@@ -19,4 +21,16 @@ public interface Acceptor<Solution_> extends LocalSearchPhaseLifecycleListener<S
      */
     boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * Called after {@link #stepStarted(LocalSearchStepScope)}.
+     * The score director can use the bound to stop calculating the score of a move as soon as it is certainly rejected.
+     *
+     * @param stepScope never null
+     * @return null if unknown, otherwise {@link #isAccepted(LocalSearchMoveScope)} returns false during this step
+     *         for every move with a score that is worse than this bound
+     */
+    default Score calculateRejectionBound(LocalSearchStepScope<Solution_> stepScope) {
+        return null;
+    }
+
 }
@@ -11,8 +11,10 @@ import ai.timefold.solver.core.config.localsearch.decider.acceptor.LocalSearchAc
 import ai.timefold.solver.core.config.localsearch.decider.acceptor.stepcountinghillclimbing.StepCountingHillClimbingType;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.greatdeluge.GreatDelugeAcceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.greatdeluge.PackedGreatDelugeAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.hillclimbing.HillClimbingAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.lateacceptance.LateAcceptanceAcceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.lateacceptance.PackedLateAcceptanceAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.simulatedannealing.SimulatedAnnealingAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.stepcountinghillclimbing.StepCountingHillClimbingAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu.EntityTabuAcceptor;
@@ -46,7 +48,7 @@ public class AcceptorFactory<Solution_> {
                 buildMoveTabuAcceptor(configPolicy),
                 buildUndoMoveTabuAcceptor(configPolicy),
                 buildSimulatedAnnealingAcceptor(configPolicy),
-                buildLateAcceptanceAcceptor(),
+                buildLateAcceptanceAcceptor(configPolicy),
                 buildGreatDelugeAcceptor(configPolicy))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
@@ -229,12 +231,20 @@ public class AcceptorFactory<Solution_> {
         return Optional.empty();
     }
 
-    private Optional<LateAcceptanceAcceptor<Solution_>> buildLateAcceptanceAcceptor() {
+    private Optional<AbstractAcceptor<Solution_>>
+            buildLateAcceptanceAcceptor(HeuristicConfigPolicy<Solution_> configPolicy) {
         if ((acceptorConfig.getAcceptorTypeList() != null
                 && acceptorConfig.getAcceptorTypeList().contains(AcceptorType.LATE_ACCEPTANCE))
                 || acceptorConfig.getLateAcceptanceSize() != null) {
+            int lateAcceptanceSize = Objects.requireNonNullElse(acceptorConfig.getLateAcceptanceSize(), 400);
+            PackedScoreLevels packedScoreLevels = PackedScoreLevels.of(configPolicy.getScoreDefinition());
+            if (packedScoreLevels != null) {
+                PackedLateAcceptanceAcceptor<Solution_> acceptor = new PackedLateAcceptanceAcceptor<>(packedScoreLevels);
+                acceptor.setLateAcceptanceSize(lateAcceptanceSize);
+                return Optional.of(acceptor);
+            }
             LateAcceptanceAcceptor<Solution_> acceptor = new LateAcceptanceAcceptor<>();
-            acceptor.setLateAcceptanceSize(Objects.requireNonNullElse(acceptorConfig.getLateAcceptanceSize(), 400));
+            acceptor.setLateAcceptanceSize(lateAcceptanceSize);
             return Optional.of(acceptor);
         }
         return Optional.empty();
@@ -245,7 +255,9 @@ public class AcceptorFactory<Solution_> {
                 && acceptorConfig.getAcceptorTypeList().contains(AcceptorType.GREAT_DELUGE))
                 || acceptorConfig.getGreatDelugeWaterLevelIncrementScore() != null
                 || acceptorConfig.getGreatDelugeWaterLevelIncrementRatio() != null) {
-            GreatDelugeAcceptor<Solution_> acceptor = new GreatDelugeAcceptor<>();
+            PackedScoreLevels packedScoreLevels = PackedScoreLevels.of(configPolicy.getScoreDefinition());
+            GreatDelugeAcceptor<Solution_> acceptor = packedScoreLevels == null ? new GreatDelugeAcceptor<>()
+                    : new PackedGreatDelugeAcceptor<>(packedScoreLevels);
             if (acceptorConfig.getGreatDelugeWaterLevelIncrementScore() != null) {
                 if (acceptorConfig.getGreatDelugeWaterLevelIncrementRatio() != null) {
                     throw new IllegalArgumentException("The acceptor cannot have both a "
@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.localsearch.decider.acceptor;
 import java.util.Arrays;
 import java.util.List;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -61,6 +62,20 @@ public class CompositeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
         return true;
     }
 
+    @Override
+    public Score calculateRejectionBound(LocalSearchStepScope<Solution_> stepScope) {
+        // A move is rejected if any acceptor rejects it, so the highest bound applies
+        Score rejectionBound = null;
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            Score acceptorRejectionBound = acceptor.calculateRejectionBound(stepScope);
+            if (acceptorRejectionBound != null
+                    && (rejectionBound == null || acceptorRejectionBound.compareTo(rejectionBound) > 0)) {
+                rejectionBound = acceptorRejectionBound;
+            }
+        }
+        return rejectionBound;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         for (Acceptor<Solution_> acceptor : acceptorList) {
@@ -0,0 +1,183 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.buildin.simplelong.SimpleLongScore;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleScoreDefinition;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+
+/**
+ * Packs the init score and the levels of a {@link Score} with a fixed number of int or long levels
+ * into consecutive elements of a long[],
+ * so an {@link Acceptor} can remember many scores in one array
+ * and compare a move score with them using primitive comparisons, instead of {@link Score#compareTo(Object)}.
+ */
+public enum PackedScoreLevels {
+    SIMPLE(2) {
+        @Override
+        public void pack(Score<?> score, long[] levels, int offset) {
+            SimpleScore simpleScore = (SimpleScore) score;
+            levels[offset] = simpleScore.initScore();
+            levels[offset + 1] = simpleScore.score();
+        }
+
+        @Override
+        public Score<?> unpack(long[] levels, int offset) {
+            return SimpleScore.ofUninitialized((int) levels[offset], (int) levels[offset + 1]);
+        }
+
+        @Override
+        public int compare(Score<?> score, long[] levels, int offset) {
+            SimpleScore simpleScore = (SimpleScore) score;
+            int comparison = Long.compare(simpleScore.initScore(), levels[offset]);
+            if (comparison != 0) {
+                return comparison;
+            }
+            return Long.compare(simpleScore.score(), levels[offset + 1]);
+        }
+    },
+    SIMPLE_LONG(2) {
+        @Override
+        public void pack(Score<?> score, long[] levels, int offset) {
+            SimpleLongScore simpleLongScore = (SimpleLongScore) score;
+            levels[offset] = simpleLongScore.initScore();
+            levels[offset + 1] = simpleLongScore.score();
+        }
+
+        @Override
+        public Score<?> unpack(long[] levels, int offset) {
+            return SimpleLongScore.ofUninitialized((int) levels[offset], levels[offset + 1]);
+        }
+
+        @Override
+        public int compare(Score<?> score, long[] levels, int offset) {
+            SimpleLongScore simpleLongScore = (SimpleLongScore) score;
+            int comparison = Long.compare(simpleLongScore.initScore(), levels[offset]);
+            if (comparison != 0) {
+                return comparison;
+            }
+            return Long.compare(simpleLongScore.score(), levels[offset + 1]);
+        }
+    },
+    HARD_SOFT(3) {
+        @Override
+        public void pack(Score<?> score, long[] levels, int offset) {
+            HardSoftScore hardSoftScore = (HardSoftScore) score;
+            levels[offset] = hardSoftScore.initScore();
+            levels[offset + 1] = hardSoftScore.hardScore();
+            levels[offset + 2] = hardSoftScore.softScore();
+        }
+
+        @Override
+        public Score<?> unpack(long[] levels, int offset) {
+            return HardSoftScore.ofUninitialized((int) levels[offset], (int) levels[offset + 1],
+                    (int) levels[offset + 2]);
+        }
+
+        @Override
+        public int compare(Score<?> score, long[] levels, int offset) {
+            HardSoftScore hardSoftScore = (HardSoftScore) score;
+            int comparison = Long.compare(hardSoftScore.initScore(), levels[offset]);
+            if (comparison != 0) {
+                return comparison;
+            }
+            comparison = Long.compare(hardSoftScore.hardScore(), levels[offset + 1]);
+            if (comparison != 0) {
+                return comparison;
+            }
+            return Long.compare(hardSoftScore.softScore(), levels[offset + 2]);
+        }
+    },
+    HARD_SOFT_LONG(3) {
+        @Override
+        public void pack(Score<?> score, long[] levels, int offset) {
+            HardSoftLongScore hardSoftLongScore = (HardSoftLongScore) score;
+            levels[offset] = hardSoftLongScore.initScore();
+            levels[offset + 1] = hardSoftLongScore.hardScore();
+            levels[offset + 2] = hardSoftLongScore.softScore();
+        }
+
+        @Override
+        public Score<?> unpack(long[] levels, int offset) {
+            return HardSoftLongScore.ofUninitialized((int) levels[offset], levels[offset + 1], levels[offset + 2]);
+        }
+
+        @Override
+        public int compare(Score<?> score, long[] levels, int offset) {
+            HardSoftLongScore hardSoftLongScore = (HardSoftLongScore) score;
+            int comparison = Long.compare(hardSoftLongScore.initScore(), levels[offset]);
+            if (comparison != 0) {
+                return comparison;
+            }
+            comparison = Long.compare(hardSoftLongScore.hardScore(), levels[offset + 1]);
+            if (comparison != 0) {
+                return comparison;
+            }
+            return Long.compare(hardSoftLongScore.softScore(), levels[offset + 2]);
+        }
+    };
+
+    /**
+     * @param scoreDefinition sometimes null
+     * @return null if the scores of that score definition can't be packed
+     */
+    public static PackedScoreLevels of(ScoreDefinition<?> scoreDefinition) {
+        if (scoreDefinition == null) {
+            return null;
+        }
+        // Exact classes, because a subclass could compare its scores differently
+        Class<?> scoreDefinitionClass = scoreDefinition.getClass();
+        if (scoreDefinitionClass == SimpleScoreDefinition.class) {
+            return SIMPLE;
+        } else if (scoreDefinitionClass == SimpleLongScoreDefinition.class) {
+            return SIMPLE_LONG;
+        } else if (scoreDefinitionClass == HardSoftScoreDefinition.class) {
+            return HARD_SOFT;
+        } else if (scoreDefinitionClass == HardSoftLongScoreDefinition.class) {
+            return HARD_SOFT_LONG;
+        } else {
+            return null;
+        }
+    }
+
+    private final int packedSize;
+
+    PackedScoreLevels(int packedSize) {
+        this.packedSize = packedSize;
+    }
+
+    /**
+     * @return at least 2, the number of long elements that one packed score takes, including its init score
+     */
+    public int getPackedSize() {
+        return packedSize;
+    }
+
+    /**
+     * @param score never null
+     * @param levels never null
+     * @param offset at least 0, the index of the first element to write
+     */
+    public abstract void pack(Score<?> score, long[] levels, int offset);
+
+    /**
+     * @param levels never null
+     * @param offset at least 0, the index of the first element of the packed score
+     * @return never null, the score that was packed there
+     */
+    public abstract Score<?> unpack(long[] levels, int offset);
+
+    /**
+     * @param score never null
+     * @param levels never null
+     * @param offset at least 0, the index of the first element of the packed score
+     * @return like {@link Score#compareTo(Object)} of the score with the packed score
+     */
+    public abstract int compare(Score<?> score, long[] levels, int offset);
+
+}
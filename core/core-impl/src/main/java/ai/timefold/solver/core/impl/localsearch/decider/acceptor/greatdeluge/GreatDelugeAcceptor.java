@@ -41,6 +41,10 @@ public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         this.waterLevelIncrementRatio = waterLevelIncrementRatio;
     }
 
+    protected Score getCurrentWaterLevel() {
+        return currentWaterLevel;
+    }
+
     @Override
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
@@ -75,6 +79,12 @@ public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return false;
     }
 
+    @Override
+    public Score calculateRejectionBound(LocalSearchStepScope<Solution_> stepScope) {
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        return currentWaterLevel.compareTo(lastStepScore) <= 0 ? currentWaterLevel : lastStepScore;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
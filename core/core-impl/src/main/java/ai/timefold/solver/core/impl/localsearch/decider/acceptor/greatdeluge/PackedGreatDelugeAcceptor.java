@@ -0,0 +1,64 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.greatdeluge;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.PackedScoreLevels;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+
+/**
+ * A {@link GreatDelugeAcceptor} that compares every move score
+ * with the water level and the last step score as {@link PackedScoreLevels packed score levels},
+ * to avoid {@link Score#compareTo(Object)} per evaluated move.
+ * The water level is still raised with {@link Score} arithmetic, once per step.
+ *
+ * @param <Solution_> the solution type
+ */
+public class PackedGreatDelugeAcceptor<Solution_> extends GreatDelugeAcceptor<Solution_> {
+
+    private final PackedScoreLevels packedScoreLevels;
+
+    private long[] currentWaterLevelLevels = null;
+    private long[] lastStepScoreLevels = null;
+
+    public PackedGreatDelugeAcceptor(PackedScoreLevels packedScoreLevels) {
+        this.packedScoreLevels = packedScoreLevels;
+    }
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        currentWaterLevelLevels = new long[packedScoreLevels.getPackedSize()];
+        packedScoreLevels.pack(getCurrentWaterLevel(), currentWaterLevelLevels, 0);
+        lastStepScoreLevels = new long[packedScoreLevels.getPackedSize()];
+        packedScoreLevels.pack(phaseScope.getLastCompletedStepScope().getScore(), lastStepScoreLevels, 0);
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        currentWaterLevelLevels = null;
+        lastStepScoreLevels = null;
+    }
+
+    @Override
+    public boolean isAccepted(LocalSearchMoveScope moveScope) {
+        Score moveScore = moveScope.getScore();
+        if (packedScoreLevels.compare(moveScore, currentWaterLevelLevels, 0) >= 0) {
+            return true;
+        }
+        if (packedScoreLevels.compare(moveScore, lastStepScoreLevels, 0) > 0) {
+            // Aspiration
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        packedScoreLevels.pack(getCurrentWaterLevel(), currentWaterLevelLevels, 0);
+        packedScoreLevels.pack(stepScope.getScore(), lastStepScoreLevels, 0);
+    }
+
+}
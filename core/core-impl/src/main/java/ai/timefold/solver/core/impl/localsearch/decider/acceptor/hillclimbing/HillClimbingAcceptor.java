@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.localsearch.decider.acceptor.hillclimbing;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 
 public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
@@ -17,4 +18,9 @@ public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return moveScore.compareTo(lastStepScore) >= 0;
     }
 
+    @Override
+    public Score calculateRejectionBound(LocalSearchStepScope<Solution_> stepScope) {
+        return stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+    }
+
 }
@@ -61,6 +61,16 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         return false;
     }
 
+    @Override
+    public Score calculateRejectionBound(LocalSearchStepScope<Solution_> stepScope) {
+        Score lateScore = previousScores[lateScoreIndex];
+        if (!hillClimbingEnabled) {
+            return lateScore;
+        }
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        return lateScore.compareTo(lastStepScore) <= 0 ? lateScore : lastStepScore;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
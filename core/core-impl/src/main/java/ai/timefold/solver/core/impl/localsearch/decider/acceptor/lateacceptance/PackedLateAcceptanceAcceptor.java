@@ -0,0 +1,111 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.lateacceptance;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.PackedScoreLevels;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+
+/**
+ * Like {@link LateAcceptanceAcceptor}, but it remembers the previous scores
+ * only as {@link PackedScoreLevels packed score levels} in one long[], instead of a {@link Score} array,
+ * to avoid {@link Score#compareTo(Object)} and reading a score instance per evaluated move.
+ *
+ * @param <Solution_> the solution type
+ */
+public class PackedLateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
+
+    protected final PackedScoreLevels packedScoreLevels;
+
+    protected int lateAcceptanceSize = -1;
+    protected boolean hillClimbingEnabled = true;
+
+    protected long[] previousScoreLevels;
+    protected long[] lastStepScoreLevels;
+    protected int lateScoreIndex = -1;
+
+    public PackedLateAcceptanceAcceptor(PackedScoreLevels packedScoreLevels) {
+        this.packedScoreLevels = packedScoreLevels;
+    }
+
+    public void setLateAcceptanceSize(int lateAcceptanceSize) {
+        this.lateAcceptanceSize = lateAcceptanceSize;
+    }
+
+    public void setHillClimbingEnabled(boolean hillClimbingEnabled) {
+        this.hillClimbingEnabled = hillClimbingEnabled;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        validate();
+        int packedSize = packedScoreLevels.getPackedSize();
+        previousScoreLevels = new long[lateAcceptanceSize * packedSize];
+        Score initialScore = phaseScope.getBestScore();
+        for (int i = 0; i < lateAcceptanceSize; i++) {
+            packedScoreLevels.pack(initialScore, previousScoreLevels, i * packedSize);
+        }
+        lastStepScoreLevels = new long[packedSize];
+        packedScoreLevels.pack(phaseScope.getLastCompletedStepScope().getScore(), lastStepScoreLevels, 0);
+        lateScoreIndex = 0;
+    }
+
+    private void validate() {
+        if (lateAcceptanceSize <= 0) {
+            throw new IllegalArgumentException("The lateAcceptanceSize (" + lateAcceptanceSize
+                    + ") cannot be negative or zero.");
+        }
+    }
+
+    @Override
+    public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
+        Score moveScore = moveScope.getScore();
+        if (packedScoreLevels.compare(moveScore, previousScoreLevels,
+                lateScoreIndex * packedScoreLevels.getPackedSize()) >= 0) {
+            return true;
+        }
+        if (hillClimbingEnabled) {
+            if (packedScoreLevels.compare(moveScore, lastStepScoreLevels, 0) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Score calculateRejectionBound(LocalSearchStepScope<Solution_> stepScope) {
+        int lateScoreOffset = lateScoreIndex * packedScoreLevels.getPackedSize();
+        if (hillClimbingEnabled) {
+            Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+            if (packedScoreLevels.compare(lastStepScore, previousScoreLevels, lateScoreOffset) < 0) {
+                return lastStepScore;
+            }
+        }
+        // Once per step, so unpacking doesn't defeat the purpose of the packed score levels
+        return packedScoreLevels.unpack(previousScoreLevels, lateScoreOffset);
+    }
+
+    @Override
+    public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        Score stepScore = stepScope.getScore();
+        packedScoreLevels.pack(stepScore, previousScoreLevels, lateScoreIndex * packedScoreLevels.getPackedSize());
+        packedScoreLevels.pack(stepScore, lastStepScoreLevels, 0);
+        lateScoreIndex = (lateScoreIndex + 1) % lateAcceptanceSize;
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        previousScoreLevels = null;
+        lastStepScoreLevels = null;
+        lateScoreIndex = -1;
+    }
+
+}
@@ -50,6 +50,12 @@ public class StepCountingHillClimbingAcceptor<Solution_> extends AbstractAccepto
         return moveScore.compareTo(thresholdScore) >= 0;
     }
 
+    @Override
+    public Score calculateRejectionBound(LocalSearchStepScope<Solution_> stepScope) {
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        return thresholdScore.compareTo(lastStepScore) <= 0 ? thresholdScore : lastStepScore;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
@@ -0,0 +1,212 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import java.util.function.Consumer;
+
+/**
+ * Maps every tabu to the step index in which it became tabu,
+ * and expires the tabus in the order they became tabu.
+ * <p>
+ * The tabus are stored in an open addressing hash table (with linear probing)
+ * and in a ring buffer that is ordered by step index.
+ * Re-adding a tabu only updates its step index in the hash table
+ * and leaves its older ring buffer entry behind, which is skipped when it expires.
+ * So both adding and expiring a tabu are O(1), without boxing the step indexes.
+ * The arrays only grow if the tabu list size grows, so a step doesn't create garbage.
+ * <p>
+ * Tabus are compared with {@link Object#equals(Object)} and {@link Object#hashCode()}, like in a {@link java.util.HashMap}.
+ * A tabu can be null.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class TabuStepIndexMap {
+
+    static final int NO_STEP_INDEX = -1;
+
+    private static final Object NULL_TABU = new Object();
+
+    private Object[] tabus;
+    private int[] hashes;
+    private int[] stepIndexes;
+    private int size = 0;
+
+    private Object[] ringTabus;
+    private int[] ringStepIndexes;
+    private int ringHead = 0;
+    private int ringSize = 0;
+
+    /**
+     * @param expectedSize at least 0, the expected number of tabus
+     */
+    TabuStepIndexMap(int expectedSize) {
+        int capacity = powerOfTwoCapacity(expectedSize);
+        tabus = new Object[capacity * 2];
+        hashes = new int[capacity * 2];
+        stepIndexes = new int[capacity * 2];
+        ringTabus = new Object[capacity];
+        ringStepIndexes = new int[capacity];
+    }
+
+    private static int powerOfTwoCapacity(int expectedSize) {
+        return Integer.highestOneBit(Math.max(expectedSize, 8) - 1) << 1;
+    }
+
+    private static int hash(Object maskedTabu) {
+        int h = maskedTabu.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @param tabu sometimes null
+     * @return {@link #NO_STEP_INDEX} if the tabu isn't tabu
+     */
+    public int get(Object tabu) {
+        int slot = findSlot(tabu == null ? NULL_TABU : tabu);
+        return slot < 0 ? NO_STEP_INDEX : stepIndexes[slot];
+    }
+
+    private int findSlot(Object maskedTabu) {
+        int hash = hash(maskedTabu);
+        int mask = tabus.length - 1;
+        for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+            Object slotTabu = tabus[slot];
+            if (slotTabu == null) {
+                return -1 - slot;
+            }
+            if (slotTabu == maskedTabu || (hashes[slot] == hash && slotTabu.equals(maskedTabu))) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Pushes the tabu to the end of the line if it is already tabu.
+     *
+     * @param tabu sometimes null
+     * @param stepIndex at least 0, at least the step index of every previous call
+     */
+    public void put(Object tabu, int stepIndex) {
+        Object maskedTabu = tabu == null ? NULL_TABU : tabu;
+        int slot = findSlot(maskedTabu);
+        if (slot >= 0) {
+            if (stepIndexes[slot] == stepIndex) {
+                // Already in the ring buffer for this step index
+                return;
+            }
+            tabus[slot] = maskedTabu;
+        } else {
+            slot = -1 - slot;
+            tabus[slot] = maskedTabu;
+            hashes[slot] = hash(maskedTabu);
+            size++;
+        }
+        stepIndexes[slot] = stepIndex;
+        if (size * 2 > tabus.length) {
+            rehash(tabus.length * 2);
+        }
+        if (ringSize == ringTabus.length) {
+            growRing();
+        }
+        int ringIndex = (ringHead + ringSize) & (ringTabus.length - 1);
+        ringTabus[ringIndex] = maskedTabu;
+        ringStepIndexes[ringIndex] = stepIndex;
+        ringSize++;
+    }
+
+    /**
+     * Removes every tabu that became tabu in a step index that is not after the given step index.
+     *
+     * @param maximumExpiredStepIndex sometimes negative
+     */
+    public void expire(int maximumExpiredStepIndex) {
+        int ringMask = ringTabus.length - 1;
+        while (ringSize > 0 && ringStepIndexes[ringHead] <= maximumExpiredStepIndex) {
+            Object maskedTabu = ringTabus[ringHead];
+            int ringStepIndex = ringStepIndexes[ringHead];
+            ringTabus[ringHead] = null;
+            ringHead = (ringHead + 1) & ringMask;
+            ringSize--;
+            int slot = findSlot(maskedTabu);
+            if (slot < 0) {
+                Object oldTabu = maskedTabu == NULL_TABU ? null : maskedTabu;
+                throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                        + oldTabu + ") of class (" + maskedTabu.getClass()
+                        + ") changed during planning, since it was inserted in the tabu Map or Set.");
+            }
+            // Otherwise the tabu has been re-added in a later step, so it's still tabu
+            if (stepIndexes[slot] == ringStepIndex) {
+                removeSlot(slot);
+            }
+        }
+    }
+
+    private void removeSlot(int slot) {
+        int mask = tabus.length - 1;
+        int hole = slot;
+        // Shift back the entries that would no longer be found after the hole
+        for (int i = (hole + 1) & mask; tabus[i] != null; i = (i + 1) & mask) {
+            int idealSlot = hashes[i] & mask;
+            if (((i - idealSlot) & mask) >= ((i - hole) & mask)) {
+                tabus[hole] = tabus[i];
+                hashes[hole] = hashes[i];
+                stepIndexes[hole] = stepIndexes[i];
+                hole = i;
+            }
+        }
+        tabus[hole] = null;
+        size--;
+    }
+
+    private void rehash(int newCapacity) {
+        Object[] oldTabus = tabus;
+        int[] oldHashes = hashes;
+        int[] oldStepIndexes = stepIndexes;
+        tabus = new Object[newCapacity];
+        hashes = new int[newCapacity];
+        stepIndexes = new int[newCapacity];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldTabus.length; i++) {
+            if (oldTabus[i] != null) {
+                int slot = oldHashes[i] & mask;
+                while (tabus[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                tabus[slot] = oldTabus[i];
+                hashes[slot] = oldHashes[i];
+                stepIndexes[slot] = oldStepIndexes[i];
+            }
+        }
+    }
+
+    private void growRing() {
+        int oldCapacity = ringTabus.length;
+        Object[] newRingTabus = new Object[oldCapacity * 2];
+        int[] newRingStepIndexes = new int[oldCapacity * 2];
+        for (int i = 0; i < ringSize; i++) {
+            int oldRingIndex = (ringHead + i) & (oldCapacity - 1);
+            newRingTabus[i] = ringTabus[oldRingIndex];
+            newRingStepIndexes[i] = ringStepIndexes[oldRingIndex];
+        }
+        ringTabus = newRingTabus;
+        ringStepIndexes = newRingStepIndexes;
+        ringHead = 0;
+    }
+
+    /**
+     * @return at least 0, the number of distinct tabus
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param consumer never null, called for every tabu, sometimes with null
+     */
+    public void forEachTabu(Consumer<Object> consumer) {
+        for (Object maskedTabu : tabus) {
+            if (maskedTabu != null) {
+                consumer.accept(maskedTabu == NULL_TABU ? null : maskedTabu);
+            }
+        }
+    }
+
+}
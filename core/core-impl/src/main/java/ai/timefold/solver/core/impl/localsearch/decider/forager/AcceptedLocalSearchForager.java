@@ -81,6 +81,16 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
         finalistPodium.addMove(moveScope);
     }
 
+    @Override
+    public Score calculateRejectionBound(Score acceptorRejectionBound) {
+        return finalistPodium.calculateRejectionBound(acceptorRejectionBound);
+    }
+
+    @Override
+    public void addEarlyRejectedMove(LocalSearchMoveScope<Solution_> moveScope) {
+        selectedMoveCount++;
+    }
+
     protected void checkPickEarly(LocalSearchMoveScope<Solution_> moveScope) {
         switch (pickEarlyType) {
             case NEVER:
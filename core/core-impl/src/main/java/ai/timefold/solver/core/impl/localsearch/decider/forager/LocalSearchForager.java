@@ -1,7 +1,9 @@
 package ai.timefold.solver.core.impl.localsearch.decider.forager;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -23,6 +25,23 @@ public interface LocalSearchForager<Solution_> extends LocalSearchPhaseLifecycle
      */
     void addMove(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * Called before the next move is evaluated.
+     *
+     * @param acceptorRejectionBound never null, see {@link Acceptor#calculateRejectionBound(LocalSearchStepScope)}
+     * @return null if the next move must be evaluated completely,
+     *         otherwise a move with a worse score than this bound can be passed to
+     *         {@link #addEarlyRejectedMove(LocalSearchMoveScope)} instead of {@link #addMove(LocalSearchMoveScope)},
+     *         without a score
+     */
+    Score calculateRejectionBound(Score acceptorRejectionBound);
+
+    /**
+     * @param moveScope never null, not accepted and without a score,
+     *        because its score is certainly worse than {@link #calculateRejectionBound(Score)}
+     */
+    void addEarlyRejectedMove(LocalSearchMoveScope<Solution_> moveScope);
+
     /**
      * @return true if no further moves should be selected (and evaluated) for this step.
      */
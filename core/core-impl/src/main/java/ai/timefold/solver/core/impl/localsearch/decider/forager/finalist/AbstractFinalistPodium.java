@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.localsearch.decider.forager.finalist;
 import java.util.ArrayList;
 import java.util.List;
 
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
@@ -41,6 +42,12 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
         finalistList.add(moveScope);
     }
 
+    @Override
+    public Score calculateRejectionBound(Score acceptorRejectionBound) {
+        // Overridable by a subclass that knows which rejected moves can still become a finalist
+        return null;
+    }
+
     @Override
     public List<LocalSearchMoveScope<Solution_>> getFinalistList() {
         return finalistList;
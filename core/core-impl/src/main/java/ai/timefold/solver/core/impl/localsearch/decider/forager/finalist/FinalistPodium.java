@@ -2,9 +2,12 @@ package ai.timefold.solver.core.impl.localsearch.decider.forager.finalist;
 
 import java.util.List;
 
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
 import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 
 /**
  * A podium gathers the finalists (the {@link LocalSearchMoveScope}s which might win) and picks the winner.
@@ -21,6 +24,15 @@ public interface FinalistPodium<Solution_> extends LocalSearchPhaseLifecycleList
      */
     void addMove(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * See {@link LocalSearchForager#calculateRejectionBound(Score)}.
+     *
+     * @param acceptorRejectionBound never null, see {@link Acceptor#calculateRejectionBound(LocalSearchStepScope)}
+     * @return null if the next move might become a finalist, even if it isn't accepted,
+     *         otherwise a move with a worse score than this bound is rejected and never becomes a finalist
+     */
+    Score calculateRejectionBound(Score acceptorRejectionBound);
+
     /**
      *
      * @return never null, sometimes empty
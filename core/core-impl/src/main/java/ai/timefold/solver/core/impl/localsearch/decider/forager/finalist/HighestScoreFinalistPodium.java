@@ -40,6 +40,20 @@ public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalis
         }
     }
 
+    @Override
+    public Score calculateRejectionBound(Score acceptorRejectionBound) {
+        if (finalistIsAccepted) {
+            // Rejected moves are ignored
+            return acceptorRejectionBound;
+        }
+        if (finalistScore == null) {
+            // The first move becomes a finalist, even if it is rejected
+            return null;
+        }
+        // A rejected move still becomes a finalist if it isn't worse than the finalists
+        return finalistScore.compareTo(acceptorRejectionBound) < 0 ? finalistScore : acceptorRejectionBound;
+    }
+
     private int doComparison(Score moveScore) {
         if (finalistScore == null) {
             return 1;
@@ -60,6 +60,10 @@ public final class PartitionChangeMove<Solution_> extends AbstractMove<Solution_
         this.partIndex = partIndex;
     }
 
+    public int getPartIndex() {
+        return partIndex;
+    }
+
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
@@ -60,9 +60,12 @@ public abstract class AbstractStepScope<Solution_> {
         return getPhaseScope().getWorkingRandom();
     }
 
+    /**
+     * @return never null, a {@link InnerScoreDirector#snapshotWorkingSolution() snapshot} that must never be changed
+     */
     public Solution_ createOrGetClonedSolution() {
         if (clonedSolution == null) {
-            clonedSolution = getScoreDirector().cloneWorkingSolution();
+            clonedSolution = getScoreDirector().snapshotWorkingSolution();
         }
         return clonedSolution;
     }
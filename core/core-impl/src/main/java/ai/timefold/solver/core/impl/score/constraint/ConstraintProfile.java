@@ -0,0 +1,73 @@
+package ai.timefold.solver.core.impl.score.constraint;
+
+import static java.util.Objects.requireNonNull;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+
+/**
+ * Tells how much work the incremental score calculation has spent on a single constraint,
+ * since the working solution was last set.
+ * Unlike a {@link ConstraintMatchTotal}, this says nothing about the score, only about the cost of calculating it.
+ * <p>
+ * Nodes shared by multiple constraints count fully towards each of those constraints,
+ * so the sum over all constraints can exceed the total.
+ * <p>
+ * This class is immutable: it is a snapshot.
+ */
+public final class ConstraintProfile {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final String constraintId;
+    private final long tupleCount;
+    private final long propagationCount;
+    private final long nanos;
+
+    /**
+     * @param constraintPackage never null
+     * @param constraintName never null
+     * @param tupleCount the number of tuples that currently match the constraint
+     * @param propagationCount the number of inserts, updates and retracts that reached the constraint's nodes
+     * @param nanos the time spent in the constraint's nodes
+     */
+    public ConstraintProfile(String constraintPackage, String constraintName, long tupleCount, long propagationCount,
+            long nanos) {
+        this.constraintPackage = requireNonNull(constraintPackage);
+        this.constraintName = requireNonNull(constraintName);
+        this.constraintId = ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+        this.tupleCount = tupleCount;
+        this.propagationCount = propagationCount;
+        this.nanos = nanos;
+    }
+
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    public String getConstraintId() {
+        return constraintId;
+    }
+
+    public long getTupleCount() {
+        return tupleCount;
+    }
+
+    public long getPropagationCount() {
+        return propagationCount;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return constraintId + " (tuples: " + tupleCount + ", propagations: " + propagationCount
+                + ", time: " + (nanos / 1_000_000L) + " ms)";
+    }
+
+}
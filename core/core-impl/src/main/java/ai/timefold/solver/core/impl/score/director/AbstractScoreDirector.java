@@ -2,20 +2,24 @@ package ai.timefold.solver.core.impl.score.director;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
 import ai.timefold.solver.core.api.domain.variable.VariableListener;
 import ai.timefold.solver.core.api.score.Score;
@@ -24,18 +28,23 @@ import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.api.score.stream.ConstraintJustification;
 import ai.timefold.solver.core.api.score.stream.DefaultConstraintJustification;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
 import ai.timefold.solver.core.impl.domain.constraintweight.descriptor.ConstraintConfigurationDescriptor;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.lookup.LookUpManager;
+import ai.timefold.solver.core.impl.domain.solution.cloner.CopyOnWriteSolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.cloner.DeepCloningUtils;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.listener.support.VariableListenerSupport;
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfile;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
@@ -63,7 +72,16 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected final boolean lookUpEnabled;
     protected final LookUpManager lookUpManager;
     protected boolean constraintMatchEnabledPreference;
+    protected boolean constraintProfilingEnabledPreference = false;
     protected final VariableListenerSupport<Solution_> variableListenerSupport;
+    /**
+     * Null if moves are evaluated with their undo move.
+     */
+    private final MoveJournal<Solution_> moveJournal;
+    /**
+     * Null unless {@link #enableCopyOnWriteSnapshots()} was called.
+     */
+    private CopyOnWriteSolutionCloner<Solution_> copyOnWriteSolutionCloner = null;
 
     protected Solution_ workingSolution;
     protected long workingEntityListRevision = 0L;
@@ -83,6 +101,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.constraintMatchEnabledPreference = constraintMatchEnabledPreference;
         variableListenerSupport = VariableListenerSupport.create(this);
         variableListenerSupport.linkVariableListeners();
+        moveJournal = scoreDirectorFactory.isMoveJournalEnabled() ? new MoveJournal<>() : null;
     }
 
     @Override
@@ -105,6 +124,32 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.constraintMatchEnabledPreference = constraintMatchEnabledPreference;
     }
 
+    @Override
+    public boolean isConstraintProfilingEnabled() {
+        return false; // Only supported by score directors that override this method.
+    }
+
+    @Override
+    public Map<String, ConstraintProfile> getConstraintProfileMap() {
+        throw new IllegalStateException("The score director (" + getClass().getSimpleName()
+                + ") does not support constraint profiling.");
+    }
+
+    @Override
+    public void overwriteConstraintProfilingEnabledPreference(boolean constraintProfilingEnabledPreference) {
+        this.constraintProfilingEnabledPreference = constraintProfilingEnabledPreference;
+    }
+
+    @Override
+    public long getCreatedTupleCount() {
+        return -1L; // Only supported by score directors that override this method.
+    }
+
+    @Override
+    public long getReusedTupleCount() {
+        return -1L; // Only supported by score directors that override this method.
+    }
+
     @Override
     public Solution_ getWorkingSolution() {
         return workingSolution;
@@ -167,6 +212,94 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         }
         variableListenerSupport.resetWorkingSolution();
         setWorkingEntityListDirty();
+        if (copyOnWriteSolutionCloner != null) {
+            copyOnWriteSolutionCloner.reset();
+        }
+    }
+
+    @Override
+    public boolean restoreWorkingSolution(Solution_ solution) {
+        if (workingSolution == null || solution == workingSolution) {
+            return false;
+        }
+        SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
+        if (!isWorkingSolutionRestorable(solutionDescriptor)) {
+            return false;
+        }
+        List<Object> workingObjectList = new ArrayList<>();
+        solutionDescriptor.visitAll(workingSolution, workingObjectList::add);
+        List<Object> objectList = new ArrayList<>(workingObjectList.size());
+        solutionDescriptor.visitAll(solution, objectList::add);
+        if (objectList.size() != workingObjectList.size()) {
+            return false;
+        }
+        // Every problem fact must be shared, every entity must be cloned, in the same order.
+        Map<Object, Object> entityToWorkingEntityMap = new IdentityHashMap<>();
+        for (int i = 0; i < objectList.size(); i++) {
+            Object object = objectList.get(i);
+            Object workingObject = workingObjectList.get(i);
+            if (object.getClass() != workingObject.getClass()) {
+                return false;
+            }
+            if (solutionDescriptor.hasEntityDescriptor(object.getClass())) {
+                entityToWorkingEntityMap.put(object, workingObject);
+            } else if (object != workingObject) {
+                return false;
+            }
+        }
+        // Collect the changes first, so nothing changes if a value can't be mapped to the working solution.
+        List<Object> changedWorkingEntityList = new ArrayList<>();
+        List<GenuineVariableDescriptor<Solution_>> changedVariableDescriptorList = new ArrayList<>();
+        List<Object> changedValueList = new ArrayList<>();
+        for (int i = 0; i < objectList.size(); i++) { // In order, for reproducibility.
+            Object entity = objectList.get(i);
+            Object workingEntity = workingObjectList.get(i);
+            if (entity == workingEntity) {
+                continue;
+            }
+            EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(
+                    workingEntity.getClass());
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                Object value = variableDescriptor.getValue(entity);
+                Object workingValue = entityToWorkingEntityMap.getOrDefault(value, value);
+                if (workingValue == variableDescriptor.getValue(workingEntity)) {
+                    continue;
+                }
+                if (workingValue != null && workingValue == value
+                        && DeepCloningUtils.isClassDeepCloned(solutionDescriptor, workingValue.getClass())) {
+                    // A deep cloned value that isn't a problem fact of the solution
+                    return false;
+                }
+                changedWorkingEntityList.add(workingEntity);
+                changedVariableDescriptorList.add(variableDescriptor);
+                changedValueList.add(workingValue);
+            }
+        }
+        for (int i = 0; i < changedWorkingEntityList.size(); i++) {
+            changeVariableFacade(changedVariableDescriptorList.get(i), changedWorkingEntityList.get(i),
+                    changedValueList.get(i));
+        }
+        triggerVariableListeners();
+        return true;
+    }
+
+    private static <Solution_> boolean isWorkingSolutionRestorable(SolutionDescriptor<Solution_> solutionDescriptor) {
+        // A custom solution cloner might clone more than the entities.
+        if (solutionDescriptor.getSolutionClass().getAnnotation(PlanningSolution.class)
+                .solutionCloner() != PlanningSolution.NullSolutionCloner.class) {
+            return false;
+        }
+        // Changing them one entity at a time would break the chains or the lists in between.
+        for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getEntityDescriptors()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                if (variableDescriptor.isListVariable() || variableDescriptor.isChained()) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     @Override
@@ -199,6 +332,15 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public Score_ doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch) {
+        if (isMoveJournalApplicable()) {
+            doMoveRecorded(move);
+            Score_ score = calculateScore();
+            if (assertMoveScoreFromScratch) {
+                assertWorkingScoreFromScratch(score, move);
+            }
+            moveJournal.replayBackwards(this);
+            return score;
+        }
         Move<Solution_> undoMove = move.doMove(this);
         Score_ score = calculateScore();
         if (assertMoveScoreFromScratch) {
@@ -210,13 +352,89 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor) {
+        doAndProcessMove(move, assertMoveScoreFromScratch, null, moveProcessor);
+    }
+
+    @Override
+    public boolean doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Score_ rejectionBound,
+            Consumer<Score_> moveProcessor) {
+        if (isMoveJournalApplicable()) {
+            doMoveRecorded(move);
+            Score_ score = calculateMoveScore(move, assertMoveScoreFromScratch, rejectionBound);
+            if (score != null) {
+                moveProcessor.accept(score);
+            }
+            moveJournal.replayBackwards(this);
+            return score != null;
+        }
         Move<Solution_> undoMove = move.doMove(this);
+        Score_ score = calculateMoveScore(move, assertMoveScoreFromScratch, rejectionBound);
+        if (score != null) {
+            moveProcessor.accept(score);
+        }
+        undoMove.doMoveOnly(this);
+        return score != null;
+    }
+
+    private Score_ calculateMoveScore(Move<Solution_> move, boolean assertMoveScoreFromScratch, Score_ rejectionBound) {
+        if (rejectionBound != null && !assertMoveScoreFromScratch) {
+            return calculateScoreUnlessWorseThan(rejectionBound);
+        }
         Score_ score = calculateScore();
         if (assertMoveScoreFromScratch) {
             assertWorkingScoreFromScratch(score, move);
         }
-        moveProcessor.accept(score);
-        undoMove.doMoveOnly(this);
+        return score;
+    }
+
+    /**
+     * Like {@link #calculateScore()}, but may skip the rest of the score calculation
+     * as soon as the score is certainly worse than the rejectionBound.
+     * The skipped part of the calculation is not lost: the next {@link #calculateScore()} catches up on it.
+     * Overridable by a subclass that {@link #isEarlyRejectionSupported() supports early rejection}.
+     *
+     * @param rejectionBound never null
+     * @return null if the score is certainly worse than the rejectionBound, otherwise the same as {@link #calculateScore()}
+     */
+    protected Score_ calculateScoreUnlessWorseThan(Score_ rejectionBound) {
+        return calculateScore();
+    }
+
+    @Override
+    public boolean isEarlyRejectionSupported() {
+        return false;
+    }
+
+    /**
+     * The move journal reverts the shadow variables without triggering the variable listeners,
+     * so it requires that every shadow variable has a setter
+     * and that every variable listener keeps all of its state in the shadow variables.
+     *
+     * @return true if the move can be rolled back with the {@link MoveJournal} instead of with its undo move
+     */
+    private boolean isMoveJournalApplicable() {
+        return moveJournal != null && variableListenerSupport.isRevertibleWithoutVariableListeners();
+    }
+
+    private void doMoveRecorded(Move<Solution_> move) {
+        moveJournal.startRecording();
+        try {
+            move.doMoveOnly(this);
+        } catch (RuntimeException | Error e) {
+            moveJournal.clear();
+            throw e;
+        } finally {
+            moveJournal.stopRecording();
+        }
+    }
+
+    private void assertMoveJournalNotRecording(String change) {
+        if (moveJournal != null && moveJournal.isRecording()) {
+            moveJournal.stopRecording();
+            moveJournal.clear();
+            throw new IllegalStateException("A move must not " + change + ".\n"
+                    + "Maybe use a " + ProblemChange.class.getSimpleName() + " instead.");
+        }
     }
 
     @Override
@@ -233,11 +451,30 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return cloneSolution(workingSolution);
     }
 
+    @Override
+    public Solution_ snapshotWorkingSolution() {
+        if (copyOnWriteSolutionCloner == null) {
+            return cloneWorkingSolution();
+        }
+        return cloneSolution(workingSolution, copyOnWriteSolutionCloner::cloneSolution);
+    }
+
+    @Override
+    public void enableCopyOnWriteSnapshots() {
+        if (copyOnWriteSolutionCloner == null) {
+            copyOnWriteSolutionCloner = new CopyOnWriteSolutionCloner<>(getSolutionDescriptor());
+        }
+    }
+
     @Override
     public Solution_ cloneSolution(Solution_ originalSolution) {
+        return cloneSolution(originalSolution, getSolutionDescriptor().getSolutionCloner()::cloneSolution);
+    }
+
+    private Solution_ cloneSolution(Solution_ originalSolution, UnaryOperator<Solution_> solutionCloner) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         Score_ originalScore = (Score_) solutionDescriptor.getScore(originalSolution);
-        Solution_ cloneSolution = solutionDescriptor.getSolutionCloner().cloneSolution(originalSolution);
+        Solution_ cloneSolution = solutionCloner.apply(originalSolution);
         Score_ cloneScore = (Score_) solutionDescriptor.getScore(cloneSolution);
         if (scoreDirectorFactory.isAssertClonedSolution()) {
             if (!Objects.equals(originalScore, cloneScore)) {
@@ -403,6 +640,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     }
 
     public void beforeEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        assertMoveJournalNotRecording("add a planning entity (" + entity + ")");
         variableListenerSupport.beforeEntityAdded(entityDescriptor, entity);
     }
 
@@ -421,6 +659,17 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (variableDescriptor.isGenuineAndUninitialized(entity)) {
             workingInitScore++;
         }
+        if (copyOnWriteSolutionCloner != null) {
+            copyOnWriteSolutionCloner.markDirty(entity);
+        }
+        if (moveJournal != null) {
+            if (moveJournal.isRecording()) {
+                moveJournal.recordVariableChange(variableDescriptor, entity);
+            } else if (moveJournal.isReplaying()) {
+                // The journal reverts the shadow variables itself
+                return;
+            }
+        }
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
     }
 
@@ -446,6 +695,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     @Override
     public void afterListVariableElementAssigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
         workingInitScore++;
+        if (moveJournal != null && moveJournal.isRecording()) {
+            moveJournal.recordListVariableElementAssigned(variableDescriptor, element);
+        }
     }
 
     @Override
@@ -456,23 +708,51 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     @Override
     public void afterListVariableElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
         workingInitScore--;
+        if (moveJournal != null) {
+            if (moveJournal.isRecording()) {
+                moveJournal.recordListVariableElementUnassigned(variableDescriptor, element);
+            } else if (moveJournal.isReplaying()) {
+                return;
+            }
+        }
         variableListenerSupport.afterElementUnassigned(variableDescriptor, element);
     }
 
     @Override
     public void beforeListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor,
             Object entity, int fromIndex, int toIndex) {
+        if (copyOnWriteSolutionCloner != null) {
+            copyOnWriteSolutionCloner.markDirty(entity);
+        }
+        if (moveJournal != null) {
+            if (moveJournal.isRecording()) {
+                moveJournal.recordListVariableChange(variableDescriptor, entity, fromIndex, toIndex);
+            } else if (moveJournal.isReplaying()) {
+                return;
+            }
+        }
         variableListenerSupport.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
 
     @Override
     public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor,
             Object entity, int fromIndex, int toIndex) {
+        if (moveJournal != null) {
+            if (moveJournal.isRecording()) {
+                moveJournal.recordListVariableChangeEnded(variableDescriptor, entity, fromIndex, toIndex);
+            } else if (moveJournal.isReplaying()) {
+                return;
+            }
+        }
         variableListenerSupport.afterListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
 
     public void beforeEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        assertMoveJournalNotRecording("remove a planning entity (" + entity + ")");
         workingInitScore += entityDescriptor.countUninitializedVariables(entity);
+        if (copyOnWriteSolutionCloner != null) {
+            copyOnWriteSolutionCloner.forget(entity);
+        }
         variableListenerSupport.beforeEntityRemoved(entityDescriptor, entity);
     }
 
@@ -491,7 +771,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void beforeProblemFactAdded(Object problemFact) {
-        // Do nothing
+        assertMoveJournalNotRecording("add a problem fact (" + problemFact + ")");
     }
 
     @Override
@@ -500,11 +780,12 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             lookUpManager.addWorkingObject(problemFact);
         }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
+        resetCopyOnWriteSnapshots();
     }
 
     @Override
     public void beforeProblemPropertyChanged(Object problemFactOrEntity) {
-        // Do nothing
+        assertMoveJournalNotRecording("change a problem property of (" + problemFactOrEntity + ")");
     }
 
     @Override
@@ -513,11 +794,13 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             setWorkingSolution(workingSolution); // Nuke everything and recalculate, constraint weights have changed.
         } else {
             variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
+            resetCopyOnWriteSnapshots();
         }
     }
 
     @Override
     public void beforeProblemFactRemoved(Object problemFact) {
+        assertMoveJournalNotRecording("remove a problem fact (" + problemFact + ")");
         if (isConstraintConfiguration(problemFact)) {
             throw new IllegalStateException("Attempted to remove constraint configuration (" + problemFact +
                     ") from solution (" + workingSolution + ").\n" +
@@ -531,6 +814,14 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             lookUpManager.removeWorkingObject(problemFact);
         }
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
+        resetCopyOnWriteSnapshots();
+    }
+
+    private void resetCopyOnWriteSnapshots() {
+        // A problem change can change anything, even without a notification.
+        if (copyOnWriteSolutionCloner != null) {
+            copyOnWriteSolutionCloner.reset();
+        }
     }
 
     @Override
@@ -661,8 +952,15 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                     + ") which is the uncorruptedScore (" + undoScore + ") of the workingSolution.\n"
                     + "  1) Enable EnvironmentMode " + EnvironmentMode.FULL_ASSERT
                     + " (if you haven't already) to fail-faster in case there's a score corruption or variable listener corruption.\n"
-                    + "  2) Check the Move.createUndoMove(...) method of the moveClass (" + move.getClass() + ")."
-                    + " The move (" + move + ") might have a corrupted undoMove (" + undoMoveString + ").\n"
+                    + (isMoveJournalApplicable()
+                            ? "  2) Check that your custom " + VariableListener.class.getSimpleName() + "s"
+                                    + " keep all of their state in the shadow variables they change,"
+                                    + " because the move journal rolled back the move (" + move + ")"
+                                    + " without triggering them.\n"
+                                    + "  Maybe disable moveJournalEnabled.\n"
+                            : "  2) Check the Move.createUndoMove(...) method of the moveClass (" + move.getClass() + ")."
+                                    + " The move (" + move + ") might have a corrupted undoMove (" + undoMoveString
+                                    + ").\n")
                     + "  3) Check your custom " + VariableListener.class.getSimpleName() + "s (if you have any)"
                     + " for shadow variables that are used by score constraints that could cause"
                     + " the scoreDifference (" + scoreDifference + ").");
@@ -29,6 +29,8 @@ public abstract class AbstractScoreDirectorFactory<Solution_, Score_ extends Sco
 
     protected boolean assertClonedSolution = false;
 
+    protected boolean moveJournalEnabled = false;
+
     public AbstractScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor) {
         this.solutionDescriptor = solutionDescriptor;
     }
@@ -68,6 +70,18 @@ public abstract class AbstractScoreDirectorFactory<Solution_, Score_ extends Sco
         this.assertClonedSolution = assertClonedSolution;
     }
 
+    /**
+     * @return true if evaluated moves are rolled back by replaying the changes they made backwards,
+     *         instead of by doing their undo move
+     */
+    public boolean isMoveJournalEnabled() {
+        return moveJournalEnabled;
+    }
+
+    public void setMoveJournalEnabled(boolean moveJournalEnabled) {
+        this.moveJournalEnabled = moveJournalEnabled;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
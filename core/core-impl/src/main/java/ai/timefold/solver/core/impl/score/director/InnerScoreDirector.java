@@ -16,11 +16,13 @@ import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.config.solver.BestSolutionCloningMode;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfile;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
@@ -39,6 +41,22 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void setWorkingSolution(Solution_ workingSolution);
 
+    /**
+     * Changes the genuine variables of the {@link PlanningSolution working solution}
+     * to the values they have in the solution, which must be a planning clone of the working solution
+     * (with the same entities and problem facts in the same order).
+     * Unlike {@link #setWorkingSolution(Object)}, the score director keeps its state
+     * and only the entities that differ are propagated to the variable listeners and the score calculation.
+     * <p>
+     * Nothing changes if it returns false,
+     * for example because the solution has a list or chained variable or is not a planning clone of the working solution.
+     * In that case, use {@link #setWorkingSolution(Object)} on a planning clone instead.
+     *
+     * @param solution never null, never the working solution itself
+     * @return true if the working solution has been restored
+     */
+    boolean restoreWorkingSolution(Solution_ solution);
+
     /**
      * Calculates the {@link Score} and updates the {@link PlanningSolution working solution} accordingly.
      *
@@ -91,6 +109,46 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void overwriteConstraintMatchEnabledPreference(boolean constraintMatchEnabledPreference);
 
+    /**
+     * @return true if {@link #getConstraintProfileMap()} can be called
+     */
+    boolean isConstraintProfilingEnabled();
+
+    /**
+     * Tells how much work the score calculation has spent on each {@link Constraint},
+     * since the {@link PlanningSolution working solution} was last set.
+     * Unlike {@link #getConstraintMatchTotalMap()}, this explains the cost of calculating the {@link Score},
+     * not the {@link Score} itself.
+     *
+     * @return never null, the key is the {@link ConstraintProfile#getConstraintId() constraintId}
+     * @throws IllegalStateException if {@link #isConstraintProfilingEnabled()} returns false
+     */
+    Map<String, ConstraintProfile> getConstraintProfileMap();
+
+    /**
+     * Profiling slows down the score calculation, so it is only done on request.
+     * It only affects the {@link PlanningSolution working solution} set after this call.
+     *
+     * @param constraintProfilingEnabledPreference true if a {@link ScoreDirector} implementation
+     *        should profile its score calculation, if it supports it.
+     */
+    void overwriteConstraintProfilingEnabledPreference(boolean constraintProfilingEnabledPreference);
+
+    /**
+     * Together with {@link #getReusedTupleCount()}, this tells how much garbage the score calculation produces,
+     * since the {@link PlanningSolution working solution} was last set.
+     *
+     * @return -1 if the score director does not create tuples, otherwise at least 0
+     */
+    long getCreatedTupleCount();
+
+    /**
+     * @return -1 if the score director does not create tuples, otherwise at least 0;
+     *         always 0 unless tuple recycling is enabled
+     * @see #getCreatedTupleCount()
+     */
+    long getReusedTupleCount();
+
     /**
      * @return used to check {@link #isWorkingEntityListDirty(long)} later on
      */
@@ -110,6 +168,27 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor);
 
+    /**
+     * Like {@link #doAndProcessMove(Move, boolean, Consumer)},
+     * but if the score is certainly worse than the rejectionBound before it is calculated completely,
+     * the rest of the score calculation is skipped and the moveProcessor is not called.
+     *
+     * @param move never null
+     * @param assertMoveScoreFromScratch true will hurt performance, and the score is always calculated completely
+     * @param rejectionBound null if the score must always be calculated completely
+     * @param moveProcessor never null, use this to store the score as well as call the acceptor and forager
+     * @return true if the moveProcessor was called, false if the move was rejected early
+     * @see #isEarlyRejectionSupported()
+     */
+    boolean doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Score_ rejectionBound,
+            Consumer<Score_> moveProcessor);
+
+    /**
+     * @return true if {@link #doAndProcessMove(Move, boolean, Score, Consumer)} can reject a move
+     *         before its score is calculated completely
+     */
+    boolean isEarlyRejectionSupported();
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
@@ -148,6 +227,23 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Solution_ cloneWorkingSolution();
 
+    /**
+     * Like {@link #cloneWorkingSolution()}, but the planning clone must never be changed,
+     * because it might share planning entity clones with previous snapshots,
+     * if {@link #enableCopyOnWriteSnapshots() copy-on-write snapshots} are enabled.
+     *
+     * @return never null, planning clone
+     */
+    Solution_ snapshotWorkingSolution();
+
+    /**
+     * Makes {@link #snapshotWorkingSolution()} only planning clone the planning entities
+     * that changed since the previous snapshot.
+     *
+     * @see BestSolutionCloningMode#COPY_ON_WRITE
+     */
+    void enableCopyOnWriteSnapshots();
+
     /**
      * Returns a planning clone of the solution,
      * which is not a shallow clone nor a deep clone nor a partition clone.
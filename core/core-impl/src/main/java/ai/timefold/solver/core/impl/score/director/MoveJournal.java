@@ -0,0 +1,217 @@
+package ai.timefold.solver.core.impl.score.director;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+
+/**
+ * Records every change that a {@link Move} makes to the working solution,
+ * both to genuine and to shadow variables,
+ * so the move can be rolled back by replaying those changes backwards,
+ * instead of doing its undo move, which triggers the variable listeners again.
+ * <p>
+ * The entries are stored in parallel arrays which are reused from move to move,
+ * so recording a basic variable change doesn't create garbage.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see AbstractScoreDirector#doAndProcessMove(Move, boolean)
+ */
+final class MoveJournal<Solution_> {
+
+    private static final byte VARIABLE_CHANGED = 0;
+    private static final byte LIST_VARIABLE_CHANGED = 1;
+    private static final byte LIST_VARIABLE_ELEMENT_ASSIGNED = 2;
+    private static final byte LIST_VARIABLE_ELEMENT_UNASSIGNED = 3;
+
+    private enum State {
+        IDLE,
+        RECORDING,
+        REPLAYING
+    }
+
+    private State state = State.IDLE;
+    private int size = 0;
+    private byte[] types = new byte[16];
+    private VariableDescriptor<Solution_>[] variableDescriptors = new VariableDescriptor[16];
+    /**
+     * The entity for a variable change, the element for a list variable element (un)assignment.
+     */
+    private Object[] entities = new Object[16];
+    /**
+     * The old value for a variable change, the old sub list for a list variable change.
+     */
+    private Object[] oldValues = new Object[16];
+    private int[] fromIndexes = new int[16];
+    private int[] toIndexes = new int[16];
+
+    public boolean isRecording() {
+        return state == State.RECORDING;
+    }
+
+    public boolean isReplaying() {
+        return state == State.REPLAYING;
+    }
+
+    public void startRecording() {
+        if (state != State.IDLE) {
+            throw new IllegalStateException("Impossible state: the move journal (" + state + ") is already in use.");
+        }
+        state = State.RECORDING;
+    }
+
+    public void stopRecording() {
+        state = State.IDLE;
+    }
+
+    // ************************************************************************
+    // Record methods
+    // ************************************************************************
+
+    public void recordVariableChange(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        int index = append(VARIABLE_CHANGED, variableDescriptor, entity);
+        oldValues[index] = variableDescriptor.getValue(entity);
+    }
+
+    public void recordListVariableChange(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        int index = append(LIST_VARIABLE_CHANGED, variableDescriptor, entity);
+        oldValues[index] = new ArrayList<>(variableDescriptor.getListVariable(entity).subList(fromIndex, toIndex));
+        fromIndexes[index] = fromIndex;
+        // Filled in by recordListVariableChangeEnded()
+        toIndexes[index] = -1;
+    }
+
+    public void recordListVariableChangeEnded(ListVariableDescriptor<Solution_> variableDescriptor, Object entity,
+            int fromIndex, int toIndex) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (types[i] == LIST_VARIABLE_CHANGED && toIndexes[i] < 0
+                    && entities[i] == entity && variableDescriptors[i] == variableDescriptor) {
+                if (fromIndexes[i] != fromIndex) {
+                    throw new IllegalStateException("The afterListVariableChanged() fromIndex (" + fromIndex
+                            + ") differs from the beforeListVariableChanged() fromIndex (" + fromIndexes[i]
+                            + ") for the entity (" + entity + ") of the variable (" + variableDescriptor + ").");
+                }
+                toIndexes[i] = toIndex;
+                return;
+            }
+        }
+        throw new IllegalStateException("The afterListVariableChanged() for the entity (" + entity
+                + ") of the variable (" + variableDescriptor
+                + ") was not preceded by a beforeListVariableChanged() for that entity.");
+    }
+
+    public void recordListVariableElementAssigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
+        append(LIST_VARIABLE_ELEMENT_ASSIGNED, variableDescriptor, element);
+    }
+
+    public void recordListVariableElementUnassigned(ListVariableDescriptor<Solution_> variableDescriptor, Object element) {
+        append(LIST_VARIABLE_ELEMENT_UNASSIGNED, variableDescriptor, element);
+    }
+
+    private int append(byte type, VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        if (size == types.length) {
+            int newCapacity = size * 2;
+            types = Arrays.copyOf(types, newCapacity);
+            variableDescriptors = Arrays.copyOf(variableDescriptors, newCapacity);
+            entities = Arrays.copyOf(entities, newCapacity);
+            oldValues = Arrays.copyOf(oldValues, newCapacity);
+            fromIndexes = Arrays.copyOf(fromIndexes, newCapacity);
+            toIndexes = Arrays.copyOf(toIndexes, newCapacity);
+        }
+        int index = size;
+        types[index] = type;
+        variableDescriptors[index] = variableDescriptor;
+        entities[index] = entity;
+        size++;
+        return index;
+    }
+
+    // ************************************************************************
+    // Replay methods
+    // ************************************************************************
+
+    /**
+     * Reverts every recorded change, last change first, through the before/after methods of the score director,
+     * which must not trigger the variable listeners while {@link #isReplaying()},
+     * because the shadow variable changes are reverted from the journal too.
+     * Clears the journal afterwards.
+     *
+     * @param scoreDirector never null
+     */
+    public void replayBackwards(AbstractScoreDirector<Solution_, ?, ?> scoreDirector) {
+        state = State.REPLAYING;
+        try {
+            for (int i = size - 1; i >= 0; i--) {
+                switch (types[i]) {
+                    case VARIABLE_CHANGED:
+                        revertVariableChange(scoreDirector, variableDescriptors[i], entities[i], oldValues[i]);
+                        break;
+                    case LIST_VARIABLE_CHANGED:
+                        revertListVariableChange(scoreDirector, (ListVariableDescriptor<Solution_>) variableDescriptors[i],
+                                entities[i], (List<Object>) oldValues[i], fromIndexes[i], toIndexes[i]);
+                        break;
+                    case LIST_VARIABLE_ELEMENT_ASSIGNED:
+                        ListVariableDescriptor<Solution_> assignedVariableDescriptor =
+                                (ListVariableDescriptor<Solution_>) variableDescriptors[i];
+                        scoreDirector.beforeListVariableElementUnassigned(assignedVariableDescriptor, entities[i]);
+                        scoreDirector.afterListVariableElementUnassigned(assignedVariableDescriptor, entities[i]);
+                        break;
+                    case LIST_VARIABLE_ELEMENT_UNASSIGNED:
+                        ListVariableDescriptor<Solution_> unassignedVariableDescriptor =
+                                (ListVariableDescriptor<Solution_>) variableDescriptors[i];
+                        scoreDirector.beforeListVariableElementAssigned(unassignedVariableDescriptor, entities[i]);
+                        scoreDirector.afterListVariableElementAssigned(unassignedVariableDescriptor, entities[i]);
+                        break;
+                    default:
+                        throw new IllegalStateException("Impossible state: unknown journal entry type ("
+                                + types[i] + ").");
+                }
+            }
+        } finally {
+            clear();
+            state = State.IDLE;
+        }
+    }
+
+    private void revertVariableChange(AbstractScoreDirector<Solution_, ?, ?> scoreDirector,
+            VariableDescriptor<Solution_> variableDescriptor, Object entity, Object oldValue) {
+        scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+        variableDescriptor.setValue(entity, oldValue);
+        scoreDirector.afterVariableChanged(variableDescriptor, entity);
+    }
+
+    private void revertListVariableChange(AbstractScoreDirector<Solution_, ?, ?> scoreDirector,
+            ListVariableDescriptor<Solution_> variableDescriptor, Object entity, List<Object> oldSubList,
+            int fromIndex, int toIndex) {
+        if (toIndex < 0) {
+            throw new IllegalStateException("The beforeListVariableChanged() for the entity (" + entity
+                    + ") of the variable (" + variableDescriptor
+                    + ") was not followed by an afterListVariableChanged() for that entity.");
+        }
+        List<Object> listVariable = variableDescriptor.getListVariable(entity);
+        scoreDirector.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
+        List<Object> subList = listVariable.subList(fromIndex, toIndex);
+        subList.clear();
+        subList.addAll(oldSubList);
+        scoreDirector.afterListVariableChanged(variableDescriptor, entity, fromIndex, fromIndex + oldSubList.size());
+    }
+
+    /**
+     * Forgets every recorded change, without reverting it.
+     */
+    public void clear() {
+        // Release the references, so the journal doesn't keep old values alive
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(oldValues, 0, size, null);
+        Arrays.fill(variableDescriptors, 0, size, null);
+        size = 0;
+    }
+
+}
@@ -56,6 +56,7 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             scoreDirectorFactory.setAssertClonedSolution(true);
         }
+        scoreDirectorFactory.setMoveJournalEnabled(Boolean.TRUE.equals(config.getMoveJournalEnabled()));
         return scoreDirectorFactory;
     }
 
@@ -0,0 +1,105 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+/**
+ * Result container of the {@code count}, {@code sum} and {@code average} collectors
+ * over {@code int} and {@code long} values.
+ * It keeps the sum and the count in primitive fields, so that accumulating never boxes.
+ * <p>
+ * Group nodes which recognize a primitive collector (such as {@link PrimitiveUniCollector})
+ * accumulate into it through a reusable {@link Undo}, instead of calling the collector's accumulator,
+ * which would have to allocate a new undo {@link Runnable} every time.
+ */
+public final class PrimitiveAccumulator {
+
+    private long sum = 0L;
+    private long count = 0L;
+    /**
+     * Undoes the accumulation of a zero value, which is what every {@code count} collector accumulates.
+     */
+    private final Runnable zeroUndo = () -> retract(0L);
+
+    public void insert(long value) {
+        sum += value;
+        count++;
+    }
+
+    public void retract(long value) {
+        sum -= value;
+        count--;
+    }
+
+    /**
+     * Used when the group node does not recognize the collector, for example when it is composed.
+     *
+     * @param value the value to insert
+     * @return never null, the undo of this insert
+     */
+    Runnable insertAndGetUndo(long value) {
+        insert(value);
+        if (value == 0L) {
+            return zeroUndo;
+        }
+        return () -> retract(value);
+    }
+
+    public int getIntCount() {
+        return (int) count;
+    }
+
+    public long getLongCount() {
+        return count;
+    }
+
+    public int getIntSum() {
+        // Overflows the same way as an int sum would
+        return (int) sum;
+    }
+
+    public long getLongSum() {
+        return sum;
+    }
+
+    public Double getIntAverage() {
+        if (count == 0L) {
+            return null;
+        }
+        return getIntSum() / (double) count;
+    }
+
+    public Double getLongAverage() {
+        if (count == 0L) {
+            return null;
+        }
+        return sum / (double) count;
+    }
+
+    @Override
+    public String toString() {
+        return "PrimitiveAccumulator{sum=" + sum + ", count=" + count + "}";
+    }
+
+    /**
+     * Remembers the value which a tuple inserted into a {@link PrimitiveAccumulator},
+     * so that it can be retracted later, even if the tuple's facts have changed in the meantime.
+     * A group node keeps one per tuple and reuses it for every accumulation of that tuple.
+     */
+    public static final class Undo implements Runnable {
+
+        private PrimitiveAccumulator accumulator;
+        private long value;
+
+        public void insert(PrimitiveAccumulator accumulator, long value) {
+            accumulator.insert(value);
+            this.accumulator = accumulator;
+            this.value = value;
+        }
+
+        @Override
+        public void run() {
+            accumulator.retract(value);
+            accumulator = null;
+        }
+
+    }
+
+}
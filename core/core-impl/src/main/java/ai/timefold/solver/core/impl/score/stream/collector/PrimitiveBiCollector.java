@@ -0,0 +1,48 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongBiFunction;
+
+import ai.timefold.solver.core.api.function.TriFunction;
+import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
+
+/**
+ * As defined by {@link PrimitiveUniCollector}.
+ *
+ * @param <A> type of the first matched fact
+ * @param <B> type of the second matched fact
+ * @param <Result_> type of the result
+ */
+public final class PrimitiveBiCollector<A, B, Result_>
+        implements BiConstraintCollector<A, B, PrimitiveAccumulator, Result_> {
+
+    private final ToLongBiFunction<? super A, ? super B> mapping;
+    private final Function<PrimitiveAccumulator, Result_> finisher;
+
+    public PrimitiveBiCollector(ToLongBiFunction<? super A, ? super B> mapping,
+            Function<PrimitiveAccumulator, Result_> finisher) {
+        this.mapping = mapping;
+        this.finisher = finisher;
+    }
+
+    public long applyAsLong(A a, B b) {
+        return mapping.applyAsLong(a, b);
+    }
+
+    @Override
+    public Supplier<PrimitiveAccumulator> supplier() {
+        return PrimitiveAccumulator::new;
+    }
+
+    @Override
+    public TriFunction<PrimitiveAccumulator, A, B, Runnable> accumulator() {
+        return (resultContainer, a, b) -> resultContainer.insertAndGetUndo(mapping.applyAsLong(a, b));
+    }
+
+    @Override
+    public Function<PrimitiveAccumulator, Result_> finisher() {
+        return finisher;
+    }
+
+}
@@ -0,0 +1,50 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.PentaFunction;
+import ai.timefold.solver.core.api.function.ToLongQuadFunction;
+import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
+
+/**
+ * As defined by {@link PrimitiveUniCollector}.
+ *
+ * @param <A> type of the first matched fact
+ * @param <B> type of the second matched fact
+ * @param <C> type of the third matched fact
+ * @param <D> type of the fourth matched fact
+ * @param <Result_> type of the result
+ */
+public final class PrimitiveQuadCollector<A, B, C, D, Result_>
+        implements QuadConstraintCollector<A, B, C, D, PrimitiveAccumulator, Result_> {
+
+    private final ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> mapping;
+    private final Function<PrimitiveAccumulator, Result_> finisher;
+
+    public PrimitiveQuadCollector(ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> mapping,
+            Function<PrimitiveAccumulator, Result_> finisher) {
+        this.mapping = mapping;
+        this.finisher = finisher;
+    }
+
+    public long applyAsLong(A a, B b, C c, D d) {
+        return mapping.applyAsLong(a, b, c, d);
+    }
+
+    @Override
+    public Supplier<PrimitiveAccumulator> supplier() {
+        return PrimitiveAccumulator::new;
+    }
+
+    @Override
+    public PentaFunction<PrimitiveAccumulator, A, B, C, D, Runnable> accumulator() {
+        return (resultContainer, a, b, c, d) -> resultContainer.insertAndGetUndo(mapping.applyAsLong(a, b, c, d));
+    }
+
+    @Override
+    public Function<PrimitiveAccumulator, Result_> finisher() {
+        return finisher;
+    }
+
+}
@@ -0,0 +1,49 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.function.ToLongTriFunction;
+import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
+
+/**
+ * As defined by {@link PrimitiveUniCollector}.
+ *
+ * @param <A> type of the first matched fact
+ * @param <B> type of the second matched fact
+ * @param <C> type of the third matched fact
+ * @param <Result_> type of the result
+ */
+public final class PrimitiveTriCollector<A, B, C, Result_>
+        implements TriConstraintCollector<A, B, C, PrimitiveAccumulator, Result_> {
+
+    private final ToLongTriFunction<? super A, ? super B, ? super C> mapping;
+    private final Function<PrimitiveAccumulator, Result_> finisher;
+
+    public PrimitiveTriCollector(ToLongTriFunction<? super A, ? super B, ? super C> mapping,
+            Function<PrimitiveAccumulator, Result_> finisher) {
+        this.mapping = mapping;
+        this.finisher = finisher;
+    }
+
+    public long applyAsLong(A a, B b, C c) {
+        return mapping.applyAsLong(a, b, c);
+    }
+
+    @Override
+    public Supplier<PrimitiveAccumulator> supplier() {
+        return PrimitiveAccumulator::new;
+    }
+
+    @Override
+    public QuadFunction<PrimitiveAccumulator, A, B, C, Runnable> accumulator() {
+        return (resultContainer, a, b, c) -> resultContainer.insertAndGetUndo(mapping.applyAsLong(a, b, c));
+    }
+
+    @Override
+    public Function<PrimitiveAccumulator, Result_> finisher() {
+        return finisher;
+    }
+
+}
@@ -0,0 +1,48 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
+
+/**
+ * A collector which maps every element to a {@code long} and accumulates it into a {@link PrimitiveAccumulator}.
+ * Group nodes may call {@link #applyAsLong(Object)} and accumulate directly, without the boxing and allocation
+ * of {@link #accumulator()}.
+ *
+ * @param <A> type of the matched fact
+ * @param <Result_> type of the result
+ */
+public final class PrimitiveUniCollector<A, Result_>
+        implements UniConstraintCollector<A, PrimitiveAccumulator, Result_> {
+
+    private final ToLongFunction<? super A> mapping;
+    private final Function<PrimitiveAccumulator, Result_> finisher;
+
+    public PrimitiveUniCollector(ToLongFunction<? super A> mapping, Function<PrimitiveAccumulator, Result_> finisher) {
+        this.mapping = mapping;
+        this.finisher = finisher;
+    }
+
+    public long applyAsLong(A a) {
+        return mapping.applyAsLong(a);
+    }
+
+    @Override
+    public Supplier<PrimitiveAccumulator> supplier() {
+        return PrimitiveAccumulator::new;
+    }
+
+    @Override
+    public BiFunction<PrimitiveAccumulator, A, Runnable> accumulator() {
+        return (resultContainer, a) -> resultContainer.insertAndGetUndo(mapping.applyAsLong(a));
+    }
+
+    @Override
+    public Function<PrimitiveAccumulator, Result_> finisher() {
+        return finisher;
+    }
+
+}
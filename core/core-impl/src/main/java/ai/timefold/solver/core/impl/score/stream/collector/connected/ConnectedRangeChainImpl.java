@@ -0,0 +1,284 @@
+package ai.timefold.solver.core.impl.score.stream.collector.connected;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRangeChain;
+import ai.timefold.solver.core.api.score.stream.common.RangeGap;
+import ai.timefold.solver.core.impl.util.MapValuesIterable;
+
+public final class ConnectedRangeChainImpl<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        implements ConnectedRangeChain<Interval_, Point_, Difference_> {
+    private final NavigableMap<IntervalSplitPoint<Interval_, Point_>, ConnectedRangeImpl<Interval_, Point_, Difference_>> clusterStartSplitPointToCluster;
+    private final NavigableSet<IntervalSplitPoint<Interval_, Point_>> splitPointSet;
+    private final NavigableMap<IntervalSplitPoint<Interval_, Point_>, RangeGapImpl<Interval_, Point_, Difference_>> clusterStartSplitPointToNextBreak;
+    private final Iterable<ConnectedRange<Interval_, Point_, Difference_>> connectedRangeIterable;
+    private final BiFunction<Point_, Point_, Difference_> differenceFunction;
+    private final Iterable<RangeGap<Interval_, Point_, Difference_>> gapsIterable;
+
+    public ConnectedRangeChainImpl(TreeSet<IntervalSplitPoint<Interval_, Point_>> splitPointSet,
+            BiFunction<Point_, Point_, Difference_> differenceFunction) {
+        this.clusterStartSplitPointToCluster = new TreeMap<>();
+        this.clusterStartSplitPointToNextBreak = new TreeMap<>();
+        this.connectedRangeIterable = new MapValuesIterable<>(clusterStartSplitPointToCluster);
+        this.gapsIterable = new MapValuesIterable<>(clusterStartSplitPointToNextBreak);
+        this.splitPointSet = splitPointSet;
+        this.differenceFunction = differenceFunction;
+    }
+
+    void addInterval(Interval<Interval_, Point_> interval) {
+        NavigableMap<IntervalSplitPoint<Interval_, Point_>, ConnectedRangeImpl<Interval_, Point_, Difference_>> intersectedConnectedRangeMap =
+                clusterStartSplitPointToCluster.subMap(
+                        Objects.requireNonNullElseGet(clusterStartSplitPointToCluster.floorKey(interval.getStartSplitPoint()),
+                                interval::getStartSplitPoint),
+                        true, interval.getEndSplitPoint(), true);
+
+        // Case: the interval cluster before this interval does not intersect this interval
+        if (!intersectedConnectedRangeMap.isEmpty()
+                && intersectedConnectedRangeMap.firstEntry().getValue().getEndSplitPoint()
+                        .isBefore(interval.getStartSplitPoint())) {
+            // Get the tail map after the first cluster
+            intersectedConnectedRangeMap = intersectedConnectedRangeMap.subMap(intersectedConnectedRangeMap.firstKey(),
+                    false, intersectedConnectedRangeMap.lastKey(), true);
+        }
+
+        if (intersectedConnectedRangeMap.isEmpty()) {
+            // Interval does not intersect anything
+            // Ex:
+            //     -----
+            //----       -----
+            createNewConnectedRange(interval);
+            return;
+        }
+
+        // Interval intersect at least one cluster
+        // Ex:
+        //      -----------------
+        //  ------  ------  ---   ----
+        ConnectedRangeImpl<Interval_, Point_, Difference_> firstIntersectedConnectedRange =
+                intersectedConnectedRangeMap.firstEntry().getValue();
+        IntervalSplitPoint<Interval_, Point_> oldStartSplitPoint = firstIntersectedConnectedRange.getStartSplitPoint();
+        firstIntersectedConnectedRange.addInterval(interval);
+
+        // Merge all the intersected interval clusters into the first intersected
+        // interval cluster
+        intersectedConnectedRangeMap.tailMap(oldStartSplitPoint, false).values()
+                .forEach(firstIntersectedConnectedRange::mergeConnectedRange);
+
+        // Remove all the intersected interval clusters after the first intersected
+        // one, since they are now merged in the first
+        intersectedConnectedRangeMap.tailMap(oldStartSplitPoint, false).clear();
+        removeSpannedBreaksAndUpdateIntersectedBreaks(interval, firstIntersectedConnectedRange);
+
+        // If the first intersected interval cluster start after the interval,
+        // we need to make the interval start point the key for this interval
+        // cluster in the map
+        if (oldStartSplitPoint.isAfter(firstIntersectedConnectedRange.getStartSplitPoint())) {
+            clusterStartSplitPointToCluster.remove(oldStartSplitPoint);
+            clusterStartSplitPointToCluster.put(firstIntersectedConnectedRange.getStartSplitPoint(),
+                    firstIntersectedConnectedRange);
+            var nextBreak = clusterStartSplitPointToNextBreak.get(firstIntersectedConnectedRange.getStartSplitPoint());
+            if (nextBreak != null) {
+                nextBreak.setPreviousCluster(firstIntersectedConnectedRange);
+                nextBreak.setLength(differenceFunction.apply(nextBreak.getPreviousRangeEnd(),
+                        nextBreak.getNextRangeStart()));
+            }
+        }
+    }
+
+    void addDuplicateInterval(Interval<Interval_, Point_> interval) {
+        // The split points are unchanged, only the size of the connected range that contains the interval changes
+        clusterStartSplitPointToCluster.floorEntry(interval.getStartSplitPoint()).getValue().addDuplicateInterval();
+    }
+
+    private void createNewConnectedRange(Interval<Interval_, Point_> interval) {
+        // Interval does not intersect anything
+        // Ex:
+        //     -----
+        //----       -----
+        IntervalSplitPoint<Interval_, Point_> startSplitPoint = splitPointSet.floor(interval.getStartSplitPoint());
+        ConnectedRangeImpl<Interval_, Point_, Difference_> newCluster =
+                new ConnectedRangeImpl<>(splitPointSet, differenceFunction, startSplitPoint);
+        clusterStartSplitPointToCluster.put(startSplitPoint, newCluster);
+
+        // If there a cluster after this interval, add a new break
+        // between this interval and the next cluster
+        Map.Entry<IntervalSplitPoint<Interval_, Point_>, ConnectedRangeImpl<Interval_, Point_, Difference_>> nextClusterEntry =
+                clusterStartSplitPointToCluster.higherEntry(startSplitPoint);
+        if (nextClusterEntry != null) {
+            ConnectedRangeImpl<Interval_, Point_, Difference_> nextCluster = nextClusterEntry.getValue();
+            Difference_ difference = differenceFunction.apply(newCluster.getEnd(), nextCluster.getStart());
+            RangeGapImpl<Interval_, Point_, Difference_> newBreak =
+                    new RangeGapImpl<>(newCluster, nextCluster, difference);
+            clusterStartSplitPointToNextBreak.put(startSplitPoint, newBreak);
+        }
+
+        // If there a cluster before this interval, add a new break
+        // between this interval and the previous cluster
+        // (this will replace the old break, if there was one)
+        Map.Entry<IntervalSplitPoint<Interval_, Point_>, ConnectedRangeImpl<Interval_, Point_, Difference_>> previousClusterEntry =
+                clusterStartSplitPointToCluster.lowerEntry(startSplitPoint);
+        if (previousClusterEntry != null) {
+            ConnectedRangeImpl<Interval_, Point_, Difference_> previousCluster = previousClusterEntry.getValue();
+            Difference_ difference = differenceFunction.apply(previousCluster.getEnd(), newCluster.getStart());
+            RangeGapImpl<Interval_, Point_, Difference_> newBreak =
+                    new RangeGapImpl<>(previousCluster, newCluster, difference);
+            clusterStartSplitPointToNextBreak.put(previousClusterEntry.getKey(), newBreak);
+        }
+    }
+
+    private void removeSpannedBreaksAndUpdateIntersectedBreaks(Interval<Interval_, Point_> interval,
+            ConnectedRangeImpl<Interval_, Point_, Difference_> connectedRange) {
+        IntervalSplitPoint<Interval_, Point_> firstBreakSplitPointBeforeInterval =
+                Objects.requireNonNullElseGet(clusterStartSplitPointToNextBreak.floorKey(interval.getStartSplitPoint()),
+                        interval::getStartSplitPoint);
+        NavigableMap<IntervalSplitPoint<Interval_, Point_>, RangeGapImpl<Interval_, Point_, Difference_>> intersectedRangeGapMap =
+                clusterStartSplitPointToNextBreak.subMap(firstBreakSplitPointBeforeInterval, true, interval.getEndSplitPoint(),
+                        true);
+
+        if (intersectedRangeGapMap.isEmpty()) {
+            return;
+        }
+
+        ConnectedRangeImpl<Interval_, Point_, Difference_> clusterBeforeFirstIntersectedBreak =
+                (ConnectedRangeImpl<Interval_, Point_, Difference_>) (intersectedRangeGapMap.firstEntry().getValue()
+                        .getPreviousConnectedRange());
+        ConnectedRangeImpl<Interval_, Point_, Difference_> clusterAfterFinalIntersectedBreak =
+                (ConnectedRangeImpl<Interval_, Point_, Difference_>) (intersectedRangeGapMap.lastEntry().getValue()
+                        .getNextConnectedRange());
+
+        // All breaks that are not the first or last intersected breaks will
+        // be removed (as interval span them)
+        if (!interval.getStartSplitPoint()
+                .isAfter(clusterBeforeFirstIntersectedBreak.getEndSplitPoint())) {
+            if (!interval.getEndSplitPoint().isBefore(clusterAfterFinalIntersectedBreak.getStartSplitPoint())) {
+                // Case: interval spans all breaks
+                // Ex:
+                //   -----------
+                //----  ------ -----
+                intersectedRangeGapMap.clear();
+            } else {
+                // Case: interval span first break, but does not span the final break
+                // Ex:
+                //   -----------
+                //----  ------   -----
+                RangeGapImpl<Interval_, Point_, Difference_> finalBreak =
+                        intersectedRangeGapMap.lastEntry().getValue();
+                finalBreak.setPreviousCluster(connectedRange);
+                finalBreak.setLength(
+                        differenceFunction.apply(finalBreak.getPreviousRangeEnd(),
+                                finalBreak.getNextRangeStart()));
+                intersectedRangeGapMap.clear();
+                clusterStartSplitPointToNextBreak.put(connectedRange.getStartSplitPoint(), finalBreak);
+            }
+        } else if (!interval.getEndSplitPoint().isBefore(clusterAfterFinalIntersectedBreak.getStartSplitPoint())) {
+            // Case: interval span final break, but does not span the first break
+            // Ex:
+            //     -----------
+            //----   -----   -----
+            Map.Entry<IntervalSplitPoint<Interval_, Point_>, RangeGapImpl<Interval_, Point_, Difference_>> previousBreakEntry =
+                    intersectedRangeGapMap.firstEntry();
+            RangeGapImpl<Interval_, Point_, Difference_> previousBreak = previousBreakEntry.getValue();
+            previousBreak.setNextCluster(connectedRange);
+            previousBreak.setLength(
+                    differenceFunction.apply(previousBreak.getPreviousRangeEnd(), connectedRange.getStart()));
+            intersectedRangeGapMap.clear();
+            clusterStartSplitPointToNextBreak
+                    .put(((ConnectedRangeImpl<Interval_, Point_, Difference_>) (previousBreak
+                            .getPreviousConnectedRange())).getStartSplitPoint(), previousBreak);
+        } else {
+            // Case: interval does not span either the first or final break
+            // Ex:
+            //     ---------
+            //----  ------   -----
+            RangeGapImpl<Interval_, Point_, Difference_> finalBreak =
+                    intersectedRangeGapMap.lastEntry().getValue();
+            finalBreak.setLength(
+                    differenceFunction.apply(finalBreak.getPreviousRangeEnd(),
+                            finalBreak.getNextRangeStart()));
+
+            Map.Entry<IntervalSplitPoint<Interval_, Point_>, RangeGapImpl<Interval_, Point_, Difference_>> previousBreakEntry =
+                    intersectedRangeGapMap.firstEntry();
+            RangeGapImpl<Interval_, Point_, Difference_> previousBreak = previousBreakEntry.getValue();
+            previousBreak.setNextCluster(connectedRange);
+            previousBreak.setLength(
+                    differenceFunction.apply(previousBreak.getPreviousRangeEnd(), connectedRange.getStart()));
+
+            intersectedRangeGapMap.clear();
+            clusterStartSplitPointToNextBreak.put(previousBreakEntry.getKey(), previousBreak);
+            clusterStartSplitPointToNextBreak.put(connectedRange.getStartSplitPoint(), finalBreak);
+        }
+    }
+
+    void removeInterval(Interval<Interval_, Point_> interval) {
+        Map.Entry<IntervalSplitPoint<Interval_, Point_>, ConnectedRangeImpl<Interval_, Point_, Difference_>> connectedRangeEntry =
+                clusterStartSplitPointToCluster.floorEntry(interval.getStartSplitPoint());
+        ConnectedRangeImpl<Interval_, Point_, Difference_> connectedRange = connectedRangeEntry.getValue();
+        clusterStartSplitPointToCluster.remove(connectedRangeEntry.getKey());
+        Map.Entry<IntervalSplitPoint<Interval_, Point_>, RangeGapImpl<Interval_, Point_, Difference_>> previousBreakEntry =
+                clusterStartSplitPointToNextBreak.lowerEntry(connectedRangeEntry.getKey());
+        Map.Entry<IntervalSplitPoint<Interval_, Point_>, ConnectedRangeImpl<Interval_, Point_, Difference_>> nextConnectedRangeEntry =
+                clusterStartSplitPointToCluster.higherEntry(connectedRangeEntry.getKey());
+        clusterStartSplitPointToNextBreak.remove(connectedRangeEntry.getKey());
+
+        RangeGapImpl<Interval_, Point_, Difference_> previousBreak =
+                (previousBreakEntry != null) ? previousBreakEntry.getValue() : null;
+        ConnectedRangeImpl<Interval_, Point_, Difference_> previousConnectedRange = (previousBreak != null)
+                ? (ConnectedRangeImpl<Interval_, Point_, Difference_>) previousBreak.getPreviousConnectedRange()
+                : null;
+
+        for (ConnectedRangeImpl<Interval_, Point_, Difference_> newConnectedRange : connectedRange
+                .removeInterval(interval)) {
+            if (previousBreak != null) {
+                previousBreak.setNextCluster(newConnectedRange);
+                previousBreak.setLength(differenceFunction.apply(previousBreak.getPreviousConnectedRange().getEnd(),
+                        newConnectedRange.getStart()));
+                clusterStartSplitPointToNextBreak
+                        .put(((ConnectedRangeImpl<Interval_, Point_, Difference_>) previousBreak
+                                .getPreviousConnectedRange()).getStartSplitPoint(), previousBreak);
+            }
+            previousBreak = new RangeGapImpl<>(newConnectedRange, null, null);
+            previousConnectedRange = newConnectedRange;
+            clusterStartSplitPointToCluster.put(newConnectedRange.getStartSplitPoint(), newConnectedRange);
+        }
+
+        if (nextConnectedRangeEntry != null && previousBreak != null) {
+            previousBreak.setNextCluster(nextConnectedRangeEntry.getValue());
+            previousBreak.setLength(differenceFunction.apply(previousConnectedRange.getEnd(),
+                    nextConnectedRangeEntry.getValue().getStart()));
+            clusterStartSplitPointToNextBreak.put(previousConnectedRange.getStartSplitPoint(),
+                    previousBreak);
+        } else if (previousBreakEntry != null && previousBreak == previousBreakEntry.getValue()) {
+            // i.e. interval was the last interval in the cluster,
+            // (previousBreak == previousBreakEntry.getValue()),
+            // and there is no interval cluster after it
+            // (previousBreak != null as previousBreakEntry != null,
+            // so it must be the case nextConnectedRangeEntry == null)
+            clusterStartSplitPointToNextBreak.remove(previousBreakEntry.getKey());
+        }
+    }
+
+    @Override
+    public Iterable<ConnectedRange<Interval_, Point_, Difference_>> getConnectedRanges() {
+        return connectedRangeIterable;
+    }
+
+    @Override
+    public Iterable<RangeGap<Interval_, Point_, Difference_>> getGaps() {
+        return gapsIterable;
+    }
+
+    @Override
+    public String toString() {
+        return "Clusters {" +
+                "connectedRanges=" + connectedRangeIterable +
+                ", breaks=" + gapsIterable +
+                '}';
+    }
+}
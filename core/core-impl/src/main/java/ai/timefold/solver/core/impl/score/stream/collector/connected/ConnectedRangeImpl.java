@@ -1,13 +1,13 @@
-package ai.timefold.solver.examples.common.experimental.impl;
+package ai.timefold.solver.core.impl.score.stream.collector.connected;
 
 import java.util.Iterator;
 import java.util.NavigableSet;
 import java.util.function.BiFunction;
 
-import ai.timefold.solver.examples.common.experimental.api.IntervalCluster;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
 
-final class IntervalClusterImpl<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
-        implements IntervalCluster<Interval_, Point_, Difference_> {
+final class ConnectedRangeImpl<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        implements ConnectedRange<Interval_, Point_, Difference_> {
 
     private final NavigableSet<IntervalSplitPoint<Interval_, Point_>> splitPointSet;
     private final BiFunction<Point_, Point_, Difference_> differenceFunction;
@@ -17,7 +17,7 @@ final class IntervalClusterImpl<Interval_, Point_ extends Comparable<Point_>, Di
     private int count;
     private boolean hasOverlap;
 
-    IntervalClusterImpl(NavigableSet<IntervalSplitPoint<Interval_, Point_>> splitPointSet,
+    ConnectedRangeImpl(NavigableSet<IntervalSplitPoint<Interval_, Point_>> splitPointSet,
             BiFunction<Point_, Point_, Difference_> differenceFunction, IntervalSplitPoint<Interval_, Point_> start) {
         if (start == null) {
             throw new IllegalArgumentException("start (" + start + ") is null");
@@ -34,7 +34,7 @@ final class IntervalClusterImpl<Interval_, Point_ extends Comparable<Point_>, Di
         boolean anyOverlap = false;
         IntervalSplitPoint<Interval_, Point_> current = start;
         do {
-            count += current.intervalsStartingAtSplitPointSet.size();
+            count += current.startingIntervalCount;
             activeIntervals += current.intervalsStartingAtSplitPointSet.size() - current.intervalsEndingAtSplitPointSet.size();
             if (activeIntervals > 1) {
                 anyOverlap = true;
@@ -50,7 +50,7 @@ final class IntervalClusterImpl<Interval_, Point_ extends Comparable<Point_>, Di
         }
     }
 
-    IntervalClusterImpl(NavigableSet<IntervalSplitPoint<Interval_, Point_>> splitPointSet,
+    ConnectedRangeImpl(NavigableSet<IntervalSplitPoint<Interval_, Point_>> splitPointSet,
             BiFunction<Point_, Point_, Difference_> differenceFunction, IntervalSplitPoint<Interval_, Point_> start,
             IntervalSplitPoint<Interval_, Point_> end, int count, boolean hasOverlap) {
         this.splitPointSet = splitPointSet;
@@ -83,19 +83,23 @@ final class IntervalClusterImpl<Interval_, Point_ extends Comparable<Point_>, Di
         count++;
     }
 
-    Iterable<IntervalClusterImpl<Interval_, Point_, Difference_>> removeInterval(Interval<Interval_, Point_> interval) {
-        return IntervalClusterIterator::new;
+    void addDuplicateInterval() {
+        count++;
+    }
+
+    Iterable<ConnectedRangeImpl<Interval_, Point_, Difference_>> removeInterval(Interval<Interval_, Point_> interval) {
+        return ConnectedRangeIterator::new;
     }
 
-    void mergeIntervalCluster(IntervalClusterImpl<Interval_, Point_, Difference_> laterIntervalCluster) {
-        if (endSplitPoint.compareTo(laterIntervalCluster.startSplitPoint) > 0) {
+    void mergeConnectedRange(ConnectedRangeImpl<Interval_, Point_, Difference_> laterConnectedRange) {
+        if (endSplitPoint.compareTo(laterConnectedRange.startSplitPoint) > 0) {
             hasOverlap = true;
         }
-        if (endSplitPoint.compareTo(laterIntervalCluster.endSplitPoint) < 0) {
-            endSplitPoint = laterIntervalCluster.endSplitPoint;
+        if (endSplitPoint.compareTo(laterConnectedRange.endSplitPoint) < 0) {
+            endSplitPoint = laterConnectedRange.endSplitPoint;
         }
-        count += laterIntervalCluster.count;
-        hasOverlap |= laterIntervalCluster.hasOverlap;
+        count += laterConnectedRange.count;
+        hasOverlap |= laterConnectedRange.hasOverlap;
     }
 
     @Override
@@ -130,7 +134,7 @@ final class IntervalClusterImpl<Interval_, Point_ extends Comparable<Point_>, Di
 
     @Override
     public String toString() {
-        return "IntervalCluster{" +
+        return "ConnectedRange{" +
                 "startSplitPoint=" + startSplitPoint +
                 ", endSplitPoint=" + endSplitPoint +
                 ", count=" + count +
@@ -139,8 +143,8 @@ final class IntervalClusterImpl<Interval_, Point_ extends Comparable<Point_>, Di
     }
 
     // TODO: Make this incremental by only checking between the interval's start and end points
-    private final class IntervalClusterIterator
-            implements Iterator<IntervalClusterImpl<Interval_, Point_, Difference_>> {
+    private final class ConnectedRangeIterator
+            implements Iterator<ConnectedRangeImpl<Interval_, Point_, Difference_>> {
 
         private IntervalSplitPoint<Interval_, Point_> current = getStart(startSplitPoint);
 
@@ -158,14 +162,14 @@ final class IntervalClusterImpl<Interval_, Point_ extends Comparable<Point_>, Di
         }
 
         @Override
-        public IntervalClusterImpl<Interval_, Point_, Difference_> next() {
+        public ConnectedRangeImpl<Interval_, Point_, Difference_> next() {
             IntervalSplitPoint<Interval_, Point_> start = current;
             IntervalSplitPoint<Interval_, Point_> end;
             int activeIntervals = 0;
             count = 0;
             boolean anyOverlap = false;
             do {
-                count += current.intervalsStartingAtSplitPointSet.size();
+                count += current.startingIntervalCount;
                 activeIntervals +=
                         current.intervalsStartingAtSplitPointSet.size() - current.intervalsEndingAtSplitPointSet.size();
                 if (activeIntervals > 1) {
@@ -182,7 +186,7 @@ final class IntervalClusterImpl<Interval_, Point_ extends Comparable<Point_>, Di
                 end = splitPointSet.last();
             }
 
-            return new IntervalClusterImpl<>(splitPointSet, differenceFunction, start, end, count, hasOverlap);
+            return new ConnectedRangeImpl<>(splitPointSet, differenceFunction, start, end, count, hasOverlap);
         }
     }
 }
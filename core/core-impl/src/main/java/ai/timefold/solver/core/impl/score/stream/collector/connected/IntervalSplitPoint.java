@@ -1,4 +1,4 @@
-package ai.timefold.solver.examples.common.experimental.impl;
+package ai.timefold.solver.core.impl.score.stream.collector.connected;
 
 import java.util.Comparator;
 import java.util.IdentityHashMap;
@@ -15,6 +15,8 @@ public class IntervalSplitPoint<Interval_, Point_ extends Comparable<Point_>>
     Map<Interval_, Integer> endIntervalToCountMap;
     TreeSet<Interval<Interval_, Point_>> intervalsStartingAtSplitPointSet;
     TreeSet<Interval<Interval_, Point_>> intervalsEndingAtSplitPointSet;
+    // Includes duplicates, unlike intervalsStartingAtSplitPointSet
+    int startingIntervalCount;
 
     public IntervalSplitPoint(Point_ splitPoint) {
         this.splitPoint = splitPoint;
@@ -33,10 +35,12 @@ public class IntervalSplitPoint<Interval_, Point_ extends Comparable<Point_>>
 
     public boolean addIntervalStartingAtSplitPoint(Interval<Interval_, Point_> interval) {
         startIntervalToCountMap.merge(interval.getValue(), 1, Integer::sum);
+        startingIntervalCount++;
         return intervalsStartingAtSplitPointSet.add(interval);
     }
 
     public void removeIntervalStartingAtSplitPoint(Interval<Interval_, Point_> interval) {
+        startingIntervalCount--;
         Integer newCount = startIntervalToCountMap.computeIfPresent(interval.getValue(), (key, count) -> {
             if (count > 1) {
                 return count - 1;
@@ -1,4 +1,4 @@
-package ai.timefold.solver.examples.common.experimental.impl;
+package ai.timefold.solver.core.impl.score.stream.collector.connected;
 
 import java.util.Iterator;
 import java.util.TreeSet;
@@ -10,14 +10,14 @@ public final class IntervalTree<Interval_, Point_ extends Comparable<Point_>, Di
     private final Function<Interval_, Point_> startMapping;
     private final Function<Interval_, Point_> endMapping;
     private final TreeSet<IntervalSplitPoint<Interval_, Point_>> splitPointSet;
-    private final ConsecutiveIntervalInfoImpl<Interval_, Point_, Difference_> consecutiveIntervalData;
+    private final ConnectedRangeChainImpl<Interval_, Point_, Difference_> connectedRangeChain;
 
     public IntervalTree(Function<Interval_, Point_> startMapping, Function<Interval_, Point_> endMapping,
             BiFunction<Point_, Point_, Difference_> differenceFunction) {
         this.startMapping = startMapping;
         this.endMapping = endMapping;
         this.splitPointSet = new TreeSet<>();
-        this.consecutiveIntervalData = new ConsecutiveIntervalInfoImpl<>(splitPointSet, differenceFunction);
+        this.connectedRangeChain = new ConnectedRangeChainImpl<>(splitPointSet, differenceFunction);
     }
 
     public Interval<Interval_, Point_> getInterval(Interval_ intervalValue) {
@@ -69,7 +69,9 @@ public final class IntervalTree<Interval_, Point_ extends Comparable<Point_>, Di
         }
 
         if (isChanged) {
-            consecutiveIntervalData.addInterval(interval);
+            connectedRangeChain.addInterval(interval);
+        } else {
+            connectedRangeChain.addDuplicateInterval(interval);
         }
         return true;
     }
@@ -95,11 +97,11 @@ public final class IntervalTree<Interval_, Point_ extends Comparable<Point_>, Di
             splitPointSet.remove(ceilEndSplitPoint);
         }
 
-        consecutiveIntervalData.removeInterval(interval);
+        connectedRangeChain.removeInterval(interval);
         return true;
     }
 
-    public ConsecutiveIntervalInfoImpl<Interval_, Point_, Difference_> getConsecutiveIntervalData() {
-        return consecutiveIntervalData;
+    public ConnectedRangeChainImpl<Interval_, Point_, Difference_> getConnectedRangeChain() {
+        return connectedRangeChain;
     }
 }
@@ -0,0 +1,54 @@
+package ai.timefold.solver.core.impl.score.stream.collector.connected;
+
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
+import ai.timefold.solver.core.api.score.stream.common.RangeGap;
+
+final class RangeGapImpl<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        implements RangeGap<Interval_, Point_, Difference_> {
+    private ConnectedRange<Interval_, Point_, Difference_> previousCluster;
+    private ConnectedRange<Interval_, Point_, Difference_> nextCluster;
+    private Difference_ length;
+
+    RangeGapImpl(ConnectedRange<Interval_, Point_, Difference_> previousCluster,
+            ConnectedRange<Interval_, Point_, Difference_> nextCluster, Difference_ length) {
+        this.previousCluster = previousCluster;
+        this.nextCluster = nextCluster;
+        this.length = length;
+    }
+
+    @Override
+    public ConnectedRange<Interval_, Point_, Difference_> getPreviousConnectedRange() {
+        return previousCluster;
+    }
+
+    @Override
+    public ConnectedRange<Interval_, Point_, Difference_> getNextConnectedRange() {
+        return nextCluster;
+    }
+
+    @Override
+    public Difference_ getLength() {
+        return length;
+    }
+
+    void setPreviousCluster(ConnectedRange<Interval_, Point_, Difference_> previousCluster) {
+        this.previousCluster = previousCluster;
+    }
+
+    void setNextCluster(ConnectedRange<Interval_, Point_, Difference_> nextCluster) {
+        this.nextCluster = nextCluster;
+    }
+
+    void setLength(Difference_ length) {
+        this.length = length;
+    }
+
+    @Override
+    public String toString() {
+        return "RangeGap{" +
+                "previousCluster=" + previousCluster +
+                ", nextCluster=" + nextCluster +
+                ", length=" + length +
+                '}';
+    }
+}
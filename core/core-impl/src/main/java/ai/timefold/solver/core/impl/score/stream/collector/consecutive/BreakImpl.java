@@ -0,0 +1,62 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+
+final class BreakImpl<Value_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        implements Break<Value_, Difference_> {
+    private SequenceImpl<Value_, Point_, Difference_> previousSequence;
+    private SequenceImpl<Value_, Point_, Difference_> nextSequence;
+    private Difference_ length;
+
+    BreakImpl(SequenceImpl<Value_, Point_, Difference_> previousSequence,
+            SequenceImpl<Value_, Point_, Difference_> nextSequence, Difference_ length) {
+        this.previousSequence = previousSequence;
+        this.nextSequence = nextSequence;
+        this.length = length;
+    }
+
+    @Override
+    public Sequence<Value_, Difference_> getPreviousSequence() {
+        return previousSequence;
+    }
+
+    @Override
+    public Sequence<Value_, Difference_> getNextSequence() {
+        return nextSequence;
+    }
+
+    SequenceImpl<Value_, Point_, Difference_> getPreviousSequenceImpl() {
+        return previousSequence;
+    }
+
+    SequenceImpl<Value_, Point_, Difference_> getNextSequenceImpl() {
+        return nextSequence;
+    }
+
+    @Override
+    public Difference_ getLength() {
+        return length;
+    }
+
+    void setPreviousSequence(SequenceImpl<Value_, Point_, Difference_> previousSequence) {
+        this.previousSequence = previousSequence;
+    }
+
+    void setNextSequence(SequenceImpl<Value_, Point_, Difference_> nextSequence) {
+        this.nextSequence = nextSequence;
+    }
+
+    void setLength(Difference_ length) {
+        this.length = length;
+    }
+
+    @Override
+    public String toString() {
+        return "Break{" +
+                "previousSequence=" + previousSequence +
+                ", nextSequence=" + nextSequence +
+                ", length=" + length +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+/**
+ * A value together with its index in the sequence,
+ * so that the trees of {@link ConsecutiveSetTree} can compare values without looking up their index.
+ * Equal indexes are ordered by identity hash code, because different values may share the same index.
+ *
+ * @param <Value_> The type of value stored
+ * @param <Point_> The type of the index
+ */
+final class ComparableValue<Value_, Point_ extends Comparable<Point_>>
+        implements Comparable<ComparableValue<Value_, Point_>> {
+
+    private final Value_ value;
+    private final Point_ index;
+    private final int identityHashCode;
+    private int count = 1;
+
+    ComparableValue(Value_ value, Point_ index) {
+        this.value = value;
+        this.index = index;
+        this.identityHashCode = System.identityHashCode(value);
+    }
+
+    Value_ value() {
+        return value;
+    }
+
+    Point_ index() {
+        return index;
+    }
+
+    /**
+     * @return how many times the value was added and not yet removed
+     */
+    int count() {
+        return count;
+    }
+
+    void increment() {
+        count++;
+    }
+
+    void decrement() {
+        count--;
+    }
+
+    @Override
+    public int compareTo(ComparableValue<Value_, Point_> other) {
+        if (this == other) {
+            return 0;
+        }
+        int comparison = index.compareTo(other.index);
+        if (comparison != 0) {
+            return comparison;
+        }
+        // Identity hash code for duplicate protection; we must always include duplicates.
+        // Ex: two different games on the same time slot
+        return Integer.compare(identityHashCode, other.identityHashCode);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+}
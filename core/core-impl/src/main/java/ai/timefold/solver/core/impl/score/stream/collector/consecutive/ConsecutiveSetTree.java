@@ -0,0 +1,331 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
+import ai.timefold.solver.core.impl.util.MapValuesIterable;
+
+/**
+ * A {@code ConsecutiveSetTree} determines what values are consecutive. A sequence
+ * <i>x<sub>1</sub>,&nbsp;x<sub>2</sub>,&nbsp;x<sub>3</sub>,&nbsp;...,&nbsp;x<sub>n</sub></i>
+ * is understood to be consecutive by <i>d</i> iff
+ * <i>x<sub>2</sub> &minus; x<sub>1</sub> &le; d, x<sub>3</sub> &minus; x<sub>2</sub> &le; d, ..., x<sub>n</sub> &minus;
+ * x<sub>n-1</sub> &le; d</i>.
+ * This data structure can be thought as an interval tree that maps the point <i>p</i> to
+ * the interval <i>[p, p + d]</i>.
+ * <p>
+ * Every add and remove is O(log n), as the values are kept in red-black trees ordered by their index.
+ * The trees are keyed by {@link ComparableValue}s, which carry their index,
+ * so comparing two keys never needs to look anything up.
+ *
+ * @param <Value_> The type of value stored (examples: shifts)
+ * @param <Point_> The type of the point (examples: int, LocalDateTime)
+ * @param <Difference_> The type of the difference (examples: int, Duration)
+ */
+public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        implements SequenceChain<Value_, Difference_> {
+
+    private final BiFunction<Point_, Point_, Difference_> differenceFunction;
+    private final BiFunction<Difference_, Difference_, Difference_> sumFunction;
+    private final Difference_ maxDifference;
+    private final Difference_ zeroDifference;
+    private final Map<Value_, ComparableValue<Value_, Point_>> valueToComparableValueMap;
+    private final NavigableSet<ComparableValue<Value_, Point_>> itemSet;
+    private final NavigableMap<ComparableValue<Value_, Point_>, SequenceImpl<Value_, Point_, Difference_>> startItemToSequence;
+    private final NavigableMap<ComparableValue<Value_, Point_>, BreakImpl<Value_, Point_, Difference_>> startItemToPreviousBreak;
+
+    private final MapValuesIterable<ComparableValue<Value_, Point_>, SequenceImpl<Value_, Point_, Difference_>> sequenceList;
+    private final MapValuesIterable<ComparableValue<Value_, Point_>, BreakImpl<Value_, Point_, Difference_>> breakList;
+
+    public ConsecutiveSetTree(BiFunction<Point_, Point_, Difference_> differenceFunction,
+            BiFunction<Difference_, Difference_, Difference_> sumFunction,
+            Difference_ maxDifference,
+            Difference_ zeroDifference) {
+        this.differenceFunction = differenceFunction;
+        this.sumFunction = sumFunction;
+        this.maxDifference = maxDifference;
+        this.zeroDifference = zeroDifference;
+        valueToComparableValueMap = new HashMap<>();
+        itemSet = new TreeSet<>();
+        startItemToSequence = new TreeMap<>();
+        startItemToPreviousBreak = new TreeMap<>();
+        sequenceList = new MapValuesIterable<>(startItemToSequence);
+        breakList = new MapValuesIterable<>(startItemToPreviousBreak);
+    }
+
+    // Public API
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public Iterable<Sequence<Value_, Difference_>> getConsecutiveSequences() {
+        return (Iterable) sequenceList;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public Iterable<Break<Value_, Difference_>> getBreaks() {
+        return (Iterable) breakList;
+    }
+
+    public boolean add(Value_ value, Point_ point) {
+        ComparableValue<Value_, Point_> item = valueToComparableValueMap.get(value);
+        if (item != null) { // Item already in bag.
+            item.increment();
+            return true;
+        }
+        item = new ComparableValue<>(value, point);
+        valueToComparableValueMap.put(value, item);
+        itemSet.add(item);
+        Point_ itemIndex = item.index();
+        ComparableValue<Value_, Point_> firstBeforeItem = startItemToSequence.floorKey(item);
+        if (firstBeforeItem != null) {
+            SequenceImpl<Value_, Point_, Difference_> prevBag = startItemToSequence.get(firstBeforeItem);
+            ComparableValue<Value_, Point_> endOfBeforeSequenceItem = prevBag.getLastComparableItem();
+            Point_ endOfBeforeSequenceIndex = endOfBeforeSequenceItem.index();
+            if (item.compareTo(endOfBeforeSequenceItem) < 0) {
+                // Item is inside the bag
+                prevBag.invalidate();
+                return true;
+            } else {
+                // Item is outside the bag
+                ComparableValue<Value_, Point_> firstAfterItem = startItemToSequence.higherKey(item);
+                if (firstAfterItem != null) {
+                    addBetweenItems(item, itemIndex, prevBag, endOfBeforeSequenceItem,
+                            endOfBeforeSequenceIndex, firstAfterItem, firstAfterItem.index());
+                } else {
+                    if (isFirstSuccessorOfSecond(item, endOfBeforeSequenceItem)) {
+                        // We need to extend the first bag
+                        // No break since afterItem is null
+                        prevBag.setEnd(item);
+                    } else {
+                        // Start a new bag of consecutive items
+                        SequenceImpl<Value_, Point_, Difference_> newBag = new SequenceImpl<>(this, item);
+                        startItemToSequence.put(item, newBag);
+                        startItemToPreviousBreak.put(item,
+                                new BreakImpl<>(prevBag, newBag,
+                                        differenceFunction.apply(endOfBeforeSequenceIndex, itemIndex)));
+                    }
+                }
+            }
+        } else {
+            // No items before it
+            ComparableValue<Value_, Point_> firstAfterItem = startItemToSequence.higherKey(item);
+            if (firstAfterItem != null) {
+                if (isFirstSuccessorOfSecond(firstAfterItem, item)) {
+                    // We need to move the after bag to use item as key
+                    SequenceImpl<Value_, Point_, Difference_> afterBag = startItemToSequence.remove(firstAfterItem);
+                    afterBag.setStart(item);
+                    // No break since this is the first sequence
+                    startItemToSequence.put(item, afterBag);
+                } else {
+                    // Start a new bag of consecutive items
+                    SequenceImpl<Value_, Point_, Difference_> afterBag = startItemToSequence.get(firstAfterItem);
+                    SequenceImpl<Value_, Point_, Difference_> newBag = new SequenceImpl<>(this, item);
+                    startItemToSequence.put(item, newBag);
+                    startItemToPreviousBreak.put(firstAfterItem,
+                            new BreakImpl<>(newBag, afterBag,
+                                    differenceFunction.apply(itemIndex, firstAfterItem.index())));
+                }
+            } else {
+                // Start a new bag of consecutive items
+                SequenceImpl<Value_, Point_, Difference_> newBag = new SequenceImpl<>(this, item);
+                startItemToSequence.put(item, newBag);
+                // Bag have no other items, so no break
+            }
+        }
+        return true;
+    }
+
+    public boolean remove(Value_ value) {
+        ComparableValue<Value_, Point_> item = valueToComparableValueMap.get(value);
+        if (item == null) { // Item not in bag.
+            return false;
+        }
+        if (item.count() > 1) { // Item still in bag.
+            item.decrement();
+            return true;
+        }
+        valueToComparableValueMap.remove(value);
+        itemSet.remove(item);
+
+        // Item is removed from bag
+        ComparableValue<Value_, Point_> firstBeforeItem = startItemToSequence.floorKey(item);
+        SequenceImpl<Value_, Point_, Difference_> bag = startItemToSequence.get(firstBeforeItem);
+        ComparableValue<Value_, Point_> endItem = bag.getLastComparableItem();
+
+        // Bag is empty if first item = last item
+        if (bag.getFirstComparableItem() == endItem) {
+            startItemToSequence.remove(firstBeforeItem);
+            BreakImpl<Value_, Point_, Difference_> removedBreak = startItemToPreviousBreak.remove(firstBeforeItem);
+            Map.Entry<ComparableValue<Value_, Point_>, BreakImpl<Value_, Point_, Difference_>> extendedBreakEntry =
+                    startItemToPreviousBreak.higherEntry(firstBeforeItem);
+            if (extendedBreakEntry != null) {
+                if (removedBreak != null) {
+                    BreakImpl<Value_, Point_, Difference_> extendedBreak = extendedBreakEntry.getValue();
+                    extendedBreak.setPreviousSequence(removedBreak.getPreviousSequenceImpl());
+                    updateLengthOfBreak(extendedBreak);
+                } else {
+                    startItemToPreviousBreak.remove(extendedBreakEntry.getKey());
+                }
+            }
+            return true;
+        }
+
+        // Bag is not empty
+        removeItemFromBag(bag, item, firstBeforeItem, endItem);
+        return true;
+    }
+
+    // Protected API
+    Break<Value_, Difference_> getBreakBefore(ComparableValue<Value_, Point_> item) {
+        return startItemToPreviousBreak.get(item);
+    }
+
+    Break<Value_, Difference_> getBreakAfter(ComparableValue<Value_, Point_> item) {
+        Map.Entry<ComparableValue<Value_, Point_>, BreakImpl<Value_, Point_, Difference_>> entry =
+                startItemToPreviousBreak.higherEntry(item);
+        if (entry != null) {
+            return entry.getValue();
+        }
+        return null;
+    }
+
+    NavigableSet<ComparableValue<Value_, Point_>> getItemSet() {
+        return itemSet;
+    }
+
+    void updateLengthOfBreak(BreakImpl<Value_, Point_, Difference_> theBreak) {
+        theBreak.setLength(getBreakLengthBetween(theBreak.getPreviousSequenceImpl().getLastComparableItem(),
+                theBreak.getNextSequenceImpl().getFirstComparableItem()));
+    }
+
+    Difference_ getSequenceLength(SequenceImpl<Value_, Point_, Difference_> sequence) {
+        return sumFunction.apply(maxDifference, differenceFunction.apply(sequence.getFirstComparableItem().index(),
+                sequence.getLastComparableItem().index()));
+    }
+
+    Difference_ getBreakLengthBetween(ComparableValue<Value_, Point_> from, ComparableValue<Value_, Point_> to) {
+        return differenceFunction.apply(from.index(), to.index());
+    }
+
+    private boolean isFirstSuccessorOfSecond(ComparableValue<Value_, Point_> first,
+            ComparableValue<Value_, Point_> second) {
+        Difference_ difference = differenceFunction.apply(second.index(), first.index());
+        int comparison = difference.compareTo(zeroDifference);
+        if (comparison < 0 || (comparison == 0 && first.compareTo(second) <= 0)) {
+            return false;
+        }
+        return difference.compareTo(maxDifference) <= 0;
+    }
+
+    private void addBetweenItems(ComparableValue<Value_, Point_> item, Point_ itemIndex,
+            SequenceImpl<Value_, Point_, Difference_> prevBag, ComparableValue<Value_, Point_> endOfBeforeSequenceItem,
+            Point_ endOfBeforeSequenceItemIndex, ComparableValue<Value_, Point_> firstAfterItem,
+            Point_ startOfAfterSequenceIndex) {
+        if (isFirstSuccessorOfSecond(item, endOfBeforeSequenceItem)) {
+            // We need to extend the first bag
+            if (isFirstSuccessorOfSecond(firstAfterItem, item)) {
+                // We need to merge the two bags
+                startItemToPreviousBreak.remove(firstAfterItem);
+                SequenceImpl<Value_, Point_, Difference_> afterBag = startItemToSequence.remove(firstAfterItem);
+                prevBag.merge(afterBag);
+                Map.Entry<ComparableValue<Value_, Point_>, BreakImpl<Value_, Point_, Difference_>> maybeNextBreak =
+                        startItemToPreviousBreak.higherEntry(firstAfterItem);
+                if (maybeNextBreak != null) {
+                    maybeNextBreak.getValue().setPreviousSequence(prevBag);
+                }
+            } else {
+                prevBag.setEnd(item);
+                BreakImpl<Value_, Point_, Difference_> nextBreak = startItemToPreviousBreak.get(firstAfterItem);
+                nextBreak.setLength(differenceFunction.apply(itemIndex, startOfAfterSequenceIndex));
+            }
+        } else {
+            // Don't need to extend the first bag
+            if (isFirstSuccessorOfSecond(firstAfterItem, item)) {
+                // We need to move the after bag to use item as key
+                SequenceImpl<Value_, Point_, Difference_> afterBag = startItemToSequence.remove(firstAfterItem);
+                afterBag.setStart(item);
+                startItemToSequence.put(item, afterBag);
+                BreakImpl<Value_, Point_, Difference_> prevBreak = startItemToPreviousBreak.remove(firstAfterItem);
+                prevBreak.setLength(differenceFunction.apply(endOfBeforeSequenceItemIndex, itemIndex));
+                startItemToPreviousBreak.put(item, prevBreak);
+            } else {
+                // Start a new bag of consecutive items
+                SequenceImpl<Value_, Point_, Difference_> newBag = new SequenceImpl<>(this, item);
+                startItemToSequence.put(item, newBag);
+                BreakImpl<Value_, Point_, Difference_> nextBreak = startItemToPreviousBreak.get(firstAfterItem);
+                nextBreak.setPreviousSequence(newBag);
+                nextBreak.setLength(differenceFunction.apply(itemIndex, startOfAfterSequenceIndex));
+                startItemToPreviousBreak.put(item, new BreakImpl<>(prevBag, newBag,
+                        differenceFunction.apply(endOfBeforeSequenceItemIndex, itemIndex)));
+            }
+        }
+    }
+
+    private void removeItemFromBag(SequenceImpl<Value_, Point_, Difference_> bag, ComparableValue<Value_, Point_> item,
+            ComparableValue<Value_, Point_> sequenceStart, ComparableValue<Value_, Point_> sequenceEnd) {
+        if (item == sequenceStart) {
+            // Change start key to the item after this one
+            bag.setStart(itemSet.higher(item));
+            startItemToSequence.remove(sequenceStart);
+            BreakImpl<Value_, Point_, Difference_> extendedBreak = startItemToPreviousBreak.remove(sequenceStart);
+            ComparableValue<Value_, Point_> firstItem = bag.getFirstComparableItem();
+            startItemToSequence.put(firstItem, bag);
+            if (extendedBreak != null) {
+                updateLengthOfBreak(extendedBreak);
+                startItemToPreviousBreak.put(firstItem, extendedBreak);
+            }
+            return;
+        }
+        if (item == sequenceEnd) {
+            // Set end key to the item before this one
+            bag.setEnd(itemSet.lower(item));
+            Map.Entry<ComparableValue<Value_, Point_>, BreakImpl<Value_, Point_, Difference_>> extendedBreakEntry =
+                    startItemToPreviousBreak.higherEntry(item);
+            if (extendedBreakEntry != null) {
+                BreakImpl<Value_, Point_, Difference_> extendedBreak = extendedBreakEntry.getValue();
+                updateLengthOfBreak(extendedBreak);
+            }
+            return;
+        }
+
+        ComparableValue<Value_, Point_> firstAfterItem = itemSet.higher(item);
+        ComparableValue<Value_, Point_> firstBeforeItem = itemSet.lower(item);
+
+        if (isFirstSuccessorOfSecond(firstAfterItem, firstBeforeItem)) {
+            // Bag is not split since the next two items are still close enough
+            bag.invalidate();
+            return;
+        }
+
+        // Need to split bag into two halves
+        // Both halves are not empty as the item was not an endpoint
+        // Additional, the breaks before and after the broken sequence
+        // are not affected since an endpoint was not removed
+        SequenceImpl<Value_, Point_, Difference_> splitBag = bag.split(firstBeforeItem, firstAfterItem);
+        startItemToSequence.put(firstAfterItem, splitBag);
+        startItemToPreviousBreak.put(firstAfterItem,
+                new BreakImpl<>(bag, splitBag, getBreakLengthBetween(firstBeforeItem, firstAfterItem)));
+        Map.Entry<ComparableValue<Value_, Point_>, BreakImpl<Value_, Point_, Difference_>> maybeNextBreak =
+                startItemToPreviousBreak.higherEntry(firstAfterItem);
+        if (maybeNextBreak != null) {
+            maybeNextBreak.getValue().setPreviousSequence(splitBag);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Sequences {" +
+                "sequenceList=" + sequenceList +
+                ", breakList=" + breakList +
+                '}';
+    }
+
+}
@@ -0,0 +1,179 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+
+final class SequenceImpl<Value_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
+        implements Sequence<Value_, Difference_> {
+
+    private final ConsecutiveSetTree<Value_, Point_, Difference_> sourceTree;
+    private ComparableValue<Value_, Point_> firstItem;
+    private ComparableValue<Value_, Point_> lastItem;
+
+    // Memorized calculations
+    private Difference_ length;
+    private int count;
+    private Collection<Value_> items;
+
+    SequenceImpl(ConsecutiveSetTree<Value_, Point_, Difference_> sourceTree, ComparableValue<Value_, Point_> item) {
+        this(sourceTree, item, item);
+    }
+
+    SequenceImpl(ConsecutiveSetTree<Value_, Point_, Difference_> sourceTree, ComparableValue<Value_, Point_> firstItem,
+            ComparableValue<Value_, Point_> lastItem) {
+        this.sourceTree = sourceTree;
+        this.firstItem = firstItem;
+        this.lastItem = lastItem;
+        invalidate();
+    }
+
+    @Override
+    public Value_ getFirstItem() {
+        return firstItem.value();
+    }
+
+    @Override
+    public Value_ getLastItem() {
+        return lastItem.value();
+    }
+
+    ComparableValue<Value_, Point_> getFirstComparableItem() {
+        return firstItem;
+    }
+
+    ComparableValue<Value_, Point_> getLastComparableItem() {
+        return lastItem;
+    }
+
+    @Override
+    public Break<Value_, Difference_> getPreviousBreak() {
+        return sourceTree.getBreakBefore(firstItem);
+    }
+
+    @Override
+    public Break<Value_, Difference_> getNextBreak() {
+        return sourceTree.getBreakAfter(lastItem);
+    }
+
+    @Override
+    public boolean isFirst() {
+        return firstItem == sourceTree.getItemSet().first();
+    }
+
+    @Override
+    public boolean isLast() {
+        return lastItem == sourceTree.getItemSet().last();
+    }
+
+    @Override
+    public Collection<Value_> getItems() {
+        if (items == null) {
+            return items = new ItemCollection(getComparableItems());
+        }
+        return items;
+    }
+
+    private NavigableSet<ComparableValue<Value_, Point_>> getComparableItems() {
+        return sourceTree.getItemSet().subSet(firstItem, true, lastItem, true);
+    }
+
+    @Override
+    public int getCount() {
+        if (count < 0) {
+            // Counting the items of a sub set iterates them, so only do that once per change
+            return count = getComparableItems().size();
+        }
+        return count;
+    }
+
+    @Override
+    public Difference_ getLength() {
+        if (length == null) {
+            // memoize length for later calls
+            // (assignment returns the right hand side)
+            return length = sourceTree.getSequenceLength(this);
+        }
+        return length;
+    }
+
+    void setStart(ComparableValue<Value_, Point_> item) {
+        firstItem = item;
+        invalidate();
+    }
+
+    void setEnd(ComparableValue<Value_, Point_> item) {
+        lastItem = item;
+        invalidate();
+    }
+
+    // Called when the items of this sequence change;
+    // memorized calculations need to be invalidated
+    void invalidate() {
+        length = null;
+        count = -1;
+        items = null;
+    }
+
+    /**
+     * Ends this sequence at lastItemOfThis and moves the rest of its items to a new sequence.
+     *
+     * @param lastItemOfThis never null, the new last item of this sequence
+     * @param firstItemOfSplit never null, the first item of the new sequence
+     * @return never null, the new sequence that contains the items after lastItemOfThis
+     */
+    SequenceImpl<Value_, Point_, Difference_> split(ComparableValue<Value_, Point_> lastItemOfThis,
+            ComparableValue<Value_, Point_> firstItemOfSplit) {
+        ComparableValue<Value_, Point_> newSequenceEnd = lastItem;
+        setEnd(lastItemOfThis);
+        return new SequenceImpl<>(sourceTree, firstItemOfSplit, newSequenceEnd);
+    }
+
+    // This Sequence is ALWAYS before other Sequence
+    void merge(SequenceImpl<Value_, Point_, Difference_> other) {
+        lastItem = other.lastItem;
+        invalidate();
+    }
+
+    @Override
+    public String toString() {
+        return getItems().stream().map(String::valueOf).collect(Collectors.joining(", ", "Sequence [", "]"));
+    }
+
+    private final class ItemCollection extends AbstractCollection<Value_> {
+
+        private final NavigableSet<ComparableValue<Value_, Point_>> comparableItems;
+
+        private ItemCollection(NavigableSet<ComparableValue<Value_, Point_>> comparableItems) {
+            this.comparableItems = comparableItems;
+        }
+
+        @Override
+        public Iterator<Value_> iterator() {
+            Iterator<ComparableValue<Value_, Point_>> comparableItemIterator = comparableItems.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return comparableItemIterator.hasNext();
+                }
+
+                @Override
+                public Value_ next() {
+                    return comparableItemIterator.next().value();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return getCount();
+        }
+
+    }
+
+}
@@ -62,7 +62,12 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
     // ************************************************************************
 
     public void solvingStarted(SolverScope<Solution_> solverScope) {
-        solverScope.setWorkingSolutionFromBestSolution();
+        if (solverScope.getStartingSolverCount() == 0) {
+            solverScope.setWorkingSolutionFromBestSolution();
+        } else {
+            // Restarted after problem changes, which were applied to the working solution before it became the best one.
+            solverScope.restoreWorkingSolutionFromBestSolution();
+        }
         bestSolutionRecaller.solvingStarted(solverScope);
         solverTermination.solvingStarted(solverScope);
         phaseLifecycleSupport.fireSolvingStarted(solverScope);
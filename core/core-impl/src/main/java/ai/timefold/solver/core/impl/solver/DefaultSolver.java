@@ -262,7 +262,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         } else {
             BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = basicPlumbingTermination
                     .startProblemFactChangesProcessing();
-            solverScope.setWorkingSolutionFromBestSolution();
+            // Propagates only the difference with the best solution, instead of rebuilding the score director.
+            solverScope.restoreWorkingSolutionFromBestSolution();
 
             int stepIndex = 0;
             ProblemChangeAdapter<Solution_> problemChangeAdapter = problemFactChangeQueue.poll();
@@ -19,6 +19,7 @@ import ai.timefold.solver.core.config.constructionheuristic.placer.QueuedEntityP
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.phase.PhaseConfig;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.BestSolutionCloningMode;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.monitoring.MonitoringConfig;
@@ -96,6 +97,9 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         EnvironmentMode environmentMode_ = solverConfig.determineEnvironmentMode();
         InnerScoreDirector<Solution_, ?> innerScoreDirector =
                 scoreDirectorFactory.buildScoreDirector(true, environmentMode_.isAsserted());
+        if (solverConfig.determineBestSolutionCloningMode() == BestSolutionCloningMode.COPY_ON_WRITE) {
+            innerScoreDirector.enableCopyOnWriteSnapshots();
+        }
         solverScope.setScoreDirector(innerScoreDirector);
         solverScope.setProblemChangeDirector(new DefaultProblemChangeDirector<>(innerScoreDirector));
 
@@ -107,10 +111,20 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     SolverMetric.CONSTRAINT_MATCH_TOTAL_STEP_SCORE.getMeterId(),
                     SolverMetric.CONSTRAINT_MATCH_TOTAL_BEST_SCORE.getMeterId());
         }
+        if (solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_PROFILE)) {
+            innerScoreDirector.overwriteConstraintProfilingEnabledPreference(true);
+            if (!innerScoreDirector.isConstraintProfilingEnabled()) {
+                LOGGER.warn("The metric [{}] cannot function properly" +
+                        " because constraint profiling is not supported on the ScoreDirector.",
+                        SolverMetric.CONSTRAINT_PROFILE.getMeterId());
+            }
+        }
 
         Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
-                BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
+                BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_,
+                        solverConfig.determineBestSolutionEventMode(), solverConfig.getBestSolutionEventThrottlingDelay(),
+                        solutionDescriptor);
         HeuristicConfigPolicy<Solution_> configPolicy = new HeuristicConfigPolicy.Builder<>(
                 environmentMode_,
                 moveThreadCount_,
@@ -118,7 +132,9 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                 solverConfig.getThreadFactoryClass(),
                 scoreDirectorFactory.getInitializingScoreTrend(),
                 solutionDescriptor,
-                ClassInstanceCache.create()).build();
+                ClassInstanceCache.create())
+                .withMoveThreadBusySpinEnabled(Boolean.TRUE.equals(solverConfig.getMoveThreadBusySpinEnabled()))
+                .build();
         TerminationConfig terminationConfig_ =
                 Objects.requireNonNullElseGet(solverConfig.getTerminationConfig(), TerminationConfig::new);
         BasicPlumbingTermination<Solution_> basicPlumbingTermination = new BasicPlumbingTermination<>(daemon_);
@@ -154,6 +170,23 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         if (environmentMode.isAsserted()) {
             solutionDescriptor.setAssertModelForCloning(true);
         }
+        Integer solutionCloningThreadCount = solverConfig.getSolutionCloningThreadCount();
+        if (solutionCloningThreadCount != null) {
+            if (solutionCloningThreadCount < 1) {
+                throw new IllegalArgumentException("The solutionCloningThreadCount (" + solutionCloningThreadCount
+                        + ") must be at least 1.");
+            }
+            if (solutionCloningThreadCount > 1) {
+                if (solverConfig.determineBestSolutionCloningMode() == BestSolutionCloningMode.COPY_ON_WRITE) {
+                    throw new IllegalArgumentException("The solutionCloningThreadCount (" + solutionCloningThreadCount
+                            + ") is not supported with the bestSolutionCloningMode ("
+                            + BestSolutionCloningMode.COPY_ON_WRITE + "),"
+                            + " which only planning clones the planning entities that changed since the previous clone.\n"
+                            + "Maybe remove that solutionCloningThreadCount or that bestSolutionCloningMode.");
+                }
+                solutionDescriptor.enableParallelSolutionCloning(solutionCloningThreadCount);
+            }
+        }
         return solutionDescriptor;
     }
 
@@ -22,6 +22,7 @@ import ai.timefold.solver.core.api.solver.SolverStatus;
 import ai.timefold.solver.core.api.solver.change.ProblemChange;
 import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 import org.slf4j.Logger;
@@ -50,6 +51,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private ConsumerSupport<Solution_, ProblemId_> consumerSupport;
     private final AtomicBoolean terminatedEarly = new AtomicBoolean(false);
     private final BestSolutionHolder<Solution_> bestSolutionHolder = new BestSolutionHolder<>();
+    private final SolverJobScheduler.Ticket schedulerTicket;
 
     public DefaultSolverJob(
             DefaultSolverManager<Solution_, ProblemId_> solverManager,
@@ -72,6 +74,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         solverStatus = SolverStatus.SOLVING_SCHEDULED;
         terminatedLatch = new CountDownLatch(1);
         solverStatusModifyingLock = new ReentrantLock();
+        SolverJobScheduler solverJobScheduler = solverManager.getSolverJobScheduler();
+        schedulerTicket = solverJobScheduler == null ? null : solverJobScheduler.createTicket(problemId);
     }
 
     public void setFinalBestSolutionFuture(Future<Solution_> finalBestSolutionFuture) {
@@ -88,8 +92,27 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         return solverStatus;
     }
 
+    /**
+     * @return null if the solver jobs are not time-sliced
+     */
+    SolverJobScheduler.Ticket getSchedulerTicket() {
+        return schedulerTicket;
+    }
+
     @Override
     public Solution_ call() {
+        if (schedulerTicket == null) {
+            return solve();
+        }
+        // The scheduler only submits this solver job to the solver thread pool when it may run
+        try {
+            return solve();
+        } finally {
+            solverManager.getSolverJobScheduler().release(schedulerTicket);
+        }
+    }
+
+    private Solution_ solve() {
         solverStatusModifyingLock.lock();
         if (solverStatus != SolverStatus.SOLVING_SCHEDULED) {
             // This job has been canceled before it started,
@@ -106,6 +129,9 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             Solution_ problem = problemFinder.apply(problemId);
             // add a phase lifecycle listener that unlock the solver status lock when solving started
             solver.addPhaseLifecycleListener(new UnlockLockPhaseLifecycleListener());
+            if (schedulerTicket != null) {
+                solver.addPhaseLifecycleListener(new YieldingPhaseLifecycleListener());
+            }
             solver.addEventListener(this::onBestSolutionChangedEvent);
             final Solution_ finalBestSolution = solver.solve(problem);
             consumerSupport.consumeFinalBestSolution(finalBestSolution);
@@ -164,6 +190,10 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             switch (solverStatus) {
                 case SOLVING_SCHEDULED:
                     finalBestSolutionFuture.cancel(false);
+                    if (schedulerTicket != null) {
+                        // The canceled task might never run, so it can't release its place in the scheduler
+                        solverManager.getSolverJobScheduler().release(schedulerTicket);
+                    }
                     solvingTerminated();
                     break;
                 case SOLVING_ACTIVE:
@@ -177,6 +207,10 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
                 default:
                     throw new IllegalStateException("Unsupported solverStatus (" + solverStatus + ").");
             }
+            if (schedulerTicket != null) {
+                // Don't wait until the scheduler resumes it, to notice the termination
+                solverManager.getSolverJobScheduler().resumeImmediately(schedulerTicket);
+            }
             try {
                 // Don't return until bestSolutionConsumer won't be called anymore
                 terminatedLatch.await();
@@ -189,6 +223,14 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         }
     }
 
+    /**
+     * @param priority the higher, the sooner this solver job is resumed
+     * @see DefaultSolverManager#setPriority(Object, int)
+     */
+    void setPriority(int priority) {
+        solverManager.getSolverJobScheduler().setPriority(schedulerTicket, priority);
+    }
+
     @Override
     public boolean isTerminatedEarly() {
         return terminatedEarly.get();
@@ -258,4 +300,12 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             }
         }
     }
+
+    private final class YieldingPhaseLifecycleListener extends PhaseLifecycleListenerAdapter<Solution_> {
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            // Pauses this solver job if its time slice is used up and another solver job is waiting
+            solverManager.getSolverJobScheduler().yieldIfOverdue(schedulerTicket);
+        }
+    }
 }
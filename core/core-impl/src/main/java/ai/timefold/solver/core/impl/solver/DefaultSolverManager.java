@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -8,6 +9,10 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -35,6 +40,7 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
     private final ExecutorService solverThreadPool;
+    private final SolverJobScheduler solverJobScheduler;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
@@ -44,7 +50,17 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         this.solverFactory = solverFactory;
         validateSolverFactory();
         int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        Duration timeSlice = solverManagerConfig.getTimeSlice();
+        if (timeSlice == null) {
+            solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+            solverJobScheduler = null;
+        } else {
+            // Like a fixed thread pool, but the scheduler adds a thread per paused solver job, which keeps its thread
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(parallelSolverCount, parallelSolverCount,
+                    0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+            solverThreadPool = threadPoolExecutor;
+            solverJobScheduler = new SolverJobScheduler(parallelSolverCount, timeSlice, threadPoolExecutor);
+        }
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -52,6 +68,13 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         return solverFactory;
     }
 
+    /**
+     * @return null if the solver jobs are not time-sliced
+     */
+    SolverJobScheduler getSolverJobScheduler() {
+        return solverJobScheduler;
+    }
+
     private void validateSolverFactory() {
         solverFactory.buildSolver();
     }
@@ -105,8 +128,15 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                                 bestSolutionConsumer, finalBestSolutionConsumer, finalExceptionHandler);
                     }
                 });
-        Future<Solution_> future = solverThreadPool.submit(solverJob);
-        solverJob.setFinalBestSolutionFuture(future);
+        if (solverJobScheduler == null) {
+            Future<Solution_> future = solverThreadPool.submit(solverJob);
+            solverJob.setFinalBestSolutionFuture(future);
+        } else {
+            // Doesn't occupy a thread until the scheduler lets it run
+            FutureTask<Solution_> future = new FutureTask<>(solverJob);
+            solverJob.setFinalBestSolutionFuture(future);
+            solverJobScheduler.submit(solverJob.getSchedulerTicket(), future);
+        }
         return solverJob;
     }
 
@@ -154,8 +184,27 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         solverJob.terminateEarly();
     }
 
+    @Override
+    public void setPriority(ProblemId_ problemId, int priority) {
+        if (solverJobScheduler == null) {
+            throw new IllegalStateException("Cannot set the priority (" + priority + ") of the problemId (" + problemId
+                    + ") because the solver jobs are not time-sliced.\n"
+                    + "Maybe configure a timeSlice in the " + SolverManagerConfig.class.getSimpleName() + ".");
+        }
+        DefaultSolverJob<Solution_, ProblemId_> solverJob = getSolverJob(problemId);
+        if (solverJob == null) {
+            // We cannot distinguish between "already terminated" and "never solved" without causing a memory leak.
+            LOGGER.debug("Ignoring setPriority() call because problemId ({}) is not solving.", problemId);
+            return;
+        }
+        solverJob.setPriority(priority);
+    }
+
     @Override
     public void close() {
+        if (solverJobScheduler != null) {
+            solverJobScheduler.cancelWaiting();
+        }
         solverThreadPool.shutdownNow();
         problemIdToSolverJobMap.values().forEach(DefaultSolverJob::close);
     }
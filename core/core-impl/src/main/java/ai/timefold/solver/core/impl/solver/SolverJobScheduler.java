@@ -0,0 +1,282 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import ai.timefold.solver.core.config.solver.SolverManagerConfig;
+
+/**
+ * Time-slices the solver jobs of a {@link DefaultSolverManager}
+ * by limiting the number of solver jobs that run at the same time to the parallelSolverCount.
+ * A running solver job {@link #yieldIfOverdue(Ticket) yields} at a step boundary
+ * when its time slice is used up and another solver job is waiting.
+ * It then waits on its own thread, so its working solution and score director state are kept as is,
+ * until it is resumed.
+ * <p>
+ * A solver job that hasn't started yet waits in this scheduler without a thread.
+ * Only when it may run, it is executed on the bounded solver thread pool,
+ * which has 1 thread per parallel solver and 1 extra thread per paused solver job.
+ * <p>
+ * Waiting solver jobs are resumed by highest priority first,
+ * then by least consumed solving time, so every problem gets a fair share,
+ * and a new problem doesn't wait until a long running problem finishes.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @see SolverManagerConfig#getTimeSlice()
+ */
+final class SolverJobScheduler {
+
+    private static final Comparator<Ticket> WAITING_COMPARATOR = Comparator.comparingInt((Ticket ticket) -> ticket.priority)
+            .reversed()
+            .thenComparingLong(ticket -> ticket.consumedNanos)
+            .thenComparingLong(ticket -> ticket.sequence);
+
+    private final int parallelSolverCount;
+    private final long timeSliceNanos;
+    private final ThreadPoolExecutor solverThreadPool;
+
+    private final PriorityQueue<Ticket> waitingQueue = new PriorityQueue<>(WAITING_COMPARATOR);
+    private int runningCount = 0;
+    private int pausedCount = 0;
+    private long nextSequence = 0L;
+    /**
+     * Read without locking at every step of every running solver job.
+     */
+    private volatile boolean waitingQueueEmpty = true;
+
+    /**
+     * @param parallelSolverCount at least 1
+     * @param timeSlice never null, positive
+     * @param solverThreadPool never null, with a core and maximum pool size of the parallelSolverCount
+     */
+    public SolverJobScheduler(int parallelSolverCount, Duration timeSlice, ThreadPoolExecutor solverThreadPool) {
+        if (timeSlice.isNegative() || timeSlice.isZero()) {
+            throw new IllegalArgumentException("The timeSlice (" + timeSlice + ") must be positive.");
+        }
+        this.parallelSolverCount = parallelSolverCount;
+        this.timeSliceNanos = timeSlice.toNanos();
+        this.solverThreadPool = solverThreadPool;
+    }
+
+    public Ticket createTicket(Object problemId) {
+        return new Ticket(problemId);
+    }
+
+    /**
+     * Executes the task of the solver job on the solver thread pool as soon as the solver job may run.
+     * Until then, it doesn't occupy a thread.
+     * The task must {@link #release(Ticket) release} the ticket when it finishes.
+     *
+     * @param ticket never null
+     * @param task never null
+     */
+    public synchronized void submit(Ticket ticket, RunnableFuture<?> task) {
+        if (ticket.state != TicketState.IDLE) {
+            throw new IllegalStateException("Impossible state: the ticket (" + ticket + ") is already "
+                    + ticket.state + ".");
+        }
+        ticket.task = task;
+        if (runningCount < parallelSolverCount && waitingQueue.isEmpty()) {
+            startRunning(ticket);
+        } else {
+            enqueue(ticket);
+        }
+    }
+
+    /**
+     * Called at every step boundary of a running solver job, so it must be cheap if the solver job doesn't yield.
+     *
+     * @param ticket never null
+     */
+    public void yieldIfOverdue(Ticket ticket) {
+        if (waitingQueueEmpty || ticket.state != TicketState.RUNNING
+                || System.nanoTime() - ticket.sliceStartNanos < timeSliceNanos) {
+            return;
+        }
+        synchronized (this) {
+            if (ticket.state != TicketState.RUNNING) {
+                // Another thread of the same solver job already yielded
+                return;
+            }
+            stopRunning(ticket);
+            enqueue(ticket);
+            // The paused solver job keeps its thread, so the solver job that replaces it needs another one
+            resizeSolverThreadPool(++pausedCount);
+            try {
+                resumeWaiting();
+                // If it has the highest priority, it is resumed immediately
+                awaitRunning(ticket);
+            } finally {
+                resizeSolverThreadPool(--pausedCount);
+            }
+        }
+    }
+
+    /**
+     * @param ticket never null
+     */
+    public synchronized void release(Ticket ticket) {
+        if (ticket.state == TicketState.RUNNING) {
+            stopRunning(ticket);
+            resumeWaiting();
+        } else if (ticket.state == TicketState.WAITING) {
+            dequeue(ticket);
+        }
+    }
+
+    /**
+     * Lets a paused solver job run immediately, even if that exceeds the parallelSolverCount,
+     * because it is terminating early.
+     *
+     * @param ticket never null
+     */
+    public synchronized void resumeImmediately(Ticket ticket) {
+        if (ticket.state == TicketState.WAITING) {
+            dequeue(ticket);
+            startRunning(ticket);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Cancels the tasks of the solver jobs that haven't started yet, because the solver thread pool shuts down.
+     */
+    public synchronized void cancelWaiting() {
+        waitingQueue.removeIf(ticket -> {
+            if (ticket.task == null) {
+                return false;
+            }
+            ticket.task.cancel(false);
+            ticket.state = TicketState.IDLE;
+            return true;
+        });
+        waitingQueueEmpty = waitingQueue.isEmpty();
+    }
+
+    /**
+     * @param ticket never null
+     * @param priority the higher, the sooner the solver job is resumed
+     */
+    public synchronized void setPriority(Ticket ticket, int priority) {
+        if (ticket.state == TicketState.WAITING) {
+            // Reorder the queue
+            waitingQueue.remove(ticket);
+            ticket.priority = priority;
+            waitingQueue.add(ticket);
+        } else {
+            ticket.priority = priority;
+        }
+    }
+
+    private void enqueue(Ticket ticket) {
+        ticket.state = TicketState.WAITING;
+        ticket.sequence = nextSequence++;
+        waitingQueue.add(ticket);
+        waitingQueueEmpty = false;
+    }
+
+    private void dequeue(Ticket ticket) {
+        waitingQueue.remove(ticket);
+        waitingQueueEmpty = waitingQueue.isEmpty();
+        ticket.state = TicketState.IDLE;
+    }
+
+    private void resizeSolverThreadPool(int extraThreadCount) {
+        int poolSize = parallelSolverCount + extraThreadCount;
+        // The maximum pool size can never be lower than the core pool size
+        if (poolSize > solverThreadPool.getMaximumPoolSize()) {
+            solverThreadPool.setMaximumPoolSize(poolSize);
+            solverThreadPool.setCorePoolSize(poolSize);
+        } else {
+            solverThreadPool.setCorePoolSize(poolSize);
+            solverThreadPool.setMaximumPoolSize(poolSize);
+        }
+    }
+
+    private void awaitRunning(Ticket ticket) {
+        try {
+            while (ticket.state == TicketState.WAITING) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (ticket.state == TicketState.WAITING) {
+                dequeue(ticket);
+            }
+        }
+    }
+
+    private void resumeWaiting() {
+        boolean resumed = false;
+        while (runningCount < parallelSolverCount && !waitingQueue.isEmpty()) {
+            startRunning(waitingQueue.poll());
+            resumed = true;
+        }
+        waitingQueueEmpty = waitingQueue.isEmpty();
+        if (resumed) {
+            notifyAll();
+        }
+    }
+
+    private void startRunning(Ticket ticket) {
+        ticket.state = TicketState.RUNNING;
+        ticket.sliceStartNanos = System.nanoTime();
+        runningCount++;
+        RunnableFuture<?> task = ticket.task;
+        if (task != null) {
+            ticket.task = null;
+            try {
+                solverThreadPool.execute(task);
+            } catch (RejectedExecutionException e) {
+                // The solver thread pool is shut down
+                task.cancel(false);
+                stopRunning(ticket);
+            }
+        }
+    }
+
+    private void stopRunning(Ticket ticket) {
+        ticket.consumedNanos += System.nanoTime() - ticket.sliceStartNanos;
+        ticket.state = TicketState.IDLE;
+        runningCount--;
+    }
+
+    private enum TicketState {
+        IDLE,
+        WAITING,
+        RUNNING
+    }
+
+    /**
+     * The scheduling state of 1 solver job.
+     */
+    static final class Ticket {
+
+        private final Object problemId;
+        private volatile TicketState state = TicketState.IDLE;
+        /**
+         * Not null while the solver job hasn't started yet.
+         */
+        private RunnableFuture<?> task = null;
+        private volatile long sliceStartNanos = 0L;
+        private int priority = 0;
+        private long consumedNanos = 0L;
+        private long sequence = -1L;
+
+        private Ticket(Object problemId) {
+            this.problemId = problemId;
+        }
+
+        @Override
+        public String toString() {
+            return "Ticket(" + problemId + ")";
+        }
+
+    }
+
+}
@@ -1,10 +1,13 @@
 package ai.timefold.solver.core.impl.solver.event;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChange;
 import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
 import ai.timefold.solver.core.api.solver.event.SolverEventListener;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
@@ -35,4 +38,51 @@ public class SolverEventSupport<Solution_> extends AbstractEventSupport<SolverEv
         }
     }
 
+    /**
+     * Unlike {@link #fireBestSolutionChanged(SolverScope, Object)},
+     * the best solution is only planning cloned if an event listener asks for it.
+     *
+     * @param solverScope never null
+     * @param changeListSupplier never null, only called if there is an event listener
+     */
+    public void fireBestSolutionChanged(SolverScope<Solution_> solverScope,
+            Supplier<List<BestSolutionChange>> changeListSupplier) {
+        final Iterator<SolverEventListener<Solution_>> it = getEventListeners().iterator();
+        long timeMillisSpent = solverScope.getBestSolutionTimeMillisSpent();
+        Score bestScore = solverScope.getBestScore();
+        if (it.hasNext()) {
+            LazyBestSolutionSupplier<Solution_> newBestSolutionSupplier = new LazyBestSolutionSupplier<>(solverScope);
+            final BestSolutionChangedEvent<Solution_> event = new BestSolutionChangedEvent<>(solver,
+                    timeMillisSpent, newBestSolutionSupplier, bestScore, changeListSupplier.get());
+            try {
+                do {
+                    it.next().bestSolutionChanged(event);
+                } while (it.hasNext());
+            } finally {
+                newBestSolutionSupplier.solverScope = null;
+            }
+        }
+    }
+
+    private static final class LazyBestSolutionSupplier<Solution_> implements Supplier<Solution_> {
+
+        private SolverScope<Solution_> solverScope;
+
+        private LazyBestSolutionSupplier(SolverScope<Solution_> solverScope) {
+            this.solverScope = solverScope;
+        }
+
+        @Override
+        public Solution_ get() {
+            if (solverScope == null) {
+                throw new IllegalStateException("The newBestSolution of a "
+                        + BestSolutionChangedEvent.class.getSimpleName()
+                        + " is only available during the bestSolutionChanged() call, in the solver thread.\n"
+                        + "Maybe call getNewBestSolution() before the event listener returns.");
+            }
+            return solverScope.getBestSolution();
+        }
+
+    }
+
 }
@@ -0,0 +1,246 @@
+package ai.timefold.solver.core.impl.solver.recaller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChange;
+import ai.timefold.solver.core.config.solver.BestSolutionEventMode;
+import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Records the {@link PlanningSolution best solution} as the values of the genuine planning variables
+ * of the working solution, instead of planning cloning it.
+ * <p>
+ * Every genuine planning variable of every planning entity of the working solution is a slot,
+ * in the order of {@link SolutionDescriptor#visitAllEntities}.
+ * The slots stay valid as long as the working solution keeps the same planning entities,
+ * so after a real-time problem change, {@link #resetWorkingSolution(Object)} must be called again,
+ * and after the working solution is replaced by a planning clone of the best solution,
+ * {@link #rebaseWorkingSolution(Object)} must be called.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see BestSolutionEventMode#CHANGE_LIST
+ */
+public final class BestSolutionChangeTracker<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final Map<Class<?>, MemberAccessor> planningIdAccessorMap = new HashMap<>();
+
+    private Solution_ workingSolution = null;
+    private int slotCount = 0;
+    private Object[] slotEntities = new Object[0];
+    private Object[] slotEntityIds = new Object[0];
+    private GenuineVariableDescriptor<Solution_>[] slotVariableDescriptors = new GenuineVariableDescriptor[0];
+    /**
+     * The values of the best solution.
+     */
+    private Object[] bestValues = new Object[0];
+    /**
+     * The values of the best solution of the last {@link #extractChangeList()}.
+     */
+    private Object[] publishedValues = new Object[0];
+
+    public BestSolutionChangeTracker(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+        for (EntityDescriptor<Solution_> entityDescriptor : solutionDescriptor.getGenuineEntityDescriptors()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                if (variableDescriptor.isListVariable() || variableDescriptor.isChained()) {
+                    throw new IllegalArgumentException("The bestSolutionEventMode ("
+                            + BestSolutionEventMode.CHANGE_LIST + ") does not support the "
+                            + (variableDescriptor.isListVariable() ? "list" : "chained")
+                            + " variable (" + variableDescriptor.getVariableName()
+                            + ") of the entity class (" + entityDescriptor.getEntityClass().getName() + ").\n"
+                            + "Maybe use the bestSolutionEventMode (" + BestSolutionEventMode.FULL_SOLUTION + ").");
+                }
+            }
+            // Fail fast, even if there are no entities of that class yet
+            findPlanningIdAccessor(entityDescriptor.getEntityClass());
+        }
+    }
+
+    private MemberAccessor findPlanningIdAccessor(Class<?> entityClass) {
+        return planningIdAccessorMap.computeIfAbsent(entityClass, key -> {
+            MemberAccessor planningIdAccessor = ConfigUtils.findPlanningIdMemberAccessor(key,
+                    solutionDescriptor.getMemberAccessorFactory(), solutionDescriptor.getDomainAccessType());
+            if (planningIdAccessor == null) {
+                throw new IllegalArgumentException("The bestSolutionEventMode (" + BestSolutionEventMode.CHANGE_LIST
+                        + ") requires that the entity class (" + key.getName()
+                        + ") has a member with a @" + PlanningId.class.getSimpleName() + " annotation.\n"
+                        + "Maybe add a @" + PlanningId.class.getSimpleName() + " annotation"
+                        + " or use the bestSolutionEventMode (" + BestSolutionEventMode.FULL_SOLUTION + ").");
+            }
+            return planningIdAccessor;
+        });
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * Rebuilds the slots from the planning entities of the working solution,
+     * which becomes both the best solution and the published best solution.
+     *
+     * @param workingSolution never null
+     */
+    public void resetWorkingSolution(Solution_ workingSolution) {
+        buildSlots(workingSolution);
+        bestValues = readWorkingValues();
+        publishedValues = bestValues.clone();
+    }
+
+    /**
+     * Like {@link #resetWorkingSolution(Object)},
+     * but the next {@link #extractChangeList()} still diffs against the last published best solution.
+     * Only call this when the working solution is a planning clone of the previous best solution,
+     * so it has the same planning entities.
+     *
+     * @param workingSolution never null
+     */
+    public void rebaseWorkingSolution(Solution_ workingSolution) {
+        int oldSlotCount = slotCount;
+        Object[] oldSlotEntityIds = slotEntityIds;
+        GenuineVariableDescriptor<Solution_>[] oldSlotVariableDescriptors = slotVariableDescriptors;
+        Object[] oldPublishedValues = publishedValues;
+        resetWorkingSolution(workingSolution);
+        if (slotCount != oldSlotCount) {
+            throw new IllegalStateException("Impossible state: the new working solution (" + workingSolution
+                    + ") has a different number of genuine variables (" + slotCount
+                    + ") than the previous one (" + oldSlotCount + ").");
+        }
+        for (int i = 0; i < slotCount; i++) {
+            if (slotVariableDescriptors[i] != oldSlotVariableDescriptors[i]
+                    || !slotEntityIds[i].equals(oldSlotEntityIds[i])) {
+                throw new IllegalStateException("Impossible state: the new working solution (" + workingSolution
+                        + ") has the entity (" + slotEntities[i] + ") with a planning ID (" + slotEntityIds[i]
+                        + ") in another order than the previous one.");
+            }
+        }
+        publishedValues = oldPublishedValues;
+    }
+
+    /**
+     * @param workingSolution never null
+     * @return true if the slots were built from that working solution instance
+     */
+    public boolean isTracking(Solution_ workingSolution) {
+        return this.workingSolution == workingSolution;
+    }
+
+    private void buildSlots(Solution_ workingSolution) {
+        this.workingSolution = workingSolution;
+        List<Object> entityList = new ArrayList<>();
+        List<GenuineVariableDescriptor<Solution_>> variableDescriptorList = new ArrayList<>();
+        solutionDescriptor.visitAllEntities(workingSolution, entity -> {
+            EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                entityList.add(entity);
+                variableDescriptorList.add(variableDescriptor);
+            }
+        });
+        slotCount = entityList.size();
+        slotEntities = entityList.toArray();
+        slotVariableDescriptors = variableDescriptorList.toArray(new GenuineVariableDescriptor[0]);
+        slotEntityIds = new Object[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            Object entity = slotEntities[i];
+            Object entityId = findPlanningIdAccessor(entity.getClass()).executeGetter(entity);
+            if (entityId == null) {
+                throw new IllegalStateException("The entity (" + entity + ") of the class (" + entity.getClass().getName()
+                        + ") has a null planning ID, so the bestSolutionEventMode ("
+                        + BestSolutionEventMode.CHANGE_LIST + ") can't identify it.");
+            }
+            slotEntityIds[i] = entityId;
+        }
+    }
+
+    /**
+     * Records the working solution as the best solution.
+     * Costs one variable read per slot, much less than a planning clone.
+     */
+    public void recordBestSolution() {
+        for (int i = 0; i < slotCount; i++) {
+            bestValues[i] = slotVariableDescriptors[i].getValue(slotEntities[i]);
+        }
+    }
+
+    /**
+     * @return never null, the slots of the best solution that differ from the previous call,
+     *         or from the last {@link #resetWorkingSolution(Object)}
+     */
+    public List<BestSolutionChange> extractChangeList() {
+        List<BestSolutionChange> changeList = new ArrayList<>();
+        for (int i = 0; i < slotCount; i++) {
+            Object bestValue = bestValues[i];
+            if (bestValue != publishedValues[i]) {
+                changeList.add(new BestSolutionChange(slotEntities[i].getClass(), slotEntityIds[i],
+                        slotVariableDescriptors[i].getVariableName(), bestValue));
+                publishedValues[i] = bestValue;
+            }
+        }
+        return changeList;
+    }
+
+    /**
+     * Planning clones the best solution, by temporarily changing the working solution into it.
+     * Afterwards, the working solution has the same values as before.
+     *
+     * @param scoreDirector never null
+     * @param bestScore never null
+     * @return never null, a planning clone
+     */
+    public Solution_ cloneBestSolution(InnerScoreDirector<Solution_, ?> scoreDirector, Score bestScore) {
+        Object[] workingValues = readWorkingValues();
+        applyValues(scoreDirector, bestValues);
+        Solution_ bestSolution = scoreDirector.snapshotWorkingSolution();
+        applyValues(scoreDirector, workingValues);
+        solutionDescriptor.setScore(bestSolution, bestScore);
+        return bestSolution;
+    }
+
+    /**
+     * Changes the working solution into the best solution,
+     * so the score director only processes the slots that differ.
+     *
+     * @param scoreDirector never null
+     */
+    public void restoreBestSolution(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        applyValues(scoreDirector, bestValues);
+    }
+
+    private Object[] readWorkingValues() {
+        Object[] values = new Object[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            values[i] = slotVariableDescriptors[i].getValue(slotEntities[i]);
+        }
+        return values;
+    }
+
+    private void applyValues(InnerScoreDirector<Solution_, ?> scoreDirector, Object[] values) {
+        boolean changed = false;
+        for (int i = 0; i < slotCount; i++) {
+            GenuineVariableDescriptor<Solution_> variableDescriptor = slotVariableDescriptors[i];
+            Object entity = slotEntities[i];
+            if (variableDescriptor.getValue(entity) != values[i]) {
+                scoreDirector.changeVariableFacade(variableDescriptor, entity, values[i]);
+                changed = true;
+            }
+        }
+        if (changed) {
+            scoreDirector.triggerVariableListeners();
+        }
+    }
+
+}
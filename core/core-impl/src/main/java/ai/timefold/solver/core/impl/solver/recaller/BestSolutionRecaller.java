@@ -3,6 +3,8 @@ package ai.timefold.solver.core.impl.solver.recaller;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
+import ai.timefold.solver.core.config.solver.BestSolutionEventMode;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
@@ -23,6 +25,15 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
 
     protected SolverEventSupport<Solution_> solverEventSupport;
 
+    /**
+     * Null unless {@link BestSolutionEventMode#CHANGE_LIST}.
+     */
+    protected BestSolutionChangeTracker<Solution_> bestSolutionChangeTracker = null;
+    protected long bestSolutionEventThrottlingDelayMillis = 0L;
+
+    private long lastBestSolutionEventTimeMillis = 0L;
+    private boolean bestSolutionEventPending = false;
+
     public void setAssertInitialScoreFromScratch(boolean assertInitialScoreFromScratch) {
         this.assertInitialScoreFromScratch = assertInitialScoreFromScratch;
     }
@@ -39,6 +50,14 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         this.solverEventSupport = solverEventSupport;
     }
 
+    public void setBestSolutionChangeTracker(BestSolutionChangeTracker<Solution_> bestSolutionChangeTracker) {
+        this.bestSolutionChangeTracker = bestSolutionChangeTracker;
+    }
+
+    public void setBestSolutionEventThrottlingDelayMillis(long bestSolutionEventThrottlingDelayMillis) {
+        this.bestSolutionEventThrottlingDelayMillis = bestSolutionEventThrottlingDelayMillis;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -63,6 +82,38 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         if (assertShadowVariablesAreNotStale) {
             scoreDirector.assertShadowVariablesAreNotStale(score, "Initial score calculated");
         }
+        if (bestSolutionChangeTracker != null) {
+            bestSolutionChangeTracker.resetWorkingSolution(solverScope.getWorkingSolution());
+        }
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        if (bestSolutionChangeTracker != null) {
+            Solution_ workingSolution = phaseScope.getWorkingSolution();
+            if (!bestSolutionChangeTracker.isTracking(workingSolution)) {
+                // The previous phase ended with a planning clone of the best solution as the new working solution
+                bestSolutionChangeTracker.rebaseWorkingSolution(workingSolution);
+            }
+        }
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        if (bestSolutionEventPending && isBestSolutionEventDue()) {
+            fireBestSolutionChanged(stepScope.getPhaseScope().getSolverScope());
+        }
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        if (bestSolutionEventPending) {
+            fireBestSolutionChanged(solverScope);
+        }
+        if (bestSolutionChangeTracker != null) {
+            // Planning clone the best solution while the score director is still open
+            solverScope.getBestSolution();
+        }
     }
 
     public void processWorkingSolutionDuringConstructionHeuristicsStep(AbstractStepScope<Solution_> stepScope) {
@@ -84,8 +135,12 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = stepScope.createOrGetClonedSolution();
-            updateBestSolutionAndFire(solverScope, score, newBestSolution);
+            if (bestSolutionChangeTracker != null) {
+                updateBestSolutionLazilyAndFire(solverScope, score);
+            } else {
+                Solution_ newBestSolution = stepScope.createOrGetClonedSolution();
+                updateBestSolutionAndFire(solverScope, score, newBestSolution);
+            }
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
         }
@@ -102,43 +157,99 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
-            updateBestSolutionAndFire(solverScope, score, newBestSolution);
+            if (bestSolutionChangeTracker != null) {
+                updateBestSolutionLazilyAndFire(solverScope, score);
+            } else {
+                Solution_ newBestSolution = solverScope.getScoreDirector().snapshotWorkingSolution();
+                updateBestSolutionAndFire(solverScope, score, newBestSolution);
+            }
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
         }
     }
 
     public void updateBestSolutionAndFire(SolverScope<Solution_> solverScope) {
+        if (bestSolutionChangeTracker != null) {
+            Score newBestScore = solverScope.getSolutionDescriptor().getScore(solverScope.getWorkingSolution());
+            updateBestSolutionLazilyAndFire(solverScope, newBestScore);
+            return;
+        }
         updateBestSolutionWithoutFiring(solverScope);
-        solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+        fireOrDelayBestSolutionChanged(solverScope);
     }
 
+    /**
+     * Called after real-time problem changes, which might have added or removed planning entities.
+     * The {@link BestSolutionChangedEvent} is never delayed,
+     * so the problem changes are visible as soon as possible.
+     *
+     * @param solverScope never null
+     */
     public void updateBestSolutionAndFireIfInitialized(SolverScope<Solution_> solverScope) {
         updateBestSolutionWithoutFiring(solverScope);
+        if (bestSolutionChangeTracker != null) {
+            bestSolutionChangeTracker.resetWorkingSolution(solverScope.getWorkingSolution());
+        }
+        bestSolutionEventPending = false;
         if (solverScope.isBestSolutionInitialized()) {
+            lastBestSolutionEventTimeMillis = System.currentTimeMillis();
             solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
         }
     }
 
     private void updateBestSolutionAndFire(SolverScope<Solution_> solverScope, Score bestScore, Solution_ bestSolution) {
         updateBestSolutionWithoutFiring(solverScope, bestScore, bestSolution);
-        solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+        fireOrDelayBestSolutionChanged(solverScope);
+    }
+
+    private void updateBestSolutionLazilyAndFire(SolverScope<Solution_> solverScope, Score bestScore) {
+        bestSolutionChangeTracker.recordBestSolution();
+        solverScope.setBestSolutionLazily(bestSolutionChangeTracker);
+        updateBestScoreWithoutFiring(solverScope, bestScore);
+        fireOrDelayBestSolutionChanged(solverScope);
+    }
+
+    private void fireOrDelayBestSolutionChanged(SolverScope<Solution_> solverScope) {
+        if (isBestSolutionEventDue()) {
+            fireBestSolutionChanged(solverScope);
+        } else {
+            // Coalesced into the next event
+            bestSolutionEventPending = true;
+        }
+    }
+
+    private boolean isBestSolutionEventDue() {
+        return bestSolutionEventThrottlingDelayMillis <= 0L
+                || System.currentTimeMillis() - lastBestSolutionEventTimeMillis >= bestSolutionEventThrottlingDelayMillis;
+    }
+
+    private void fireBestSolutionChanged(SolverScope<Solution_> solverScope) {
+        bestSolutionEventPending = false;
+        lastBestSolutionEventTimeMillis = System.currentTimeMillis();
+        if (bestSolutionChangeTracker != null) {
+            solverEventSupport.fireBestSolutionChanged(solverScope, bestSolutionChangeTracker::extractChangeList);
+        } else {
+            solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+        }
     }
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope) {
-        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        Solution_ newBestSolution = solverScope.getScoreDirector().snapshotWorkingSolution();
         Score newBestScore = solverScope.getSolutionDescriptor().getScore(newBestSolution);
         updateBestSolutionWithoutFiring(solverScope, newBestScore, newBestSolution);
     }
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope, Score bestScore, Solution_ bestSolution) {
+        solverScope.setBestSolution(bestSolution);
+        updateBestScoreWithoutFiring(solverScope, bestScore);
+    }
+
+    private void updateBestScoreWithoutFiring(SolverScope<Solution_> solverScope, Score bestScore) {
         if (bestScore.isSolutionInitialized()) {
             if (!solverScope.isBestSolutionInitialized()) {
                 solverScope.setStartingInitializedScore(bestScore);
             }
         }
-        solverScope.setBestSolution(bestSolution);
         solverScope.setBestScore(bestScore);
         solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
     }
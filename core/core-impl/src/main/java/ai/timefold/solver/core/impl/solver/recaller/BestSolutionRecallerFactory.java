@@ -1,6 +1,10 @@
 package ai.timefold.solver.core.impl.solver.recaller;
 
+import java.time.Duration;
+
+import ai.timefold.solver.core.config.solver.BestSolutionEventMode;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 
 public class BestSolutionRecallerFactory {
 
@@ -17,4 +21,22 @@ public class BestSolutionRecallerFactory {
         }
         return bestSolutionRecaller;
     }
+
+    public <Solution_> BestSolutionRecaller<Solution_> buildBestSolutionRecaller(EnvironmentMode environmentMode,
+            BestSolutionEventMode bestSolutionEventMode, Duration bestSolutionEventThrottlingDelay,
+            SolutionDescriptor<Solution_> solutionDescriptor) {
+        BestSolutionRecaller<Solution_> bestSolutionRecaller = buildBestSolutionRecaller(environmentMode);
+        if (bestSolutionEventMode == BestSolutionEventMode.CHANGE_LIST) {
+            bestSolutionRecaller.setBestSolutionChangeTracker(new BestSolutionChangeTracker<>(solutionDescriptor));
+        }
+        if (bestSolutionEventThrottlingDelay != null) {
+            if (bestSolutionEventThrottlingDelay.isNegative()) {
+                throw new IllegalArgumentException("The bestSolutionEventThrottlingDelay ("
+                        + bestSolutionEventThrottlingDelay + ") cannot be negative.");
+            }
+            bestSolutionRecaller.setBestSolutionEventThrottlingDelayMillis(bestSolutionEventThrottlingDelay.toMillis());
+        }
+        return bestSolutionRecaller;
+    }
+
 }
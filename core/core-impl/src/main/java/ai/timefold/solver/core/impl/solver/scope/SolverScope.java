@@ -18,6 +18,7 @@ import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
+import ai.timefold.solver.core.impl.solver.recaller.BestSolutionChangeTracker;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
 import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
@@ -45,6 +46,10 @@ public class SolverScope<Solution_> {
     protected Score startingInitializedScore;
 
     protected volatile Solution_ bestSolution;
+    /**
+     * Null unless the best solution is only recorded by the tracker and not yet planning cloned into {@link #bestSolution}.
+     */
+    private BestSolutionChangeTracker<Solution_> bestSolutionChangeTracker;
     protected volatile Score bestScore;
     protected Long bestSolutionTimeMillis;
     /**
@@ -164,7 +169,17 @@ public class SolverScope<Solution_> {
         return scoreDirector.getCalculationCount() + childThreadsScoreCalculationCount;
     }
 
+    /**
+     * Only call this in the solver thread,
+     * because it might planning clone the best solution from the working solution.
+     *
+     * @return never null
+     */
     public Solution_ getBestSolution() {
+        if (bestSolutionChangeTracker != null) {
+            bestSolution = bestSolutionChangeTracker.cloneBestSolution(scoreDirector, bestScore);
+            bestSolutionChangeTracker = null;
+        }
         return bestSolution;
     }
 
@@ -176,6 +191,19 @@ public class SolverScope<Solution_> {
      */
     public void setBestSolution(Solution_ bestSolution) {
         this.bestSolution = bestSolution;
+        this.bestSolutionChangeTracker = null;
+    }
+
+    /**
+     * Like {@link #setBestSolution(Object)},
+     * but the best solution is only planning cloned when {@link #getBestSolution()} is called.
+     *
+     * @param bestSolutionChangeTracker never null, it must have {@link BestSolutionChangeTracker#recordBestSolution()
+     *        recorded} the best solution
+     */
+    public void setBestSolutionLazily(BestSolutionChangeTracker<Solution_> bestSolutionChangeTracker) {
+        this.bestSolution = null;
+        this.bestSolutionChangeTracker = bestSolutionChangeTracker;
     }
 
     public Score getBestScore() {
@@ -238,10 +266,34 @@ public class SolverScope<Solution_> {
     }
 
     public void setWorkingSolutionFromBestSolution() {
+        if (bestSolutionChangeTracker != null) {
+            // The best solution hasn't been planning cloned yet, so change the working solution into it instead.
+            bestSolutionChangeTracker.restoreBestSolution(scoreDirector);
+            return;
+        }
         // The workingSolution must never be the same instance as the bestSolution.
         scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(bestSolution));
     }
 
+    /**
+     * Like {@link #setWorkingSolutionFromBestSolution()},
+     * but if possible, it only changes the genuine variables of the working solution that differ from the best solution,
+     * so the score director keeps its state instead of rebuilding it from scratch.
+     * Only call this when the working solution and the best solution are planning clones of each other,
+     * for example between restarts of the same solve.
+     *
+     * @see InnerScoreDirector#restoreWorkingSolution(Object)
+     */
+    public void restoreWorkingSolutionFromBestSolution() {
+        if (bestSolutionChangeTracker != null) {
+            bestSolutionChangeTracker.restoreBestSolution(scoreDirector);
+            return;
+        }
+        if (!scoreDirector.restoreWorkingSolution(bestSolution)) {
+            setWorkingSolutionFromBestSolution();
+        }
+    }
+
     public SolverScope<Solution_> createChildThreadSolverScope(ChildThreadType childThreadType) {
         SolverScope<Solution_> childThreadSolverScope = new SolverScope<>();
         childThreadSolverScope.monitoringTags = monitoringTags;
@@ -255,6 +307,7 @@ public class SolverScope<Solution_> {
         childThreadSolverScope.endingSystemTimeMillis = null;
         childThreadSolverScope.startingInitializedScore = null;
         childThreadSolverScope.bestSolution = null;
+        childThreadSolverScope.bestSolutionChangeTracker = null;
         childThreadSolverScope.bestScore = null;
         childThreadSolverScope.bestSolutionTimeMillis = null;
         return childThreadSolverScope;
@@ -1,10 +1,11 @@
 package ai.timefold.solver.core.impl.solver.thread;
 
+import ai.timefold.solver.core.impl.islandsearch.IslandSearchPhase;
 import ai.timefold.solver.core.impl.partitionedsearch.PartitionedSearchPhase;
 
 public enum ChildThreadType {
     /**
-     * Used by {@link PartitionedSearchPhase}.
+     * Used by {@link PartitionedSearchPhase} and {@link IslandSearchPhase}.
      */
     PART_THREAD,
     /**
@@ -0,0 +1,76 @@
+package ai.timefold.solver.core.impl.statistic;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintProfile;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+public class ConstraintProfileStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    private final Map<Solver<Solution_>, PhaseLifecycleListenerAdapter<Solution_>> solverToPhaseLifecycleListenerMap =
+            new WeakHashMap<>();
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        PhaseLifecycleListenerAdapter<Solution_> listener = solverToPhaseLifecycleListenerMap.remove(solver);
+        if (listener != null) {
+            ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+        }
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        ConstraintProfileStatisticListener<Solution_> listener = new ConstraintProfileStatisticListener<>();
+        solverToPhaseLifecycleListenerMap.put(solver, listener);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    private static class ConstraintProfileStatisticListener<Solution_> extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private final Map<Tags, AtomicLong> tagsToTupleCountMap = new ConcurrentHashMap<>();
+        private final Map<Tags, AtomicLong> tagsToPropagationCountMap = new ConcurrentHashMap<>();
+        private final Map<Tags, AtomicLong> tagsToNanosMap = new ConcurrentHashMap<>();
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+            if (!scoreDirector.isConstraintProfilingEnabled()) {
+                return;
+            }
+            Tags monitoringTags = stepScope.getPhaseScope().getSolverScope().getMonitoringTags();
+            for (ConstraintProfile constraintProfile : scoreDirector.getConstraintProfileMap().values()) {
+                Tags tags = monitoringTags.and(
+                        "constraint.package", constraintProfile.getConstraintPackage(),
+                        "constraint.name", constraintProfile.getConstraintName());
+                updateGauge(".tuple.count", tags, tagsToTupleCountMap, constraintProfile.getTupleCount());
+                updateGauge(".propagation.count", tags, tagsToPropagationCountMap,
+                        constraintProfile.getPropagationCount());
+                updateGauge(".nanos", tags, tagsToNanosMap, constraintProfile.getNanos());
+            }
+        }
+
+        private static void updateGauge(String meterIdSuffix, Tags tags, Map<Tags, AtomicLong> tagsToValueMap,
+                long value) {
+            AtomicLong gaugeValue = tagsToValueMap.get(tags);
+            if (gaugeValue != null) {
+                gaugeValue.set(value);
+            } else {
+                tagsToValueMap.put(tags,
+                        Metrics.gauge(SolverMetric.CONSTRAINT_PROFILE.getMeterId() + meterIdSuffix, tags,
+                                new AtomicLong(value)));
+            }
+        }
+    }
+}
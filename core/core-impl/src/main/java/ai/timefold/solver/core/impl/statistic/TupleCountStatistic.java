@@ -0,0 +1,62 @@
+package ai.timefold.solver.core.impl.statistic;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+public class TupleCountStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    private final Map<Solver<Solution_>, PhaseLifecycleListenerAdapter<Solution_>> solverToPhaseLifecycleListenerMap =
+            new WeakHashMap<>();
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        PhaseLifecycleListenerAdapter<Solution_> listener = solverToPhaseLifecycleListenerMap.remove(solver);
+        if (listener != null) {
+            ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+        }
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        TupleCountStatisticListener<Solution_> listener = new TupleCountStatisticListener<>();
+        solverToPhaseLifecycleListenerMap.put(solver, listener);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    private static class TupleCountStatisticListener<Solution_> extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private AtomicLong createdTupleCount = null;
+        private AtomicLong reusedTupleCount = null;
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+            long created = scoreDirector.getCreatedTupleCount();
+            if (created < 0L) {
+                return;
+            }
+            long reused = scoreDirector.getReusedTupleCount();
+            if (createdTupleCount == null) {
+                Tags tags = stepScope.getPhaseScope().getSolverScope().getMonitoringTags();
+                String meterId = SolverMetric.CONSTRAINT_STREAM_TUPLE_COUNT.getMeterId();
+                createdTupleCount = Metrics.gauge(meterId + ".created", tags, new AtomicLong(created));
+                reusedTupleCount = Metrics.gauge(meterId + ".reused", tags, new AtomicLong(reused));
+            } else {
+                createdTupleCount.set(created);
+                reusedTupleCount.set(reused);
+            }
+        }
+    }
+}
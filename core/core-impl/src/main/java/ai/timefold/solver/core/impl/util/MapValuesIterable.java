@@ -1,12 +1,12 @@
-package ai.timefold.solver.examples.common.experimental.impl;
+package ai.timefold.solver.core.impl.util;
 
 import java.util.Iterator;
 import java.util.Map;
 
-final class MapValuesIterable<Key_, Value_> implements Iterable<Value_> {
+public final class MapValuesIterable<Key_, Value_> implements Iterable<Value_> {
     private final Map<Key_, ? extends Value_> sourceMap;
 
-    MapValuesIterable(Map<Key_, ? extends Value_> sourceMap) {
+    public MapValuesIterable(Map<Key_, ? extends Value_> sourceMap) {
         this.sourceMap = sourceMap;
     }
 
@@ -25,6 +25,7 @@ import java.math.BigInteger;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.Period;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,10 @@ import java.util.function.Function;
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRangeChain;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.tri.TriConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
@@ -3924,6 +3929,171 @@ class ConstraintCollectorsTest {
         assertResult(collector, container, Quadruple.of(0, null, null, null));
     }
 
+    // ************************************************************************
+    // consecutive collectors
+    // ************************************************************************
+
+    @Test
+    void toConsecutiveSequences() {
+        // Do a basic test w/o edge cases; edge cases are covered in ConsecutiveSetTreeTest
+        UniConstraintCollector<Integer, ?, SequenceChain<Integer, Integer>> collector =
+                ConstraintCollectors.toConsecutiveSequences(Integer::intValue);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertSequences(finish(collector, container));
+        // Add first value, sequence is [2]
+        int firstValue = 2;
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertSequences(finish(collector, container), List.of(2));
+        // Add second value, sequence is [1,2]
+        int secondValue = 1;
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertSequences(finish(collector, container), List.of(1, 2));
+        // Add third value, same as the second. The sequence still contains it once: [1,2]
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertSequences(finish(collector, container), List.of(1, 2));
+        // Add fourth value, not consecutive. Sequences are [1,2] and [4]
+        Runnable fourthRetractor = accumulate(collector, container, 4);
+        assertSequences(finish(collector, container), List.of(1, 2), List.of(4));
+        // Retract one instance of the second value; the other instance remains.
+        secondRetractor.run();
+        assertSequences(finish(collector, container), List.of(1, 2), List.of(4));
+        // Retract final instance of the second value.
+        thirdRetractor.run();
+        assertSequences(finish(collector, container), List.of(2), List.of(4));
+        // Retract last values; there are no values now.
+        fourthRetractor.run();
+        firstRetractor.run();
+        assertSequences(finish(collector, container));
+    }
+
+    @Test
+    void toConsecutiveSequencesBi() {
+        BiConstraintCollector<Integer, Integer, ?, SequenceChain<Integer, Integer>> collector =
+                ConstraintCollectors.toConsecutiveSequences(Integer::sum, Integer::intValue);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertSequences(finish(collector, container));
+        // Add first value, sequence is [2]
+        Runnable firstRetractor = accumulate(collector, container, 1, 1);
+        assertSequences(finish(collector, container), List.of(2));
+        // Add second value, sequences are [2] and [5]
+        Runnable secondRetractor = accumulate(collector, container, 2, 3);
+        assertSequences(finish(collector, container), List.of(2), List.of(5));
+        // Add third and fourth value, joining both sequences into [2,3,4,5]
+        Runnable thirdRetractor = accumulate(collector, container, 0, 3);
+        assertSequences(finish(collector, container), List.of(2, 3), List.of(5));
+        Runnable fourthRetractor = accumulate(collector, container, 0, 4);
+        assertSequences(finish(collector, container), List.of(2, 3, 4, 5));
+        // Retract the middle value, splitting the sequence again.
+        thirdRetractor.run();
+        assertSequences(finish(collector, container), List.of(2), List.of(4, 5));
+        // Retract all values; there are no values now.
+        fourthRetractor.run();
+        secondRetractor.run();
+        firstRetractor.run();
+        assertSequences(finish(collector, container));
+    }
+
+    @Test
+    void toConnectedRanges() {
+        // Do a basic test w/o edge cases; edge cases are covered in IntervalTreeTest
+        UniConstraintCollector<Range, ?, ConnectedRangeChain<Range, Integer, Integer>> collector =
+                ConstraintCollectors.toConnectedRanges(Range::start, Range::end, (a, b) -> b - a);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertConnectedRanges(finish(collector, container));
+        // Add first value, ranges are [(1,3)]
+        Range firstValue = new Range(1, 3);
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertConnectedRanges(finish(collector, container), List.of(firstValue));
+        // Add second value, ranges are [(1,3),(2,4)]
+        Range secondValue = new Range(2, 4);
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertConnectedRanges(finish(collector, container), List.of(firstValue, secondValue));
+        // Add third value, same as the second. Ranges are [(1,3),(2,4),(2,4)]
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertConnectedRanges(finish(collector, container), List.of(firstValue, secondValue, secondValue));
+        // Add fourth value, after a gap. Ranges are [(1,3),(2,4),(2,4)] and [(6,7)]
+        Range fourthValue = new Range(6, 7);
+        Runnable fourthRetractor = accumulate(collector, container, fourthValue);
+        assertConnectedRanges(finish(collector, container), List.of(firstValue, secondValue, secondValue), List.of(fourthValue));
+        // Retract one instance of the second value.
+        secondRetractor.run();
+        assertConnectedRanges(finish(collector, container), List.of(firstValue, secondValue), List.of(fourthValue));
+        // Retract final instance of the second value.
+        thirdRetractor.run();
+        assertConnectedRanges(finish(collector, container), List.of(firstValue), List.of(fourthValue));
+        // Retract last values; there are no values now.
+        fourthRetractor.run();
+        firstRetractor.run();
+        assertConnectedRanges(finish(collector, container));
+    }
+
+    @Test
+    void toConnectedRangesLongBi() {
+        BiConstraintCollector<Integer, Integer, ?, ConnectedRangeChain<Range, Long, Long>> collector =
+                ConstraintCollectors.toConnectedRanges(Range::new, Range::start, Range::end);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertConnectedRanges(finish(collector, container));
+        // Add first value, ranges are [(1,3)]
+        Runnable firstRetractor = accumulate(collector, container, 1, 3);
+        assertConnectedRanges(finish(collector, container), List.of(new Range(1, 3)));
+        // Add second value, touching the first. Ranges are [(1,3),(3,5)]
+        Runnable secondRetractor = accumulate(collector, container, 3, 5);
+        assertConnectedRanges(finish(collector, container), List.of(new Range(1, 3), new Range(3, 5)));
+        // Retract first value.
+        firstRetractor.run();
+        assertConnectedRanges(finish(collector, container), List.of(new Range(3, 5)));
+        // Retract second value; there are no values now.
+        secondRetractor.run();
+        assertConnectedRanges(finish(collector, container));
+    }
+
+    private record Range(int start, int end) {
+    }
+
+    private static <A, Container_, Result_> Result_ finish(UniConstraintCollector<A, Container_, Result_> collector,
+            Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
+    private static <A, B, Container_, Result_> Result_ finish(BiConstraintCollector<A, B, Container_, Result_> collector,
+            Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
+    @SafeVarargs
+    private static <Value_> void assertSequences(SequenceChain<Value_, Integer> actualResult,
+            List<Value_>... expectedSequences) {
+        List<List<Value_>> actualSequences = new ArrayList<>();
+        for (Sequence<Value_, Integer> sequence : actualResult.getConsecutiveSequences()) {
+            assertThat(sequence.getCount()).isEqualTo(sequence.getItems().size());
+            actualSequences.add(new ArrayList<>(sequence.getItems()));
+        }
+        assertThat(actualSequences).containsExactly(expectedSequences);
+        assertThat(actualResult.getBreaks()).hasSize(Math.max(0, expectedSequences.length - 1));
+    }
+
+    @SafeVarargs
+    private static <Value_> void assertConnectedRanges(ConnectedRangeChain<Value_, ?, ?> actualResult,
+            List<Value_>... expectedRanges) {
+        List<List<Value_>> actualRanges = new ArrayList<>();
+        for (ConnectedRange<Value_, ?, ?> connectedRange : actualResult.getConnectedRanges()) {
+            List<Value_> actualRange = new ArrayList<>();
+            connectedRange.forEach(actualRange::add);
+            assertThat(connectedRange.size()).isEqualTo(actualRange.size());
+            actualRanges.add(actualRange);
+        }
+        assertThat(actualRanges).containsExactly(expectedRanges);
+        assertThat(actualResult.getGaps()).hasSize(Math.max(0, expectedRanges.length - 1));
+    }
+
     private static <A, B, C, Container_, Result_> Runnable accumulate(
             TriConstraintCollector<A, B, C, Container_, Result_> collector, Object container, A valueA, B valueB,
             C valueC) {
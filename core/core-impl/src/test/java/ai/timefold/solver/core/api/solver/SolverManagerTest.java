@@ -9,6 +9,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
@@ -347,6 +349,65 @@ class SolverManagerTest {
         assertThat(solverJob3.getSolverStatus()).isEqualTo(NOT_SOLVING);
     }
 
+    @Test
+    @Timeout(60)
+    void solveTimeSliced() throws InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withTerminationConfig(new TerminationConfig())
+                .withPhases(new ConstructionHeuristicPhaseConfig(), new LocalSearchPhaseConfig());
+        // Long enough to submit the other problems and set their priority before solver 1 yields
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("1")
+                .withTimeSlice(Duration.ofMillis(500)));
+        List<Long> startedProblemIdList = new CopyOnWriteArrayList<>();
+        Function<Long, TestdataSolution> problemFinder = problemId -> {
+            startedProblemIdList.add(problemId);
+            return PlannerTestUtils.generateTestdataSolution("s" + problemId, 4);
+        };
+
+        CountDownLatch solver1StartedLatch = new CountDownLatch(1);
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L, problemFinder,
+                bestSolution -> solver1StartedLatch.countDown());
+        solver1StartedLatch.await();
+
+        // Solver 1 never terminates on its own, so without time slicing, solvers 2 and 3 would never start
+        CountDownLatch solver2StartedLatch = new CountDownLatch(1);
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solveAndListen(2L, problemFinder,
+                bestSolution -> solver2StartedLatch.countDown());
+        CountDownLatch solver3StartedLatch = new CountDownLatch(1);
+        SolverJob<TestdataSolution, Long> solverJob3 = solverManager.solveAndListen(3L, problemFinder,
+                bestSolution -> solver3StartedLatch.countDown());
+        solverManager.setPriority(3L, 1);
+        solver3StartedLatch.await();
+        // The highest priority goes first, even though solver 2 was submitted earlier
+        assertThat(startedProblemIdList).containsExactly(1L, 3L);
+        assertThat(solverJob1.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+        assertThat(solverJob2.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+        assertThat(solverJob3.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+
+        // Solver 3 would keep winning on priority, so terminate it
+        solverManager.terminateEarly(3L);
+        solver2StartedLatch.await();
+        // Solver 2 consumed less solving time than the paused solver 1, so it goes next
+        assertThat(startedProblemIdList).containsExactly(1L, 3L, 2L);
+        assertThat(solverJob2.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+
+        // Whichever solver is paused, terminates too
+        solverManager.terminateEarly(1L);
+        solverManager.terminateEarly(2L);
+        assertThat(solverJob1.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        assertThat(solverJob2.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        assertThat(solverJob3.getSolverStatus()).isEqualTo(NOT_SOLVING);
+    }
+
+    @Test
+    void setPriorityWithoutTimeSlice() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig());
+        assertThatIllegalStateException().isThrownBy(() -> solverManager.setPriority(1L, 1))
+                .withMessageContaining("timeSlice");
+    }
+
     /**
      * Tests whether SolverManager can solve on multiple threads problems that use multiple thread counts.
      */
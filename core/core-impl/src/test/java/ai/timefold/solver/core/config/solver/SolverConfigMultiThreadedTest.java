@@ -24,6 +24,19 @@ class SolverConfigMultiThreadedTest {
         runSolvingAndVerifySolution(10, 20, "256");
     }
 
+    @Test
+    @Timeout(5)
+    void solvingWithBusySpinFinishes() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setMoveThreadBusySpinEnabled(true);
+
+        TestdataSolution solution = PlannerTestUtils.solve(solverConfig, createTestSolution(10, 20));
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+    }
+
     @Disabled("PLANNER-1180")
     @Test
     @Timeout(5)
@@ -158,6 +158,16 @@ class SolverConfigTest {
         assertThat(inheritedSolverConfig).usingRecursiveComparison().isEqualTo(originalSolverConfig);
     }
 
+    @Test
+    void inheritSolutionCloningThreadCount() {
+        SolverConfig parentSolverConfig = new SolverConfig().withSolutionCloningThreadCount(4);
+        assertThat(new SolverConfig().inherit(parentSolverConfig).getSolutionCloningThreadCount()).isEqualTo(4);
+        assertThat(new SolverConfig().withSolutionCloningThreadCount(2).inherit(parentSolverConfig)
+                .getSolutionCloningThreadCount()).isEqualTo(2);
+        assertThat(new SolverConfig().withSolutionCloningThreadCount(2).copyConfig()
+                .getSolutionCloningThreadCount()).isEqualTo(2);
+    }
+
     @Test
     void visitReferencedClasses() {
         SolverConfig solverConfig = readSolverConfig(TEST_SOLVER_CONFIG_WITHOUT_NAMESPACE);
@@ -44,6 +44,8 @@ import ai.timefold.solver.core.impl.testdata.domain.collection.TestdataArrayBase
 import ai.timefold.solver.core.impl.testdata.domain.collection.TestdataArrayBasedSolution;
 import ai.timefold.solver.core.impl.testdata.domain.collection.TestdataEntityCollectionPropertyEntity;
 import ai.timefold.solver.core.impl.testdata.domain.collection.TestdataEntityCollectionPropertySolution;
+import ai.timefold.solver.core.impl.testdata.domain.collection.TestdataFactCollectionEntity;
+import ai.timefold.solver.core.impl.testdata.domain.collection.TestdataFactCollectionSolution;
 import ai.timefold.solver.core.impl.testdata.domain.collection.TestdataSetBasedEntity;
 import ai.timefold.solver.core.impl.testdata.domain.collection.TestdataSetBasedSolution;
 import ai.timefold.solver.core.impl.testdata.domain.extended.TestdataUnannotatedExtendedEntity;
@@ -767,6 +769,70 @@ public abstract class AbstractSolutionClonerTest {
         assertCode(valueCode, cloneEntity.getValue());
     }
 
+    @Test
+    void cloneFactCollectionPropertySolution() {
+        SolutionDescriptor<TestdataFactCollectionSolution> solutionDescriptor =
+                TestdataFactCollectionSolution.buildSolutionDescriptor();
+        SolutionCloner<TestdataFactCollectionSolution> cloner = createSolutionCloner(solutionDescriptor);
+
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+        TestdataFactCollectionEntity a = new TestdataFactCollectionEntity("a", val1);
+        TestdataFactCollectionEntity b = new TestdataFactCollectionEntity("b", val2);
+        a.setFactList(new ArrayList<>(List.of(val1, val2)));
+        a.setFactArray(new TestdataValue[] { val2, val3 });
+        a.setCodeAssertableList(new ArrayList<>(List.of(b, val3, a)));
+        b.setFactList(new ArrayList<>());
+        b.setFactArray(new TestdataValue[] {});
+        b.setCodeAssertableList(new ArrayList<>(List.of(val1)));
+
+        TestdataFactCollectionSolution original = new TestdataFactCollectionSolution("solution");
+        List<TestdataValue> valueList = Arrays.asList(val1, val2, val3);
+        original.setValueList(valueList);
+        List<TestdataFactCollectionEntity> originalEntityList = Arrays.asList(a, b);
+        original.setEntityList(originalEntityList);
+
+        TestdataFactCollectionSolution clone = cloner.cloneSolution(original);
+
+        assertThat(clone).isNotSameAs(original);
+        assertCode("solution", clone);
+        assertThat(clone.getValueList()).isSameAs(valueList);
+        List<TestdataFactCollectionEntity> cloneEntityList = clone.getEntityList();
+        assertThat(cloneEntityList).isNotSameAs(originalEntityList);
+        assertThat(cloneEntityList).hasSize(2);
+        TestdataFactCollectionEntity cloneA = cloneEntityList.get(0);
+        TestdataFactCollectionEntity cloneB = cloneEntityList.get(1);
+        assertThat(cloneA).isNotSameAs(a);
+        assertCode("a", cloneA);
+        assertThat(cloneB).isNotSameAs(b);
+        assertCode("b", cloneB);
+
+        // The collections and arrays of problem facts are copied, but their elements are not cloned.
+        assertThat(cloneA.getFactList()).isNotSameAs(a.getFactList());
+        assertThat(cloneA.getFactList()).containsExactly(val1, val2);
+        assertThat(cloneA.getFactArray()).isNotSameAs(a.getFactArray());
+        assertThat(cloneA.getFactArray()).containsExactly(val2, val3);
+        assertThat(cloneB.getFactList()).isNotSameAs(b.getFactList());
+        assertThat(cloneB.getFactList()).isEmpty();
+        assertThat(cloneB.getFactArray()).isNotSameAs(b.getFactArray());
+        assertThat(cloneB.getFactArray()).isEmpty();
+
+        // The elements of an interface typed collection that are planning entities are still cloned.
+        assertThat(cloneA.getCodeAssertableList()).isNotSameAs(a.getCodeAssertableList());
+        assertThat(cloneA.getCodeAssertableList()).containsExactly(cloneB, val3, cloneA);
+        assertThat(cloneB.getCodeAssertableList()).isNotSameAs(b.getCodeAssertableList());
+        assertThat(cloneB.getCodeAssertableList()).containsExactly(val1);
+
+        a.getFactList().remove(val1);
+        a.getFactArray()[0] = val1;
+        a.getCodeAssertableList().remove(b);
+        // Clone remains unchanged
+        assertThat(cloneA.getFactList()).containsExactly(val1, val2);
+        assertThat(cloneA.getFactArray()).containsExactly(val2, val3);
+        assertThat(cloneA.getCodeAssertableList()).containsExactly(cloneB, val3, cloneA);
+    }
+
     @Test
     void deepPlanningClone() {
         SolutionDescriptor<TestdataDeepCloningSolution> solutionDescriptor =
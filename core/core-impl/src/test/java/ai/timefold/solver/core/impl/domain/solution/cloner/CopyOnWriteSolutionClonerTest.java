@@ -0,0 +1,139 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import ai.timefold.solver.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import ai.timefold.solver.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import ai.timefold.solver.core.impl.testdata.domain.clone.customcloner.TestdataCorrectlyClonedSolution;
+
+import org.junit.jupiter.api.Test;
+
+class CopyOnWriteSolutionClonerTest {
+
+    private final TestdataValue val1 = new TestdataValue("1");
+    private final TestdataValue val2 = new TestdataValue("2");
+
+    private TestdataSolution buildSolution(TestdataEntity... entities) {
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(val1, val2));
+        solution.setEntityList(Arrays.asList(entities));
+        return solution;
+    }
+
+    @Test
+    void reuseUnchangedEntityClones() {
+        CopyOnWriteSolutionCloner<TestdataSolution> cloner =
+                new CopyOnWriteSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val2);
+        TestdataSolution original = buildSolution(a, b);
+
+        TestdataSolution firstClone = cloner.cloneSolution(original);
+        TestdataSolution secondClone = cloner.cloneSolution(original);
+        assertThat(secondClone).isNotSameAs(firstClone);
+        assertThat(secondClone.getEntityList()).isNotSameAs(firstClone.getEntityList());
+        assertThat(secondClone.getEntityList().get(0)).isSameAs(firstClone.getEntityList().get(0));
+        assertThat(secondClone.getEntityList().get(1)).isSameAs(firstClone.getEntityList().get(1));
+        assertThat(secondClone.getEntityList()).doesNotContain(a, b);
+    }
+
+    @Test
+    void cloneChangedEntity() {
+        CopyOnWriteSolutionCloner<TestdataSolution> cloner =
+                new CopyOnWriteSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val2);
+        TestdataSolution original = buildSolution(a, b);
+
+        TestdataSolution firstClone = cloner.cloneSolution(original);
+        cloner.markDirty(a);
+        a.setValue(val2);
+        TestdataSolution secondClone = cloner.cloneSolution(original);
+        TestdataEntity secondCloneA = secondClone.getEntityList().get(0);
+        assertThat(secondCloneA).isNotSameAs(firstClone.getEntityList().get(0));
+        assertThat(secondCloneA.getValue()).isSameAs(val2);
+        assertThat(secondClone.getEntityList().get(1)).isSameAs(firstClone.getEntityList().get(1));
+        // The previous snapshot remains unchanged
+        assertThat(firstClone.getEntityList().get(0).getValue()).isSameAs(val1);
+
+        TestdataSolution thirdClone = cloner.cloneSolution(original);
+        assertThat(thirdClone.getEntityList().get(0)).isSameAs(secondCloneA);
+    }
+
+    @Test
+    void reuseEntityThatChangedBack() {
+        CopyOnWriteSolutionCloner<TestdataSolution> cloner =
+                new CopyOnWriteSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataSolution original = buildSolution(a);
+
+        TestdataSolution firstClone = cloner.cloneSolution(original);
+        cloner.markDirty(a);
+        a.setValue(val2);
+        cloner.markDirty(a);
+        a.setValue(val1);
+        TestdataSolution secondClone = cloner.cloneSolution(original);
+        assertThat(secondClone.getEntityList().get(0)).isSameAs(firstClone.getEntityList().get(0));
+    }
+
+    @Test
+    void forgetAndReset() {
+        CopyOnWriteSolutionCloner<TestdataSolution> cloner =
+                new CopyOnWriteSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        TestdataEntity a = new TestdataEntity("a", val1);
+        TestdataEntity b = new TestdataEntity("b", val2);
+        TestdataSolution original = buildSolution(a, b);
+
+        TestdataSolution firstClone = cloner.cloneSolution(original);
+        cloner.forget(a);
+        TestdataSolution secondClone = cloner.cloneSolution(original);
+        assertThat(secondClone.getEntityList().get(0)).isNotSameAs(firstClone.getEntityList().get(0));
+        assertThat(secondClone.getEntityList().get(1)).isSameAs(firstClone.getEntityList().get(1));
+
+        cloner.reset();
+        TestdataSolution thirdClone = cloner.cloneSolution(original);
+        assertThat(thirdClone.getEntityList().get(0)).isNotSameAs(secondClone.getEntityList().get(0));
+        assertThat(thirdClone.getEntityList().get(1)).isNotSameAs(secondClone.getEntityList().get(1));
+    }
+
+    @Test
+    void alwaysCloneEntitiesThatReferenceOtherEntities() {
+        SolutionDescriptor<TestdataChainedSolution> solutionDescriptor = TestdataChainedSolution.buildSolutionDescriptor();
+        CopyOnWriteSolutionCloner<TestdataChainedSolution> cloner = new CopyOnWriteSolutionCloner<>(solutionDescriptor);
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedSolution original = new TestdataChainedSolution("solution");
+        original.setChainedAnchorList(List.of(a0));
+        original.setChainedEntityList(Arrays.asList(a1, a2));
+
+        TestdataChainedSolution firstClone = cloner.cloneSolution(original);
+        TestdataChainedSolution secondClone = cloner.cloneSolution(original);
+        TestdataChainedEntity secondCloneA1 = secondClone.getChainedEntityList().get(0);
+        TestdataChainedEntity secondCloneA2 = secondClone.getChainedEntityList().get(1);
+        // The chained entity a1 only references the anchor a0, which is a problem fact
+        assertThat(secondCloneA1).isSameAs(firstClone.getChainedEntityList().get(0));
+        assertThat(secondCloneA2).isNotSameAs(firstClone.getChainedEntityList().get(1));
+        assertThat(secondCloneA1.getChainedObject()).isSameAs(a0);
+        assertThat(secondCloneA2.getChainedObject()).isSameAs(secondCloneA1);
+    }
+
+    @Test
+    void customSolutionClonerIsNotSupported() {
+        SolutionDescriptor<TestdataCorrectlyClonedSolution> solutionDescriptor =
+                SolutionDescriptor.buildSolutionDescriptor(TestdataCorrectlyClonedSolution.class, TestdataEntity.class);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CopyOnWriteSolutionCloner<>(solutionDescriptor))
+                .withMessageContaining("custom solutionCloner");
+    }
+
+}
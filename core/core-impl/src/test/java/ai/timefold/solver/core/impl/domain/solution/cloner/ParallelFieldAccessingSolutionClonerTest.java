@@ -0,0 +1,14 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+class ParallelFieldAccessingSolutionClonerTest extends AbstractSolutionClonerTest {
+
+    @Override
+    protected <Solution_> SolutionCloner<Solution_> createSolutionCloner(
+            SolutionDescriptor<Solution_> solutionDescriptor) {
+        // Planning clone even the smallest solutions in parallel.
+        return new FieldAccessingSolutionCloner<>(solutionDescriptor, 4, 1);
+    }
+}
@@ -191,6 +191,25 @@ class GizmoSolutionClonerTest extends AbstractSolutionClonerTest {
         assertThat(comparator.compare(Zebra.class, RobotZebra.class)).isGreaterThan(0);
     }
 
+    @Test
+    void cloneSolutionsOfDifferentSizes() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        SolutionCloner<TestdataSolution> cloner = createSolutionCloner(solutionDescriptor);
+        // The size of a planning clone presizes the next planning clone, which must not affect the result.
+        for (int entityCount : new int[] { 100, 1000, 10, 1000 }) {
+            TestdataSolution original = TestdataSolution.generateSolution(5, entityCount);
+            TestdataSolution clone = cloner.cloneSolution(original);
+            assertThat(clone.getValueList()).isSameAs(original.getValueList());
+            assertThat(clone.getEntityList()).hasSize(entityCount);
+            for (int i = 0; i < entityCount; i++) {
+                TestdataEntity originalEntity = original.getEntityList().get(i);
+                TestdataEntity cloneEntity = clone.getEntityList().get(i);
+                assertThat(cloneEntity).isNotSameAs(originalEntity);
+                assertThat(cloneEntity.getValue()).isSameAs(originalEntity.getValue());
+            }
+        }
+    }
+
     // This test verifies a proper error message is thrown if an extended solution is passed.
     @Override
     @Test
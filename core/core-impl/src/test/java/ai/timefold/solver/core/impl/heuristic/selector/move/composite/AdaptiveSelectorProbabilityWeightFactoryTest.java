@@ -0,0 +1,77 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.impl.heuristic.move.DummyMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveSelectorProbabilityWeightFactoryTest {
+
+    @Test
+    void rewardChildThatSelectsImprovingSteps() {
+        MoveSelector<TestdataSolution> a = mock(MoveSelector.class);
+        MoveSelector<TestdataSolution> b = mock(MoveSelector.class);
+        AdaptiveSelectorProbabilityWeightFactory<TestdataSolution> factory =
+                new AdaptiveSelectorProbabilityWeightFactory<>(List.of(a, b));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(new SolverScope<>());
+        factory.phaseStarted(phaseScope);
+        assertThat(factory.createProbabilityWeight(null, a)).isEqualTo(factory.createProbabilityWeight(null, b));
+
+        for (int i = 0; i < 100; i++) {
+            LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope, i);
+            factory.stepStarted(stepScope);
+            DummyMove moveA = new DummyMove("a" + i);
+            factory.moveSelected(a, moveA);
+            factory.moveSelected(b, new DummyMove("b" + i));
+            stepScope.setStep(moveA);
+            stepScope.setScore(SimpleScore.of(i));
+            factory.stepEnded(stepScope);
+        }
+        double weightA = factory.createProbabilityWeight(null, a);
+        double weightB = factory.createProbabilityWeight(null, b);
+        assertThat(weightA).isGreaterThan(weightB);
+        // The child that never pays off keeps the minimum probability weight
+        assertThat(weightB).isCloseTo(
+                weightA * AdaptiveSelectorProbabilityWeightFactory.MINIMUM_PROBABILITY_WEIGHT_RATIO, within(1e-9));
+        factory.phaseEnded(phaseScope);
+
+        factory.phaseStarted(phaseScope);
+        assertThat(factory.createProbabilityWeight(null, a)).isEqualTo(factory.createProbabilityWeight(null, b));
+        factory.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void noRewardForNonImprovingSteps() {
+        MoveSelector<TestdataSolution> a = mock(MoveSelector.class);
+        MoveSelector<TestdataSolution> b = mock(MoveSelector.class);
+        AdaptiveSelectorProbabilityWeightFactory<TestdataSolution> factory =
+                new AdaptiveSelectorProbabilityWeightFactory<>(List.of(a, b));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(new SolverScope<>());
+        factory.phaseStarted(phaseScope);
+
+        for (int i = 0; i < 10; i++) {
+            LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope, i);
+            factory.stepStarted(stepScope);
+            DummyMove moveA = new DummyMove("a" + i);
+            factory.moveSelected(a, moveA);
+            factory.moveSelected(b, new DummyMove("b" + i));
+            stepScope.setStep(moveA);
+            stepScope.setScore(SimpleScore.of(-i));
+            factory.stepEnded(stepScope);
+        }
+        assertThat(factory.createProbabilityWeight(null, a)).isEqualTo(factory.createProbabilityWeight(null, b));
+        factory.phaseEnded(phaseScope);
+    }
+
+}
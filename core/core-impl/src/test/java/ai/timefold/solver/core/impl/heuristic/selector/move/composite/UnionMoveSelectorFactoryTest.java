@@ -0,0 +1,49 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import static ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicyTestUtils.buildHeuristicConfigPolicy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
+import ai.timefold.solver.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelectorFactory;
+import ai.timefold.solver.core.impl.solver.ClassInstanceCache;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class UnionMoveSelectorFactoryTest {
+
+    @Test
+    void adaptiveProbabilityWeight() {
+        UnionMoveSelectorConfig moveSelectorConfig = new UnionMoveSelectorConfig()
+                .withMoveSelectors(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig())
+                .withAdaptiveProbabilityWeightEnabled(true);
+        MoveSelector<TestdataSolution> moveSelector = MoveSelectorFactory.<TestdataSolution> create(moveSelectorConfig)
+                .buildMoveSelector(buildHeuristicConfigPolicy(), SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+        assertThat(moveSelector).isInstanceOf(UnionMoveSelector.class);
+    }
+
+    @Test
+    void adaptiveProbabilityWeightWithMoveThreadCount() {
+        UnionMoveSelectorConfig moveSelectorConfig = new UnionMoveSelectorConfig()
+                .withMoveSelectors(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig())
+                .withAdaptiveProbabilityWeightEnabled(true);
+        HeuristicConfigPolicy<TestdataSolution> configPolicy =
+                new HeuristicConfigPolicy.Builder<>(EnvironmentMode.REPRODUCIBLE, 2, null, null, null,
+                        TestdataSolution.buildSolutionDescriptor(), ClassInstanceCache.create())
+                        .build();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MoveSelectorFactory.<TestdataSolution> create(moveSelectorConfig)
+                        .buildMoveSelector(configPolicy, SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM))
+                .withMessageContaining("adaptiveProbabilityWeightEnabled")
+                .withMessageContaining("moveThreadCount");
+    }
+
+}
@@ -0,0 +1,87 @@
+package ai.timefold.solver.core.impl.heuristic.thread;
+
+import static ai.timefold.solver.core.impl.testdata.util.PlannerAssert.assertCode;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import ai.timefold.solver.core.impl.heuristic.move.DummyMove;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class MoveThreadOperationRingBufferTest {
+
+    @Test
+    void takeInOrder() throws InterruptedException {
+        MoveThreadOperationRingBuffer<TestdataSolution> buffer =
+                new MoveThreadOperationRingBuffer<>(3, WaitStrategy.SPIN_THEN_PARK);
+        MoveEvaluationOperation<TestdataSolution> moveEvaluationOperation = new MoveEvaluationOperation<>(-1, -1, null);
+        DestroyOperation<TestdataSolution> destroyOperation = new DestroyOperation<>();
+
+        buffer.addMoveEvaluation(0, 0, new DummyMove("a0"));
+        buffer.addMoveEvaluation(0, 1, new DummyMove("a1"));
+        buffer.add(destroyOperation);
+        assertMoveEvaluation(0, 0, "a0", buffer.take(moveEvaluationOperation));
+        assertMoveEvaluation(0, 1, "a1", buffer.take(moveEvaluationOperation));
+        // Wraps around the slots
+        buffer.addMoveEvaluation(1, 0, new DummyMove("b0"));
+        buffer.addMoveEvaluation(1, 1, new DummyMove("b1"));
+        assertThat(buffer.take(moveEvaluationOperation)).isSameAs(destroyOperation);
+        assertMoveEvaluation(1, 0, "b0", buffer.take(moveEvaluationOperation));
+        assertMoveEvaluation(1, 1, "b1", buffer.take(moveEvaluationOperation));
+    }
+
+    @Test
+    void takeReusesMoveEvaluationOperation() throws InterruptedException {
+        MoveThreadOperationRingBuffer<TestdataSolution> buffer =
+                new MoveThreadOperationRingBuffer<>(2, WaitStrategy.SPIN_THEN_PARK);
+        MoveEvaluationOperation<TestdataSolution> moveEvaluationOperation = new MoveEvaluationOperation<>(-1, -1, null);
+
+        buffer.addMoveEvaluation(0, 0, new DummyMove("a0"));
+        buffer.addMoveEvaluation(0, 1, new DummyMove("a1"));
+        assertThat(buffer.take(moveEvaluationOperation)).isSameAs(moveEvaluationOperation);
+        assertThat(buffer.take(moveEvaluationOperation)).isSameAs(moveEvaluationOperation);
+        assertMoveEvaluation(0, 1, "a1", moveEvaluationOperation);
+    }
+
+    @Test
+    void clear() throws InterruptedException {
+        MoveThreadOperationRingBuffer<TestdataSolution> buffer =
+                new MoveThreadOperationRingBuffer<>(3, WaitStrategy.SPIN_THEN_PARK);
+        MoveEvaluationOperation<TestdataSolution> moveEvaluationOperation = new MoveEvaluationOperation<>(-1, -1, null);
+
+        buffer.addMoveEvaluation(0, 0, new DummyMove("a0"));
+        buffer.addMoveEvaluation(0, 1, new DummyMove("a1"));
+        buffer.addMoveEvaluation(0, 2, new DummyMove("a2"));
+        assertMoveEvaluation(0, 0, "a0", buffer.take(moveEvaluationOperation));
+        buffer.clear();
+        // The capacity is available again
+        buffer.addMoveEvaluation(1, 0, new DummyMove("b0"));
+        buffer.addMoveEvaluation(1, 1, new DummyMove("b1"));
+        buffer.addMoveEvaluation(1, 2, new DummyMove("b2"));
+        assertMoveEvaluation(1, 0, "b0", buffer.take(moveEvaluationOperation));
+    }
+
+    @Test
+    void capacityExceeded() {
+        MoveThreadOperationRingBuffer<TestdataSolution> buffer =
+                new MoveThreadOperationRingBuffer<>(2, WaitStrategy.SPIN_THEN_PARK);
+
+        buffer.addMoveEvaluation(0, 0, new DummyMove("a0"));
+        buffer.addMoveEvaluation(0, 1, new DummyMove("a1"));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> buffer.addMoveEvaluation(0, 2, new DummyMove("a2")))
+                .withMessageContaining("capacity (2)");
+    }
+
+    private void assertMoveEvaluation(int stepIndex, int moveIndex, String moveCode,
+            MoveThreadOperation<TestdataSolution> operation) {
+        assertThat(operation).isInstanceOf(MoveEvaluationOperation.class);
+        MoveEvaluationOperation<TestdataSolution> moveEvaluationOperation =
+                (MoveEvaluationOperation<TestdataSolution>) operation;
+        assertThat(moveEvaluationOperation.getStepIndex()).isEqualTo(stepIndex);
+        assertThat(moveEvaluationOperation.getMoveIndex()).isEqualTo(moveIndex);
+        assertCode(moveCode, moveEvaluationOperation.getMove());
+    }
+
+}
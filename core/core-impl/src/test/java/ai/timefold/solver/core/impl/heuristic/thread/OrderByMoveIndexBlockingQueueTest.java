@@ -137,6 +137,8 @@ class OrderByMoveIndexBlockingQueueTest {
         executorService.submit(() -> queue.addMove(0, 1, 2, new DummyMove("b2"), SimpleScore.of(-2))).get();
         assertResult("b0", false, queue.take());
         assertResult("b1", -1, queue.take());
+        // Results which are already available are still taken, the exception is relayed at the first missing one
+        assertResult("b2", -2, queue.take());
         assertThatThrownBy(queue::take).hasCause(exception);
     }
 
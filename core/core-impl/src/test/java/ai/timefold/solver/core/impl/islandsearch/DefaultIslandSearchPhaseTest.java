@@ -0,0 +1,123 @@
+package ai.timefold.solver.core.impl.islandsearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import ai.timefold.solver.core.config.islandsearch.IslandSearchPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchType;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.islandsearch.scope.IslandSearchStepScope;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEasyScoreCalculator;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.util.PlannerTestUtils;
+
+import org.junit.jupiter.api.Test;
+
+class DefaultIslandSearchPhaseTest {
+
+    @Test
+    void solve() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        IslandSearchPhaseConfig phaseConfig = new IslandSearchPhaseConfig()
+                .withIslandCount("3")
+                .withMigrationStepCount(5)
+                .withLocalSearchPhaseConfigs(
+                        new LocalSearchPhaseConfig()
+                                .withTerminationConfig(new TerminationConfig().withStepCountLimit(20)),
+                        new LocalSearchPhaseConfig()
+                                .withLocalSearchType(LocalSearchType.LATE_ACCEPTANCE)
+                                .withTerminationConfig(new TerminationConfig().withStepCountLimit(20)));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", v1),
+                new TestdataEntity("e2", v2),
+                new TestdataEntity("e3", v1)));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList())
+                .extracting(TestdataEntity::getValue)
+                .doesNotContainNull();
+    }
+
+    @Test
+    void migrateBetterIslandSolution() {
+        // Swap moves never change which values are used, so only island 0 can reach the best score (-3) on its own.
+        TerminationConfig terminationConfig = new TerminationConfig()
+                .withBestScoreLimit("-3")
+                .withStepCountLimit(100_000);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withPhases(new IslandSearchPhaseConfig()
+                        .withIslandCount("2")
+                        .withMigrationStepCount(5)
+                        .withLocalSearchPhaseConfigs(
+                                new LocalSearchPhaseConfig()
+                                        .withMoveSelectorConfig(new ChangeMoveSelectorConfig())
+                                        .withTerminationConfig(terminationConfig),
+                                new LocalSearchPhaseConfig()
+                                        .withMoveSelectorConfig(new SwapMoveSelectorConfig())
+                                        .withTerminationConfig(terminationConfig)));
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        List<Score> islandOneStepScoreList = new ArrayList<>();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                if (((IslandSearchStepScope<TestdataSolution>) stepScope).getStep().getPartIndex() == 1) {
+                    islandOneStepScoreList.add(stepScope.getScore());
+                }
+            }
+        });
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", v1),
+                new TestdataEntity("e2", v2),
+                new TestdataEntity("e3", v1)));
+
+        solution = solver.solve(solution);
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(-3));
+        // Island 1 only reports a new best solution if it migrated and told its best solution recaller.
+        assertThat(islandOneStepScoreList).contains(SimpleScore.of(-3));
+    }
+
+    @Test
+    void moveThreadCountUnsupported() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withMoveThreadCount("2")
+                .withPhases(new IslandSearchPhaseConfig().withIslandCount("2"));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        assertThatIllegalArgumentException()
+                .isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("moveThreadCount");
+    }
+
+}
@@ -5,11 +5,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
@@ -56,6 +63,52 @@ class DefaultLocalSearchPhaseTest {
         assertThat(solvedE3.getValue()).isNotNull();
     }
 
+    @Test
+    void solveNonReproducibleWithMoveThreads() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.NON_REPRODUCIBLE)
+                .withMoveThreadCount("2");
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig();
+        phaseConfig.setMoveSelectorConfig(new ChangeMoveSelectorConfig()
+                .withFilterClass(SelectingThreadRecordingFilter.class));
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+        SelectingThreadRecordingFilter.SELECTING_THREAD_NAME_SET.clear();
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", v1),
+                new TestdataEntity("e2", v2),
+                new TestdataEntity("e3", v1)));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList())
+                .extracting(TestdataEntity::getValue)
+                .doesNotContainNull();
+        // Only the non-reproducible decider selects moves on the move threads instead of on the solver thread.
+        assertThat(SelectingThreadRecordingFilter.SELECTING_THREAD_NAME_SET)
+                .isNotEmpty()
+                .allMatch(threadName -> threadName.contains("-MoveThread-"));
+    }
+
+    public static class SelectingThreadRecordingFilter
+            implements SelectionFilter<TestdataSolution, ChangeMove<TestdataSolution>> {
+
+        private static final Set<String> SELECTING_THREAD_NAME_SET = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean accept(ScoreDirector<TestdataSolution> scoreDirector, ChangeMove<TestdataSolution> selection) {
+            SELECTING_THREAD_NAME_SET.add(Thread.currentThread().getName());
+            return true;
+        }
+
+    }
+
     @Test
     void solveWithPinnedEntities() {
         SolverConfig solverConfig =
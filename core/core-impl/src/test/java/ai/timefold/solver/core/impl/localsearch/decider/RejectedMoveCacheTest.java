@@ -0,0 +1,70 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class RejectedMoveCacheTest {
+
+    private final GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+            TestdataEntity.buildVariableDescriptorForValue();
+    private final TestdataEntity e1 = new TestdataEntity("e1");
+    private final TestdataEntity e2 = new TestdataEntity("e2");
+    private final TestdataValue v1 = new TestdataValue("v1");
+    private final TestdataValue v2 = new TestdataValue("v2");
+
+    @Test
+    void skipUntilEntityChanged() {
+        RejectedMoveCache<TestdataSolution> cache = new RejectedMoveCache<>();
+        assertThat(cache.isRejectedAndUnchanged(move(e1, v1))).isFalse();
+        cache.addRejectedMove(move(e1, v1), 0);
+        // An equal move is recognized
+        assertThat(cache.isRejectedAndUnchanged(move(e1, v1))).isTrue();
+        assertThat(cache.isRejectedAndUnchanged(move(e1, v2))).isFalse();
+
+        cache.stepEnded(move(e2, v2), 0);
+        assertThat(cache.isRejectedAndUnchanged(move(e1, v1))).isTrue();
+        cache.stepEnded(move(e1, v2), 1);
+        assertThat(cache.isRejectedAndUnchanged(move(e1, v1))).isFalse();
+        // Once invalidated, it's forgotten
+        assertThat(cache.isRejectedAndUnchanged(move(e1, v1))).isFalse();
+    }
+
+    @Test
+    void skipUntilValueChanged() {
+        RejectedMoveCache<TestdataSolution> cache = new RejectedMoveCache<>();
+        cache.addRejectedMove(move(e1, v1), 3);
+        // A step before the rejection doesn't invalidate it
+        cache.stepEnded(move(e2, v1), 2);
+        assertThat(cache.isRejectedAndUnchanged(move(e1, v1))).isTrue();
+        cache.stepEnded(move(e2, v1), 3);
+        assertThat(cache.isRejectedAndUnchanged(move(e1, v1))).isFalse();
+    }
+
+    @Test
+    void capacity() {
+        RejectedMoveCache<TestdataSolution> cache = new RejectedMoveCache<>(2);
+        cache.addRejectedMove(move(e1, v1), 0);
+        cache.addRejectedMove(move(e1, v2), 0);
+        assertThat(cache.isRejectedAndUnchanged(move(e1, v1))).isTrue();
+        cache.addRejectedMove(move(e2, v1), 0);
+        assertThat(cache.isRejectedAndUnchanged(move(e1, v1))).isFalse();
+        assertThat(cache.isRejectedAndUnchanged(move(e2, v1))).isTrue();
+
+        cache.clear();
+        assertThat(cache.isRejectedAndUnchanged(move(e2, v1))).isFalse();
+        assertThatIllegalArgumentException().isThrownBy(() -> new RejectedMoveCache<TestdataSolution>(0));
+    }
+
+    private ChangeMove<TestdataSolution> move(TestdataEntity entity, TestdataValue toValue) {
+        return new ChangeMove<>(variableDescriptor, entity, toValue);
+    }
+
+}
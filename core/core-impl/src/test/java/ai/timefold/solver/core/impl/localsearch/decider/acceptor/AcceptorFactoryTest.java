@@ -14,13 +14,16 @@ import ai.timefold.solver.core.config.localsearch.decider.acceptor.stepcountingh
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.greatdeluge.GreatDelugeAcceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.greatdeluge.PackedGreatDelugeAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.hillclimbing.HillClimbingAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.lateacceptance.LateAcceptanceAcceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.lateacceptance.PackedLateAcceptanceAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.simulatedannealing.SimulatedAnnealingAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.stepcountinghillclimbing.StepCountingHillClimbingAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu.EntityTabuAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu.MoveTabuAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu.ValueTabuAcceptor;
+import ai.timefold.solver.core.impl.score.buildin.HardMediumSoftScoreDefinition;
 import ai.timefold.solver.core.impl.score.buildin.HardSoftScoreDefinition;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 
@@ -61,8 +64,24 @@ class AcceptorFactoryTest {
         assertAcceptorTypeAtPosition(compositeAcceptor, 4, MoveTabuAcceptor.class);
         assertAcceptorTypeAtPosition(compositeAcceptor, 5, MoveTabuAcceptor.class);
         assertAcceptorTypeAtPosition(compositeAcceptor, 6, SimulatedAnnealingAcceptor.class);
-        assertAcceptorTypeAtPosition(compositeAcceptor, 7, LateAcceptanceAcceptor.class);
-        assertAcceptorTypeAtPosition(compositeAcceptor, 8, GreatDelugeAcceptor.class);
+        // HardSoftScore is packed
+        assertAcceptorTypeAtPosition(compositeAcceptor, 7, PackedLateAcceptanceAcceptor.class);
+        assertAcceptorTypeAtPosition(compositeAcceptor, 8, PackedGreatDelugeAcceptor.class);
+    }
+
+    @Test
+    <Solution_> void buildUnpackedAcceptor() {
+        LocalSearchAcceptorConfig localSearchAcceptorConfig = new LocalSearchAcceptorConfig()
+                .withAcceptorTypeList(Arrays.asList(AcceptorType.LATE_ACCEPTANCE, AcceptorType.GREAT_DELUGE));
+
+        HeuristicConfigPolicy<Solution_> heuristicConfigPolicy = mock(HeuristicConfigPolicy.class);
+        when(heuristicConfigPolicy.getScoreDefinition()).thenReturn(new HardMediumSoftScoreDefinition());
+
+        AcceptorFactory<Solution_> acceptorFactory = AcceptorFactory.create(localSearchAcceptorConfig);
+        CompositeAcceptor<Solution_> compositeAcceptor =
+                (CompositeAcceptor<Solution_>) acceptorFactory.buildAcceptor(heuristicConfigPolicy);
+        assertAcceptorTypeAtPosition(compositeAcceptor, 0, LateAcceptanceAcceptor.class);
+        assertAcceptorTypeAtPosition(compositeAcceptor, 1, GreatDelugeAcceptor.class);
     }
 
     private <Solution_, Acceptor_ extends Acceptor<Solution_>> void assertAcceptorTypeAtPosition(
@@ -0,0 +1,62 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.buildin.simplelong.SimpleLongScore;
+import ai.timefold.solver.core.impl.score.buildin.HardMediumSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleScoreDefinition;
+
+import org.junit.jupiter.api.Test;
+
+class PackedScoreLevelsTest {
+
+    @Test
+    void of() {
+        assertThat(PackedScoreLevels.of(new SimpleScoreDefinition())).isEqualTo(PackedScoreLevels.SIMPLE);
+        assertThat(PackedScoreLevels.of(new SimpleLongScoreDefinition())).isEqualTo(PackedScoreLevels.SIMPLE_LONG);
+        assertThat(PackedScoreLevels.of(new HardSoftScoreDefinition())).isEqualTo(PackedScoreLevels.HARD_SOFT);
+        assertThat(PackedScoreLevels.of(new HardSoftLongScoreDefinition())).isEqualTo(PackedScoreLevels.HARD_SOFT_LONG);
+        assertThat(PackedScoreLevels.of(new HardMediumSoftScoreDefinition())).isNull();
+        assertThat(PackedScoreLevels.of(null)).isNull();
+    }
+
+    @Test
+    void compareLikeScore() {
+        Random random = new Random(37);
+        assertCompareLikeScore(PackedScoreLevels.SIMPLE,
+                () -> SimpleScore.ofUninitialized(-random.nextInt(2), random.nextInt(5) - 2));
+        assertCompareLikeScore(PackedScoreLevels.SIMPLE_LONG,
+                () -> SimpleLongScore.ofUninitialized(-random.nextInt(2), Long.MAX_VALUE - random.nextInt(5)));
+        assertCompareLikeScore(PackedScoreLevels.HARD_SOFT,
+                () -> HardSoftScore.ofUninitialized(-random.nextInt(2), random.nextInt(3) - 1,
+                        Integer.MIN_VALUE + random.nextInt(3)));
+        assertCompareLikeScore(PackedScoreLevels.HARD_SOFT_LONG,
+                () -> HardSoftLongScore.ofUninitialized(-random.nextInt(2), random.nextInt(3) - 1,
+                        Long.MIN_VALUE + random.nextInt(3)));
+    }
+
+    private <Score_ extends Score<Score_>> void assertCompareLikeScore(PackedScoreLevels packedScoreLevels,
+            Supplier<Score_> scoreSupplier) {
+        int packedSize = packedScoreLevels.getPackedSize();
+        long[] levels = new long[packedSize * 2];
+        for (int i = 0; i < 100; i++) {
+            Score_ score = scoreSupplier.get();
+            Score_ packedScore = scoreSupplier.get();
+            packedScoreLevels.pack(packedScore, levels, packedSize);
+            assertThat(Integer.signum(packedScoreLevels.compare(score, levels, packedSize)))
+                    .as("Comparing (" + score + ") with (" + packedScore + ").")
+                    .isEqualTo(Integer.signum(score.compareTo(packedScore)));
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.greatdeluge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.PackedScoreLevels;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class PackedGreatDelugeAcceptorTest {
+
+    @Test
+    void waterLevelIncrementScore() {
+        PackedGreatDelugeAcceptor<TestdataSolution> acceptor = new PackedGreatDelugeAcceptor<>(PackedScoreLevels.HARD_SOFT);
+        acceptor.setWaterLevelIncrementScore(HardSoftScore.of(0, 100));
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setBestScore(HardSoftScore.of(-1, -1000));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(HardSoftScore.of(-1, -1000));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // lastCompletedStepScore = -1hard/-1000soft
+        // water level -1hard/-1000soft
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope0);
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -1, -1000))).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -1, -1001))).isFalse();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -2, 0))).isFalse();
+        LocalSearchMoveScope<TestdataSolution> moveScope0 = buildMoveScope(stepScope0, -1, -950);
+        assertThat(acceptor.isAccepted(moveScope0)).isTrue();
+        stepScope0.setStep(moveScope0.getMove());
+        stepScope0.setScore(moveScope0.getScore());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // lastCompletedStepScore = -1hard/-950soft
+        // water level -1hard/-900soft
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope1);
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1, -900))).isTrue();
+        // Aspiration
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1, -949))).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1, -950))).isFalse();
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    private LocalSearchMoveScope<TestdataSolution> buildMoveScope(LocalSearchStepScope<TestdataSolution> stepScope,
+            int hardScore, int softScore) {
+        LocalSearchMoveScope<TestdataSolution> moveScope = new LocalSearchMoveScope<>(stepScope, 0, mock(Move.class));
+        moveScope.setScore(HardSoftScore.of(hardScore, softScore));
+        return moveScope;
+    }
+
+}
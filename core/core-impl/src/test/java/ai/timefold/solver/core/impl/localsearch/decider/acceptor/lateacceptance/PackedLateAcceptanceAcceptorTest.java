@@ -0,0 +1,85 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.lateacceptance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.PackedScoreLevels;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class PackedLateAcceptanceAcceptorTest {
+
+    @Test
+    void lateAcceptanceSize() {
+        PackedLateAcceptanceAcceptor<TestdataSolution> acceptor =
+                new PackedLateAcceptanceAcceptor<>(PackedScoreLevels.HARD_SOFT);
+        acceptor.setLateAcceptanceSize(2);
+        acceptor.setHillClimbingEnabled(true);
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setBestScore(HardSoftScore.of(-1, -100));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(HardSoftScore.of(-1, -100));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // lateScore = -1hard/-100soft
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(acceptor.calculateRejectionBound(stepScope0)).isEqualTo(HardSoftScore.of(-1, -100));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -1, -100))).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -1, -101))).isFalse();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -2, 0))).isFalse();
+        LocalSearchMoveScope<TestdataSolution> moveScope0 = buildMoveScope(stepScope0, 0, -300);
+        assertThat(acceptor.isAccepted(moveScope0)).isTrue();
+        stepScope0.setStep(moveScope0.getMove());
+        stepScope0.setScore(moveScope0.getScore());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // lateScore = -1hard/-100soft, lastStepScore = 0hard/-300soft
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(acceptor.calculateRejectionBound(stepScope1)).isEqualTo(HardSoftScore.of(-1, -100));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1, -100))).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -1, -101))).isFalse();
+        LocalSearchMoveScope<TestdataSolution> moveScope1 = buildMoveScope(stepScope1, -1, -50);
+        assertThat(acceptor.isAccepted(moveScope1)).isTrue();
+        stepScope1.setStep(moveScope1.getMove());
+        stepScope1.setScore(moveScope1.getScore());
+        acceptor.stepEnded(stepScope1);
+        phaseScope.setLastCompletedStepScope(stepScope1);
+
+        // lateScore = 0hard/-300soft, lastStepScore = -1hard/-50soft
+        LocalSearchStepScope<TestdataSolution> stepScope2 = new LocalSearchStepScope<>(phaseScope);
+        assertThat(acceptor.calculateRejectionBound(stepScope2)).isEqualTo(HardSoftScore.of(-1, -50));
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope2, 0, -300))).isTrue();
+        // Hill climbing
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope2, -1, -50))).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope2, -1, -51))).isFalse();
+        acceptor.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void zeroLateAcceptanceSize() {
+        PackedLateAcceptanceAcceptor<TestdataSolution> acceptor =
+                new PackedLateAcceptanceAcceptor<>(PackedScoreLevels.HARD_SOFT);
+        acceptor.setLateAcceptanceSize(0);
+        assertThatIllegalArgumentException().isThrownBy(() -> acceptor.phaseStarted(null));
+    }
+
+    private LocalSearchMoveScope<TestdataSolution> buildMoveScope(LocalSearchStepScope<TestdataSolution> stepScope,
+            int hardScore, int softScore) {
+        LocalSearchMoveScope<TestdataSolution> moveScope = new LocalSearchMoveScope<>(stepScope, 0, mock(Move.class));
+        moveScope.setScore(HardSoftScore.of(hardScore, softScore));
+        return moveScope;
+    }
+
+}
@@ -0,0 +1,71 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TabuStepIndexMapTest {
+
+    @Test
+    void putAndExpire() {
+        TabuStepIndexMap map = new TabuStepIndexMap(2);
+        assertThat(map.get("a")).isEqualTo(TabuStepIndexMap.NO_STEP_INDEX);
+        map.put("a", 0);
+        map.put("b", 0);
+        map.put("c", 1);
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get("a")).isEqualTo(0);
+        assertThat(map.get("c")).isEqualTo(1);
+
+        map.expire(-1);
+        assertThat(map.size()).isEqualTo(3);
+        map.expire(0);
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get("a")).isEqualTo(TabuStepIndexMap.NO_STEP_INDEX);
+        assertThat(map.get("b")).isEqualTo(TabuStepIndexMap.NO_STEP_INDEX);
+        assertThat(map.get("c")).isEqualTo(1);
+    }
+
+    @Test
+    void putAgainPushesToEndOfLine() {
+        TabuStepIndexMap map = new TabuStepIndexMap(2);
+        map.put("a", 0);
+        map.put("b", 1);
+        map.put("a", 2);
+        map.put("a", 2);
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get("a")).isEqualTo(2);
+
+        map.expire(1);
+        assertThat(map.get("a")).isEqualTo(2);
+        assertThat(map.get("b")).isEqualTo(TabuStepIndexMap.NO_STEP_INDEX);
+        map.expire(2);
+        assertThat(map.size()).isZero();
+        assertThat(map.get("a")).isEqualTo(TabuStepIndexMap.NO_STEP_INDEX);
+    }
+
+    @Test
+    void nullTabu() {
+        TabuStepIndexMap map = new TabuStepIndexMap(2);
+        map.put(null, 0);
+        assertThat(map.get(null)).isEqualTo(0);
+        map.forEachTabu(tabu -> assertThat(tabu).isNull());
+        map.expire(0);
+        assertThat(map.get(null)).isEqualTo(TabuStepIndexMap.NO_STEP_INDEX);
+    }
+
+    @Test
+    void grow() {
+        TabuStepIndexMap map = new TabuStepIndexMap(0);
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        assertThat(map.size()).isEqualTo(1000);
+        map.expire(499);
+        assertThat(map.size()).isEqualTo(500);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.get(i)).isEqualTo(i < 500 ? TabuStepIndexMap.NO_STEP_INDEX : i);
+        }
+    }
+
+}
@@ -74,6 +74,20 @@ class ScoreDirectorFactoryFactoryTest {
                 .withMessageContaining("together");
     }
 
+    @Test
+    void moveJournalIsOptIn() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withEasyScoreCalculatorClass(TestCustomPropertiesEasyScoreCalculator.class);
+        assertThat(((AbstractScoreDirectorFactory<TestdataSolution, ?>) buildTestdataScoreDirectoryFactory(config))
+                .isMoveJournalEnabled()).isFalse();
+
+        config.setMoveJournalEnabled(true);
+        for (EnvironmentMode environmentMode : EnvironmentMode.values()) {
+            assertThat(((AbstractScoreDirectorFactory<TestdataSolution, ?>) buildTestdataScoreDirectoryFactory(config,
+                    environmentMode)).isMoveJournalEnabled()).isTrue();
+        }
+    }
+
     private <Score_ extends Score<Score_>> ScoreDirectorFactory<TestdataSolution> buildTestdataScoreDirectoryFactory(
             ScoreDirectorFactoryConfig config, EnvironmentMode environmentMode) {
         return new ScoreDirectorFactoryFactory<TestdataSolution, Score_>(config)
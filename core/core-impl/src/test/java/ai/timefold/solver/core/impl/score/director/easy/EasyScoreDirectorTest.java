@@ -11,8 +11,17 @@ import java.util.Arrays;
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.config.score.trend.InitializingScoreTrendLevel;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListChangeMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListSwapMove;
 import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+import ai.timefold.solver.core.impl.testdata.domain.shadow.TestdataShadowedEntity;
+import ai.timefold.solver.core.impl.testdata.domain.shadow.TestdataShadowedSolution;
 import ai.timefold.solver.core.impl.testdata.domain.shadow.corrupted.TestdataCorruptedShadowedEntity;
 import ai.timefold.solver.core.impl.testdata.domain.shadow.corrupted.TestdataCorruptedShadowedSolution;
 
@@ -67,4 +76,139 @@ class EasyScoreDirectorTest {
                 () -> scoreDirector.assertShadowVariablesAreNotStale(SimpleScore.ofUninitialized(0, 0), "FirstChange"))
                 .isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    void moveJournalRollsBackGenuineAndShadowVariables() {
+        EasyScoreDirectorFactory<TestdataShadowedSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataShadowedSolution.buildSolutionDescriptor(),
+                        solution -> SimpleScore.of(-(int) solution.getEntityList().stream()
+                                .filter(entity -> "v2/firstShadow".equals(entity.getFirstShadow()))
+                                .count()));
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        scoreDirectorFactory.setMoveJournalEnabled(true);
+        EasyScoreDirector<TestdataShadowedSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+
+        TestdataShadowedSolution solution = new TestdataShadowedSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        solution.setValueList(Arrays.asList(v1, v2));
+        TestdataShadowedEntity e1 = new TestdataShadowedEntity("e1", v1);
+        TestdataShadowedEntity e2 = new TestdataShadowedEntity("e2", v1);
+        solution.setEntityList(Arrays.asList(e1, e2));
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.forceTriggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(0));
+
+        ChangeMove<TestdataShadowedSolution> move = new ChangeMove<>(scoreDirectorFactory.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataShadowedEntity.class).getGenuineVariableDescriptor("value"), e1, v2);
+        assertThat(scoreDirector.doAndProcessMove(move, false)).isEqualTo(SimpleScore.of(-1));
+        assertThat(e1.getValue()).isSameAs(v1);
+        assertThat(e1.getFirstShadow()).isEqualTo("v1/firstShadow");
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(0));
+        scoreDirector.assertShadowVariablesAreNotStale(SimpleScore.of(0), "Rollback");
+    }
+
+    @Test
+    void moveJournalRollsBackListVariable() {
+        TestdataListValue v0 = new TestdataListValue("v0");
+        TestdataListValue v1 = new TestdataListValue("v1");
+        TestdataListValue v2 = new TestdataListValue("v2");
+        TestdataListValue v3 = new TestdataListValue("v3");
+        TestdataListEntity e0 = TestdataListEntity.createWithValues("e0", v0, v1);
+        TestdataListEntity e1 = TestdataListEntity.createWithValues("e1", v2, v3);
+        TestdataListSolution solution = new TestdataListSolution();
+        solution.setValueList(Arrays.asList(v0, v1, v2, v3));
+        solution.setEntityList(Arrays.asList(e0, e1));
+
+        // The score only depends on the shadow variables of v0
+        EasyScoreDirectorFactory<TestdataListSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataListSolution.buildSolutionDescriptor(),
+                        solution_ -> SimpleScore.of(-v0.getIndex() - (v0.getEntity() == e1 ? 10 : 0)));
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        scoreDirectorFactory.setMoveJournalEnabled(true);
+        EasyScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(0));
+
+        ListVariableDescriptor<TestdataListSolution> variableDescriptor =
+                scoreDirectorFactory.getSolutionDescriptor().getListVariableDescriptors().get(0);
+        assertThat(scoreDirector.doAndProcessMove(new ListChangeMove<>(variableDescriptor, e0, 0, e1, 1), false))
+                .isEqualTo(SimpleScore.of(-11));
+        assertListVariableRolledBack(scoreDirector, e0, e1, v0, v1, v2, v3);
+        assertThat(scoreDirector.doAndProcessMove(new ListSwapMove<>(variableDescriptor, e0, 0, e0, 1), false))
+                .isEqualTo(SimpleScore.of(-1));
+        assertListVariableRolledBack(scoreDirector, e0, e1, v0, v1, v2, v3);
+        assertThat(scoreDirector.doAndProcessMove(new ListSwapMove<>(variableDescriptor, e0, 0, e1, 0), false))
+                .isEqualTo(SimpleScore.of(-10));
+        assertListVariableRolledBack(scoreDirector, e0, e1, v0, v1, v2, v3);
+    }
+
+    private static void assertListVariableRolledBack(EasyScoreDirector<TestdataListSolution, SimpleScore> scoreDirector,
+            TestdataListEntity e0, TestdataListEntity e1,
+            TestdataListValue v0, TestdataListValue v1, TestdataListValue v2, TestdataListValue v3) {
+        assertThat(e0.getValueList()).containsExactly(v0, v1);
+        assertThat(e1.getValueList()).containsExactly(v2, v3);
+        assertThat(v0.getEntity()).isSameAs(e0);
+        assertThat(v0.getIndex()).isEqualTo(0);
+        assertThat(v1.getEntity()).isSameAs(e0);
+        assertThat(v1.getIndex()).isEqualTo(1);
+        assertThat(v2.getEntity()).isSameAs(e1);
+        assertThat(v2.getIndex()).isEqualTo(0);
+        assertThat(v3.getEntity()).isSameAs(e1);
+        assertThat(v3.getIndex()).isEqualTo(1);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(0));
+        scoreDirector.assertShadowVariablesAreNotStale(SimpleScore.of(0), "Rollback");
+    }
+
+    @Test
+    void restoreWorkingSolutionOnlyChangesTheDifference() {
+        EasyScoreDirectorFactory<TestdataShadowedSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataShadowedSolution.buildSolutionDescriptor(),
+                        solution -> SimpleScore.of(-(int) solution.getEntityList().stream()
+                                .filter(entity -> "v2/firstShadow".equals(entity.getFirstShadow()))
+                                .count()));
+        EasyScoreDirector<TestdataShadowedSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+
+        TestdataShadowedSolution solution = new TestdataShadowedSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        solution.setValueList(Arrays.asList(v1, v2));
+        TestdataShadowedEntity e1 = new TestdataShadowedEntity("e1", v1);
+        TestdataShadowedEntity e2 = new TestdataShadowedEntity("e2", v2);
+        solution.setEntityList(Arrays.asList(e1, e2));
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.forceTriggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+        TestdataShadowedSolution bestSolution = scoreDirector.cloneWorkingSolution();
+
+        scoreDirector.beforeVariableChanged(e1, "value");
+        e1.setValue(v2);
+        scoreDirector.afterVariableChanged(e1, "value");
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+
+        assertThat(scoreDirector.restoreWorkingSolution(solution)).isFalse();
+        assertThat(scoreDirector.restoreWorkingSolution(bestSolution)).isTrue();
+        assertThat(scoreDirector.getWorkingSolution()).isSameAs(solution);
+        assertThat(e1.getValue()).isSameAs(v1);
+        assertThat(e1.getFirstShadow()).isEqualTo("v1/firstShadow");
+        assertThat(e2.getValue()).isSameAs(v2);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+        scoreDirector.assertShadowVariablesAreNotStale(SimpleScore.of(-1), "Restored");
+
+        // Different problem facts, so it isn't a planning clone of the working solution
+        TestdataShadowedSolution otherSolution = new TestdataShadowedSolution("s2");
+        TestdataValue otherV1 = new TestdataValue("v1");
+        otherSolution.setValueList(Arrays.asList(otherV1, v2));
+        otherSolution.setEntityList(Arrays.asList(new TestdataShadowedEntity("e1", otherV1),
+                new TestdataShadowedEntity("e2", otherV1)));
+        assertThat(scoreDirector.restoreWorkingSolution(otherSolution)).isFalse();
+        assertThat(e2.getValue()).isSameAs(v2);
+    }
+
 }
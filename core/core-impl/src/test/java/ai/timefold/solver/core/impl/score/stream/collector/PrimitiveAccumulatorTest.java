@@ -0,0 +1,57 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveAccumulatorTest {
+
+    @Test
+    void insertAndRetract() {
+        PrimitiveAccumulator accumulator = new PrimitiveAccumulator();
+        assertThat(accumulator.getIntCount()).isZero();
+        assertThat(accumulator.getIntAverage()).isNull();
+
+        accumulator.insert(2L);
+        accumulator.insert(5L);
+        assertThat(accumulator.getIntCount()).isEqualTo(2);
+        assertThat(accumulator.getLongSum()).isEqualTo(7L);
+        assertThat(accumulator.getLongAverage()).isEqualTo(3.5);
+
+        accumulator.retract(2L);
+        assertThat(accumulator.getLongCount()).isEqualTo(1L);
+        assertThat(accumulator.getIntSum()).isEqualTo(5);
+        assertThat(accumulator.getIntAverage()).isEqualTo(5.0);
+    }
+
+    @Test
+    void intSumOverflows() {
+        PrimitiveAccumulator accumulator = new PrimitiveAccumulator();
+        accumulator.insert(Integer.MAX_VALUE);
+        accumulator.insert(1L);
+        assertThat(accumulator.getIntSum()).isEqualTo(Integer.MIN_VALUE);
+        assertThat(accumulator.getLongSum()).isEqualTo(Integer.MAX_VALUE + 1L);
+    }
+
+    @Test
+    void reusedUndo() {
+        PrimitiveAccumulator accumulator1 = new PrimitiveAccumulator();
+        PrimitiveAccumulator accumulator2 = new PrimitiveAccumulator();
+        PrimitiveAccumulator.Undo undo = new PrimitiveAccumulator.Undo();
+
+        undo.insert(accumulator1, 3L);
+        assertThat(accumulator1.getLongSum()).isEqualTo(3L);
+        undo.run();
+        assertThat(accumulator1.getLongSum()).isZero();
+        assertThat(accumulator1.getLongCount()).isZero();
+
+        // The same undo is reused when the tuple moves to another group
+        undo.insert(accumulator2, 4L);
+        undo.run();
+        undo.insert(accumulator2, 6L);
+        assertThat(accumulator1.getLongSum()).isZero();
+        assertThat(accumulator2.getLongSum()).isEqualTo(6L);
+        assertThat(accumulator2.getLongCount()).isEqualTo(1L);
+    }
+
+}
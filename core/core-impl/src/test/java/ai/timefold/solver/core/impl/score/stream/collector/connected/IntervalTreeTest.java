@@ -1,4 +1,4 @@
-package ai.timefold.solver.examples.common.experimental.impl;
+package ai.timefold.solver.core.impl.score.stream.collector.connected;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -11,8 +11,9 @@ import java.util.Random;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
-import ai.timefold.solver.examples.common.experimental.api.IntervalBreak;
-import ai.timefold.solver.examples.common.experimental.api.IntervalCluster;
+import ai.timefold.solver.core.api.score.stream.common.ConnectedRange;
+import ai.timefold.solver.core.api.score.stream.common.RangeGap;
+import ai.timefold.solver.core.impl.score.stream.collector.IterableList;
 
 import org.junit.jupiter.api.Test;
 
@@ -77,8 +78,8 @@ class IntervalTreeTest {
         tree.add(b);
         tree.add(c);
 
-        IterableList<IntervalCluster<TestInterval, Integer, Integer>> clusterList =
-                new IterableList<>(tree.getConsecutiveIntervalData().getIntervalClusters());
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> clusterList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
         assertThat(clusterList).hasSize(3);
 
         assertThat(clusterList.get(0)).containsExactly(new TestInterval(0, 2));
@@ -103,8 +104,8 @@ class IntervalTreeTest {
         tree.add(b);
         tree.add(c);
 
-        IterableList<IntervalCluster<TestInterval, Integer, Integer>> clusterList =
-                new IterableList<>(tree.getConsecutiveIntervalData().getIntervalClusters());
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> clusterList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
         assertThat(clusterList).hasSize(1);
 
         assertThat(clusterList.get(0)).containsExactly(new TestInterval(0, 2), new TestInterval(2, 4), new TestInterval(4, 7));
@@ -120,8 +121,8 @@ class IntervalTreeTest {
         tree.add(a);
         tree.add(b);
 
-        IterableList<IntervalCluster<TestInterval, Integer, Integer>> clusterList =
-                new IterableList<>(tree.getConsecutiveIntervalData().getIntervalClusters());
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> clusterList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
         assertThat(clusterList).hasSize(2);
 
         assertThat(clusterList.get(0)).containsExactly(a.getValue(), a.getValue());
@@ -146,8 +147,8 @@ class IntervalTreeTest {
 
         tree.remove(b);
 
-        IterableList<IntervalCluster<TestInterval, Integer, Integer>> clusterList =
-                new IterableList<>(tree.getConsecutiveIntervalData().getIntervalClusters());
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> clusterList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
         assertThat(clusterList).hasSize(2);
 
         assertThat(clusterList.get(0)).containsExactly(new TestInterval(0, 2));
@@ -201,8 +202,8 @@ class IntervalTreeTest {
         tree.add(e);
         tree.add(removedInterval2);
 
-        IterableList<IntervalCluster<TestInterval, Integer, Integer>> clusterList =
-                new IterableList<>(tree.getConsecutiveIntervalData().getIntervalClusters());
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> clusterList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
         assertThat(clusterList).hasSize(3);
 
         assertThat(clusterList.get(0)).containsExactly(a.getValue(), removedTestInterval1, c.getValue());
@@ -222,7 +223,7 @@ class IntervalTreeTest {
 
         tree.remove(removedInterval1);
 
-        clusterList = new IterableList<>(tree.getConsecutiveIntervalData().getIntervalClusters());
+        clusterList = new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
         assertThat(clusterList).hasSize(3);
 
         assertThat(clusterList.get(0)).containsExactly(a.getValue(), c.getValue());
@@ -241,7 +242,7 @@ class IntervalTreeTest {
         removedTestInterval2.setEnd(4);
 
         tree.remove(removedInterval2);
-        clusterList = new IterableList<>(tree.getConsecutiveIntervalData().getIntervalClusters());
+        clusterList = new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
         assertThat(clusterList).hasSize(3);
 
         assertThat(clusterList.get(0)).containsExactly(a.getValue(), c.getValue());
@@ -256,7 +257,7 @@ class IntervalTreeTest {
         verifyBreaks(tree);
         Interval<TestInterval, Integer> g = tree.getInterval(new TestInterval(6, 7));
         tree.add(g);
-        clusterList = new IterableList<>(tree.getConsecutiveIntervalData().getIntervalClusters());
+        clusterList = new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
         assertThat(clusterList).hasSize(2);
 
         assertThat(clusterList.get(0)).containsExactly(a.getValue(), c.getValue());
@@ -267,34 +268,34 @@ class IntervalTreeTest {
     }
 
     public void verifyBreaks(IntervalTree<TestInterval, Integer, Integer> tree) {
-        IterableList<IntervalCluster<TestInterval, Integer, Integer>> clusterList =
-                new IterableList<>(tree.getConsecutiveIntervalData().getIntervalClusters());
-        IterableList<IntervalBreak<TestInterval, Integer, Integer>> breakList =
-                new IterableList<>(tree.getConsecutiveIntervalData().getBreaks());
+        IterableList<ConnectedRange<TestInterval, Integer, Integer>> clusterList =
+                new IterableList<>(tree.getConnectedRangeChain().getConnectedRanges());
+        IterableList<RangeGap<TestInterval, Integer, Integer>> breakList =
+                new IterableList<>(tree.getConnectedRangeChain().getGaps());
 
         if (clusterList.size() == 0) {
             return;
         }
         assertThat(breakList).hasSize(clusterList.size() - 1);
         for (int i = 0; i < clusterList.size() - 1; i++) {
-            assertThat(breakList.get(i).getPreviousIntervalCluster()).isSameAs(clusterList.get(i));
-            assertThat(breakList.get(i).getNextIntervalCluster()).isSameAs(clusterList.get(i + 1));
-            assertThat(breakList.get(i).getPreviousIntervalClusterEnd()).isEqualTo(clusterList.get(i).getEnd());
-            assertThat(breakList.get(i).getNextIntervalClusterStart()).isEqualTo(clusterList.get(i + 1).getStart());
+            assertThat(breakList.get(i).getPreviousConnectedRange()).isSameAs(clusterList.get(i));
+            assertThat(breakList.get(i).getNextConnectedRange()).isSameAs(clusterList.get(i + 1));
+            assertThat(breakList.get(i).getPreviousRangeEnd()).isEqualTo(clusterList.get(i).getEnd());
+            assertThat(breakList.get(i).getNextRangeStart()).isEqualTo(clusterList.get(i + 1).getStart());
             assertThat(breakList.get(i).getLength()).isEqualTo(clusterList.get(i + 1).getStart() - clusterList.get(i).getEnd());
         }
     }
 
-    private static int intervalBreakCompare(IntervalBreak<TestInterval, Integer, Integer> a,
-            IntervalBreak<TestInterval, Integer, Integer> b) {
+    private static int rangeGapCompare(RangeGap<TestInterval, Integer, Integer> a,
+            RangeGap<TestInterval, Integer, Integer> b) {
         if (a == b) {
             return 0;
         }
         if (a == null || b == null) {
             return (a == null) ? -1 : 1;
         }
-        boolean out = intervalClusterCompare(a.getPreviousIntervalCluster(), b.getPreviousIntervalCluster()) == 0 &&
-                intervalClusterCompare(a.getNextIntervalCluster(), b.getNextIntervalCluster()) == 0 &&
+        boolean out = connectedRangeCompare(a.getPreviousConnectedRange(), b.getPreviousConnectedRange()) == 0 &&
+                connectedRangeCompare(a.getNextConnectedRange(), b.getNextConnectedRange()) == 0 &&
                 Objects.equals(a.getLength(), b.getLength());
 
         if (out) {
@@ -303,8 +304,8 @@ class IntervalTreeTest {
         return a.hashCode() - b.hashCode();
     }
 
-    private static int intervalClusterCompare(IntervalCluster<TestInterval, Integer, Integer> a,
-            IntervalCluster<TestInterval, Integer, Integer> b) {
+    private static int connectedRangeCompare(ConnectedRange<TestInterval, Integer, Integer> a,
+            ConnectedRange<TestInterval, Integer, Integer> b) {
         if (a == b) {
             return 0;
         }
@@ -312,12 +313,12 @@ class IntervalTreeTest {
             return (a == null) ? -1 : 1;
         }
 
-        if (!(a instanceof IntervalClusterImpl) || !(b instanceof IntervalClusterImpl)) {
-            throw new IllegalArgumentException("Expected (" + a + ") and (" + b + ") to both be IntervalClusterImpl");
+        if (!(a instanceof ConnectedRangeImpl) || !(b instanceof ConnectedRangeImpl)) {
+            throw new IllegalArgumentException("Expected (" + a + ") and (" + b + ") to both be ConnectedRangeImpl");
         }
 
-        IntervalClusterImpl<TestInterval, Integer, Integer> first = (IntervalClusterImpl<TestInterval, Integer, Integer>) a;
-        IntervalClusterImpl<TestInterval, Integer, Integer> second = (IntervalClusterImpl<TestInterval, Integer, Integer>) b;
+        ConnectedRangeImpl<TestInterval, Integer, Integer> first = (ConnectedRangeImpl<TestInterval, Integer, Integer>) a;
+        ConnectedRangeImpl<TestInterval, Integer, Integer> second = (ConnectedRangeImpl<TestInterval, Integer, Integer>) b;
 
         boolean out = first.getStartSplitPoint().compareTo(second.getStartSplitPoint()) == 0 &&
                 first.getEndSplitPoint().compareTo(second.getEndSplitPoint()) == 0;
@@ -385,46 +386,46 @@ class IntervalTreeTest {
                 // Recompute all interval clusters
                 IntervalSplitPoint<TestInterval, Integer> previous = null;
                 IntervalSplitPoint<TestInterval, Integer> current = splitPoints.isEmpty() ? null : splitPoints.first();
-                List<IntervalClusterImpl<TestInterval, Integer, Integer>> intervalClusterList = new ArrayList<>();
-                List<IntervalBreakImpl<TestInterval, Integer, Integer>> breakList = new ArrayList<>();
+                List<ConnectedRangeImpl<TestInterval, Integer, Integer>> connectedRangeList = new ArrayList<>();
+                List<RangeGapImpl<TestInterval, Integer, Integer>> breakList = new ArrayList<>();
                 while (current != null) {
-                    intervalClusterList.add(new IntervalClusterImpl<>(splitPoints, (a, b) -> a - b, current));
+                    connectedRangeList.add(new ConnectedRangeImpl<>(splitPoints, (a, b) -> a - b, current));
                     if (previous != null) {
-                        IntervalClusterImpl<TestInterval, Integer, Integer> before =
-                                intervalClusterList.get(intervalClusterList.size() - 2);
-                        IntervalClusterImpl<TestInterval, Integer, Integer> after =
-                                intervalClusterList.get(intervalClusterList.size() - 1);
-                        breakList.add(new IntervalBreakImpl<>(before, after, after.getStart() - before.getEnd()));
+                        ConnectedRangeImpl<TestInterval, Integer, Integer> before =
+                                connectedRangeList.get(connectedRangeList.size() - 2);
+                        ConnectedRangeImpl<TestInterval, Integer, Integer> after =
+                                connectedRangeList.get(connectedRangeList.size() - 1);
+                        breakList.add(new RangeGapImpl<>(before, after, after.getStart() - before.getEnd()));
                     }
                     previous = current;
-                    current = splitPoints.higher(intervalClusterList.get(intervalClusterList.size() - 1).getEndSplitPoint());
+                    current = splitPoints.higher(connectedRangeList.get(connectedRangeList.size() - 1).getEndSplitPoint());
                 }
 
                 // Verify the mutable version matches the recompute version
                 verifyBreaks(tree);
-                assertThat(tree.getConsecutiveIntervalData().getIntervalClusters())
+                assertThat(tree.getConnectedRangeChain().getConnectedRanges())
                         .as(op + " interval " + interval + " to " + old)
-                        .usingElementComparator(IntervalTreeTest::intervalClusterCompare)
-                        .containsExactlyElementsOf(intervalClusterList);
-                assertThat(tree.getConsecutiveIntervalData().getBreaks())
+                        .usingElementComparator(IntervalTreeTest::connectedRangeCompare)
+                        .containsExactlyElementsOf(connectedRangeList);
+                assertThat(tree.getConnectedRangeChain().getGaps())
                         .as(op + " interval " + interval + " to " + old)
-                        .usingElementComparator(IntervalTreeTest::intervalBreakCompare)
+                        .usingElementComparator(IntervalTreeTest::rangeGapCompare)
                         .containsExactlyElementsOf(breakList);
             }
         }
     }
 
     private String formatIntervalTree(IntervalTree<TestInterval, Integer, Integer> intervalTree) {
-        List<List<TestInterval>> listOfIntervalClusters = new ArrayList<>();
-        for (IntervalCluster<TestInterval, Integer, Integer> cluster : intervalTree.getConsecutiveIntervalData()
-                .getIntervalClusters()) {
+        List<List<TestInterval>> listOfConnectedRanges = new ArrayList<>();
+        for (ConnectedRange<TestInterval, Integer, Integer> cluster : intervalTree.getConnectedRangeChain()
+                .getConnectedRanges()) {
             List<TestInterval> intervalsInCluster = new ArrayList<>();
             for (TestInterval interval : cluster) {
                 intervalsInCluster.add(interval);
             }
-            listOfIntervalClusters.add(intervalsInCluster);
+            listOfConnectedRanges.add(intervalsInCluster);
         }
-        return listOfIntervalClusters.stream()
+        return listOfConnectedRanges.stream()
                 .map(cluster -> cluster.stream().map(TestInterval::toString).collect(Collectors.joining(",", "[", "]")))
                 .collect(Collectors.joining(";", "{", "}"));
     }
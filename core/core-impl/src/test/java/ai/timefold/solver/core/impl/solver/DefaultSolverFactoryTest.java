@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.config.solver.BestSolutionCloningMode;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirectorFactory;
@@ -86,4 +87,26 @@ class DefaultSolverFactoryTest {
         });
     }
 
+    @Test
+    void solutionCloningThreadCountLowerThanOneThrowsException() {
+        SolverConfig solverConfig =
+                SolverConfig.createFromXmlResource("ai/timefold/solver/core/config/solver/testdataSolverConfig.xml")
+                        .withSolutionCloningThreadCount(0);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new DefaultSolverFactory<TestdataSolution>(solverConfig))
+                .withMessageContaining("solutionCloningThreadCount (0)");
+    }
+
+    @Test
+    void solutionCloningThreadCountWithCopyOnWriteThrowsException() {
+        SolverConfig solverConfig =
+                SolverConfig.createFromXmlResource("ai/timefold/solver/core/config/solver/testdataSolverConfig.xml")
+                        .withBestSolutionCloningMode(BestSolutionCloningMode.COPY_ON_WRITE)
+                        .withSolutionCloningThreadCount(2);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new DefaultSolverFactory<TestdataSolution>(solverConfig))
+                .withMessageContaining("solutionCloningThreadCount (2)")
+                .withMessageContaining("COPY_ON_WRITE");
+    }
+
 }
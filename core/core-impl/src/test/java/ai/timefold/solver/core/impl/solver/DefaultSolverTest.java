@@ -2,11 +2,13 @@ package ai.timefold.solver.core.impl.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
@@ -26,6 +28,7 @@ import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.api.solver.SolutionManager;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChange;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
 import ai.timefold.solver.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
@@ -39,6 +42,7 @@ import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
 import ai.timefold.solver.core.config.phase.custom.CustomPhaseConfig;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.BestSolutionEventMode;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.config.solver.monitoring.MonitoringConfig;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
@@ -52,6 +56,7 @@ import ai.timefold.solver.core.impl.phase.custom.NoChangeCustomPhaseCommand;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.DummySimpleScoreEasyScoreCalculator;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
 import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
@@ -887,6 +892,53 @@ class DefaultSolverTest {
         PlannerAssert.assertSolutionInitialized(solution);
     }
 
+    @Test
+    void solveWithChangeListBestSolutionEvents() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withBestSolutionEventMode(BestSolutionEventMode.CHANGE_LIST);
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+
+        TestdataSolution problem = TestdataSolution.generateSolution(4, 8);
+        // Start from a bad solution, so Local Search finds several new best solutions
+        TestdataValue firstValue = problem.getValueList().get(0);
+        problem.getEntityList().forEach(entity -> entity.setValue(firstValue));
+        // Replays the change lists on the codes of the entities, as a client would
+        Map<String, TestdataValue> replayedValueMap = new HashMap<>();
+        problem.getEntityList().forEach(entity -> replayedValueMap.put(entity.getCode(), entity.getValue()));
+        AtomicInteger eventCount = new AtomicInteger(0);
+        solver.addEventListener(event -> {
+            List<BestSolutionChange> changeList = event.getChangeList();
+            assertThat(changeList).isNotNull();
+            for (BestSolutionChange change : changeList) {
+                assertThat(change.getEntityClass()).isEqualTo(TestdataEntity.class);
+                assertThat(change.getVariableName()).isEqualTo("value");
+                replayedValueMap.put((String) change.getEntityId(), (TestdataValue) change.getNewValue());
+            }
+            if (eventCount.incrementAndGet() % 2 == 0) {
+                TestdataSolution newBestSolution = event.getNewBestSolution();
+                assertThat(newBestSolution.getScore()).isEqualTo(event.getNewBestScore());
+                for (TestdataEntity entity : newBestSolution.getEntityList()) {
+                    assertThat(replayedValueMap.get(entity.getCode())).isSameAs(entity.getValue());
+                }
+            }
+        });
+        TestdataSolution solution = solver.solve(problem);
+        assertThat(eventCount.get()).isPositive();
+        for (TestdataEntity entity : solution.getEntityList()) {
+            assertThat(replayedValueMap.get(entity.getCode())).isSameAs(entity.getValue());
+        }
+    }
+
+    @Test
+    void changeListBestSolutionEventsFailFastOnListVariable() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataListSolution.class, TestdataListEntity.class)
+                .withBestSolutionEventMode(BestSolutionEventMode.CHANGE_LIST);
+        SolverFactory<TestdataListSolution> solverFactory = SolverFactory.create(solverConfig);
+        assertThatIllegalArgumentException().isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("list variable");
+    }
+
     public static class TestMoveListFactory implements MoveListFactory<TestdataSolution> {
 
         public TestMoveListFactory() {
@@ -138,7 +138,7 @@ class BestSolutionRecallerTest {
         TestdataSolution moveSolution = mock(TestdataSolution.class);
         when(solverScope.getScoreDirector().getSolutionDescriptor().getScore(moveSolution))
                 .thenReturn(moveScore);
-        when(solverScope.getScoreDirector().cloneWorkingSolution()).thenReturn(moveSolution);
+        when(solverScope.getScoreDirector().snapshotWorkingSolution()).thenReturn(moveSolution);
 
         BestSolutionRecaller<TestdataSolution> recaller = createBestSolutionRecaller();
         recaller.processWorkingSolutionDuringMove(moveScore, stepScope);
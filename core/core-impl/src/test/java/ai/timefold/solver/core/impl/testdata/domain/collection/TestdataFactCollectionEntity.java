@@ -0,0 +1,95 @@
+package ai.timefold.solver.core.impl.testdata.domain.collection;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.solution.cloner.DeepPlanningClone;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataObject;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.util.CodeAssertable;
+
+@PlanningEntity
+public class TestdataFactCollectionEntity extends TestdataObject {
+
+    public static EntityDescriptor<TestdataFactCollectionSolution> buildEntityDescriptor() {
+        return TestdataFactCollectionSolution.buildSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataFactCollectionEntity.class);
+    }
+
+    private List<TestdataValue> factList;
+    private TestdataValue[] factArray;
+    private List<CodeAssertable> codeAssertableList;
+
+    private TestdataValue value;
+
+    public TestdataFactCollectionEntity() {
+    }
+
+    public TestdataFactCollectionEntity(String code) {
+        super(code);
+    }
+
+    public TestdataFactCollectionEntity(String code, TestdataValue value) {
+        this(code);
+        this.value = value;
+    }
+
+    /**
+     * The list is deep cloned, but its elements are problem facts, so they are not.
+     *
+     * @return sometimes null
+     */
+    @DeepPlanningClone
+    public List<TestdataValue> getFactList() {
+        return factList;
+    }
+
+    public void setFactList(List<TestdataValue> factList) {
+        this.factList = factList;
+    }
+
+    /**
+     * The array is deep cloned, but its elements are problem facts, so they are not.
+     *
+     * @return sometimes null
+     */
+    @DeepPlanningClone
+    public TestdataValue[] getFactArray() {
+        return factArray;
+    }
+
+    public void setFactArray(TestdataValue[] factArray) {
+        this.factArray = factArray;
+    }
+
+    /**
+     * The list is deep cloned, and so are its elements that are planning entities,
+     * even though the element type is an interface.
+     *
+     * @return sometimes null
+     */
+    @DeepPlanningClone
+    public List<CodeAssertable> getCodeAssertableList() {
+        return codeAssertableList;
+    }
+
+    public void setCodeAssertableList(List<CodeAssertable> codeAssertableList) {
+        this.codeAssertableList = codeAssertableList;
+    }
+
+    @PlanningVariable(valueRangeProviderRefs = "valueRange")
+    public TestdataValue getValue() {
+        return value;
+    }
+
+    public void setValue(TestdataValue value) {
+        this.value = value;
+    }
+
+    // ************************************************************************
+    // Complex methods
+    // ************************************************************************
+
+}